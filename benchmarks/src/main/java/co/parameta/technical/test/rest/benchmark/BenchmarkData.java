@@ -0,0 +1,36 @@
+package co.parameta.technical.test.rest.benchmark;
+
+import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
+
+/**
+ * Sample inputs shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    /**
+     * HMAC secret (base64url, longer than the 256 bits HS256 requires) used to sign and verify benchmark tokens.
+     */
+    static final String JWT_SECRET = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJrcy0wMTIzNDU2Nzg5YWJjZGVm";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds a complete employee request.
+     *
+     * @return employee request
+     */
+    static EmployeeRequestDTO employee() {
+        EmployeeRequestDTO employee = new EmployeeRequestDTO();
+        employee.setNames("Juan Carlos");
+        employee.setLastNames("Perez Gomez");
+        employee.setTypeDocument("CC");
+        employee.setDocumentNumber("1020304050");
+        employee.setDateOfBirth("1990-05-17");
+        employee.setDateAffiliationCompany("15/03/2018");
+        employee.setPosition("DEV");
+        employee.setEmail("juan.perez@example.com");
+        employee.setSalary("4500000");
+        return employee;
+    }
+}
@@ -0,0 +1,56 @@
+package co.parameta.technical.test.rest.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Accepts the usual JMH command line and always adds the GC profiler, so every
+ * run reports allocation rate ({@code gc.alloc.rate.norm}, bytes per operation)
+ * and GC counts next to the timings. Results are written as JSON to
+ * {@code target/jmh-result.json} unless {@code -rff} / {@code -rf} say otherwise.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks selected by the command line.
+     *
+     * @param args JMH command line arguments
+     * @throws Exception if the options are invalid or a benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams()
+                || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cli)
+                .resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cli.getResult().orElse(DEFAULT_RESULT));
+
+        boolean gcRequested = cli.getProfilers().stream()
+                .anyMatch(profiler -> profiler.getKlass().equals("gc")
+                        || profiler.getKlass().equals(GCProfiler.class.getName()));
+        if (!gcRequested) {
+            builder.addProfiler(GCProfiler.class);
+        }
+
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,108 @@
+package co.parameta.technical.test.rest.benchmark;
+
+import co.parameta.technical.test.commons.dto.ScriptValidationDTO;
+import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
+import co.parameta.technical.test.rest.service.impl.GroovieScriptExecutorService;
+import co.parameta.technical.test.rest.service.impl.GroovyClassCacheService;
+import co.parameta.technical.test.rest.service.impl.ScriptProfilerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GroovieScriptExecutorService#runScript} with a validation script that
+ * reads the request and runs one query.
+ * <p>
+ * {@code cold} appends a unique comment to the script on every call, so its
+ * source never repeats and every call pays the full parse and class
+ * generation; {@code cached} runs the same source every time and benefits
+ * from the in-memory class cache. The service runs with the default sandbox
+ * limits, as in production. The {@link JdbcTemplate} returns a fixed
+ * row without a database, so the numbers are Groovy cost only.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroovyScriptBenchmark {
+
+    private static final String SCRIPT = """
+            def row = executeSingleSql("SELECT code FROM technical_test.position WHERE code = ?", context.position)
+            if (row == null) {
+                return "Position does not exist"
+            }
+            return context.names?.trim() ? "OK" : "Names are required"
+            """;
+
+    private GroovieScriptExecutorService service;
+
+    private EmployeeRequestDTO context;
+
+    private List<ScriptValidationDTO> cachedScripts;
+
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        service = new GroovieScriptExecutorService(
+                new FixedRowJdbcTemplate(),
+                ObservationRegistry.NOOP,
+                new SimpleMeterRegistry(),
+                new ScriptProfilerService(false, 200, 1000),
+                new GroovyClassCacheService("", 500),
+                true,
+                2000,
+                1000,
+                true
+        );
+        context = BenchmarkData.employee();
+        cachedScripts = List.of(script(SCRIPT));
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public String cached() {
+        return service.runScript(context, Map.of(), cachedScripts);
+    }
+
+    @Benchmark
+    public String cold() {
+        return service.runScript(context, Map.of(), List.of(script(SCRIPT + "// " + counter++)));
+    }
+
+    private static ScriptValidationDTO script(String source) {
+        ScriptValidationDTO script = new ScriptValidationDTO();
+        script.setCode("BENCH_POSITION");
+        script.setGroovieCode(source);
+        return script;
+    }
+
+    /**
+     * {@link JdbcTemplate} that answers every query with the same row; only
+     * valid for the row-list helpers the script uses.
+     */
+    static final class FixedRowJdbcTemplate extends JdbcTemplate {
+
+        private static final List<Map<String, Object>> ROWS = List.of(Map.of("code", "DEV"));
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T query(String sql, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+            return (T) ROWS;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package co.parameta.technical.test.rest.benchmark;
+
+import co.parameta.technical.test.commons.dto.AdministratorUserDTO;
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.commons.entity.AdministratorUserEntity;
+import co.parameta.technical.test.commons.repository.BlacklistTokenRepository;
+import co.parameta.technical.test.commons.service.IJwtService;
+import co.parameta.technical.test.commons.util.mapper.AdministratorUserMapper;
+import co.parameta.technical.test.rest.repository.AdministratorUserRepository;
+import co.parameta.technical.test.rest.service.impl.AutenticationService;
+import co.parameta.technical.test.rest.service.impl.JwtClaimsService;
+import co.parameta.technical.test.rest.service.impl.PasswordVerificationService;
+import co.parameta.technical.test.rest.service.impl.VerifiedTokenCacheService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * JWT verification in {@link AutenticationService#userInformation} and in
+ * {@link JwtClaimsService}.
+ * <ul>
+ *     <li>{@code userInformationCached}: token found in the verified token cache</li>
+ *     <li>{@code userInformationUncached}: cache disabled (size 0), signature checked on every call</li>
+ *     <li>{@code parseClaimsSharedParser}: the parser built once by {@link JwtClaimsService}</li>
+ *     <li>{@code parseClaimsPerCallParser}: the previous behaviour, decoding the secret and
+ *     building a parser for every token</li>
+ * </ul>
+ * Repositories and the user mapper are stub-only mocks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String USER_CODE = "ADM001";
+
+    private String token;
+
+    private String header;
+
+    private JwtClaimsService jwtClaimsService;
+
+    private AutenticationService cachedService;
+
+    private AutenticationService uncachedService;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(BenchmarkData.JWT_SECRET));
+        token = Jwts.builder()
+                .subject(USER_CODE)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2)))
+                .signWith(key)
+                .compact();
+        header = "Bearer " + token;
+
+        jwtClaimsService = new JwtClaimsService(BenchmarkData.JWT_SECRET);
+        cachedService = authenticationService(new VerifiedTokenCacheService(10_000, TimeUnit.HOURS.toMillis(1)));
+        uncachedService = authenticationService(new VerifiedTokenCacheService(0, TimeUnit.HOURS.toMillis(1)));
+        cachedService.userInformation(header);
+    }
+
+    @Benchmark
+    public ResponseGeneralDTO userInformationCached() {
+        return cachedService.userInformation(header);
+    }
+
+    @Benchmark
+    public ResponseGeneralDTO userInformationUncached() {
+        return uncachedService.userInformation(header);
+    }
+
+    @Benchmark
+    public Claims parseClaimsSharedParser() {
+        return jwtClaimsService.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseClaimsPerCallParser() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(BenchmarkData.JWT_SECRET));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private AutenticationService authenticationService(VerifiedTokenCacheService cache) {
+        BlacklistTokenRepository blacklistTokenRepository =
+                mock(BlacklistTokenRepository.class, withSettings().stubOnly());
+        AdministratorUserRepository administratorUserRepository =
+                mock(AdministratorUserRepository.class, withSettings().stubOnly());
+        AdministratorUserMapper administratorUserMapper =
+                mock(AdministratorUserMapper.class, withSettings().stubOnly());
+
+        AdministratorUserEntity entity = new AdministratorUserEntity();
+        AdministratorUserDTO user = new AdministratorUserDTO();
+        user.setEmail("admin@example.com");
+        when(blacklistTokenRepository.existsByToken(anyString())).thenReturn(false);
+        when(administratorUserRepository.findByCode(USER_CODE)).thenReturn(Optional.of(entity));
+        when(administratorUserMapper.toDto(any(AdministratorUserEntity.class))).thenReturn(user);
+
+        return new AutenticationService(
+                mock(IJwtService.class, withSettings().stubOnly()),
+                new PasswordVerificationService(10),
+                blacklistTokenRepository,
+                administratorUserRepository,
+                administratorUserMapper,
+                jwtClaimsService,
+                cache
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package co.parameta.technical.test.rest.benchmark;
+
+import co.parameta.technical.test.commons.dto.PositionDTO;
+import co.parameta.technical.test.commons.dto.TypeDocumentDTO;
+import co.parameta.technical.test.commons.pojo.AdditionalEmployeeInformationPojo;
+import co.parameta.technical.test.commons.pojo.EmployeeResponsePojo;
+import co.parameta.technical.test.commons.pojo.ExtraInformationPojo;
+import co.parameta.technical.test.commons.pojo.SaveEmployeeRequestPojo;
+import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
+import co.parameta.technical.test.rest.dto.ResponseEmployeeDTO;
+import co.parameta.technical.test.rest.util.mapper.JsonToPojoMapper;
+import co.parameta.technical.test.rest.util.mapper.PojoToJsonMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * REST to SOAP and SOAP to REST mapping of one employee.
+ * <p>
+ * Both directions parse the request dates ({@code fromString} to
+ * {@code XMLGregorianCalendar} and {@code parseToDate} to {@code Date}), which
+ * is where most of the allocation comes from.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private JsonToPojoMapper jsonToPojoMapper;
+
+    private PojoToJsonMapper pojoToJsonMapper;
+
+    private EmployeeRequestDTO employee;
+
+    private EmployeeResponsePojo employeeResponse;
+
+    private TypeDocumentDTO typeDocument;
+
+    private PositionDTO position;
+
+    @Setup
+    public void setUp() {
+        jsonToPojoMapper = Mappers.getMapper(JsonToPojoMapper.class);
+        pojoToJsonMapper = Mappers.getMapper(PojoToJsonMapper.class);
+        employee = BenchmarkData.employee();
+        typeDocument = new TypeDocumentDTO();
+        position = new PositionDTO();
+
+        AdditionalEmployeeInformationPojo additional = new AdditionalEmployeeInformationPojo();
+        additional.setTimeLinkedToCompany(extraInformation(7, 2, 4));
+        additional.setCurrentAgeEmployee(extraInformation(35, 5, 2));
+        employeeResponse = mock(EmployeeResponsePojo.class, withSettings().stubOnly().defaultAnswer(RETURNS_DEEP_STUBS));
+        when(employeeResponse.getResponse().getAdditionalEmployeeInformation()).thenReturn(additional);
+    }
+
+    @Benchmark
+    public SaveEmployeeRequestPojo jsonToPojo() {
+        return jsonToPojoMapper.toSaveEmployeeRequest(employee, "ADM001");
+    }
+
+    @Benchmark
+    public ResponseEmployeeDTO pojoToJson() {
+        return pojoToJsonMapper.toResponseEmployeeDto(employeeResponse, employee, typeDocument, position);
+    }
+
+    private static ExtraInformationPojo extraInformation(int years, int months, int days) {
+        ExtraInformationPojo extraInformation = new ExtraInformationPojo();
+        extraInformation.setYears(years);
+        extraInformation.setMonths(months);
+        extraInformation.setDays(days);
+        return extraInformation;
+    }
+}
@@ -0,0 +1,50 @@
+package co.parameta.technical.test.rest.benchmark;
+
+import co.parameta.technical.test.rest.configuration.PasswordEncoderConfig;
+import co.parameta.technical.test.rest.service.impl.PasswordVerificationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link PasswordVerificationService#matches} per BCrypt strength.
+ * <p>
+ * Each step of {@code security.password.bcrypt-strength} doubles the work of a
+ * login, and logins with an unknown user pay the same price through the dummy
+ * hash. Use the numbers to pick the highest strength that keeps a login within
+ * the latency budget; existing hashes are upgraded to it on the next login.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "Sup3rS3cret!";
+
+    @Param({"4", "8", "10", "12"})
+    private int strength;
+
+    private PasswordVerificationService service;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        service = new PasswordVerificationService(new PasswordEncoderConfig().configuredPasswordEncoder(strength));
+        hash = service.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return service.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean unknownUser() {
+        return service.matches(PASSWORD, null);
+    }
+}
@@ -0,0 +1,55 @@
+package co.parameta.technical.test.rest.benchmark;
+
+import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
+import co.parameta.technical.test.rest.repository.PositionRepository;
+import co.parameta.technical.test.rest.repository.TypeDocumentRepository;
+import co.parameta.technical.test.rest.service.impl.EmployeePdfGeneratorService;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * {@link EmployeePdfGeneratorService#generateEmployeeReport} for creation and
+ * update reports.
+ * <p>
+ * The reference repositories are stub-only mocks (no invocation recording),
+ * so the allocation reported by the GC profiler belongs to the PDF rendering.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PdfReportBenchmark {
+
+    @Param({"false", "true"})
+    private boolean update;
+
+    private EmployeePdfGeneratorService service;
+
+    private EmployeeRequestDTO employee;
+
+    @Setup
+    public void setUp() {
+        PositionRepository positionRepository = mock(PositionRepository.class, withSettings().stubOnly());
+        TypeDocumentRepository typeDocumentRepository = mock(TypeDocumentRepository.class, withSettings().stubOnly());
+        when(positionRepository.positionDescription(anyString())).thenReturn("Developer");
+        when(typeDocumentRepository.documentDescription(anyString())).thenReturn("Citizenship card");
+
+        service = new EmployeePdfGeneratorService(positionRepository, typeDocumentRepository, ObservationRegistry.NOOP);
+        employee = BenchmarkData.employee();
+    }
+
+    @Benchmark
+    public byte[] generateEmployeeReport() {
+        return service.generateEmployeeReport(employee, update);
+    }
+}
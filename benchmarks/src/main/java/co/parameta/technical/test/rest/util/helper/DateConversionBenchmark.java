@@ -0,0 +1,81 @@
+package co.parameta.technical.test.rest.util.helper;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.time.ZonedDateTime;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation of {@link DateConversionUtil} against the code it replaced in
+ * {@link GeneralRestUtil}: a {@link DatatypeFactory} looked up and a
+ * {@link GregorianCalendar} built for every conversion, and regular
+ * expressions for whitespace and character filtering.
+ * <p>
+ * Compare {@code gc.alloc.rate.norm} (bytes per operation) of each pair.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateConversionBenchmark {
+
+    private ZonedDateTime dateTime;
+
+    private String spaced;
+
+    private String document;
+
+    @Setup
+    public void setUp() {
+        dateTime = ZonedDateTime.parse("2020-01-15T10:15:30.123+01:00");
+        spaced = "  15/01/2020   10:30:00 ";
+        document = "CC-1.020.304.050";
+    }
+
+    @Benchmark
+    public XMLGregorianCalendar toXmlGregorianCalendar() {
+        return DateConversionUtil.toXmlGregorianCalendar(dateTime);
+    }
+
+    @Benchmark
+    public XMLGregorianCalendar toXmlGregorianCalendarLegacy() throws DatatypeConfigurationException {
+        return DatatypeFactory.newInstance().newXMLGregorianCalendar(GregorianCalendar.from(dateTime));
+    }
+
+    @Benchmark
+    public String normalizeSpaces() {
+        return DateConversionUtil.normalizeSpaces(spaced);
+    }
+
+    @Benchmark
+    public String normalizeSpacesLegacy() {
+        return spaced.trim().replaceAll("\\s+", " ");
+    }
+
+    @Benchmark
+    public String asciiDigits() {
+        return DateConversionUtil.asciiDigits(document);
+    }
+
+    @Benchmark
+    public String asciiDigitsLegacy() {
+        return document.replaceAll("\\D", "");
+    }
+
+    @Benchmark
+    public String asciiLetters() {
+        return DateConversionUtil.asciiLetters(document);
+    }
+
+    @Benchmark
+    public String asciiLettersLegacy() {
+        return document.replaceAll("[^A-Za-z]", "");
+    }
+}
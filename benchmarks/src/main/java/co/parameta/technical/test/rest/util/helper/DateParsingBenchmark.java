@@ -0,0 +1,110 @@
+package co.parameta.technical.test.rest.util.helper;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static co.parameta.technical.test.rest.util.constant.Constants.FORMATTERS;
+
+/**
+ * Date parsing of {@link GeneralRestUtil}, and {@link DateShapeParser} against
+ * the exception-driven loop over {@code FORMATTERS} it replaced.
+ * <p>
+ * The inputs cover a format matched by the first formatter, formats near the
+ * end of the list (where the old loop threw the most exceptions) and an
+ * invalid value. The benchmark lives in the {@code util.helper} package
+ * because {@link DateShapeParser} is package-private.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateParsingBenchmark {
+
+    @Param({
+            "2020-01-15",
+            "15/01/2020",
+            "01-15-2020 10:30:00",
+            "2020-01-15T10:15:30+01:00",
+            "not a date"
+    })
+    private String value;
+
+    @Benchmark
+    public ZonedDateTime shapeParser() {
+        return DateShapeParser.parse(value, false);
+    }
+
+    @Benchmark
+    public Instant legacyParser() {
+        return legacyParse(value, false);
+    }
+
+    @Benchmark
+    public boolean isValidDateFormat() {
+        return GeneralRestUtil.isValidDateFormat(value);
+    }
+
+    @Benchmark
+    public Date parseToDate() {
+        try {
+            return GeneralRestUtil.parseToDate(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public XMLGregorianCalendar fromString() {
+        try {
+            return GeneralRestUtil.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Previous implementation of {@code parseToDate} / {@code fromString}:
+     * every formatter and temporal type is tried until one does not throw.
+     */
+    private static Instant legacyParse(String v, boolean strict) {
+        try {
+            return Instant.parse(v);
+        } catch (Exception ignored) {
+            // try next format
+        }
+        for (DateTimeFormatter base : FORMATTERS) {
+            DateTimeFormatter f = strict ? base.withResolverStyle(ResolverStyle.STRICT) : base;
+            try {
+                return OffsetDateTime.parse(v, f).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                return ZonedDateTime.parse(v, f).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                return LocalDateTime.parse(v, f).atZone(ZoneId.systemDefault()).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                return LocalDate.parse(v, f).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next formatter
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+-- Employee lookup benchmark on a seeded million-row table.
+--
+-- Run against a disposable MySQL 8.0.18+ schema that already contains the
+-- technical_test tables and at least one employee row:
+--
+--   mysql -u root -p technical_test < db/benchmark/employee_lookup_benchmark.sql
+--
+-- The script clones the first employee 2^20 times into employee_bench with
+-- unique ids and document numbers, then compares the plans and timings of the
+-- previous catch-all query against the split queries, before and after the
+-- index from db/migration/V1__employee_document_lookup_index.sql.
+-- employee_bench is a copy without foreign keys and is dropped at the end.
+
+USE technical_test;
+
+DROP TABLE IF EXISTS employee_bench_stage;
+DROP TABLE IF EXISTS employee_bench;
+
+-- Stage table without primary key, so the template row can be doubled.
+CREATE TABLE employee_bench_stage LIKE employee;
+ALTER TABLE employee_bench_stage MODIFY id INT NOT NULL, DROP PRIMARY KEY;
+INSERT INTO employee_bench_stage SELECT * FROM employee ORDER BY id LIMIT 1;
+
+-- 20 doublings = 1,048,576 rows.
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+INSERT INTO employee_bench_stage SELECT * FROM employee_bench_stage;
+
+SET @row := 0;
+UPDATE employee_bench_stage
+SET id              = (@row := @row + 1),
+    document_number = LPAD(@row, 10, '0');
+
+CREATE TABLE employee_bench LIKE employee;
+INSERT INTO employee_bench SELECT * FROM employee_bench_stage;
+DROP TABLE employee_bench_stage;
+ANALYZE TABLE employee_bench;
+
+SET @type_code := (SELECT type_document FROM employee_bench LIMIT 1);
+SET @type_description := (SELECT description FROM type_document WHERE code = @type_code);
+SET @document := '0000777777';
+
+-- 1. Previous catch-all query (as generated for the document lookup), no index.
+EXPLAIN ANALYZE
+SELECT e.*
+FROM employee_bench e
+         JOIN type_document td ON td.code = e.type_document
+WHERE (NULL IS NULL OR e.id = NULL)
+  AND ((@document IS NULL AND @type_description IS NULL)
+    OR (@document IS NOT NULL AND @type_description IS NOT NULL
+        AND e.document_number = @document
+        AND (td.code = @type_description OR td.description = @type_description)));
+
+-- 2. Split query by document and resolved code, no index.
+EXPLAIN ANALYZE
+SELECT e.*
+FROM employee_bench e
+WHERE e.document_number = @document
+  AND e.type_document = @type_code;
+
+CREATE INDEX idx_employee_document_type ON employee_bench (document_number, type_document);
+ANALYZE TABLE employee_bench;
+
+-- 3. Previous catch-all query, with index.
+EXPLAIN ANALYZE
+SELECT e.*
+FROM employee_bench e
+         JOIN type_document td ON td.code = e.type_document
+WHERE (NULL IS NULL OR e.id = NULL)
+  AND ((@document IS NULL AND @type_description IS NULL)
+    OR (@document IS NOT NULL AND @type_description IS NOT NULL
+        AND e.document_number = @document
+        AND (td.code = @type_description OR td.description = @type_description)));
+
+-- 4. Split query by document and resolved code, with index.
+EXPLAIN ANALYZE
+SELECT e.*
+FROM employee_bench e
+WHERE e.document_number = @document
+  AND e.type_document = @type_code;
+
+-- 5. Split query by primary key.
+EXPLAIN ANALYZE
+SELECT e.*
+FROM employee_bench e
+WHERE e.id = 777777;
+
+DROP TABLE employee_bench;
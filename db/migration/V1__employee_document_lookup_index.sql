@@ -0,0 +1,9 @@
+-- Index used by EmployeeRepository.searchAllInformationEmployeeByDocument
+-- and EmployeeRepository.searchIdEmployee.
+--
+-- Both queries filter with plain equalities on (document_number, type_document),
+-- so MySQL resolves them with a single index lookup instead of a full scan.
+-- Lookups by id keep using the primary key.
+
+CREATE INDEX idx_employee_document_type
+    ON technical_test.employee (document_number, type_document);
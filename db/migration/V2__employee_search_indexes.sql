@@ -0,0 +1,28 @@
+-- Indexes used by the employee listing (GET /employee).
+--
+-- EmployeeRepositoryCustomImpl.searchEmployeeIds selects only e.id with one
+-- condition per provided filter and a keyset condition (id > :afterId ORDER BY id).
+-- InnoDB secondary indexes store the primary key, so each (column, id) index
+-- covers its filter and the keyset without reading employee rows. The page
+-- rows are then read by primary key (searchEmployeeSummaries).
+--
+-- For the equality filters (position, type_document) the index entries are
+-- already in id order: a page is a range scan that stops after LIMIT rows,
+-- whatever its depth. For the range filters (salary, date_affiliation_company)
+-- the entries are ordered by the column first, so MySQL reads every matching
+-- entry after afterId and sorts the ids before applying LIMIT. Those pages stay
+-- index-only, but their cost grows with the number of matching employees.
+-- type_document is already covered by idx_employee_document_type (V1) only as a
+-- second column, so it gets its own index here.
+
+CREATE INDEX idx_employee_position_id
+    ON technical_test.employee (position, id);
+
+CREATE INDEX idx_employee_type_document_id
+    ON technical_test.employee (type_document, id);
+
+CREATE INDEX idx_employee_affiliation_id
+    ON technical_test.employee (date_affiliation_company, id);
+
+CREATE INDEX idx_employee_salary_id
+    ON technical_test.employee (salary, id);
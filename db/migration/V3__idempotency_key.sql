@@ -0,0 +1,20 @@
+-- Table used by IdempotencyKeyRepository when idempotency.database.enabled=true.
+--
+-- One row per Idempotency-Key of GET /employee/bridge, scoped to the caller.
+-- key_hash and request_hash are SHA-256 hex digests, so raw keys and employee
+-- data are not stored. A row without response is a request in progress; its
+-- expires_at_millis is short so a crashed node does not block the key. Once
+-- the response is stored, expires_at_millis is pushed to the replay window.
+-- Expired rows are replaced when their key is reused; the index lets a job
+-- purge the rest with DELETE ... WHERE expires_at_millis < ?.
+
+CREATE TABLE technical_test.idempotency_key (
+    key_hash          CHAR(64)  NOT NULL,
+    request_hash      CHAR(64)  NOT NULL,
+    response          TEXT      NULL,
+    expires_at_millis BIGINT    NOT NULL,
+    PRIMARY KEY (key_hash)
+);
+
+CREATE INDEX idx_idempotency_key_expires
+    ON technical_test.idempotency_key (expires_at_millis);
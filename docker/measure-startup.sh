@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# Runs the procedure of docs/performance/startup-modes.md: builds the standard and
+# cds images from the working tree, starts each one RUNS times with the same limits
+# and prints the median of each measure as rows of the Results table.
+#
+#   docker/measure-startup.sh <env-file>
+#
+# <env-file> holds the runtime settings of the service (database, SMTP, SOAP, S3),
+# as passed to `docker run --env-file`. Optional variables:
+#   RUNS (5), CPUS (2), MEMORY (1g), READY_TIMEOUT (180 s),
+#   TOKEN: JWT used to read application.ready.time from /actuator/metrics.
+set -euo pipefail
+
+ENV_FILE=${1:?usage: $0 <env-file>}
+RUNS=${RUNS:-5}
+CPUS=${CPUS:-2}
+MEMORY=${MEMORY:-1g}
+READY_TIMEOUT=${READY_TIMEOUT:-180}
+IMAGE=parameta-rest-api
+
+since() {
+  awk -v begin="$1" -v now="$(date +%s.%N)" 'BEGIN { printf "%.3f\n", now - begin }'
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { if (NR == 0) print "-"; else if (NR % 2) print v[(NR + 1) / 2]; else printf "%.3f\n", (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+measure() {
+  local mode=$1 started=() ready=() readiness=() rss=()
+  for run in $(seq "$RUNS"); do
+    local begin cid port elapsed
+    begin=$(date +%s.%N)
+    cid=$(docker run -d --cpus "$CPUS" --memory "$MEMORY" --env-file "$ENV_FILE" -p 127.0.0.1::8001 "$IMAGE:$mode")
+    port=$(docker port "$cid" 8001/tcp | head -n 1 | cut -d: -f2)
+    until curl -fs "http://127.0.0.1:$port/actuator/health/readiness" | grep -q '"UP"'; do
+      elapsed=$(since "$begin")
+      if awk -v e="$elapsed" -v t="$READY_TIMEOUT" 'BEGIN { exit !(e > t) }'; then
+        docker logs "$cid" >&2
+        docker rm -f "$cid" > /dev/null
+        echo "$mode run $run: not ready after $READY_TIMEOUT s" >&2
+        exit 1
+      fi
+      sleep 0.2
+    done
+    readiness+=("$(since "$begin")")
+    started+=("$(docker logs "$cid" 2>&1 | sed -n 's/.*Started RestApplication in \([0-9.]*\) seconds.*/\1/p' | head -n 1)")
+    if [[ -n ${TOKEN:-} ]]; then
+      ready+=("$(curl -fs -H "Authorization: Bearer $TOKEN" \
+        "http://127.0.0.1:$port/actuator/metrics/application.ready.time" \
+        | sed -n 's/.*"value":\([0-9.E-]*\).*/\1/p')")
+    fi
+    rss+=("$(docker exec "$cid" awk '/VmRSS/ { printf "%.0f\n", $2 / 1024 }' /proc/1/status)")
+    docker rm -f "$cid" > /dev/null
+    echo "$mode run $run: readiness ${readiness[-1]} s, started ${started[-1]} s, RSS ${rss[-1]} MiB" >&2
+  done
+  printf '| %s | %s CPU, %s | %s | %s | %s | %s | %s |\n' \
+    "$(date +%F)" "$CPUS" "$MEMORY" "$mode" \
+    "$(printf '%s\n' "${started[@]}" | median)" \
+    "$(printf '%s\n' "${ready[@]+"${ready[@]}"}" | grep . | median)" \
+    "$(printf '%s\n' "${readiness[@]}" | median)" \
+    "$(printf '%s\n' "${rss[@]}" | median)"
+}
+
+for mode in standard cds; do
+  docker build -q --build-arg STARTUP_MODE="$mode" -t "$IMAGE:$mode" . > /dev/null
+done
+for mode in standard cds; do
+  measure "$mode"
+done
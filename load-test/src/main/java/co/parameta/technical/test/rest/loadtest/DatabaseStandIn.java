@@ -0,0 +1,82 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Database used by the load test.
+ * <p>
+ * {@code mysql} starts a MySQL 8 container with Testcontainers (Docker is
+ * required) and gives numbers comparable with production. {@code h2} runs an
+ * in-memory H2 database in MySQL mode for machines without Docker; the
+ * batched report location update uses MySQL {@code UPDATE ... JOIN} syntax and
+ * is only logged as failed there, so use it to exercise the harness, not to
+ * compare results. In both cases Hibernate creates the schema from the
+ * entities.
+ * </p>
+ */
+final class DatabaseStandIn implements AutoCloseable {
+
+    private static final String MYSQL_IMAGE = "mysql:8.4";
+
+    private static final String SCHEMA = "technical_test";
+
+    private final MySQLContainer container;
+
+    private final Map<String, Object> properties;
+
+    private DatabaseStandIn(MySQLContainer container, Map<String, Object> properties) {
+        this.container = container;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts the database.
+     *
+     * @param type {@code mysql} or {@code h2}
+     * @return the running database
+     */
+    static DatabaseStandIn start(String type) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.properties.hibernate.hbm2ddl.create_namespaces", "true");
+
+        if ("h2".equalsIgnoreCase(type)) {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:" + SCHEMA
+                    + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                    + ";INIT=CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+            return new DatabaseStandIn(null, properties);
+        }
+
+        MySQLContainer container = new MySQLContainer(MYSQL_IMAGE).withDatabaseName(SCHEMA);
+        container.start();
+        properties.put("spring.datasource.url", container.getJdbcUrl());
+        properties.put("spring.datasource.driver-class-name", container.getDriverClassName());
+        properties.put("spring.datasource.username", container.getUsername());
+        properties.put("spring.datasource.password", container.getPassword());
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.MySQLDialect");
+        return new DatabaseStandIn(container, properties);
+    }
+
+    /**
+     * Returns the Spring properties that point the service to this database.
+     *
+     * @return datasource and schema properties
+     */
+    Map<String, Object> properties() {
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop load generator.
+ * <p>
+ * Each virtual user sends a request, waits for the response and immediately
+ * sends the next one, so the offered load adapts to the service instead of
+ * queueing unboundedly. Only requests started after the warm-up are recorded.
+ * </p>
+ */
+final class LoadDriver {
+
+    private final HttpClient client;
+
+    LoadDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Runs one scenario.
+     *
+     * @param scenario    scenario name
+     * @param concurrency concurrent users
+     * @param warmup      time before recording starts
+     * @param duration    recorded time
+     * @param requests    supplies the request of each iteration
+     * @return throughput and latency percentiles
+     * @throws InterruptedException if interrupted while waiting for the users
+     */
+    ScenarioResult run(
+            String scenario,
+            int concurrency,
+            Duration warmup,
+            Duration duration,
+            Supplier<HttpRequest> requests
+    ) throws InterruptedException {
+        ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+        LongAdder errors = new LongAdder();
+        long recordFrom = System.nanoTime() + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+
+        ExecutorService users = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            users.execute(() -> {
+                while (System.nanoTime() < end) {
+                    HttpRequest request = requests.get();
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() < 400;
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (start >= recordFrom) {
+                        histogram.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+                        if (!ok) {
+                            errors.increment();
+                        }
+                    }
+                }
+            });
+        }
+        users.shutdown();
+        if (!users.awaitTermination(warmup.plus(duration).plusMinutes(2).toMillis(), TimeUnit.MILLISECONDS)) {
+            users.shutdownNow();
+        }
+        return ScenarioResult.of(scenario, concurrency, duration, histogram, errors.sum());
+    }
+}
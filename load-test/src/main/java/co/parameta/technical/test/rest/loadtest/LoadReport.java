@@ -0,0 +1,87 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Publishes the results as a Markdown table, on standard output and in the
+ * report file. The report ends with the same results as rows of the Results
+ * table of {@code docs/performance/virtual-threads.md}, so the reports of the
+ * platform and virtual runs are pasted there one after the other.
+ */
+final class LoadReport {
+
+    private LoadReport() {
+    }
+
+    /**
+     * Writes the report.
+     *
+     * @param settings settings of the run
+     * @param results  one result per scenario and concurrency level
+     * @param pinning  virtual thread pinning sites recorded during the runs
+     * @throws IOException if the report file cannot be written
+     */
+    static void write(
+            LoadTestSettings settings,
+            List<ScenarioResult> results,
+            List<PinningRecorder.PinnedSite> pinning
+    ) throws IOException {
+        StringBuilder report = new StringBuilder()
+                .append("# Load test report\n\n")
+                .append("* Date: ").append(OffsetDateTime.now()).append('\n')
+                .append("* Host: ").append(Runtime.getRuntime().availableProcessors()).append(" cores, Java ")
+                .append(System.getProperty("java.version")).append('\n')
+                .append("* Database: ").append(settings.database()).append('\n')
+                .append("* SOAP stub latency: ").append(settings.soapLatencyMillis()).append(" ms\n")
+                .append("* Threads: ").append(settings.threads()).append('\n')
+                .append("* Warm-up / measured: ").append(settings.warmup().toSeconds()).append(" s / ")
+                .append(settings.duration().toSeconds()).append(" s per run\n\n")
+                .append("| Scenario | Users | Requests | Errors | Req/s | p50 ms | p90 ms | p95 ms | p99 ms | max ms |\n")
+                .append("|----------|------:|---------:|-------:|------:|-------:|-------:|-------:|-------:|-------:|\n");
+
+        for (ScenarioResult result : results) {
+            report.append(String.format(Locale.ROOT,
+                    "| %s | %d | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f |%n",
+                    result.scenario(), result.concurrency(), result.requests(), result.errors(),
+                    result.throughput(), result.p50(), result.p90(), result.p95(), result.p99(), result.max()));
+        }
+
+        if (settings.virtualThreads()) {
+            report.append("\n## Virtual thread pinning (>= ")
+                    .append(settings.pinningThreshold().toMillis()).append(" ms)\n\n");
+            if (pinning.isEmpty()) {
+                report.append("No pinning recorded.\n");
+            } else {
+                report.append("| Frames | Count | Total ms | Max ms |\n")
+                        .append("|--------|------:|---------:|-------:|\n");
+                for (PinningRecorder.PinnedSite site : pinning) {
+                    report.append(String.format(Locale.ROOT, "| `%s` | %d | %d | %d |%n",
+                            site.frames(), site.count(), site.total().toMillis(), site.max().toMillis()));
+                }
+            }
+        }
+
+        report.append("\n## Results rows\n\n");
+        String pinnedSites = settings.virtualThreads() ? String.valueOf(pinning.size()) : "-";
+        for (ScenarioResult result : results) {
+            report.append(String.format(Locale.ROOT,
+                    "| %s | %d / %s | %d ms | %s | %d | %s | %.1f | %.1f | %.1f | %d | %s |%n",
+                    LocalDate.now(), Runtime.getRuntime().availableProcessors(), settings.database(),
+                    settings.soapLatencyMillis(), result.scenario(), result.concurrency(), settings.threads(),
+                    result.throughput(), result.p95(), result.p99(), result.errors(), pinnedSites));
+        }
+
+        System.out.println(report);
+        Path file = settings.report();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, report);
+    }
+}
@@ -0,0 +1,210 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import co.parameta.technical.test.rest.RestApplication;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the REST service against local stand-ins and drives its main
+ * endpoints.
+ * <p>
+ * Stand-ins: MySQL through Testcontainers (or H2 in MySQL mode), a SOAP stub
+ * with configurable latency, an in-process S3-compatible server and a
+ * GreenMail SMTP server. The service runs in this JVM on a random port and is
+ * called over HTTP, so the whole stack (security filter, controllers,
+ * Groovy validations, JPA, SOAP client, {@code @Async} PDF / S3 / mail
+ * pipeline) is on the measured path.
+ * </p>
+ *
+ * <p>
+ * Scenarios: {@code login} ({@code POST /login/autentication}), {@code bridge}
+ * ({@code GET /employee/bridge}, a new document number per request) and
+ * {@code all-user-information} ({@code GET /employee/all-user-information}
+ * for a random seeded employee). See {@link LoadTestSettings} for the options.
+ * </p>
+ *
+ * <p>
+ * With {@code loadtest.threads=virtual} the service handles requests and
+ * {@code @Async} work on virtual threads, and the report lists where they
+ * were pinned to their carrier threads.
+ * </p>
+ */
+public final class LoadTestApplication {
+
+    private static final String JWT_SECRET = "bG9hZC10ZXN0LXNlY3JldC1rZXktZm9yLXRoZS1yZXN0LXNlcnZpY2UtMjAyNg";
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private LoadTestApplication() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args not used, settings are read from system properties
+     * @throws Exception if a stand-in or the service cannot start
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        GreenMail smtp = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        smtp.start();
+        try (DatabaseStandIn database = DatabaseStandIn.start(settings.database());
+             SoapStubServer soap = SoapStubServer.start(settings.soapLatencyMillis());
+             S3StubServer s3 = S3StubServer.start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                     RestApplication.class, LoadTestStandInConfig.class
+             ).properties(properties(settings, database, soap, s3, smtp)).run();
+             PinningRecorder pinning = PinningRecorder.start(settings.pinningThreshold())) {
+
+            List<Integer> employeeIds = LoadTestSeeder.seed(context, settings.seedEmployees());
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            Map<String, Supplier<HttpRequest>> scenarios =
+                    scenarios(baseUrl, login(client, baseUrl), employeeIds);
+            LoadDriver driver = new LoadDriver(client);
+            List<ScenarioResult> results = new ArrayList<>();
+
+            for (String scenario : settings.scenarios()) {
+                Supplier<HttpRequest> requests = scenarios.get(scenario);
+                if (requests == null) {
+                    throw new IllegalArgumentException("Unknown scenario: " + scenario + ", use " + scenarios.keySet());
+                }
+                for (int concurrency : settings.concurrencyLevels()) {
+                    results.add(driver.run(scenario, concurrency, settings.warmup(), settings.duration(), requests));
+                    smtp.purgeEmailFromAllMailboxes();
+                }
+            }
+
+            LoadReport.write(settings, results, pinning.sites());
+        } finally {
+            smtp.stop();
+        }
+    }
+
+    /**
+     * Builds the service configuration pointing to the stand-ins.
+     */
+    private static Map<String, Object> properties(
+            LoadTestSettings settings,
+            DatabaseStandIn database,
+            SoapStubServer soap,
+            S3StubServer s3,
+            GreenMail smtp
+    ) {
+        Map<String, Object> properties = new LinkedHashMap<>(database.properties());
+        properties.put("server.port", "0");
+        properties.put("spring.application.name", "rest-load-test");
+        properties.put("spring.main.allow-bean-definition-overriding", "true");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("spring.mail.host", "127.0.0.1");
+        properties.put("spring.mail.port", String.valueOf(smtp.getSmtp().getPort()));
+        properties.put("spring.mail.username", "");
+        properties.put("spring.mail.password", "");
+        properties.put("spring.mail.properties.mail.smtp.auth", "false");
+        properties.put("spring.mail.properties.mail.smtp.starttls.enable", "false");
+        properties.put("soap.service.endpoint", soap.endpoint());
+        properties.put("aws.region", "us-east-1");
+        properties.put("aws.s3.bucket", "load-test");
+        properties.put("loadtest.s3.endpoint", s3.endpoint());
+        properties.put("jwt.secret", JWT_SECRET);
+        properties.put("tracing.exporter", "memory");
+        properties.put("spring.threads.virtual.enabled", String.valueOf(settings.virtualThreads()));
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    /**
+     * Logs in once; the token is shared by the authenticated scenarios.
+     */
+    private static String login(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(loginRequest(baseUrl), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest loginRequest(String baseUrl) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/login/autentication"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + LoadTestSeeder.ADMIN_EMAIL
+                                + "\",\"password\":\"" + LoadTestSeeder.ADMIN_PASSWORD + "\"}"
+                ))
+                .build();
+    }
+
+    private static Map<String, Supplier<HttpRequest>> scenarios(String baseUrl, String token, List<Integer> employeeIds) {
+        AtomicLong documentNumber = new AtomicLong(1_000_000_000L);
+        Map<String, Supplier<HttpRequest>> scenarios = new LinkedHashMap<>();
+
+        scenarios.put("login", () -> loginRequest(baseUrl));
+
+        scenarios.put("bridge", () -> {
+            long document = documentNumber.incrementAndGet();
+            return authorized(baseUrl + "/employee/bridge?" + query(Map.of(
+                    "names", "Load",
+                    "lastNames", "Test",
+                    "typeDocument", "CC",
+                    "documentNumber", String.valueOf(document),
+                    "dateOfBirth", "1990-05-17",
+                    "dateAffiliationCompany", "2018-03-15",
+                    "position", "DEV",
+                    "salary", "4500000",
+                    "email", "employee" + document + "@load.test"
+            )), token);
+        });
+
+        scenarios.put("all-user-information", () -> authorized(
+                baseUrl + "/employee/all-user-information?idEmployee="
+                        + employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size())),
+                token
+        ));
+
+        return scenarios;
+    }
+
+    private static HttpRequest authorized(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static String query(Map<String, String> parameters) {
+        StringBuilder query = new StringBuilder();
+        parameters.forEach((name, value) -> {
+            if (!query.isEmpty()) {
+                query.append('&');
+            }
+            query.append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return query.toString();
+    }
+}
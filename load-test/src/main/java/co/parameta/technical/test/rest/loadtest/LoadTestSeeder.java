@@ -0,0 +1,144 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import co.parameta.technical.test.commons.entity.AdministratorUserEntity;
+import co.parameta.technical.test.commons.entity.EmployeeEntity;
+import co.parameta.technical.test.commons.entity.PositionEntity;
+import co.parameta.technical.test.commons.entity.ScriptValidationEntity;
+import co.parameta.technical.test.commons.entity.SystemParameterEntity;
+import co.parameta.technical.test.commons.entity.TypeDocumentEntity;
+import co.parameta.technical.test.rest.repository.AdministratorUserRepository;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.repository.PositionRepository;
+import co.parameta.technical.test.rest.repository.ScriptValidationRepository;
+import co.parameta.technical.test.rest.repository.SystemParameterRepository;
+import co.parameta.technical.test.rest.repository.TypeDocumentRepository;
+import co.parameta.technical.test.rest.service.IPasswordVerificationService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts the reference data, administrator, system parameters, scripts and
+ * employees the load test scenarios need, through the service repositories.
+ */
+final class LoadTestSeeder {
+
+    static final String ADMIN_EMAIL = "load.test@parameta.co";
+
+    static final String ADMIN_PASSWORD = "LoadTest#2026";
+
+    static final String ADMIN_CODE = "LT001";
+
+    /**
+     * Validation run on every registration: one reference query, like the
+     * production scripts.
+     */
+    private static final String VALIDATION_SCRIPT = """
+            def row = executeSingleSql("SELECT COUNT(*) AS total FROM technical_test.position WHERE code = ?", context.position)
+            return row?.total ? "OK" : "Position not found"
+            """;
+
+    /**
+     * Email body script used by the notification pipeline.
+     */
+    private static final String CONTENT_SCRIPT = """
+            return contentEmail.replace("{names}", context.names ?: "")
+            """;
+
+    private LoadTestSeeder() {
+    }
+
+    /**
+     * Seeds the database.
+     *
+     * @param context   running service context
+     * @param employees number of employees to insert
+     * @return ids of the inserted employees
+     */
+    static List<Integer> seed(ConfigurableApplicationContext context, int employees) {
+        TypeDocumentRepository typeDocumentRepository = context.getBean(TypeDocumentRepository.class);
+        PositionRepository positionRepository = context.getBean(PositionRepository.class);
+        AdministratorUserRepository administratorUserRepository = context.getBean(AdministratorUserRepository.class);
+        SystemParameterRepository systemParameterRepository = context.getBean(SystemParameterRepository.class);
+        ScriptValidationRepository scriptValidationRepository = context.getBean(ScriptValidationRepository.class);
+        EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+
+        TypeDocumentEntity typeDocument = new TypeDocumentEntity();
+        typeDocument.setCode("CC");
+        typeDocument.setDescription("Citizenship card");
+        typeDocument = typeDocumentRepository.save(typeDocument);
+
+        PositionEntity position = new PositionEntity();
+        position.setCode("DEV");
+        position.setDescription("Developer");
+        position = positionRepository.save(position);
+
+        AdministratorUserEntity administrator = new AdministratorUserEntity();
+        administrator.setCode(ADMIN_CODE);
+        administrator.setEmail(ADMIN_EMAIL);
+        administrator.setPasswordEncoder(
+                context.getBean(IPasswordVerificationService.class).encode(ADMIN_PASSWORD)
+        );
+        administrator = administratorUserRepository.save(administrator);
+
+        Map.ofEntries(
+                Map.entry("GET_PDF_EMPLOYEE", "1"),
+                Map.entry("UPDATE_INFORMATION", "1"),
+                Map.entry("EMAIL_SUBJECT", "Welcome"),
+                Map.entry("EMAIL_CONTENT", "<p>Hello {names}</p>"),
+                Map.entry("EMAIL_COPY", ""),
+                Map.entry("EMAIL_SEND_ATTACHMENT", "1"),
+                Map.entry("SEND_EMAIL_WITH_COPY", "0"),
+                Map.entry("SEND_EMAIL_WITH_BLIND_COPY", "0"),
+                Map.entry("BLIND_COPY_EMAILS", ""),
+                Map.entry("EMAIL_SUBJECT_UPDATE", "Information updated"),
+                Map.entry("EMAIL_CONTENT_UPDATE", "<p>Hello {names}, your information was updated</p>"),
+                Map.entry("EMAIL_COPY_UPDATE", ""),
+                Map.entry("EMAIL_SEND_ATTACHMENT_UPDATE", "1"),
+                Map.entry("SEND_EMAIL_WITH_COPY_UPDATE", "0"),
+                Map.entry("SEND_EMAIL_WITH_BLIND_COPY_UPDATE", "0"),
+                Map.entry("BLIND_COPY_EMAILS_UPDATE", "")
+        ).forEach((name, content) -> {
+            SystemParameterEntity parameter = new SystemParameterEntity();
+            parameter.setName(name);
+            parameter.setContent(content);
+            parameter.setDateCreate(new Date());
+            systemParameterRepository.save(parameter);
+        });
+
+        scriptValidationRepository.save(script("LT_POSITION_EXISTS", "VALIDATION", VALIDATION_SCRIPT));
+        scriptValidationRepository.save(script("CAST_CONTENT_EMAIL", "EMAIL", CONTENT_SCRIPT));
+        scriptValidationRepository.save(script("CAST_CONTENT_EMAIL_UPDATE", "EMAIL", CONTENT_SCRIPT));
+
+        List<Integer> ids = new ArrayList<>(employees);
+        Date dateOfBirth = new Date(631152000000L);
+        Date dateAffiliation = new Date(1420070400000L);
+        for (int i = 0; i < employees; i++) {
+            EmployeeEntity employee = new EmployeeEntity();
+            employee.setNames("Employee " + i);
+            employee.setLastNames("Load Test");
+            employee.setTypeDocument(typeDocument);
+            employee.setDocumentNumber(String.format("9%09d", i));
+            employee.setDateOfBirth(dateOfBirth);
+            employee.setDateAffiliationCompany(dateAffiliation);
+            employee.setPosition(position);
+            employee.setSalary(3_500_000d);
+            employee.setAdministratorUser(administrator);
+            employee.setDateCreate(new Date());
+            ids.add(employeeRepository.save(employee).getId());
+        }
+        return ids;
+    }
+
+    private static ScriptValidationEntity script(String code, String group, String source) {
+        ScriptValidationEntity script = new ScriptValidationEntity();
+        script.setCode(code);
+        script.setGroup(group);
+        script.setState(1);
+        script.setGroovieCode(source);
+        return script;
+    }
+}
@@ -0,0 +1,79 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test settings, read from system properties ({@code -Dloadtest.*}).
+ *
+ * @param concurrencyLevels concurrent users per run ({@code loadtest.concurrency}, comma separated)
+ * @param warmup            warm-up time per run, not recorded ({@code loadtest.warmup-seconds})
+ * @param duration          measured time per run ({@code loadtest.duration-seconds})
+ * @param database          {@code mysql} (Testcontainers) or {@code h2} ({@code loadtest.database})
+ * @param soapLatencyMillis delay added by the SOAP stub ({@code loadtest.soap.latency-millis})
+ * @param scenarios         scenarios to run ({@code loadtest.scenarios}, comma separated)
+ * @param seedEmployees     employees inserted before the runs ({@code loadtest.seed.employees})
+ * @param report            Markdown report file ({@code loadtest.report})
+ * @param threads           {@code platform} or {@code virtual} request and async threads ({@code loadtest.threads})
+ * @param pinningThreshold  shortest virtual thread pinning reported ({@code loadtest.pinning.threshold-millis})
+ */
+record LoadTestSettings(
+        List<Integer> concurrencyLevels,
+        Duration warmup,
+        Duration duration,
+        String database,
+        long soapLatencyMillis,
+        List<String> scenarios,
+        int seedEmployees,
+        Path report,
+        String threads,
+        Duration pinningThreshold
+) {
+
+    /**
+     * Reads the settings, with defaults for a short local run.
+     *
+     * @return the settings
+     */
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                split(System.getProperty("loadtest.concurrency", "8,32")).stream()
+                        .map(Integer::valueOf)
+                        .toList(),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                System.getProperty("loadtest.database", "mysql"),
+                Long.getLong("loadtest.soap.latency-millis", 50),
+                split(System.getProperty("loadtest.scenarios", "login,bridge,all-user-information")),
+                Integer.getInteger("loadtest.seed.employees", 1000),
+                Path.of(System.getProperty("loadtest.report", "target/load-test-report.md")),
+                threads(System.getProperty("loadtest.threads", "platform")),
+                Duration.ofMillis(Long.getLong("loadtest.pinning.threshold-millis", 20))
+        );
+    }
+
+    /**
+     * Whether the service runs on virtual threads.
+     *
+     * @return {@code true} for {@code loadtest.threads=virtual}
+     */
+    boolean virtualThreads() {
+        return "virtual".equals(threads);
+    }
+
+    private static String threads(String value) {
+        if (!"platform".equals(value) && !"virtual".equals(value)) {
+            throw new IllegalArgumentException("Unknown threads mode: " + value + ", use platform or virtual");
+        }
+        return value;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,49 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+
+/**
+ * Points the service's S3 client to the {@link S3StubServer}.
+ * <p>
+ * The client of the commons configuration has no endpoint override, so a
+ * primary path-style client with static credentials replaces it while the
+ * load test runs.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "loadtest.s3.endpoint")
+public class LoadTestStandInConfig {
+
+    /**
+     * Creates the S3 client used by the service during the load test.
+     *
+     * @param endpoint S3 stub endpoint
+     * @param region   configured AWS region
+     * @return S3 client bound to the stub
+     */
+    @Bean(name = "s3Client")
+    @Primary
+    public S3Client s3Client(
+            @Value("${loadtest.s3.endpoint}") String endpoint,
+            @Value("${aws.region}") String region
+    ) {
+        return S3Client.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(region))
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("load-test", "load-test")
+                ))
+                .build();
+    }
+}
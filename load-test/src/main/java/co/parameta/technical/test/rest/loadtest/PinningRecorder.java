@@ -0,0 +1,141 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Records the {@code jdk.VirtualThreadPinned} JFR events of this JVM and
+ * groups them by the application frames that held the carrier thread.
+ * <p>
+ * A virtual thread is pinned when it blocks inside a {@code synchronized}
+ * block or a native frame: its carrier thread cannot run other virtual
+ * threads meanwhile. Only blocks longer than the threshold are reported.
+ * </p>
+ */
+final class PinningRecorder implements AutoCloseable {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Frames of these packages are skipped to find where the pinning started.
+     */
+    private static final List<String> RUNTIME_PACKAGES = List.of(
+            "java.", "jdk.", "sun.", "javax."
+    );
+
+    private static final int SITE_FRAMES = 3;
+
+    private final RecordingStream stream = new RecordingStream();
+
+    private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+
+    /**
+     * Starts recording.
+     *
+     * @param threshold shortest pinning recorded
+     * @return the running recorder
+     */
+    static PinningRecorder start(Duration threshold) {
+        PinningRecorder recorder = new PinningRecorder();
+        recorder.stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recorder.stream.onEvent(EVENT, recorder::record);
+        recorder.stream.startAsync();
+        return recorder;
+    }
+
+    private void record(RecordedEvent event) {
+        String site = site(event);
+        sites.computeIfAbsent(site, PinnedSite::new).add(event.getDuration());
+    }
+
+    /**
+     * The first application frames of the stack, or the top runtime frames
+     * when the pinning happened entirely inside the JDK.
+     */
+    private static String site(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        List<RecordedFrame> application = frames.stream()
+                .filter(frame -> !isRuntime(frame))
+                .limit(SITE_FRAMES)
+                .toList();
+        return (application.isEmpty() ? frames.stream().limit(SITE_FRAMES).toList() : application).stream()
+                .map(PinningRecorder::describe)
+                .collect(Collectors.joining(" <- "));
+    }
+
+    private static boolean isRuntime(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return RUNTIME_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Pinning sites, most total pinned time first.
+     *
+     * @return the recorded sites
+     */
+    List<PinnedSite> sites() {
+        return sites.values().stream()
+                .sorted(Comparator.comparing(PinnedSite::total).reversed())
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    /**
+     * Pinned blocks that started at the same frames.
+     */
+    static final class PinnedSite {
+
+        private final String frames;
+        private long count;
+        private Duration total = Duration.ZERO;
+        private Duration max = Duration.ZERO;
+
+        PinnedSite(String frames) {
+            this.frames = frames;
+        }
+
+        synchronized void add(Duration duration) {
+            count++;
+            total = total.plus(duration);
+            if (duration.compareTo(max) > 0) {
+                max = duration;
+            }
+        }
+
+        String frames() {
+            return frames;
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized Duration total() {
+            return total;
+        }
+
+        synchronized Duration max() {
+            return max;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process S3-compatible stand-in covering the calls the service makes.
+ * <p>
+ * Path-style {@code PUT}, {@code GET} and {@code HEAD} of objects, plus bucket
+ * creation, are served from memory. {@code aws-chunked} uploads (sent by
+ * recent SDK versions with trailing checksums) are decoded, and the ETag is
+ * the MD5 of the content as S3 returns it for single-part uploads. It avoids
+ * a MinIO container, so the load test also runs where Docker is not
+ * available.
+ * </p>
+ */
+final class S3StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    private S3StubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the stub on a free local port.
+     *
+     * @return the running stub
+     * @throws IOException if the port cannot be bound
+     */
+    static S3StubServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        S3StubServer stub = new S3StubServer(server, executor);
+        server.createContext("/", stub::handle);
+        server.setExecutor(executor);
+        server.start();
+        return stub;
+    }
+
+    /**
+     * Returns the endpoint to configure in the S3 client.
+     *
+     * @return endpoint URL
+     */
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of stored objects.
+     *
+     * @return stored objects
+     */
+    int objectCount() {
+        return objects.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        boolean isObject = path.indexOf('/', 1) > 0;
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                if (isObject) {
+                    byte[] content = exchange.getRequestHeaders().containsKey("x-amz-decoded-content-length")
+                            ? decodeChunked(body)
+                            : body;
+                    objects.put(path, content);
+                    exchange.getResponseHeaders().set("ETag", etag(content));
+                }
+                send(exchange, 200, new byte[0]);
+            }
+            case "GET", "HEAD" -> {
+                byte[] content = objects.get(path);
+                if (content == null) {
+                    send(exchange, 404, ("<Error><Code>NoSuchKey</Code><Key>" + path + "</Key></Error>")
+                            .getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                exchange.getResponseHeaders().set("ETag", etag(content));
+                exchange.getResponseHeaders().set("Content-Type", "application/pdf");
+                if ("HEAD".equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Content-Length", String.valueOf(content.length));
+                    exchange.sendResponseHeaders(200, -1);
+                    exchange.close();
+                } else {
+                    send(exchange, 200, content);
+                }
+            }
+            default -> send(exchange, 405, new byte[0]);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] content) throws IOException {
+        exchange.sendResponseHeaders(status, content.length == 0 ? -1 : content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    /**
+     * Decodes an {@code aws-chunked} body: {@code <hex size>[;extensions]\r\n<data>\r\n}
+     * repeated until a zero-size chunk, followed by optional trailers.
+     */
+    private static byte[] decodeChunked(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        int pos = 0;
+        while (pos < body.length) {
+            int lineEnd = indexOfCrlf(body, pos);
+            if (lineEnd < 0) {
+                break;
+            }
+            String header = new String(body, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int separator = header.indexOf(';');
+            int size = Integer.parseInt((separator >= 0 ? header.substring(0, separator) : header).trim(), 16);
+            if (size == 0) {
+                break;
+            }
+            int dataStart = lineEnd + 2;
+            out.write(body, dataStart, size);
+            pos = dataStart + size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] body, int from) {
+        for (int i = from; i < body.length - 1; i++) {
+            if (body[i] == '\r' && body[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            return '"' + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
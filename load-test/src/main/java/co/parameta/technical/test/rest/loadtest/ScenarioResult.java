@@ -0,0 +1,64 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one scenario at one concurrency level. Latencies are in
+ * milliseconds.
+ *
+ * @param scenario    scenario name
+ * @param concurrency concurrent users
+ * @param requests    requests completed in the measured window
+ * @param errors      requests that failed or returned 4xx/5xx
+ * @param throughput  completed requests per second
+ * @param p50         median latency
+ * @param p90         90th percentile latency
+ * @param p95         95th percentile latency
+ * @param p99         99th percentile latency
+ * @param max         maximum latency
+ */
+record ScenarioResult(
+        String scenario,
+        int concurrency,
+        long requests,
+        long errors,
+        double throughput,
+        double p50,
+        double p90,
+        double p95,
+        double p99,
+        double max
+) {
+
+    /**
+     * Builds the result from a histogram of latencies in microseconds.
+     *
+     * @param scenario    scenario name
+     * @param concurrency concurrent users
+     * @param duration    measured window
+     * @param histogram   latencies in microseconds
+     * @param errors      failed requests
+     * @return the result
+     */
+    static ScenarioResult of(String scenario, int concurrency, Duration duration, Histogram histogram, long errors) {
+        long requests = histogram.getTotalCount();
+        return new ScenarioResult(
+                scenario,
+                concurrency,
+                requests,
+                errors,
+                requests / (duration.toMillis() / 1000.0),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue())
+        );
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
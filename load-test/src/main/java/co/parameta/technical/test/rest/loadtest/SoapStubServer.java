@@ -0,0 +1,131 @@
+package co.parameta.technical.test.rest.loadtest;
+
+import co.parameta.technical.test.commons.pojo.EmployeeResponsePojo;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Stand-in for the SOAP employee service.
+ * <p>
+ * Every request is answered, after {@code latencyMillis}, with the same SOAP
+ * envelope carrying an {@link EmployeeResponsePojo} with status {@code 201}
+ * (employee created), marshalled with JAXB like the real service. The latency
+ * stands for the backend time and keeps request threads (and, with open
+ * session in view, their JDBC connections) busy as they are in production.
+ * </p>
+ */
+final class SoapStubServer implements AutoCloseable {
+
+    private static final String PATH = "/ws";
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final byte[] envelope;
+
+    private final long latencyMillis;
+
+    private SoapStubServer(HttpServer server, ExecutorService executor, byte[] envelope, long latencyMillis) {
+        this.server = server;
+        this.executor = executor;
+        this.envelope = envelope;
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * Starts the stub on a free local port.
+     *
+     * @param latencyMillis delay before each response
+     * @return the running stub
+     * @throws Exception if the envelope cannot be built or the port cannot be bound
+     */
+    static SoapStubServer start(long latencyMillis) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        SoapStubServer stub = new SoapStubServer(server, executor, buildEnvelope(), latencyMillis);
+        server.createContext(PATH, stub::handle);
+        server.setExecutor(executor);
+        server.start();
+        return stub;
+    }
+
+    /**
+     * Returns the endpoint to configure as {@code soap.service.endpoint}.
+     *
+     * @return endpoint URL
+     */
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/xml; charset=utf-8");
+        exchange.sendResponseHeaders(200, envelope.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(envelope);
+        }
+    }
+
+    /**
+     * Marshals the canned response once.
+     * <p>
+     * The nested response types are generated classes of the commons library;
+     * a {@link BeanWrapper} with auto-grown nested paths fills them by
+     * property name.
+     * </p>
+     */
+    private static byte[] buildEnvelope() throws Exception {
+        EmployeeResponsePojo response = new EmployeeResponsePojo();
+        BeanWrapper wrapper = new BeanWrapperImpl(response);
+        wrapper.setAutoGrowNestedPaths(true);
+        wrapper.setPropertyValue("response.status", "201");
+        wrapper.setPropertyValue("response.message", "Employee registered (load test stub)");
+        wrapper.setPropertyValue("response.additionalEmployeeInformation.timeLinkedToCompany.years", 5);
+        wrapper.setPropertyValue("response.additionalEmployeeInformation.timeLinkedToCompany.months", 3);
+        wrapper.setPropertyValue("response.additionalEmployeeInformation.timeLinkedToCompany.days", 10);
+        wrapper.setPropertyValue("response.additionalEmployeeInformation.currentAgeEmployee.years", 34);
+        wrapper.setPropertyValue("response.additionalEmployeeInformation.currentAgeEmployee.months", 1);
+        wrapper.setPropertyValue("response.additionalEmployeeInformation.currentAgeEmployee.days", 2);
+
+        Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+        marshaller.setClassesToBeBound(EmployeeResponsePojo.class);
+        marshaller.afterPropertiesSet();
+
+        SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+        messageFactory.afterPropertiesSet();
+        SoapMessage message = messageFactory.createWebServiceMessage();
+        marshaller.marshal(response, message.getPayloadResult());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,81 @@
+package co.parameta.technical.test.rest.configuration;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Bounded in-memory span exporter, used with {@code tracing.exporter=memory}.
+ * <p>
+ * Keeps the last {@code maxSpans} finished spans so they can be inspected in
+ * tests or local runs without any collector.
+ * </p>
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int maxSpans;
+
+    /**
+     * Finished spans, oldest first. Guarded by its own monitor.
+     */
+    private final Deque<SpanData> spans = new ArrayDeque<>();
+
+    /**
+     * Creates the exporter.
+     *
+     * @param maxSpans maximum number of spans kept
+     */
+    public InMemorySpanExporter(int maxSpans) {
+        this.maxSpans = Math.max(1, maxSpans);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> finished) {
+        synchronized (spans) {
+            for (SpanData span : finished) {
+                if (spans.size() == maxSpans) {
+                    spans.removeFirst();
+                }
+                spans.addLast(span);
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Returns the finished spans, oldest first.
+     *
+     * @return copy of the kept spans
+     */
+    public List<SpanData> getFinishedSpans() {
+        synchronized (spans) {
+            return new ArrayList<>(spans);
+        }
+    }
+
+    /**
+     * Removes every kept span.
+     */
+    public void reset() {
+        synchronized (spans) {
+            spans.clear();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        reset();
+        return CompletableResultCode.ofSuccess();
+    }
+}
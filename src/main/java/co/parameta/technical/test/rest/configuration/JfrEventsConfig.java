@@ -0,0 +1,56 @@
+package co.parameta.technical.test.rest.configuration;
+
+import co.parameta.technical.test.rest.util.jfr.JwtVerificationEvent;
+import co.parameta.technical.test.rest.util.jfr.MailSendEvent;
+import co.parameta.technical.test.rest.util.jfr.PdfRenderEvent;
+import co.parameta.technical.test.rest.util.jfr.RestJfrEvent;
+import co.parameta.technical.test.rest.util.jfr.S3GetEvent;
+import co.parameta.technical.test.rest.util.jfr.S3PutEvent;
+import co.parameta.technical.test.rest.util.jfr.ScriptCompileEvent;
+import co.parameta.technical.test.rest.util.jfr.ScriptExecuteEvent;
+import co.parameta.technical.test.rest.util.jfr.SoapCallEvent;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * JDK Flight Recorder configuration.
+ * <p>
+ * With {@code jfr.events.enabled=true} the services emit one event per Groovy
+ * script compilation and execution, SOAP round trip, PDF render, S3 get and
+ * put, mail delivery and JWT verification. In a recording they appear under
+ * the {@code Parameta / REST} category next to the GC and allocation events of
+ * the JVM, so a pause or an allocation spike can be attributed to the stage
+ * that was running. The event types are registered up front so they show in
+ * the recording metadata even before the first occurrence.
+ * </p>
+ */
+@Configuration
+public class JfrEventsConfig {
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            ScriptCompileEvent.class,
+            ScriptExecuteEvent.class,
+            SoapCallEvent.class,
+            PdfRenderEvent.class,
+            S3GetEvent.class,
+            S3PutEvent.class,
+            MailSendEvent.class,
+            JwtVerificationEvent.class
+    );
+
+    /**
+     * Enables or disables the application JFR events.
+     *
+     * @param enabled whether the events are emitted
+     */
+    public JfrEventsConfig(@Value("${jfr.events.enabled:false}") boolean enabled) {
+        RestJfrEvent.setActive(enabled);
+        if (enabled) {
+            EVENTS.forEach(FlightRecorder::register);
+        }
+    }
+}
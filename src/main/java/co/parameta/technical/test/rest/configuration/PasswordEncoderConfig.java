@@ -0,0 +1,49 @@
+package co.parameta.technical.test.rest.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Password encoder of the REST API.
+ * <p>
+ * New hashes are BCrypt with the cost set by
+ * {@code security.password.bcrypt-strength}, stored with the {@code {bcrypt}}
+ * prefix. Hashes without prefix, as written before, are still verified as
+ * BCrypt. Both an unprefixed hash and a hash of a lower cost are reported by
+ * {@code upgradeEncoding}, so the login re-encodes them with the configured
+ * cost. {@code PasswordHashBenchmark} measures the cost of each strength.
+ * </p>
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * Identifier of the BCrypt encoder in the stored hashes.
+     */
+    private static final String BCRYPT = "bcrypt";
+
+    /**
+     * Creates the application password encoder, preferred over the one of
+     * the commons module.
+     *
+     * @param strength BCrypt cost of new hashes (4 to 31)
+     * @return delegating password encoder that encodes with BCrypt
+     */
+    @Bean
+    @Primary
+    public PasswordEncoder configuredPasswordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength
+    ) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
@@ -0,0 +1,72 @@
+package co.parameta.technical.test.rest.configuration;
+
+import co.parameta.technical.test.rest.util.constant.Constants;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Connection pool sizing for the {@code performance} profile.
+ * <p>
+ * Unless {@code performance.datasource.maximum-pool-size} is set, the Hikari pool
+ * is sized as {@code (2 x CPU cores) + performance.datasource.expected-soap-concurrency}:
+ * the first term keeps every core busy while other connections wait on MySQL I/O,
+ * and the second covers requests that keep their connection (open session in view)
+ * while they wait on the SOAP backend. The pool is fixed-size
+ * ({@code minimum-idle = maximum-pool-size}) so no connection is opened under load.
+ * </p>
+ * <p>
+ * See {@code docs/performance/performance-profile.md} for the measurements behind these values.
+ * </p>
+ */
+@Log4j2
+@Configuration
+@Profile("performance")
+public class PerformanceDataSourceConfig {
+
+    /**
+     * Applies the computed pool size to the Hikari data source once its
+     * {@code spring.datasource.hikari.*} properties have been bound.
+     *
+     * @param environment environment used to read the sizing properties
+     * @return post-processor that resizes the pool before it is started
+     */
+    @Bean
+    public static BeanPostProcessor performancePoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int poolSize = poolSize(
+                            environment.getProperty("performance.datasource.maximum-pool-size", Integer.class, 0),
+                            environment.getProperty("performance.datasource.expected-soap-concurrency", Integer.class, 0),
+                            Runtime.getRuntime().availableProcessors()
+                    );
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    log.info(Constants.LOG_PERFORMANCE_POOL_SIZE, beanName, poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Computes the pool size.
+     *
+     * @param configured      explicit size; used when positive
+     * @param soapConcurrency expected concurrent SOAP calls
+     * @param cpuCores        available processors
+     * @return number of connections of the pool
+     */
+    static int poolSize(int configured, int soapConcurrency, int cpuCores) {
+        if (configured > 0) {
+            return configured;
+        }
+        return cpuCores * 2 + Math.max(0, soapConcurrency);
+    }
+}
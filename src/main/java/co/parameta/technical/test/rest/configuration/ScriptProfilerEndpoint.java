@@ -0,0 +1,70 @@
+package co.parameta.technical.test.rest.configuration;
+
+import co.parameta.technical.test.rest.dto.ScriptProfileReportDTO;
+import co.parameta.technical.test.rest.service.IScriptProfilerService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint that exposes the Groovy script profiler.
+ * <ul>
+ *     <li>{@code GET /actuator/groovyprofile}: top {@code groovy.profiler.top} scripts and queries</li>
+ *     <li>{@code GET /actuator/groovyprofile/{top}}: top {@code top} scripts and queries</li>
+ *     <li>{@code DELETE /actuator/groovyprofile}: clears the profile</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "groovyprofile")
+public class ScriptProfilerEndpoint {
+
+    private final IScriptProfilerService scriptProfilerService;
+
+    private final int defaultTop;
+
+    /**
+     * Creates the endpoint.
+     *
+     * @param scriptProfilerService profiler that holds the measurements
+     * @param defaultTop            number of entries returned when none is requested
+     */
+    public ScriptProfilerEndpoint(
+            IScriptProfilerService scriptProfilerService,
+            @Value("${groovy.profiler.top:10}") int defaultTop
+    ) {
+        this.scriptProfilerService = scriptProfilerService;
+        this.defaultTop = defaultTop;
+    }
+
+    /**
+     * Returns the default number of slowest scripts and queries.
+     *
+     * @return the profile report
+     */
+    @ReadOperation
+    public ScriptProfileReportDTO report() {
+        return scriptProfilerService.report(defaultTop);
+    }
+
+    /**
+     * Returns the requested number of slowest scripts and queries.
+     *
+     * @param top maximum number of scripts and of queries
+     * @return the profile report
+     */
+    @ReadOperation
+    public ScriptProfileReportDTO top(@Selector int top) {
+        return scriptProfilerService.report(top);
+    }
+
+    /**
+     * Clears the profile.
+     */
+    @DeleteOperation
+    public void reset() {
+        scriptProfilerService.reset();
+    }
+}
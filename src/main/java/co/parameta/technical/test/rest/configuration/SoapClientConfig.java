@@ -6,11 +6,15 @@ import co.parameta.technical.test.commons.pojo.EmployeeResponsePojo;
 import co.parameta.technical.test.commons.pojo.PositionPojo;
 import co.parameta.technical.test.commons.pojo.SaveEmployeeRequestPojo;
 import co.parameta.technical.test.commons.pojo.TypeDocumentPojo;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
 
 /**
  * SOAP client configuration.
@@ -60,16 +64,34 @@ public class SoapClientConfig {
      * The template is configured with the JAXB marshaller/unmarshaller and
      * the default SOAP endpoint URI.
      * </p>
+     * <p>
+     * When tracing is available, a {@link TracingSoapClientInterceptor} propagates
+     * the current trace context to the SOAP service.
+     * </p>
      *
      * @param marshaller JAXB marshaller used for request/response conversion
+     * @param tracer     tracer of the current span, if tracing is enabled
+     * @param propagator trace context propagator, if tracing is enabled
      * @return configured {@link WebServiceTemplate} instance
      */
     @Bean
-    public WebServiceTemplate webServiceTemplate(Jaxb2Marshaller marshaller) {
+    public WebServiceTemplate webServiceTemplate(
+            Jaxb2Marshaller marshaller,
+            ObjectProvider<Tracer> tracer,
+            ObjectProvider<Propagator> propagator
+    ) {
         WebServiceTemplate webServiceTemplate = new WebServiceTemplate();
         webServiceTemplate.setMarshaller(marshaller);
         webServiceTemplate.setUnmarshaller(marshaller);
         webServiceTemplate.setDefaultUri(soapServiceUrl);
+
+        Tracer currentTracer = tracer.getIfAvailable();
+        Propagator currentPropagator = propagator.getIfAvailable();
+        if (currentTracer != null && currentPropagator != null) {
+            webServiceTemplate.setInterceptors(new ClientInterceptor[]{
+                    new TracingSoapClientInterceptor(currentTracer, currentPropagator)
+            });
+        }
         return webServiceTemplate;
     }
 }
@@ -4,13 +4,21 @@ import co.parameta.technical.test.commons.util.exception.CustomAccessDeniedHandl
 import co.parameta.technical.test.commons.util.exception.CustomAuthenticationEntryPoint;
 import co.parameta.technical.test.commons.util.helper.JWTAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -31,6 +39,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *     <li>Stateless session policy</li>
  *     <li>Custom authentication entry point</li>
  *     <li>Custom access denied handler</li>
+ *     <li>HTTP Basic scrape credentials for {@code /actuator/prometheus}</li>
  * </ul>
  */
 @Configuration
@@ -38,16 +47,66 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SpringSecurityConfig {
 
+    /**
+     * Role of the Prometheus scrape user.
+     */
+    private static final String PROMETHEUS_ROLE = "PROMETHEUS";
+
     private final JWTAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final AuthenticationProvider authenticationProvider;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Configures the {@link SecurityFilterChain} of the Prometheus scrape endpoint.
+     * <p>
+     * The scraper carries no JWT, so {@code /actuator/prometheus} is protected
+     * by its own HTTP Basic credentials ({@code security.prometheus.username}
+     * and {@code security.prometheus.password}), which are not valid for the
+     * API. Without a password the endpoint is denied to everyone.
+     * </p>
+     *
+     * @param http     {@link HttpSecurity} to configure
+     * @param username scrape user name
+     * @param password scrape password; blank disables the endpoint
+     * @return configured {@link SecurityFilterChain}
+     * @throws Exception if a security configuration error occurs
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain prometheusFilterChain(
+            HttpSecurity http,
+            @Value("${security.prometheus.username:prometheus}") String username,
+            @Value("${security.prometheus.password:}") String password
+    ) throws Exception {
+        return http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> {
+                    if (password.isBlank()) {
+                        auth.anyRequest().denyAll();
+                    } else {
+                        auth.anyRequest().hasRole(PROMETHEUS_ROLE);
+                    }
+                })
+                .sessionManagement(sessionManager ->
+                        sessionManager.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(prometheusAuthenticationManager(username, password))
+                .build();
+    }
 
     /**
      * Configures the {@link SecurityFilterChain} for HTTP security.
      * <p>
-     * Public endpoints are explicitly permitted (login and Swagger resources),
-     * while all other endpoints require authentication.
+     * Public endpoints are explicitly permitted (login, Swagger resources and
+     * the health probes), while all other endpoints require authentication.
+     * Orchestrator probes carry no token, so the health groups must stay
+     * reachable without one; health details are only shown to authenticated
+     * callers. {@code /actuator/prometheus} is handled by
+     * {@link #prometheusFilterChain}.
      * </p>
      *
      * <p>
@@ -68,7 +127,8 @@ public class SpringSecurityConfig {
                                         "/login/**",
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**",
-                                        "/v3/api-docs.yaml"
+                                        "/v3/api-docs.yaml",
+                                        "/actuator/health/**"
                                 ).permitAll()
                                 .anyRequest().authenticated()
                 )
@@ -84,4 +144,20 @@ public class SpringSecurityConfig {
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
+
+    /**
+     * Authenticates the scrape user only, with the application password encoder.
+     */
+    private ProviderManager prometheusAuthenticationManager(String username, String password) {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            users.createUser(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles(PROMETHEUS_ROLE)
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(users);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
+    }
 }
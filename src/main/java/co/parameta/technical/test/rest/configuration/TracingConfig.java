@@ -0,0 +1,66 @@
+package co.parameta.technical.test.rest.configuration;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Tracing configuration.
+ * <p>
+ * Spans come from the Micrometer observations of the services (controller,
+ * Groovy scripts and SQL, SOAP, S3 and SMTP) through the OpenTelemetry bridge.
+ * The exporter is chosen with {@code tracing.exporter}:
+ * </p>
+ * <ul>
+ *     <li>{@code none} (default): no exporter is added here, e.g. to use only OTLP</li>
+ *     <li>{@code log}: spans are written to the application log, for local debugging</li>
+ *     <li>{@code memory}: the last {@code tracing.memory.max-spans} spans are kept in memory,
+ *     for tests and the load test</li>
+ * </ul>
+ * <p>
+ * The task decorator copies the trace context into {@code @Async} tasks, so the
+ * notification pipeline is a child of the request that started it.
+ * </p>
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Exports spans to the application log.
+     *
+     * @return logging span exporter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "log")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+
+    /**
+     * Keeps finished spans in memory.
+     *
+     * @param maxSpans maximum number of spans kept
+     * @return in-memory span exporter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "memory")
+    public InMemorySpanExporter inMemorySpanExporter(
+            @Value("${tracing.memory.max-spans:10000}") int maxSpans
+    ) {
+        return new InMemorySpanExporter(maxSpans);
+    }
+
+    /**
+     * Propagates the observation and trace context to {@code @Async} tasks.
+     *
+     * @return context propagating task decorator
+     */
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
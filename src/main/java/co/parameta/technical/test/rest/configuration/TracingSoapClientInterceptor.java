@@ -0,0 +1,96 @@
+package co.parameta.technical.test.rest.configuration;
+
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.ws.client.WebServiceClientException;
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.HeadersAwareSenderWebServiceConnection;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+
+import javax.xml.namespace.QName;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * SOAP client interceptor that propagates the current trace context to the SOAP service.
+ * <p>
+ * The propagation fields of the active span (e.g. {@code traceparent}) are written
+ * both as HTTP request headers and as SOAP header elements in the
+ * {@value #TRACE_NAMESPACE} namespace, so the backend can continue the trace
+ * whichever layer it reads.
+ * </p>
+ */
+public class TracingSoapClientInterceptor implements ClientInterceptor {
+
+    /**
+     * Namespace of the SOAP header elements carrying the trace context.
+     */
+    public static final String TRACE_NAMESPACE = "urn:parameta:trace";
+
+    private static final String TRACE_PREFIX = "trace";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param tracer     tracer that exposes the current span
+     * @param propagator propagator that writes the trace context fields
+     */
+    public TracingSoapClientInterceptor(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    /**
+     * Writes the current trace context into the outgoing request.
+     *
+     * @param messageContext context of the outgoing message
+     * @return always {@code true}, so the call continues
+     */
+    @Override
+    public boolean handleRequest(MessageContext messageContext) throws WebServiceClientException {
+        TraceContext context = tracer.currentTraceContext().context();
+        if (context == null) {
+            return true;
+        }
+
+        TransportContext transportContext = TransportContextHolder.getTransportContext();
+        propagator.inject(context, messageContext, (carrier, key, value) -> {
+            if (transportContext != null
+                    && transportContext.getConnection() instanceof HeadersAwareSenderWebServiceConnection connection) {
+                try {
+                    connection.addRequestHeader(key, value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            if (carrier != null && carrier.getRequest() instanceof SoapMessage soapMessage) {
+                SoapHeader header = soapMessage.getSoapHeader();
+                header.addHeaderElement(new QName(TRACE_NAMESPACE, key, TRACE_PREFIX)).setText(value);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean handleResponse(MessageContext messageContext) throws WebServiceClientException {
+        return true;
+    }
+
+    @Override
+    public boolean handleFault(MessageContext messageContext) throws WebServiceClientException {
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(MessageContext messageContext, Exception ex) throws WebServiceClientException {
+        // nothing to clean up
+    }
+}
@@ -0,0 +1,36 @@
+package co.parameta.technical.test.rest.configuration;
+
+import co.parameta.technical.test.rest.service.IWarmUpService;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup warm-up configuration.
+ * <p>
+ * Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC} only after
+ * every {@link ApplicationRunner} has returned, so running the warm-up
+ * synchronously here keeps {@code /actuator/health/readiness} out of service
+ * until it completes. Liveness is already {@code CORRECT} meanwhile, so a slow
+ * warm-up does not get the container restarted.
+ * </p>
+ * <p>
+ * Disabled with {@code warmup.enabled=false}.
+ * </p>
+ */
+@Configuration
+public class WarmUpConfig {
+
+    /**
+     * Runs the warm-up before the application reports ready.
+     *
+     * @param iWarmUpService warm-up service
+     * @return application runner
+     */
+    @Bean
+    @ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner warmUpRunner(IWarmUpService iWarmUpService) {
+        return args -> iWarmUpService.warmUp();
+    }
+}
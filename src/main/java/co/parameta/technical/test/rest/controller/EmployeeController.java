@@ -2,8 +2,14 @@ package co.parameta.technical.test.rest.controller;
 
 import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
 import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSearchRequestDTO;
+import co.parameta.technical.test.rest.service.IEmployeeExportService;
+import co.parameta.technical.test.rest.service.IEmployeeSearchService;
+import co.parameta.technical.test.rest.service.IIdempotencyService;
 import co.parameta.technical.test.rest.service.IValidationEmployeeService;
 import co.parameta.technical.test.rest.service.IViewAllUserInformationService;
+import co.parameta.technical.test.rest.util.constant.Constants;
+import co.parameta.technical.test.rest.util.constant.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,17 +20,23 @@ import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.repository.query.Param;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * REST controller that exposes employee-related operations.
  * <p>
  * This controller provides endpoints for employee validation,
- * registration and information retrieval.
+ * registration, listing, export and information retrieval.
  * </p>
  */
 @RestController
@@ -38,6 +50,10 @@ public class EmployeeController {
 
     private final IValidationEmployeeService validationEmployeeService;
     private final IViewAllUserInformationService viewAllUserInformationService;
+    private final IEmployeeSearchService employeeSearchService;
+    private final IEmployeeExportService employeeExportService;
+    private final IIdempotencyService idempotencyService;
+    private final JsonMapper jsonMapper;
 
     /**
      * Validates and registers an employee.
@@ -47,13 +63,21 @@ public class EmployeeController {
      * is registered or updated accordingly.
      * </p>
      *
-     * @param employeeDTO employee data used for validation and registration
+     * <p>
+     * When an {@code Idempotency-Key} header is sent, a repeated request with
+     * the same key returns the first response without registering again.
+     * The request is compared by its JSON form.
+     * </p>
+     *
+     * @param employeeDTO    employee data used for validation and registration
+     * @param idempotencyKey optional client key that makes retries safe
      * @return response with the validation and registration result
      * @throws MessagingException if an error occurs while sending notification emails
      */
     @Operation(
             summary = "Validate and register an employee",
-            description = "Validates employee information and registers or updates the employee if applicable."
+            description = "Validates employee information and registers or updates the employee if applicable. "
+                    + "Retries with the same Idempotency-Key return the first response without registering again."
     )
     @ApiResponse(
             responseCode = "200",
@@ -76,11 +100,21 @@ public class EmployeeController {
                     description = "Employee data used for validation and registration",
                     required = true
             )
-            @Valid EmployeeRequestDTO employeeDTO
+            @Valid EmployeeRequestDTO employeeDTO,
+            @Parameter(
+                    description = "Client key that makes retries safe; at most 255 characters",
+                    example = "5f0c2a4e-3d7b-4c1e-9a55-2f1d8c6b7e90"
+            )
+            @RequestHeader(value = Constants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) throws MessagingException {
 
-        ResponseGeneralDTO response =
-                validationEmployeeService.validationEmployee(employeeDTO);
+        ResponseGeneralDTO response = idempotencyKey == null
+                ? validationEmployeeService.validationEmployee(employeeDTO)
+                : idempotencyService.execute(
+                        idempotencyKey,
+                        jsonMapper.writeValueAsString(employeeDTO),
+                        () -> validationEmployeeService.validationEmployee(employeeDTO)
+                );
 
         return ResponseEntity
                 .status(response.getStatus())
@@ -156,4 +190,95 @@ public class EmployeeController {
                                 .allInformationEmployee(idEmployee, typeDocument, numberDocument)
                 );
     }
+
+    /**
+     * Lists employees page by page.
+     * <p>
+     * Employees can be filtered by position, document type, affiliation date
+     * range and salary range. Results are ordered by id; to read the next page,
+     * send the {@code nextAfterId} of the current page as {@code afterId}.
+     * </p>
+     *
+     * @param searchRequest filters, keyset cursor and page size
+     * @return response containing an employee page
+     */
+    @Operation(
+            summary = "List employees",
+            description = "Lists employees filtered by position, document type, affiliation date range and salary range, using keyset pagination on the employee id."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Employees retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ResponseGeneralDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid query parameters",
+            content = @Content
+    )
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content
+    )
+    @GetMapping
+    public ResponseEntity<ResponseGeneralDTO> searchEmployees(
+            @Parameter(
+                    description = "Employee listing filters and keyset cursor",
+                    required = false
+            )
+            EmployeeSearchRequestDTO searchRequest
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(employeeSearchService.searchEmployees(searchRequest));
+    }
+
+    /**
+     * Exports every employee as CSV or NDJSON.
+     * <p>
+     * Rows are streamed to the response while they are read from the database,
+     * including the calculated time linked to the company and current age.
+     * </p>
+     *
+     * @param format output format, {@code csv} (default) or {@code ndjson}
+     * @return streaming response with the employee dump
+     */
+    @Operation(
+            summary = "Export employees",
+            description = "Streams every employee, with time linked to the company and current age, as CSV or NDJSON."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Employee export streamed successfully",
+            content = {
+                    @Content(mediaType = "text/csv"),
+                    @Content(mediaType = "application/x-ndjson")
+            }
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Unsupported export format",
+            content = @Content
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @Parameter(
+                    description = "Export format: csv or ndjson",
+                    example = "csv",
+                    required = false
+            )
+            @RequestParam(value = "format", required = false) String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body =
+                outputStream -> employeeExportService.exportEmployees(exportFormat, outputStream);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
 }
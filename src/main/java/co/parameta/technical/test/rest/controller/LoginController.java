@@ -4,6 +4,7 @@ import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
 import co.parameta.technical.test.commons.service.ITokenBlacklistService;
 import co.parameta.technical.test.rest.dto.RequestLoginDTO;
 import co.parameta.technical.test.rest.service.IAutenticationService;
+import co.parameta.technical.test.rest.service.IVerifiedTokenCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -40,6 +41,7 @@ public class LoginController {
 
     private final ITokenBlacklistService tokenBlacklistService;
     private final IAutenticationService authenticationService;
+    private final IVerifiedTokenCacheService verifiedTokenCacheService;
 
     /**
      * Authenticates a user and generates a JWT token.
@@ -133,7 +135,8 @@ public class LoginController {
     /**
      * Logs out the authenticated user by invalidating the JWT token.
      * <p>
-     * The token is added to a blacklist so it cannot be used again.
+     * The token is added to a blacklist so it cannot be used again, and it is
+     * removed from the verified token cache immediately.
      * </p>
      *
      * @param authorizationHeader JWT Authorization header to revoke
@@ -165,8 +168,9 @@ public class LoginController {
             )
             @RequestHeader(name = HttpHeaders.AUTHORIZATION) String authorizationHeader
     ) {
-        return ResponseEntity.ok(
-                tokenBlacklistService.revokeToken(authorizationHeader)
-        );
+        ResponseGeneralDTO response =
+                tokenBlacklistService.revokeToken(authorizationHeader);
+        verifiedTokenCacheService.invalidate(authorizationHeader);
+        return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,38 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object that represents one page of the employee listing.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeePageDTO {
+
+    /**
+     * Employees of the page, ordered by id.
+     */
+    private List<EmployeeSummaryDTO> employees;
+
+    /**
+     * Cursor to request the next page, or {@code null} on the last page.
+     */
+    private Integer nextAfterId;
+
+    /**
+     * Whether more employees match the filters after this page.
+     */
+    private boolean hasMore;
+
+    /**
+     * Page size applied to the request.
+     */
+    private int size;
+}
@@ -0,0 +1,64 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object with the resolved employee listing filters sent to the repository.
+ * <p>
+ * Codes are already resolved from descriptions, and dates and salaries are
+ * already converted to the types of the {@code EmployeeEntity} attributes, so
+ * they are bound as they are. A {@code null} field means the filter is not
+ * applied.
+ * </p>
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeSearchCriteriaDTO {
+
+    /**
+     * Position code.
+     */
+    private String positionCode;
+
+    /**
+     * Document type code.
+     */
+    private String typeDocumentCode;
+
+    /**
+     * Lower bound (inclusive) of the company affiliation date.
+     */
+    private Date affiliationDateFrom;
+
+    /**
+     * Upper bound (inclusive) of the company affiliation date.
+     */
+    private Date affiliationDateTo;
+
+    /**
+     * Lower bound (inclusive) of the salary.
+     */
+    private Double salaryMin;
+
+    /**
+     * Upper bound (inclusive) of the salary.
+     */
+    private Double salaryMax;
+
+    /**
+     * Keyset cursor: only ids greater than this value are returned.
+     */
+    private Integer afterId;
+
+    /**
+     * Maximum number of ids to return.
+     */
+    private int limit;
+}
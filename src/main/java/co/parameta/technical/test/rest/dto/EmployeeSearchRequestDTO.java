@@ -0,0 +1,99 @@
+package co.parameta.technical.test.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object that represents the employee listing filters.
+ * <p>
+ * Every filter is optional. Results are ordered by employee id and paginated
+ * with a keyset cursor: the {@code nextAfterId} of a page is sent back as
+ * {@code afterId} to read the next one.
+ * </p>
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(
+        name = "EmployeeSearchRequest",
+        description = "Filters and keyset cursor used to list employees"
+)
+public class EmployeeSearchRequestDTO {
+
+    /**
+     * Position code or description.
+     */
+    @Schema(
+            description = "Employee position code or description",
+            example = "DEV"
+    )
+    private String position;
+
+    /**
+     * Document type code or description.
+     */
+    @Schema(
+            description = "Type of document code or description",
+            example = "CC"
+    )
+    private String typeDocument;
+
+    /**
+     * Lower bound (inclusive) of the company affiliation date.
+     */
+    @Schema(
+            description = "Company affiliation date from, inclusive (yyyy-MM-dd)",
+            example = "2020-01-01"
+    )
+    private String affiliationDateFrom;
+
+    /**
+     * Upper bound (inclusive) of the company affiliation date.
+     */
+    @Schema(
+            description = "Company affiliation date to, inclusive (yyyy-MM-dd)",
+            example = "2024-12-31"
+    )
+    private String affiliationDateTo;
+
+    /**
+     * Lower bound (inclusive) of the salary.
+     */
+    @Schema(
+            description = "Minimum salary, inclusive",
+            example = "1000000"
+    )
+    private BigDecimal salaryMin;
+
+    /**
+     * Upper bound (inclusive) of the salary.
+     */
+    @Schema(
+            description = "Maximum salary, inclusive",
+            example = "5000000"
+    )
+    private BigDecimal salaryMax;
+
+    /**
+     * Keyset cursor: only employees with a greater id are returned.
+     */
+    @Schema(
+            description = "Return employees with an id greater than this value (nextAfterId of the previous page)",
+            example = "250"
+    )
+    private Integer afterId;
+
+    /**
+     * Page size. Defaults to {@code employee.search.default-page-size} and is
+     * capped at {@code employee.search.max-page-size}.
+     */
+    @Schema(
+            description = "Page size",
+            example = "20"
+    )
+    private Integer size;
+}
@@ -0,0 +1,56 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object that represents one row of the employee listing.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSummaryDTO {
+
+    /**
+     * Employee identifier, also used as keyset cursor.
+     */
+    private Integer id;
+
+    /**
+     * Employee first names.
+     */
+    private String names;
+
+    /**
+     * Employee last names.
+     */
+    private String lastNames;
+
+    /**
+     * Type of document code.
+     */
+    private String typeDocumentCode;
+
+    /**
+     * Employee document number.
+     */
+    private String documentNumber;
+
+    /**
+     * Employee position code.
+     */
+    private String positionCode;
+
+    /**
+     * Company affiliation date.
+     */
+    private Date dateAffiliationCompany;
+
+    /**
+     * Employee salary.
+     */
+    private Double salary;
+}
@@ -0,0 +1,35 @@
+package co.parameta.technical.test.rest.dto;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object that represents a row of the {@code idempotency_key} table.
+ * <p>
+ * A row without response belongs to a request that is still being processed,
+ * possibly by another node.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecordDTO {
+
+    /**
+     * SHA-256 of the request the key was first used with.
+     */
+    private String requestHash;
+
+    /**
+     * Stored response, or {@code null} while the request is in progress.
+     */
+    private ResponseGeneralDTO response;
+
+    /**
+     * Instant (epoch millis) after which the row must not be used anymore.
+     */
+    private long expiresAtMillis;
+
+}
@@ -0,0 +1,31 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object that represents a pending update of the employee
+ * report storage location.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportLocationUpdateDTO {
+
+    /**
+     * Employee document number.
+     */
+    private String documentNumber;
+
+    /**
+     * Employee document type code.
+     */
+    private String typeDocument;
+
+    /**
+     * S3 key where the employee report is stored.
+     */
+    private String storageLocationReport;
+
+}
@@ -0,0 +1,78 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object that collects the measurements of one Groovy script execution.
+ * <p>
+ * Instances are created per execution and only touched by the executing thread.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+public class ScriptExecutionStatsDTO {
+
+    /**
+     * Code of the executed script.
+     */
+    private String scriptCode;
+
+    /**
+     * Time spent compiling the script, in nanoseconds.
+     */
+    private long compileNanos;
+
+    /**
+     * Time spent running the compiled script (SQL included), in nanoseconds.
+     */
+    private long executeNanos;
+
+    /**
+     * Number of {@code executeSql}/{@code executeSingleSql} calls.
+     */
+    private int sqlCalls;
+
+    /**
+     * Rows returned by all the SQL calls.
+     */
+    private long rows;
+
+    /**
+     * Time spent in SQL calls, in nanoseconds.
+     */
+    private long sqlNanos;
+
+    /**
+     * {@code executeSql}/{@code executeSingleSql} calls answered from the SQL memo.
+     */
+    private int memoHits;
+
+    /**
+     * Creates the stats of an execution of the given script.
+     *
+     * @param scriptCode code of the script
+     */
+    public ScriptExecutionStatsDTO(String scriptCode) {
+        this.scriptCode = scriptCode;
+    }
+
+    /**
+     * Adds one SQL call.
+     *
+     * @param nanos time spent in the call
+     * @param rows  rows returned
+     */
+    public void addSql(long nanos, int rows) {
+        this.sqlCalls++;
+        this.sqlNanos += nanos;
+        this.rows += rows;
+    }
+
+    /**
+     * Adds one SQL call answered from the memo, without a database round trip.
+     */
+    public void addMemoHit() {
+        this.memoHits++;
+    }
+}
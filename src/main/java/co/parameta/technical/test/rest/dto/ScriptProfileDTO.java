@@ -0,0 +1,71 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object that represents the aggregated profile of a Groovy script.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScriptProfileDTO {
+
+    /**
+     * Script code.
+     */
+    private String scriptCode;
+
+    /**
+     * Number of executions.
+     */
+    private long executions;
+
+    /**
+     * Executions that exceeded the time budget.
+     */
+    private long overBudget;
+
+    /**
+     * Average compile time in milliseconds.
+     */
+    private double avgCompileMillis;
+
+    /**
+     * Maximum compile time in milliseconds.
+     */
+    private double maxCompileMillis;
+
+    /**
+     * Average execution time in milliseconds.
+     */
+    private double avgExecuteMillis;
+
+    /**
+     * Maximum execution time in milliseconds.
+     */
+    private double maxExecuteMillis;
+
+    /**
+     * Average number of SQL calls per execution.
+     */
+    private double avgSqlCalls;
+
+    /**
+     * Average rows returned per execution.
+     */
+    private double avgRows;
+
+    /**
+     * Average SQL time per execution in milliseconds.
+     */
+    private double avgSqlMillis;
+
+    /**
+     * Average SQL calls per execution answered from the SQL memo.
+     */
+    private double avgMemoHits;
+}
@@ -0,0 +1,33 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object returned by the Groovy profiler endpoint.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScriptProfileReportDTO {
+
+    /**
+     * Script execution budget in milliseconds; {@code 0} when disabled.
+     */
+    private long budgetMillis;
+
+    /**
+     * Slowest scripts by average execution time.
+     */
+    private List<ScriptProfileDTO> scripts;
+
+    /**
+     * Slowest queries by average time.
+     */
+    private List<SqlProfileDTO> queries;
+}
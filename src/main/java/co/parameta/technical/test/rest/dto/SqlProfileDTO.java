@@ -0,0 +1,51 @@
+package co.parameta.technical.test.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object that represents the aggregated profile of a query run by a Groovy script.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SqlProfileDTO {
+
+    /**
+     * Code of the script that runs the query.
+     */
+    private String scriptCode;
+
+    /**
+     * SQL text.
+     */
+    private String sql;
+
+    /**
+     * Number of calls.
+     */
+    private long calls;
+
+    /**
+     * Average time per call in milliseconds.
+     */
+    private double avgMillis;
+
+    /**
+     * Maximum time of a call in milliseconds.
+     */
+    private double maxMillis;
+
+    /**
+     * Total time in milliseconds.
+     */
+    private double totalMillis;
+
+    /**
+     * Average rows returned per call.
+     */
+    private double avgRows;
+}
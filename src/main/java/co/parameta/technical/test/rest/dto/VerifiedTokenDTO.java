@@ -0,0 +1,39 @@
+package co.parameta.technical.test.rest.dto;
+
+import co.parameta.technical.test.commons.dto.AdministratorUserDTO;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object that represents a token whose signature has already been verified.
+ * <p>
+ * It keeps the verified claims together with the administrator user resolved
+ * from them, so repeated requests with the same token can reuse both.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerifiedTokenDTO {
+
+    /**
+     * Claims obtained after verifying the token signature.
+     */
+    private Claims claims;
+
+    /**
+     * Administrator user associated with the token subject.
+     */
+    private AdministratorUserDTO user;
+
+    /**
+     * Instant (epoch millis) after which the entry must not be used anymore.
+     * <p>
+     * It is never later than the token expiration.
+     * </p>
+     */
+    private long validUntilMillis;
+
+}
@@ -1,64 +1,147 @@
 package co.parameta.technical.test.rest.repository;
 
 import co.parameta.technical.test.commons.entity.EmployeeEntity;
+import co.parameta.technical.test.rest.repository.projection.EmployeeInformationProjection;
+import co.parameta.technical.test.rest.repository.projection.EmployeeSummaryProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for managing {@link EmployeeEntity} persistence.
  * <p>
  * Provides CRUD operations and custom queries to retrieve employee information
- * by different search criteria, as well as to update report storage information.
+ * by different search criteria, to list employees page by page, as well as to
+ * update report storage information.
  * </p>
  */
 @Repository("restEmployee")
-public interface EmployeeRepository extends JpaRepository<EmployeeEntity, Integer> {
+public interface EmployeeRepository extends JpaRepository<EmployeeEntity, Integer>, EmployeeRepositoryCustom {
+
+    /**
+     * Select and joins shared by the complete employee information lookups.
+     * Administrator credentials are intentionally not selected.
+     */
+    String ALL_INFORMATION_SELECT = """
+            SELECT e.id AS id,
+                   e.names AS names,
+                   e.lastNames AS lastNames,
+                   td.code AS typeDocumentCode,
+                   td.description AS typeDocumentDescription,
+                   e.documentNumber AS documentNumber,
+                   e.dateOfBirth AS dateOfBirth,
+                   e.dateAffiliationCompany AS dateAffiliationCompany,
+                   p.code AS positionCode,
+                   p.description AS positionDescription,
+                   e.salary AS salary,
+                   au.email AS administratorUserEmail,
+                   e.dateCreate AS dateCreate,
+                   e.dateUpdate AS dateUpdate,
+                   e.storageLocationReport AS storageLocationReport
+            FROM EmployeeEntity e
+            LEFT JOIN e.typeDocument td
+            LEFT JOIN e.position p
+            LEFT JOIN e.administratorUser au
+            """;
 
     /**
-     * Retrieves full employee information using flexible search criteria.
+     * Retrieves the complete employee information by identifier.
      * <p>
-     * The search can be performed using:
-     * <ul>
-     *     <li>{@code idEmployee}</li>
-     *     <li>{@code documentNumber} and {@code typeDocument}</li>
-     * </ul>
-     * If all parameters are {@code null}, the query returns {@code null}.
+     * Reads only the projected columns, joining document type, position and
+     * administrator user in the same statement. The lookup uses the primary key.
      * </p>
      *
-     * @param idEmployee     the employee identifier (optional)
-     * @param numberDocument the employee document number (optional)
-     * @param typeDocument   the document type code or description (optional)
-     * @return the matching {@link EmployeeEntity}, or {@code null} if no match is found
+     * @param idEmployee the employee identifier
+     * @return the matching {@link EmployeeInformationProjection}, or {@code null} if no match is found
      */
-    @Query("""
-        SELECT e
-        FROM EmployeeEntity e
-        WHERE
-          (:idEmployee IS NULL OR e.id = :idEmployee)
-        AND
-          (
-            (:numberDocument IS NULL AND :typeDocument IS NULL)
-            OR
-            (
-              :numberDocument IS NOT NULL
-              AND :typeDocument IS NOT NULL
-              AND e.documentNumber = :numberDocument
-              AND (
-                e.typeDocument.code = :typeDocument
-                OR e.typeDocument.description = :typeDocument
-              )
-            )
-          )
-        """)
-    EmployeeEntity searchAllInformationEmployee(
-            @Param("idEmployee") Integer idEmployee,
+    @Query(ALL_INFORMATION_SELECT + """
+            WHERE e.id = :idEmployee
+            """)
+    EmployeeInformationProjection searchAllInformationEmployeeById(
+            @Param("idEmployee") Integer idEmployee
+    );
+
+    /**
+     * Retrieves the complete employee information by document number and document type code.
+     * <p>
+     * Both conditions are plain equalities, so MySQL can resolve the lookup
+     * with the {@code (document_number, type_document)} index. Document type
+     * descriptions must be resolved to their code before calling this method.
+     * </p>
+     *
+     * @param numberDocument   the employee document number
+     * @param typeDocumentCode the document type code
+     * @return the matching {@link EmployeeInformationProjection}, or {@code null} if no match is found
+     */
+    @Query(ALL_INFORMATION_SELECT + """
+            WHERE e.documentNumber = :numberDocument
+              AND e.typeDocument.code = :typeDocumentCode
+            """)
+    EmployeeInformationProjection searchAllInformationEmployeeByDocument(
             @Param("numberDocument") String numberDocument,
-            @Param("typeDocument") String typeDocument
+            @Param("typeDocumentCode") String typeDocumentCode
     );
 
+    /**
+     * Retrieves the listing projection of the given employees, ordered by id.
+     * <p>
+     * Used after {@link #searchEmployeeIds} has selected the page ids, so only
+     * the rows of the page are read, by primary key. Document type and position
+     * are read as foreign key codes without joins.
+     * </p>
+     *
+     * @param ids employee identifiers of the page
+     * @return the matching {@link EmployeeSummaryProjection} list
+     */
+    @Query("""
+            SELECT e.id AS id,
+                   e.names AS names,
+                   e.lastNames AS lastNames,
+                   e.typeDocument.code AS typeDocumentCode,
+                   e.documentNumber AS documentNumber,
+                   e.position.code AS positionCode,
+                   e.dateAffiliationCompany AS dateAffiliationCompany,
+                   e.salary AS salary
+            FROM EmployeeEntity e
+            WHERE e.id IN :ids
+            ORDER BY e.id
+            """)
+    List<EmployeeSummaryProjection> searchEmployeeSummaries(
+            @Param("ids") Collection<Integer> ids
+    );
+
+    /**
+     * Streams the complete information of every employee, ordered by id.
+     * <p>
+     * The statement is read with a forward-only cursor: a fetch size of
+     * {@link Integer#MIN_VALUE} makes MySQL Connector/J stream rows one by one
+     * instead of buffering the whole result set. Rows are scalar projections,
+     * so nothing is kept in the persistence context. The stream must be
+     * consumed inside a read-only transaction and closed afterwards; no other
+     * statement can run on the connection while it is open.
+     * </p>
+     *
+     * @return a stream of {@link EmployeeInformationProjection}
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(ALL_INFORMATION_SELECT + """
+            ORDER BY e.id
+            """)
+    Stream<EmployeeInformationProjection> streamAllInformationEmployees();
+
     /**
      * Updates the storage location of the employee PDF report.
      * <p>
@@ -0,0 +1,41 @@
+package co.parameta.technical.test.rest.repository;
+
+import co.parameta.technical.test.rest.dto.EmployeeSearchCriteriaDTO;
+import co.parameta.technical.test.rest.dto.ReportLocationUpdateDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom fragment of {@link EmployeeRepository} for queries whose conditions
+ * depend on the filters provided.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Returns the ids of the employees matching the criteria, ordered by id.
+     * <p>
+     * Only the conditions of the provided filters are added to the statement,
+     * so each filter can be served by its own {@code (column, id)} index
+     * without reading employee rows. Range filters (salary, affiliation date)
+     * still read and sort every matching id after the cursor.
+     * </p>
+     *
+     * @param criteria resolved filters, keyset cursor and limit
+     * @return matching employee ids, at most {@code criteria.limit}
+     */
+    List<Integer> searchEmployeeIds(EmployeeSearchCriteriaDTO criteria);
+
+    /**
+     * Updates the report storage location of several employees in one statement.
+     * <p>
+     * The updates are joined to {@code employee} by document number and
+     * document type, so no id lookup is needed. Must run inside a transaction.
+     * </p>
+     *
+     * @param updates pending updates; at most one per document
+     * @return number of updated rows
+     */
+    int updateStorageLocationReports(Collection<ReportLocationUpdateDTO> updates);
+
+}
@@ -0,0 +1,121 @@
+package co.parameta.technical.test.rest.repository;
+
+import co.parameta.technical.test.rest.dto.EmployeeSearchCriteriaDTO;
+import co.parameta.technical.test.rest.dto.ReportLocationUpdateDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link EmployeeRepositoryCustom}.
+ * <p>
+ * The statement is built only with the conditions of the provided filters,
+ * instead of {@code :param IS NULL OR ...} conditions that prevent MySQL from
+ * using an index. Pagination is keyset-based ({@code id > :afterId ORDER BY id}):
+ * without filters or with equality filters a page stops after {@code limit}
+ * index entries, whatever its depth; with a salary or affiliation date range
+ * every matching id after the cursor is read from the index and sorted before
+ * the limit is applied. Filter values arrive in the attribute types, so they
+ * are bound without conversion. Report location updates are sent as one
+ * {@code UPDATE ... JOIN} statement per batch.
+ * </p>
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Returns the ids of the employees matching the criteria, ordered by id.
+     *
+     * @param criteria resolved filters, keyset cursor and limit
+     * @return matching employee ids, at most {@code criteria.limit}
+     */
+    @Override
+    public List<Integer> searchEmployeeIds(EmployeeSearchCriteriaDTO criteria) {
+        StringBuilder jpql = new StringBuilder("SELECT e.id FROM EmployeeEntity e WHERE 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (criteria.getAfterId() != null) {
+            jpql.append(" AND e.id > :afterId");
+            parameters.put("afterId", criteria.getAfterId());
+        }
+        if (criteria.getPositionCode() != null) {
+            jpql.append(" AND e.position.code = :positionCode");
+            parameters.put("positionCode", criteria.getPositionCode());
+        }
+        if (criteria.getTypeDocumentCode() != null) {
+            jpql.append(" AND e.typeDocument.code = :typeDocumentCode");
+            parameters.put("typeDocumentCode", criteria.getTypeDocumentCode());
+        }
+        if (criteria.getAffiliationDateFrom() != null) {
+            jpql.append(" AND e.dateAffiliationCompany >= :affiliationDateFrom");
+            parameters.put("affiliationDateFrom", criteria.getAffiliationDateFrom());
+        }
+        if (criteria.getAffiliationDateTo() != null) {
+            jpql.append(" AND e.dateAffiliationCompany <= :affiliationDateTo");
+            parameters.put("affiliationDateTo", criteria.getAffiliationDateTo());
+        }
+        if (criteria.getSalaryMin() != null) {
+            jpql.append(" AND e.salary >= :salaryMin");
+            parameters.put("salaryMin", criteria.getSalaryMin());
+        }
+        if (criteria.getSalaryMax() != null) {
+            jpql.append(" AND e.salary <= :salaryMax");
+            parameters.put("salaryMax", criteria.getSalaryMax());
+        }
+        jpql.append(" ORDER BY e.id");
+
+        TypedQuery<Integer> query = entityManager.createQuery(jpql.toString(), Integer.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(criteria.getLimit()).getResultList();
+    }
+
+    /**
+     * Updates the report storage location of several employees in one statement.
+     * <p>
+     * The rows are sent as a {@code UNION ALL} derived table and joined on
+     * {@code (document_number, type_document)}, which is served by the
+     * {@code idx_employee_document_type} index.
+     * </p>
+     *
+     * @param updates pending updates; at most one per document
+     * @return number of updated rows
+     */
+    @Override
+    public int updateStorageLocationReports(Collection<ReportLocationUpdateDTO> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE technical_test.employee e JOIN (");
+        int position = 1;
+        for (ReportLocationUpdateDTO update : updates) {
+            if (position == 1) {
+                sql.append("SELECT ?1 AS document_number, ?2 AS type_document, ?3 AS storage_location_report");
+            } else {
+                sql.append(" UNION ALL SELECT ?").append(position)
+                        .append(", ?").append(position + 1)
+                        .append(", ?").append(position + 2);
+            }
+            position += 3;
+        }
+        sql.append(") u ON e.document_number = u.document_number AND e.type_document = u.type_document")
+                .append(" SET e.storage_location_report = u.storage_location_report");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        position = 1;
+        for (ReportLocationUpdateDTO update : updates) {
+            query.setParameter(position++, update.getDocumentNumber());
+            query.setParameter(position++, update.getTypeDocument());
+            query.setParameter(position++, update.getStorageLocationReport());
+        }
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,110 @@
+package co.parameta.technical.test.rest.repository;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.rest.dto.IdempotencyRecordDTO;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Repository of the {@code idempotency_key} table, shared by every node.
+ * <p>
+ * The table is not mapped in the commons entities, so it is accessed with
+ * {@link JdbcTemplate}. Keys and requests are stored as SHA-256 hashes and
+ * responses as JSON. Expired rows are replaced when their key is used again.
+ * </p>
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM technical_test.idempotency_key WHERE key_hash = ? AND expires_at_millis < ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO technical_test.idempotency_key (key_hash, request_hash, expires_at_millis) VALUES (?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT request_hash, response, expires_at_millis FROM technical_test.idempotency_key WHERE key_hash = ?";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE technical_test.idempotency_key SET response = ?, expires_at_millis = ? WHERE key_hash = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM technical_test.idempotency_key WHERE key_hash = ? AND response IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Creates the repository.
+     *
+     * @param jdbcTemplate JDBC template of the service data source
+     * @param jsonMapper   mapper used to store the responses
+     */
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate, JsonMapper jsonMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Claims a key for a request in progress.
+     *
+     * @param keyHash         hash of the key
+     * @param requestHash     hash of the request
+     * @param expiresAtMillis instant after which another node may claim the key again
+     * @return {@code true} if the key was claimed, {@code false} if a live row already exists
+     */
+    public boolean insertPending(String keyHash, String requestHash, long expiresAtMillis) {
+        jdbcTemplate.update(DELETE_EXPIRED_SQL, keyHash, System.currentTimeMillis());
+        try {
+            jdbcTemplate.update(INSERT_SQL, keyHash, requestHash, expiresAtMillis);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the live row of a key.
+     *
+     * @param keyHash hash of the key
+     * @return the row, or {@code null} if absent or expired
+     */
+    public IdempotencyRecordDTO find(String keyHash) {
+        List<IdempotencyRecordDTO> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            String response = rs.getString("response");
+            return new IdempotencyRecordDTO(
+                    rs.getString("request_hash"),
+                    response != null ? jsonMapper.readValue(response, ResponseGeneralDTO.class) : null,
+                    rs.getLong("expires_at_millis")
+            );
+        }, keyHash);
+        if (rows.isEmpty() || rows.get(0).getExpiresAtMillis() < System.currentTimeMillis()) {
+            return null;
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Stores the response of a claimed key.
+     *
+     * @param keyHash         hash of the key
+     * @param response        response to replay
+     * @param expiresAtMillis instant after which the response is no longer replayed
+     */
+    public void complete(String keyHash, ResponseGeneralDTO response, long expiresAtMillis) {
+        jdbcTemplate.update(COMPLETE_SQL, jsonMapper.writeValueAsString(response), expiresAtMillis, keyHash);
+    }
+
+    /**
+     * Releases a claimed key whose request failed, so it can be retried.
+     *
+     * @param keyHash hash of the key
+     */
+    public void release(String keyHash) {
+        jdbcTemplate.update(DELETE_SQL, keyHash);
+    }
+}
@@ -0,0 +1,46 @@
+package co.parameta.technical.test.rest.repository.projection;
+
+import java.util.Date;
+
+/**
+ * Read-only projection of the columns needed to build the complete employee
+ * information response.
+ * <p>
+ * The employee, document type, position and administrator user data are read
+ * in a single statement. Administrator credentials (code and password hash)
+ * are not part of the projection, so they are never loaded.
+ * </p>
+ */
+public interface EmployeeInformationProjection {
+
+    Integer getId();
+
+    String getNames();
+
+    String getLastNames();
+
+    String getTypeDocumentCode();
+
+    String getTypeDocumentDescription();
+
+    String getDocumentNumber();
+
+    Date getDateOfBirth();
+
+    Date getDateAffiliationCompany();
+
+    String getPositionCode();
+
+    String getPositionDescription();
+
+    Double getSalary();
+
+    String getAdministratorUserEmail();
+
+    Date getDateCreate();
+
+    Date getDateUpdate();
+
+    String getStorageLocationReport();
+
+}
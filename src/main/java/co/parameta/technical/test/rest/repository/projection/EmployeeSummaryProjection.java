@@ -0,0 +1,29 @@
+package co.parameta.technical.test.rest.repository.projection;
+
+import java.util.Date;
+
+/**
+ * Lightweight projection used by the employee listing.
+ * <p>
+ * Document type and position are read as foreign key codes, so no join is needed.
+ * </p>
+ */
+public interface EmployeeSummaryProjection {
+
+    Integer getId();
+
+    String getNames();
+
+    String getLastNames();
+
+    String getTypeDocumentCode();
+
+    String getDocumentNumber();
+
+    String getPositionCode();
+
+    Date getDateAffiliationCompany();
+
+    Double getSalary();
+
+}
@@ -0,0 +1,26 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.util.constant.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface responsible for exporting every employee.
+ * <p>
+ * Rows include the calculated time linked to the company and current age,
+ * and are written directly to the given stream as they are read.
+ * </p>
+ */
+public interface IEmployeeExportService {
+
+    /**
+     * Writes all the employees to the output stream.
+     *
+     * @param format       output format
+     * @param outputStream destination stream; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    void exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,24 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSearchRequestDTO;
+
+/**
+ * Service interface responsible for listing and searching employees.
+ * <p>
+ * Results are filtered by position, document type, affiliation date range and
+ * salary range, ordered by employee id and paginated with a keyset cursor.
+ * </p>
+ */
+public interface IEmployeeSearchService {
+
+    /**
+     * Returns one page of employees matching the filters.
+     *
+     * @param request filters, keyset cursor and page size
+     * @return a {@link ResponseGeneralDTO} containing an
+     *         {@link co.parameta.technical.test.rest.dto.EmployeePageDTO}
+     */
+    ResponseGeneralDTO searchEmployees(EmployeeSearchRequestDTO request);
+
+}
@@ -18,15 +18,16 @@ public interface IGroovieScriptExecutorService {
      * Executes one or more Groovy validation scripts.
      * <p>
      * All scripts are executed sequentially using the same context.
-     * If any script fails, the execution may stop depending on the implementation.
+     * If any script fails, the execution stops and the failure is thrown.
      * </p>
      *
      * @param contexto           the main execution context object accessible from the scripts
      * @param extras             additional variables available to the scripts
      *                           (e.g. lists, counters, or helper objects)
      * @param scriptsValidations list of Groovy validation scripts to execute
-     * @return a concatenated result message from the executed scripts,
-     *         or {@code null} if a script execution fails
+     * @return a concatenated result message from the executed scripts
+     * @throws co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException
+     *         if a script execution fails
      */
     String runScript(
             Object contexto,
@@ -34,4 +35,26 @@ public interface IGroovieScriptExecutorService {
             List<ScriptValidationDTO> scriptsValidations
     );
 
+    /**
+     * Compiles Groovy validation scripts without executing them, so their
+     * classes are cached before the first request needs them.
+     * <p>
+     * Scripts that fail to compile are skipped; they fail again, and are
+     * reported, when executed.
+     * </p>
+     *
+     * @param scriptsValidations list of Groovy validation scripts to compile
+     * @return number of scripts compiled or loaded from the class cache
+     */
+    int precompile(List<ScriptValidationDTO> scriptsValidations);
+
+    /**
+     * Reports the scripts that call {@code jdbcTemplate} directly, which the
+     * sandbox only supports for a few read queries.
+     *
+     * @param scriptsValidations list of Groovy validation scripts to check
+     * @return codes of the scripts that reference {@code jdbcTemplate}
+     */
+    List<String> jdbcTemplateScripts(List<ScriptValidationDTO> scriptsValidations);
+
 }
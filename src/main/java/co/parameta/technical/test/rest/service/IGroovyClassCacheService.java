@@ -0,0 +1,37 @@
+package co.parameta.technical.test.rest.service;
+
+import groovy.lang.Script;
+import org.codehaus.groovy.control.CompilerConfiguration;
+
+/**
+ * Service interface that keeps compiled Groovy script classes in memory and,
+ * optionally, their bytecode on disk.
+ * <p>
+ * Entries are keyed by a hash of the script source, the compiler configuration,
+ * the application version and the sandbox rules, stored per Groovy and Java
+ * version and signed, so a restarted or new node loads the bytecode instead of
+ * compiling every script on first traffic.
+ * </p>
+ */
+public interface IGroovyClassCacheService {
+
+    /**
+     * Returns the compiled class of a script, compiling it only when neither
+     * the memory nor the disk cache has it.
+     *
+     * @param source           the Groovy script source
+     * @param configuration    compiler configuration used when the script must be compiled
+     * @param configurationKey identifies the configuration; part of the cache key
+     * @return the script class
+     */
+    Class<? extends Script> scriptClass(String source, CompilerConfiguration configuration, String configurationKey);
+
+    /**
+     * Loads the persisted classes of the current build into memory and
+     * removes the ones of other builds.
+     *
+     * @return number of scripts loaded
+     */
+    int preload();
+
+}
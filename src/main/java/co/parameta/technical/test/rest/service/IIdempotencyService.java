@@ -0,0 +1,49 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import jakarta.mail.MessagingException;
+
+/**
+ * Service interface that makes employee registrations idempotent per
+ * client-supplied {@code Idempotency-Key}.
+ * <p>
+ * Within the replay window, a repeated key returns the response of the first
+ * request without running it again, and a concurrent repeat waits for the
+ * request in progress instead of racing it. Keys are scoped to the calling
+ * administrator user.
+ * </p>
+ */
+public interface IIdempotencyService {
+
+    /**
+     * Operation protected by an idempotency key.
+     */
+    @FunctionalInterface
+    interface Operation {
+
+        /**
+         * Runs the operation.
+         *
+         * @return the response to replay for the same key
+         * @throws MessagingException if email delivery fails
+         */
+        ResponseGeneralDTO run() throws MessagingException;
+    }
+
+    /**
+     * Runs the operation once per key and returns its response to every
+     * request with the same key.
+     * <p>
+     * Only responses with a 2xx status are stored. A failed operation, or one
+     * answered with another status, is not stored, so the key can be retried.
+     * </p>
+     *
+     * @param idempotencyKey the client key
+     * @param request        canonical form of the request; reusing a key with a different request fails
+     * @param operation      the operation to run the first time
+     * @return the response of the first request with the key
+     * @throws MessagingException if email delivery fails
+     */
+    ResponseGeneralDTO execute(String idempotencyKey, String request, Operation operation) throws MessagingException;
+
+}
@@ -0,0 +1,40 @@
+package co.parameta.technical.test.rest.service;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Service interface responsible for verifying JWT tokens and exposing their claims.
+ * <p>
+ * Implementations must verify the token signature and expiration only once and
+ * return the resulting {@link Claims}, so callers can read the subject and the
+ * expiration without parsing the token again.
+ * </p>
+ */
+public interface IJwtClaimsService {
+
+    /**
+     * Verifies the signature of the given token and returns its claims.
+     *
+     * @param jwt the compact JWT (without the {@code Bearer} prefix)
+     * @return the verified {@link Claims} of the token
+     * @throws io.jsonwebtoken.JwtException if the token is expired, malformed or its signature is invalid
+     */
+    Claims parseClaims(String jwt);
+
+    /**
+     * Returns the user code (subject) stored in the verified claims.
+     *
+     * @param claims verified token claims
+     * @return the user code associated with the token
+     */
+    String getCode(Claims claims);
+
+    /**
+     * Calculates the remaining validity time of a token from its verified claims.
+     *
+     * @param claims verified token claims
+     * @return remaining time in milliseconds, or {@code 0} if the token has no expiration or is already expired
+     */
+    long getTimeRemainingMillis(Claims claims);
+
+}
@@ -0,0 +1,44 @@
+package co.parameta.technical.test.rest.service;
+
+/**
+ * Service interface responsible for verifying administrator passwords on login.
+ * <p>
+ * Implementations compare a raw password against the stored hash with the
+ * application password encoder and report hashes that must be upgraded to
+ * the current encoding, so login capacity follows the configured cost.
+ * </p>
+ */
+public interface IPasswordVerificationService {
+
+    /**
+     * Checks whether a raw password matches a stored hash.
+     * <p>
+     * When {@code encodedPassword} is {@code null} (e.g. unknown user), a dummy
+     * hash is verified instead, so the response time does not reveal whether
+     * the user exists.
+     * </p>
+     *
+     * @param rawPassword     password provided by the user
+     * @param encodedPassword stored password hash (optional)
+     * @return {@code true} if the password matches the stored hash
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Checks whether a stored hash should be encoded again after a
+     * successful login.
+     *
+     * @param encodedPassword stored password hash
+     * @return {@code true} if the hash uses an outdated format or cost
+     */
+    boolean upgradeEncoding(String encodedPassword);
+
+    /**
+     * Hashes a raw password using the current encoding.
+     *
+     * @param rawPassword password to hash
+     * @return the encoded password
+     */
+    String encode(String rawPassword);
+
+}
@@ -0,0 +1,38 @@
+package co.parameta.technical.test.rest.service;
+
+/**
+ * Service interface that defines an in-memory cache of reference data.
+ * <p>
+ * Reference tables (document types and positions) are small and rarely change, so
+ * they are loaded once and kept in memory. This lets callers resolve
+ * descriptions to codes without adding {@code OR} conditions to the queries
+ * that run against large tables.
+ * </p>
+ */
+public interface IReferenceDataCacheService {
+
+    /**
+     * Resolves a document type code or description to its code.
+     * <p>
+     * Matching is case-insensitive, like the database collation. Codes take
+     * precedence over descriptions.
+     * </p>
+     *
+     * @param typeDocument the document type code or description
+     * @return the document type code, or {@code null} if it does not exist
+     */
+    String resolveTypeDocumentCode(String typeDocument);
+
+    /**
+     * Resolves a position code or description to its code.
+     * <p>
+     * Matching is case-insensitive, like the database collation. Codes take
+     * precedence over descriptions.
+     * </p>
+     *
+     * @param position the position code or description
+     * @return the position code, or {@code null} if it does not exist
+     */
+    String resolvePositionCode(String position);
+
+}
@@ -0,0 +1,40 @@
+package co.parameta.technical.test.rest.service;
+
+/**
+ * Service interface that defines a write-behind buffer for employee report
+ * storage locations.
+ * <p>
+ * Instead of running a lookup and an {@code UPDATE} per uploaded report, the
+ * updates are collected and written in batches, one statement per batch.
+ * </p>
+ */
+public interface IReportLocationBufferService {
+
+    /**
+     * Registers the storage location of an employee report.
+     * <p>
+     * The update is written on the next flush. A later update for the same
+     * document replaces a pending one. A pending update is lost if the
+     * process stops without flushing; with buffering disabled it is written
+     * before returning.
+     * </p>
+     *
+     * @param documentNumber        the employee document number
+     * @param typeDocument          the employee document type code
+     * @param storageLocationReport the S3 key of the report
+     */
+    void enqueue(String documentNumber, String typeDocument, String storageLocationReport);
+
+    /**
+     * Writes every pending update.
+     * <p>
+     * When a batch fails its updates are written one by one; updates that
+     * still fail are retried on the next flushes up to a maximum number of
+     * attempts and then dropped.
+     * </p>
+     *
+     * @return number of updated employee rows
+     */
+    int flush();
+
+}
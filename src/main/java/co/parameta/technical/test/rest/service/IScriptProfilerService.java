@@ -0,0 +1,42 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.dto.ScriptExecutionStatsDTO;
+import co.parameta.technical.test.rest.dto.ScriptProfileReportDTO;
+
+/**
+ * Service interface that aggregates the performance profile of the Groovy
+ * validation scripts and of the queries they run.
+ */
+public interface IScriptProfilerService {
+
+    /**
+     * Records one script execution and warns when it exceeds the time budget.
+     *
+     * @param stats measurements of the execution
+     */
+    void recordScript(ScriptExecutionStatsDTO stats);
+
+    /**
+     * Records one query run by a script.
+     *
+     * @param scriptCode code of the script
+     * @param sql        SQL text
+     * @param nanos      time spent in the query
+     * @param rows       rows returned
+     */
+    void recordSql(String scriptCode, String sql, long nanos, int rows);
+
+    /**
+     * Returns the slowest scripts and queries.
+     *
+     * @param top maximum number of scripts and of queries
+     * @return the profile report
+     */
+    ScriptProfileReportDTO report(int top);
+
+    /**
+     * Clears every recorded measurement.
+     */
+    void reset();
+
+}
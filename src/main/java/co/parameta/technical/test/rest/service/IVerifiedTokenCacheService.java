@@ -0,0 +1,41 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.dto.AdministratorUserDTO;
+import co.parameta.technical.test.rest.dto.VerifiedTokenDTO;
+import io.jsonwebtoken.Claims;
+
+/**
+ * Service interface that defines a bounded cache of verified JWT tokens.
+ * <p>
+ * Tokens are stored by fingerprint together with their verified claims and
+ * the administrator user they belong to, so repeated requests with the same
+ * token skip signature verification and user lookups.
+ * </p>
+ */
+public interface IVerifiedTokenCacheService {
+
+    /**
+     * Returns the cached verification of a token if it is still valid.
+     *
+     * @param jwt the compact JWT
+     * @return the cached {@link VerifiedTokenDTO}, or {@code null} if absent or expired
+     */
+    VerifiedTokenDTO get(String jwt);
+
+    /**
+     * Stores a verified token. The entry lifetime is capped at the token expiration.
+     *
+     * @param jwt    the compact JWT
+     * @param claims verified token claims
+     * @param user   administrator user resolved from the claims
+     */
+    void put(String jwt, Claims claims, AdministratorUserDTO user);
+
+    /**
+     * Removes a token from the cache, typically after it has been revoked.
+     *
+     * @param jwt the compact JWT, with or without the {@code Bearer} prefix
+     */
+    void invalidate(String jwt);
+
+}
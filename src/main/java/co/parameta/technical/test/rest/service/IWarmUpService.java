@@ -0,0 +1,21 @@
+package co.parameta.technical.test.rest.service;
+
+/**
+ * Service interface that exercises the main request paths with synthetic data
+ * before the application accepts traffic.
+ * <p>
+ * The first real requests would otherwise pay for Groovy compilation, class
+ * loading, JIT compilation and connection setup of every path they touch.
+ * </p>
+ */
+public interface IWarmUpService {
+
+    /**
+     * Runs every warm-up step. A failing step is logged and does not stop the
+     * others, so warm-up never prevents the application from starting.
+     *
+     * @return number of steps that completed without error
+     */
+    int warmUp();
+
+}
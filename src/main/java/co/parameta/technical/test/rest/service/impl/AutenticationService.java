@@ -11,27 +11,27 @@ import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoExc
 import co.parameta.technical.test.commons.util.mapper.AdministratorUserMapper;
 import co.parameta.technical.test.rest.dto.AuthResponseDTO;
 import co.parameta.technical.test.rest.dto.RequestLoginDTO;
+import co.parameta.technical.test.rest.dto.VerifiedTokenDTO;
 import co.parameta.technical.test.rest.repository.AdministratorUserRepository;
 import co.parameta.technical.test.rest.service.IAutenticationService;
+import co.parameta.technical.test.rest.service.IJwtClaimsService;
+import co.parameta.technical.test.rest.service.IPasswordVerificationService;
+import co.parameta.technical.test.rest.service.IVerifiedTokenCacheService;
 import co.parameta.technical.test.rest.util.constant.Constants;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,7 +40,7 @@ import java.util.Optional;
  * <p>
  * This service handles:
  * <ul>
- *     <li>User authentication using Spring Security</li>
+ *     <li>User authentication against the stored password hash</li>
  *     <li>JWT token generation and validation</li>
  *     <li>Token revocation validation using a blacklist</li>
  *     <li>Retrieval of authenticated user information</li>
@@ -58,9 +58,9 @@ public class AutenticationService implements IAutenticationService {
     private final IJwtService iJwtService;
 
     /**
-     * Spring Security authentication manager.
+     * Service used to verify the password against the stored hash.
      */
-    private final AuthenticationManager authenticationManager;
+    private final IPasswordVerificationService iPasswordVerificationService;
 
     /**
      * Repository used to validate revoked tokens.
@@ -78,13 +78,28 @@ public class AutenticationService implements IAutenticationService {
     private final AdministratorUserMapper administratorUserMapper;
 
     /**
-     * Secret key used to validate JWT signatures.
+     * Service used to verify tokens with the shared signing key and parser.
      */
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final IJwtClaimsService iJwtClaimsService;
+
+    /**
+     * Cache of already verified tokens and their administrator user.
+     */
+    private final IVerifiedTokenCacheService iVerifiedTokenCacheService;
+
+    /**
+     * Account status checks (locked, disabled, expired) run by the
+     * {@code DaoAuthenticationProvider}.
+     */
+    private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
 
     /**
      * Authenticates a user and generates a JWT token.
+     * <p>
+     * The administrator is loaded a single time by email and the same record
+     * is used to verify the password, check the account status and build the
+     * token.
+     * </p>
      *
      * @param request the login request containing email and password
      * @return a {@link ResponseGeneralDTO} containing authentication result and token data
@@ -94,9 +109,7 @@ public class AutenticationService implements IAutenticationService {
     public ResponseGeneralDTO userLogin(RequestLoginDTO request) {
         ResponseGeneralDTO response = new ResponseGeneralDTO();
 
-        authenticateUser(request);
-
-        AdministratorUserDTO user = getUser(request.getEmail());
+        AdministratorUserDTO user = authenticateUser(request);
         String token = generateToken(user);
 
         response.setData(
@@ -116,7 +129,10 @@ public class AutenticationService implements IAutenticationService {
      * Retrieves authenticated user information based on a JWT authorization header.
      * <p>
      * The token is validated against expiration, format, signature,
-     * and blacklist status.
+     * and blacklist status. The token is parsed only once and the resulting
+     * claims are reused to resolve the user code and the remaining time.
+     * Verified tokens are cached, so repeated requests with the same token
+     * only check the blacklist.
      * </p>
      *
      * @param tokenHeader the HTTP Authorization header containing the JWT
@@ -139,14 +155,17 @@ public class AutenticationService implements IAutenticationService {
             throw new MensajePersonalizadoException(Constants.ERR_TOKEN_REVOKED);
         }
 
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(jwt);
+        VerifiedTokenDTO cached = iVerifiedTokenCacheService.get(jwt);
+        if (cached != null) {
+            return buildInformationResponse(
+                    cached.getUser(),
+                    iJwtClaimsService.getTimeRemainingMillis(cached.getClaims())
+            );
+        }
 
-            final String userCode = iJwtService.getCodeFromToken(jwt);
+        try {
+            final Claims claims = iJwtClaimsService.parseClaims(jwt);
+            final String userCode = iJwtClaimsService.getCode(claims);
 
             Optional<AdministratorUserEntity> optUser =
                     administratorUserRepository.findByCode(userCode);
@@ -158,16 +177,12 @@ public class AutenticationService implements IAutenticationService {
             final AdministratorUserDTO user =
                     administratorUserMapper.toDto(optUser.get());
 
-            ResponseGeneralDTO response = new ResponseGeneralDTO();
-            response.setStatus(HttpStatus.OK.value());
-            response.setMessage(Constants.MSG_OK);
-            response.setData(
-                    AuthResponseDTO.builder()
-                            .expirationTime(iJwtService.getTimeRemainingMillis(jwt))
-                            .user(user.getEmail())
-                            .build()
+            iVerifiedTokenCacheService.put(jwt, claims, user);
+
+            return buildInformationResponse(
+                    user,
+                    iJwtClaimsService.getTimeRemainingMillis(claims)
             );
-            return response;
 
         } catch (ExpiredJwtException ex) {
             log.error(Constants.LOG_JWT_EXPIRED, ex.getMessage());
@@ -179,39 +194,78 @@ public class AutenticationService implements IAutenticationService {
     }
 
     /**
-     * Authenticates the user credentials using Spring Security.
+     * Builds the response returned by {@link #userInformation(String)}.
+     *
+     * @param user            the authenticated administrator user
+     * @param remainingMillis remaining validity time of the token
+     * @return a {@link ResponseGeneralDTO} with user information
+     */
+    private ResponseGeneralDTO buildInformationResponse(AdministratorUserDTO user, long remainingMillis) {
+        ResponseGeneralDTO response = new ResponseGeneralDTO();
+        response.setStatus(HttpStatus.OK.value());
+        response.setMessage(Constants.MSG_OK);
+        response.setData(
+                AuthResponseDTO.builder()
+                        .expirationTime(remainingMillis)
+                        .user(user.getEmail())
+                        .build()
+        );
+        return response;
+    }
+
+    /**
+     * Loads the administrator by email and verifies the provided password.
+     * <p>
+     * The password is checked with the application password encoder and the
+     * account status with the same checks as the {@code DaoAuthenticationProvider}.
+     * A hash in an outdated encoding is upgraded after a successful login.
+     * </p>
      *
      * @param requestLoginDTO login request containing email and password
-     * @throws BadCredentialsException if authentication fails
+     * @return the authenticated administrator user
+     * @throws BadCredentialsException if the user does not exist, the password does not match
+     *                                 or the account is locked, disabled or expired
      */
-    private void authenticateUser(RequestLoginDTO requestLoginDTO) {
+    private AdministratorUserDTO authenticateUser(RequestLoginDTO requestLoginDTO) {
+        AdministratorUserEntity entity =
+                administratorUserRepository.findByEmail(requestLoginDTO.getEmail()).orElse(null);
+        AdministratorUserDTO user = administratorUserMapper.toDto(entity);
+
+        boolean valid = iPasswordVerificationService.matches(
+                requestLoginDTO.getPassword(),
+                user != null ? user.getPasswordEncoder() : null
+        );
+
+        if (user == null || !valid) {
+            throw new BadCredentialsException(Constants.ERR_AUTHENTICATION_FAILED);
+        }
+
         try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            requestLoginDTO.getEmail(),
-                            requestLoginDTO.getPassword()
-                    )
-            );
-        } catch (Exception e) {
+            userDetailsChecker.check(new AdministratorUserSecurityDTO(user, List.of()));
+        } catch (AccountStatusException e) {
             throw new BadCredentialsException(Constants.ERR_AUTHENTICATION_FAILED, e);
         }
+
+        if (iPasswordVerificationService.upgradeEncoding(user.getPasswordEncoder())) {
+            upgradePassword(entity, requestLoginDTO.getPassword());
+        }
+        return user;
     }
 
     /**
-     * Retrieves administrator user information by email.
+     * Encodes the password again with the current encoding. A failure only
+     * delays the upgrade to the next login.
      *
-     * @param email the user email
-     * @return the administrator user DTO
-     * @throws IllegalStateException if the user is not found
+     * @param entity      the authenticated administrator
+     * @param rawPassword password provided by the user
      */
-    private AdministratorUserDTO getUser(String email) {
-        AdministratorUserDTO userDto = administratorUserMapper.toDto(
-                administratorUserRepository.findByEmail(email).orElse(null)
-        );
-        if (userDto == null) {
-            throw new IllegalStateException(Constants.ERR_STUDENT_NOT_FOUND);
+    private void upgradePassword(AdministratorUserEntity entity, String rawPassword) {
+        try {
+            entity.setPasswordEncoder(iPasswordVerificationService.encode(rawPassword));
+            administratorUserRepository.save(entity);
+        } catch (RuntimeException e) {
+            log.warn(Constants.LOG_PASSWORD_REHASH_ERROR, entity.getCode(), e.getMessage());
         }
-        return userDto;
     }
 
     /**
@@ -0,0 +1,88 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.commons.util.helper.GeneralUtil;
+import co.parameta.technical.test.rest.dto.ExtraInformationDTO;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.repository.projection.EmployeeInformationProjection;
+import co.parameta.technical.test.rest.service.IEmployeeExportService;
+import co.parameta.technical.test.rest.util.constant.ExportFormat;
+import co.parameta.technical.test.rest.util.helper.EmployeeExportWriter;
+import co.parameta.technical.test.rest.util.helper.GeneralRestUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation of the employee export.
+ * <p>
+ * Employees are read from {@link EmployeeRepository#streamAllInformationEmployees()},
+ * a forward-only cursor, and each row is written as soon as it is read, with
+ * the calculated extras computed on the fly. Memory use is bounded by the
+ * output buffer, whatever the table size. The read-only transaction keeps the
+ * cursor open for the whole export.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeExportService implements IEmployeeExportService {
+
+    /**
+     * Size of the character buffer placed in front of the response stream.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * Writes all the employees to the output stream.
+     *
+     * @param format       output format
+     * @param outputStream destination stream; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(ExportFormat format, OutputStream outputStream) throws IOException {
+        Date now = new Date();
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                BUFFER_SIZE
+        );
+        EmployeeExportWriter exportWriter = new EmployeeExportWriter(format, writer);
+
+        exportWriter.writeHeader();
+        try (Stream<EmployeeInformationProjection> employees = employeeRepository.streamAllInformationEmployees()) {
+            Iterator<EmployeeInformationProjection> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                EmployeeInformationProjection employee = iterator.next();
+                exportWriter.writeRow(
+                        employee,
+                        extraInformation(employee.getDateAffiliationCompany(), now),
+                        extraInformation(employee.getDateOfBirth(), now)
+                );
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Computes the years, months and days elapsed since a date.
+     *
+     * @param from start date (optional)
+     * @param now  reference date shared by the whole export
+     * @return the elapsed time, or {@code null} if the start date is missing
+     */
+    private ExtraInformationDTO extraInformation(Date from, Date now) {
+        return from != null ? GeneralRestUtil.toExtraInformation(GeneralUtil.diff(from, now)) : null;
+    }
+}
@@ -5,9 +5,12 @@ import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
 import co.parameta.technical.test.rest.repository.PositionRepository;
 import co.parameta.technical.test.rest.repository.TypeDocumentRepository;
 import co.parameta.technical.test.rest.service.IEmployeePdfGeneratorService;
+import co.parameta.technical.test.rest.util.jfr.PdfRenderEvent;
 import com.lowagie.text.Font;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.draw.LineSeparator;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import com.lowagie.text.*;
 import com.lowagie.text.pdf.PdfPTable;
@@ -22,6 +25,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.EMPLOYEE_PDF_GENERATION;
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.TAG_REPORT_TYPE;
+
 /**
  * Service implementation responsible for generating employee PDF reports.
  * <p>
@@ -57,6 +63,11 @@ public class EmployeePdfGeneratorService implements IEmployeePdfGeneratorService
      */
     private final TypeDocumentRepository typeDocumentRepository;
 
+    /**
+     * Registry used to time report rendering.
+     */
+    private final ObservationRegistry observationRegistry;
+
 
 
     /**
@@ -78,6 +89,20 @@ public class EmployeePdfGeneratorService implements IEmployeePdfGeneratorService
             throw new IllegalArgumentException("EmployeeRequestDTO cannot be null");
         }
 
+        return Observation.createNotStarted(EMPLOYEE_PDF_GENERATION, observationRegistry)
+                .lowCardinalityKeyValue(TAG_REPORT_TYPE, isUpdate ? "update" : "create")
+                .observe(() -> render(employee, isUpdate));
+    }
+
+    /**
+     * Renders the PDF report.
+     *
+     * @param employee employee information used to populate the report
+     * @param isUpdate {@code true} for an update report, {@code false} for a creation report
+     * @return a byte array representing the generated PDF document
+     */
+    private byte[] render(EmployeeRequestDTO employee, boolean isUpdate) {
+        PdfRenderEvent event = PdfRenderEvent.start(isUpdate ? "update" : "create");
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
 
             Document document = new Document(PageSize.LETTER, 36, 36, 54, 54);
@@ -97,7 +122,9 @@ public class EmployeePdfGeneratorService implements IEmployeePdfGeneratorService
             addNotes(document, isUpdate);
 
             document.close();
-            return baos.toByteArray();
+            byte[] pdf = baos.toByteArray();
+            PdfRenderEvent.finish(event, pdf.length);
+            return pdf;
 
         } catch (Exception e) {
             throw new MensajePersonalizadoException("Error generating employee PDF", e);
@@ -0,0 +1,182 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
+import co.parameta.technical.test.rest.dto.EmployeePageDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSearchCriteriaDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSearchRequestDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSummaryDTO;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.service.IEmployeeSearchService;
+import co.parameta.technical.test.rest.service.IReferenceDataCacheService;
+import co.parameta.technical.test.rest.util.constant.Constants;
+import co.parameta.technical.test.rest.util.helper.GeneralRestUtil;
+import co.parameta.technical.test.rest.util.mapper.EmployeeMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Service implementation of the employee listing.
+ * <p>
+ * A page is read in two steps: first the ids matching the filters are
+ * selected with a keyset condition ({@code id > afterId}) from the indexes
+ * only, then the listing projection of those ids is read by primary key.
+ * One extra id is requested to know whether another page exists.
+ * Position and document type accept codes or descriptions and are resolved
+ * through {@link IReferenceDataCacheService}.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeSearchService implements IEmployeeSearchService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final IReferenceDataCacheService iReferenceDataCacheService;
+
+    @Value("${employee.search.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${employee.search.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * Returns one page of employees matching the filters.
+     *
+     * @param request filters, keyset cursor and page size
+     * @return a {@link ResponseGeneralDTO} containing an {@link EmployeePageDTO}
+     * @throws MensajePersonalizadoException if the page size, a date or a range is invalid
+     */
+    @Override
+    public ResponseGeneralDTO searchEmployees(EmployeeSearchRequestDTO request) {
+        int size = resolvePageSize(request.getSize());
+        EmployeeSearchCriteriaDTO criteria = buildCriteria(request, size);
+
+        List<EmployeeSummaryDTO> employees = List.of();
+        boolean hasMore = false;
+        Integer nextAfterId = null;
+
+        if (criteria != null) {
+            List<Integer> ids = employeeRepository.searchEmployeeIds(criteria);
+            hasMore = ids.size() > size;
+            if (hasMore) {
+                ids = ids.subList(0, size);
+                nextAfterId = ids.get(size - 1);
+            }
+            if (!ids.isEmpty()) {
+                employees = employeeMapper.employeeSummaryProjectionsToDto(
+                        employeeRepository.searchEmployeeSummaries(ids)
+                );
+            }
+        }
+
+        ResponseGeneralDTO response = new ResponseGeneralDTO();
+        response.setStatus(HttpStatus.OK.value());
+        response.setMessage(Constants.MSG_EMPLOYEES_CONSULTED);
+        response.setData(
+                EmployeePageDTO.builder()
+                        .employees(employees)
+                        .nextAfterId(nextAfterId)
+                        .hasMore(hasMore)
+                        .size(size)
+                        .build()
+        );
+        return response;
+    }
+
+    /**
+     * Applies the default and maximum page size.
+     *
+     * @param size requested page size (optional)
+     * @return the effective page size
+     * @throws MensajePersonalizadoException if the size is not positive
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (size <= 0) {
+            throw new MensajePersonalizadoException(Constants.ERR_SEARCH_PAGE_SIZE);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Validates the filters and resolves them into repository criteria.
+     *
+     * @param request filters sent by the client
+     * @param size    effective page size
+     * @return the criteria, or {@code null} if a position or document type does not exist
+     * @throws MensajePersonalizadoException if a date or a range is invalid
+     */
+    private EmployeeSearchCriteriaDTO buildCriteria(EmployeeSearchRequestDTO request, int size) {
+        Date affiliationDateFrom = parseDate(request.getAffiliationDateFrom());
+        Date affiliationDateTo = parseDate(request.getAffiliationDateTo());
+        if (affiliationDateFrom != null && affiliationDateTo != null
+                && affiliationDateFrom.after(affiliationDateTo)) {
+            throw new MensajePersonalizadoException(Constants.ERR_SEARCH_DATE_RANGE);
+        }
+        if (request.getSalaryMin() != null && request.getSalaryMax() != null
+                && request.getSalaryMin().compareTo(request.getSalaryMax()) > 0) {
+            throw new MensajePersonalizadoException(Constants.ERR_SEARCH_SALARY_RANGE);
+        }
+
+        String positionCode = null;
+        if (!GeneralRestUtil.isNullOrBlank(request.getPosition())) {
+            positionCode = iReferenceDataCacheService.resolvePositionCode(request.getPosition().trim());
+            if (positionCode == null) {
+                return null;
+            }
+        }
+
+        String typeDocumentCode = null;
+        if (!GeneralRestUtil.isNullOrBlank(request.getTypeDocument())) {
+            typeDocumentCode = iReferenceDataCacheService.resolveTypeDocumentCode(request.getTypeDocument().trim());
+            if (typeDocumentCode == null) {
+                return null;
+            }
+        }
+
+        return EmployeeSearchCriteriaDTO.builder()
+                .positionCode(positionCode)
+                .typeDocumentCode(typeDocumentCode)
+                .affiliationDateFrom(affiliationDateFrom)
+                .affiliationDateTo(affiliationDateTo)
+                .salaryMin(toDouble(request.getSalaryMin()))
+                .salaryMax(toDouble(request.getSalaryMax()))
+                .afterId(request.getAfterId())
+                .limit(size + 1)
+                .build();
+    }
+
+    /**
+     * Converts a salary filter to the type of the salary attribute.
+     *
+     * @param value salary filter (optional)
+     * @return the value as {@link Double}, or {@code null} if absent
+     */
+    private Double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    /**
+     * Parses an optional date filter with the formats supported by the API.
+     *
+     * @param value date filter (optional)
+     * @return the parsed date, or {@code null} if blank
+     * @throws MensajePersonalizadoException if the value is not a supported date
+     */
+    private Date parseDate(String value) {
+        try {
+            return GeneralRestUtil.parseToDate(value);
+        } catch (IllegalArgumentException e) {
+            throw new MensajePersonalizadoException(e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,9 @@ package co.parameta.technical.test.rest.service.impl;
 
 import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
 import co.parameta.technical.test.rest.service.IGetPdfS3Service;
+import co.parameta.technical.test.rest.util.jfr.S3GetEvent;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,8 @@ import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 import java.io.IOException;
 
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.S3_PDF_GET;
+
 /**
  * Service implementation responsible for retrieving PDF files from Amazon S3.
  * <p>
@@ -28,6 +33,11 @@ public class GetPdfS3Service implements IGetPdfS3Service {
      */
     private final S3Client s3Client;
 
+    /**
+     * Registry used to time each download.
+     */
+    private final ObservationRegistry observationRegistry;
+
     /**
      * Name of the S3 bucket where PDF files are stored.
      */
@@ -53,13 +63,30 @@ public class GetPdfS3Service implements IGetPdfS3Service {
                 .key(key)
                 .build();
 
+        return Observation.createNotStarted(S3_PDF_GET, observationRegistry)
+                .observe(() -> download(request));
+    }
+
+    /**
+     * Downloads an object and reads it into memory.
+     *
+     * @param request the S3 get request
+     * @return the object content
+     */
+    private byte[] download(GetObjectRequest request) {
+        S3GetEvent event = S3GetEvent.start(request.bucket(), request.key());
+        long size = 0;
         try (ResponseInputStream<GetObjectResponse> s3Object =
                      s3Client.getObject(request)) {
 
-            return s3Object.readAllBytes();
+            byte[] content = s3Object.readAllBytes();
+            size = content.length;
+            return content;
 
         } catch (IOException e) {
             throw new MensajePersonalizadoException("Error reading PDF from S3", e);
+        } finally {
+            S3GetEvent.finish(event, size);
         }
     }
 }
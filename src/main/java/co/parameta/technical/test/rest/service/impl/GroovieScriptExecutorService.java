@@ -2,19 +2,67 @@ package co.parameta.technical.test.rest.service.impl;
 
 import co.parameta.technical.test.commons.dto.ScriptValidationDTO;
 import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
+import co.parameta.technical.test.rest.dto.ScriptExecutionStatsDTO;
 import co.parameta.technical.test.rest.service.IGroovieScriptExecutorService;
+import co.parameta.technical.test.rest.service.IGroovyClassCacheService;
+import co.parameta.technical.test.rest.service.IScriptProfilerService;
 import co.parameta.technical.test.rest.util.constant.Constants;
+import co.parameta.technical.test.rest.util.jfr.ScriptCompileEvent;
+import co.parameta.technical.test.rest.util.jfr.ScriptExecuteEvent;
 import groovy.lang.Binding;
 import groovy.lang.Closure;
-import groovy.lang.GroovyShell;
-import lombok.RequiredArgsConstructor;
+import groovy.lang.DelegatingMetaClass;
+import groovy.lang.GroovyObject;
+import groovy.lang.MetaClass;
+import groovy.lang.Script;
+import groovy.transform.ThreadInterrupt;
+import groovy.transform.TimedInterrupt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.log4j.Log4j2;
+import org.codehaus.groovy.ast.expr.MethodCallExpression;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.codehaus.groovy.control.customizers.SecureASTCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowCountCallbackHandler;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.*;
+import static co.parameta.technical.test.rest.util.constant.ScriptSandboxRules.*;
+import static org.codehaus.groovy.ast.tools.GeneralUtils.classX;
+import static org.codehaus.groovy.ast.tools.GeneralUtils.propX;
 
 /**
  * Service implementation responsible for executing dynamic Groovy validation scripts.
@@ -31,32 +79,214 @@ import java.util.Map;
  *     <li>Injection of extra variables into the Groovy binding</li>
  *     <li>Controlled SQL execution through helper closures</li>
  *     <li>Centralized error handling and logging</li>
+ *     <li>One {@code groovy.script} observation per script, tagged with the script code</li>
+ *     <li>One {@code groovy.sql} observation per query, with the SQL text as span attribute</li>
+ *     <li>Compile, execution and SQL time per script recorded in the script profiler</li>
+ *     <li>An execution sandbox with a time budget and a row limit per query</li>
+ *     <li>{@code firstRow}, {@code exists}, {@code count} and {@code forEachRow} helpers
+ *         that do not materialize whole result sets</li>
+ *     <li>Identical {@code executeSql}/{@code executeSingleSql} queries run once per
+ *         {@code runScript} call</li>
+ *     <li>Compiled script classes reused across calls and restarts through the class cache</li>
  * </ul>
  * </p>
+ *
+ * <p>
+ * With {@code groovy.sandbox.enabled=true} scripts are compiled with a
+ * {@link SecureASTCustomizer} that rejects process, thread, class loader, file
+ * and network access, plus the {@link TimedInterrupt} and {@link ThreadInterrupt}
+ * transforms, so loops and method calls check the budget. A watchdog interrupts
+ * the request thread when {@code groovy.sandbox.timeout-millis} (compile plus
+ * execution) elapses, pending queries get the remaining budget as JDBC query
+ * timeout, and a query returning more than {@code groovy.sandbox.max-rows} rows
+ * fails the script. In sandbox mode {@code jdbcTemplate} is a read-only stand-in
+ * whose {@code queryForList}, {@code queryForMap} and {@code queryForObject} run
+ * under the same limits; any other {@code JdbcTemplate} method fails, and the
+ * warm-up reports the active scripts that still use it. The helpers and the
+ * stand-in are owned by the state of the running script and can only be called,
+ * so they do not lead back to this service. The AST checks are best effort on a
+ * dynamic language; the time and row limits are what protect the node.
+ * </p>
+ *
+ * <p>
+ * With {@code groovy.sql-memo.enabled=true} the rows read by {@code executeSql} and
+ * {@code executeSingleSql} are kept for the rest of the {@code runScript} call,
+ * keyed by SQL text and parameters, so scripts authored independently that run
+ * the same lookup hit the database once. Every call gets its own copy of the
+ * rows, so scripts can change them as without the memo. A script
+ * that needs fresh reads sets {@code freshReads = true} before querying.
+ * </p>
  */
 @Service
 @Log4j2
-@RequiredArgsConstructor
 public class GroovieScriptExecutorService implements IGroovieScriptExecutorService {
 
+    /**
+     * Row mapper used for every script query.
+     */
+    private static final ColumnMapRowMapper COLUMN_MAP_ROW_MAPPER = new ColumnMapRowMapper();
+
+    /**
+     * Reads every row of a result set as a map.
+     */
+    private static final ResultSetExtractor<List<Map<String, Object>>> ROWS_EXTRACTOR =
+            new RowMapperResultSetExtractor<>(COLUMN_MAP_ROW_MAPPER);
+
+    /**
+     * Query used by {@code count}, with the script query as derived table.
+     */
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM (%s) script_count";
+
+    /**
+     * Rows fetched per round trip by drivers that honour the fetch size.
+     */
+    private static final int FETCH_SIZE = 100;
+
+    /**
+     * Binding variable a script sets to {@code true} to skip the SQL memo.
+     */
+    private static final String FRESH_READS = "freshReads";
+
+    /**
+     * Binding variable of the {@code JdbcTemplate} outside the sandbox and of its
+     * read-only stand-in inside it.
+     */
+    private static final String JDBC_TEMPLATE = "jdbcTemplate";
+
+    /**
+     * {@code JdbcTemplate} methods the sandbox stand-in provides.
+     */
+    private static final Set<String> JDBC_TEMPLATE_METHODS = Set.of("queryForList", "queryForMap", "queryForObject");
+
+    /**
+     * Method calls on {@code jdbcTemplate} in a script source.
+     */
+    private static final Pattern JDBC_TEMPLATE_CALL = Pattern.compile("\\bjdbcTemplate\\s*\\.\\s*(\\w+)");
+
     /**
      * JDBC template used to execute SQL queries from Groovy scripts.
      */
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Registry used to time each script.
+     */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Profiler that aggregates compile, execution and SQL time per script.
+     */
+    private final IScriptProfilerService iScriptProfilerService;
+
+    private final boolean sandboxEnabled;
+
+    /**
+     * Time budget per script (compile plus execution); non-positive disables it.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Maximum rows a script query may return; non-positive disables the limit.
+     */
+    private final int maxRows;
+
+    private final boolean memoEnabled;
+
+    private final Counter memoHits;
+
+    private final Counter memoMisses;
+
+    /**
+     * Compiled script classes, in memory and on disk.
+     */
+    private final IGroovyClassCacheService iGroovyClassCacheService;
+
+    /**
+     * Compiler configuration shared by every script.
+     */
+    private final CompilerConfiguration compilerConfiguration;
+
+    /**
+     * Identifies {@link #compilerConfiguration} in the class cache key, since
+     * the sandbox settings are compiled into the bytecode.
+     */
+    private final String configurationKey;
+
+    /**
+     * Interrupts scripts that exceed their time budget.
+     */
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "groovy-script-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates the executor with the configured sandbox limits.
+     *
+     * @param jdbcTemplate              JDBC template used by the script queries
+     * @param observationRegistry       registry used to time scripts and queries
+     * @param meterRegistry             registry where the memo counters are published
+     * @param iScriptProfilerService    profiler that aggregates the measurements
+     * @param iGroovyClassCacheService  cache of compiled script classes
+     * @param sandboxEnabled            whether scripts run in the sandbox
+     * @param timeoutMillis             time budget per script in milliseconds
+     * @param maxRows                   maximum rows per script query
+     * @param memoEnabled               whether identical queries are memoized per {@code runScript} call
+     */
+    public GroovieScriptExecutorService(
+            JdbcTemplate jdbcTemplate,
+            ObservationRegistry observationRegistry,
+            MeterRegistry meterRegistry,
+            IScriptProfilerService iScriptProfilerService,
+            IGroovyClassCacheService iGroovyClassCacheService,
+            @Value("${groovy.sandbox.enabled:true}") boolean sandboxEnabled,
+            @Value("${groovy.sandbox.timeout-millis:2000}") long timeoutMillis,
+            @Value("${groovy.sandbox.max-rows:1000}") int maxRows,
+            @Value("${groovy.sql-memo.enabled:true}") boolean memoEnabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.observationRegistry = observationRegistry;
+        this.iScriptProfilerService = iScriptProfilerService;
+        this.iGroovyClassCacheService = iGroovyClassCacheService;
+        this.memoEnabled = memoEnabled;
+        this.memoHits = Counter.builder("groovy.sql.memo.hits")
+                .description("Script queries answered from the rows of an identical query of the same call")
+                .register(meterRegistry);
+        this.memoMisses = Counter.builder("groovy.sql.memo.misses")
+                .description("Memoizable script queries that went to the database")
+                .register(meterRegistry);
+        this.sandboxEnabled = sandboxEnabled;
+        this.timeoutMillis = sandboxEnabled ? timeoutMillis : 0;
+        this.maxRows = sandboxEnabled ? maxRows : 0;
+        this.compilerConfiguration = sandboxEnabled
+                ? sandboxConfiguration(this.timeoutMillis)
+                : CompilerConfiguration.DEFAULT;
+        this.configurationKey = "sandbox=" + sandboxEnabled + ";timeout-millis=" + this.timeoutMillis;
+    }
+
+    /**
+     * Stops the watchdog thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
     /**
      * Executes a list of Groovy validation scripts sequentially.
      * <p>
      * Each script is executed using the same execution context and optional
-     * extra variables. If any script throws an exception, execution stops
-     * immediately and {@code null} is returned.
+     * extra variables. If any script fails, including a sandbox violation such
+     * as the time budget, the row limit or a rejected call, execution stops and
+     * the failure is thrown, so callers never mistake it for a passed validation.
      * </p>
      *
      * @param context           the main execution context object accessible as {@code context} inside scripts
      * @param extras            additional variables exposed to the scripts (optional)
      * @param scriptValidations list of Groovy validation scripts to execute
-     * @return a comma-separated string containing all script results,
-     *         or {@code null} if any script execution fails
+     * @return a comma-separated string containing all script results
+     * @throws MensajePersonalizadoException if a script fails
      */
     @Override
     public String runScript(
@@ -66,17 +296,23 @@ public class GroovieScriptExecutorService implements IGroovieScriptExecutorServi
     ) {
 
         List<String> messages = new ArrayList<>();
+        Map<SqlKey, List<Map<String, Object>>> memo = memoEnabled ? new HashMap<>() : null;
 
         for (ScriptValidationDTO script : scriptValidations) {
+            ScriptExecutionStatsDTO stats = new ScriptExecutionStatsDTO(script.getCode());
             try {
 
                 log.info(Constants.LOG_EXECUTING_SCRIPT, script.getCode());
 
-                Object result = executeScript(
-                        script.getGroovieCode(),
-                        context,
-                        extras
-                );
+                Object result = Observation.createNotStarted(GROOVY_SCRIPT, observationRegistry)
+                        .lowCardinalityKeyValue(TAG_SCRIPT, script.getCode() != null ? script.getCode() : UNKNOWN)
+                        .observe(() -> executeScript(
+                                script.getGroovieCode(),
+                                context,
+                                extras,
+                                stats,
+                                memo
+                        ));
 
                 String finalMessage = result != null ? result.toString() : null;
 
@@ -84,29 +320,98 @@ public class GroovieScriptExecutorService implements IGroovieScriptExecutorServi
 
                 messages.add(finalMessage);
 
-            } catch (Exception e) {
+            } catch (MensajePersonalizadoException e) {
                 log.error(
                         Constants.LOG_SCRIPT_EXECUTION_ERROR,
                         script.getGroovieCode(),
                         e
                 );
-                return null;
+                throw e;
+            } finally {
+                iScriptProfilerService.recordScript(stats);
             }
         }
 
         return String.join(",", messages);
     }
 
+    /**
+     * Compiles the given scripts with the executor's compiler configuration
+     * and stores their classes in the class cache.
+     * <p>
+     * A script that fails to compile is logged and skipped.
+     * </p>
+     *
+     * @param scriptValidations list of Groovy validation scripts to compile
+     * @return number of scripts compiled or loaded from the class cache
+     */
+    @Override
+    public int precompile(List<ScriptValidationDTO> scriptValidations) {
+        int compiled = 0;
+        for (ScriptValidationDTO script : scriptValidations) {
+            if (script == null || script.getGroovieCode() == null) {
+                continue;
+            }
+            try {
+                iGroovyClassCacheService.scriptClass(script.getGroovieCode(), compilerConfiguration, configurationKey);
+                compiled++;
+            } catch (Exception e) {
+                log.warn(Constants.LOG_SCRIPT_PRECOMPILE_ERROR, script.getCode(), e.getMessage());
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Reports the scripts that call {@code jdbcTemplate} directly. In sandbox
+     * mode they get the read-only stand-in, so calls to methods other than
+     * {@code queryForList}, {@code queryForMap} and {@code queryForObject} fail;
+     * each script is logged with those calls so it can be moved to the SQL helpers.
+     *
+     * @param scriptValidations list of Groovy validation scripts to check
+     * @return codes of the scripts that reference {@code jdbcTemplate}; empty outside the sandbox
+     */
+    @Override
+    public List<String> jdbcTemplateScripts(List<ScriptValidationDTO> scriptValidations) {
+        List<String> codes = new ArrayList<>();
+        if (!sandboxEnabled) {
+            return codes;
+        }
+        for (ScriptValidationDTO script : scriptValidations) {
+            if (script == null || script.getGroovieCode() == null
+                    || !script.getGroovieCode().contains(JDBC_TEMPLATE)) {
+                continue;
+            }
+            Set<String> unsupported = new TreeSet<>();
+            Matcher call = JDBC_TEMPLATE_CALL.matcher(script.getGroovieCode());
+            while (call.find()) {
+                if (!JDBC_TEMPLATE_METHODS.contains(call.group(1))) {
+                    unsupported.add(call.group(1));
+                }
+            }
+            log.warn(Constants.LOG_SCRIPT_USES_JDBC_TEMPLATE, script.getCode(), unsupported);
+            codes.add(script.getCode());
+        }
+        return codes;
+    }
+
     /**
      * Executes a single Groovy script using a prepared binding.
      * <p>
      * The following variables are available inside the script:
      * <ul>
      *     <li>{@code context} - main execution context</li>
-     *     <li>{@code jdbcTemplate} - Spring JDBC template</li>
+     *     <li>{@code jdbcTemplate} - Spring JDBC template; in the sandbox a read-only stand-in
+     *         with {@code queryForList}, {@code queryForMap} and {@code queryForObject}</li>
      *     <li>{@code log} - logger instance</li>
      *     <li>{@code executeSql(sql, params...)} - executes a SQL query returning a list</li>
      *     <li>{@code executeSingleSql(sql, params...)} - executes a SQL query returning a single row</li>
+     *     <li>{@code firstRow(sql, params...)} - reads only the first row, or {@code null}</li>
+     *     <li>{@code exists(sql, params...)} - whether the query returns any row</li>
+     *     <li>{@code count(sql, params...)} - number of rows of the query, counted by the database</li>
+     *     <li>{@code forEachRow(sql, params...) { row -> }} - streams the rows to the closure,
+     *         returns the number of rows</li>
+     *     <li>{@code freshReads} - set it to {@code true} to skip the SQL memo</li>
      *     <li>Any variable provided in {@code extras}</li>
      * </ul>
      * </p>
@@ -114,18 +419,22 @@ public class GroovieScriptExecutorService implements IGroovieScriptExecutorServi
      * @param groovyScript the Groovy script code to execute
      * @param context      the execution context object
      * @param extras       additional variables injected into the script
+     * @param stats        measurements of this execution, filled while it runs
+     * @param memo         rows already read in this {@code runScript} call, or {@code null}
      * @return the result of the script execution
      * @throws RuntimeException if script execution fails
      */
     private Object executeScript(
             String groovyScript,
             Object context,
-            Map<String, Object> extras
+            Map<String, Object> extras,
+            ScriptExecutionStatsDTO stats,
+            Map<SqlKey, List<Map<String, Object>>> memo
     ) {
+        Deadline deadline = new Deadline(timeoutMillis);
         try {
             Binding binding = new Binding();
             binding.setVariable("context", context);
-            binding.setVariable("jdbcTemplate", jdbcTemplate);
             binding.setVariable("log", log);
 
             if (extras != null) {
@@ -149,70 +458,309 @@ public class GroovieScriptExecutorService implements IGroovieScriptExecutorServi
                 });
             }
 
-            Closure<List<Map<String, Object>>> executeSqlClosure =
-                    new Closure<List<Map<String, Object>>>(this, this) {
-                        public List<Map<String, Object>> doCall(String sql, Object... params) {
-                            return executeSql(sql, params);
+            ScriptQueries queries = new ScriptQueries(stats, deadline, binding, memo);
+            bindSqlHelper(binding, "executeSql", queries,
+                    (q, sql, params) -> executeSql(q.stats, q.deadline, q.memo(), sql, params));
+            bindSqlHelper(binding, "executeSingleSql", queries,
+                    (q, sql, params) -> executeSingleSql(q.stats, q.deadline, q.memo(), sql, params));
+            bindSqlHelper(binding, "firstRow", queries,
+                    (q, sql, params) -> firstRow(q.stats, q.deadline, sql, params));
+            bindSqlHelper(binding, "exists", queries,
+                    (q, sql, params) -> exists(q.stats, q.deadline, sql, params));
+            bindSqlHelper(binding, "count", queries,
+                    (q, sql, params) -> count(q.stats, q.deadline, sql, params));
+            bindSqlHelper(binding, "forEachRow", queries,
+                    (q, sql, paramsAndCallback) -> forEachRow(q.stats, q.deadline, sql, paramsAndCallback));
+            binding.setVariable(JDBC_TEMPLATE, sandboxEnabled
+                    ? new ScriptJdbcTemplate(queries, new ScriptJdbcQueries() {
+                        @Override
+                        public List<Map<String, Object>> queryForList(ScriptQueries q, String sql, Object[] params) {
+                            return executeSql(q.stats, q.deadline, q.memo(), sql, params);
                         }
-                    };
 
-            Closure<Map<String, Object>> executeSingleSqlClosure =
-                    new Closure<Map<String, Object>>(this, this) {
-                        public Map<String, Object> doCall(String sql, Object... params) {
-                            return executeSingleSql(sql, params);
+                        @Override
+                        public Map<String, Object> queryForMap(ScriptQueries q, String sql, Object[] params) {
+                            return singleRow(q.stats, q.deadline, sql, params);
                         }
-                    };
 
-            binding.setVariable("executeSql", executeSqlClosure);
-            binding.setVariable("executeSingleSql", executeSingleSqlClosure);
+                        @Override
+                        public <T> T queryForObject(ScriptQueries q, String sql, Class<T> requiredType,
+                                                    Object[] params) {
+                            return singleValue(q.stats, q.deadline, sql, requiredType, params);
+                        }
+                    })
+                    : jdbcTemplate);
 
-            GroovyShell shell = new GroovyShell(binding);
-            return shell.evaluate(groovyScript);
+            ScriptCompileEvent compileEvent = ScriptCompileEvent.start(stats.getScriptCode(), groovyScript);
+            long compileStart = System.nanoTime();
+            Script compiled = InvokerHelper.createScript(
+                    iGroovyClassCacheService.scriptClass(groovyScript, compilerConfiguration, configurationKey),
+                    binding
+            );
+            long executeStart = System.nanoTime();
+            ScriptCompileEvent.finish(compileEvent);
+            stats.setCompileNanos(executeStart - compileStart);
+            ScriptExecuteEvent executeEvent = ScriptExecuteEvent.start(stats.getScriptCode());
+            ScheduledFuture<?> interrupter = deadline.isBounded()
+                    ? watchdog.schedule(() -> deadline.expire(stats.getScriptCode()),
+                            deadline.remainingMillis(), TimeUnit.MILLISECONDS)
+                    : null;
+            Object result;
+            try {
+                result = compiled.run();
+            } finally {
+                if (interrupter != null) {
+                    interrupter.cancel(false);
+                }
+                deadline.finish();
+                stats.setExecuteNanos(System.nanoTime() - executeStart);
+                ScriptExecuteEvent.finish(executeEvent, stats.getSqlCalls(), stats.getRows());
+            }
+            if (deadline.isExpired()) {
+                throw new MensajePersonalizadoException(String.format(Constants.ERR_SCRIPT_TIMEOUT, timeoutMillis));
+            }
+            return result;
 
         } catch (Exception e) {
-            log.error(Constants.LOG_SCRIPT_ERROR, e.getMessage(), e);
+            String message = deadline.finish()
+                    ? String.format(Constants.ERR_SCRIPT_TIMEOUT, timeoutMillis)
+                    : e.getMessage();
+            log.error(Constants.LOG_SCRIPT_ERROR, message, e);
             throw new MensajePersonalizadoException(
-                    Constants.EXCEPTION_SCRIPT_EXECUTION + e.getMessage(),
+                    Constants.EXCEPTION_SCRIPT_EXECUTION + message,
                     e
             );
         }
     }
 
+    /**
+     * Binds a SQL helper as a script variable. The closure is owned by the
+     * state of the running script, never by this service.
+     *
+     * @param binding binding of the running script
+     * @param name    variable name used by scripts
+     * @param queries state of the running script
+     * @param helper  query run on each call
+     */
+    private static void bindSqlHelper(Binding binding, String name, ScriptQueries queries, SqlHelper helper) {
+        binding.setVariable(name, new SqlHelperClosure(queries, helper));
+    }
+
     /**
      * Executes a SQL query and returns a list of result rows.
      *
-     * @param sql    the SQL query to execute
-     * @param params optional query parameters
+     * @param stats    measurements of the running script
+     * @param deadline time budget of the running script
+     * @param memo     rows already read in this {@code runScript} call, or {@code null}
+     * @param sql      the SQL query to execute
+     * @param params   optional query parameters
      * @return a list of result rows represented as maps
-     * @throws RuntimeException if SQL execution fails
+     * @throws RuntimeException if SQL execution fails or exceeds the row limit
      */
-    private List<Map<String, Object>> executeSql(String sql, Object... params) {
-        try {
-            log.info(Constants.LOG_EXECUTING_SQL, sql);
-            return jdbcTemplate.queryForList(sql, params);
-        } catch (Exception e) {
-            log.error(Constants.LOG_SQL_ERROR, sql, e);
-            throw new MensajePersonalizadoException(
-                    Constants.EXCEPTION_SQL_EXECUTION + e.getMessage(),
-                    e
-            );
-        }
+    private List<Map<String, Object>> executeSql(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            Map<SqlKey, List<Map<String, Object>>> memo,
+            String sql,
+            Object... params
+    ) {
+        return sqlHelper(Constants.LOG_EXECUTING_SQL, sql,
+                () -> memoizedRows(stats, deadline, memo, "executeSql", sql, params));
     }
 
     /**
      * Executes a SQL query and returns the first result row.
      *
-     * @param sql    the SQL query to execute
-     * @param params optional query parameters
+     * @param stats    measurements of the running script
+     * @param deadline time budget of the running script
+     * @param memo     rows already read in this {@code runScript} call, or {@code null}
+     * @param sql      the SQL query to execute
+     * @param params   optional query parameters
+     * @return the first result row, or {@code null} if no rows are returned
+     * @throws RuntimeException if SQL execution fails or exceeds the row limit
+     */
+    private Map<String, Object> executeSingleSql(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            Map<SqlKey, List<Map<String, Object>>> memo,
+            String sql,
+            Object... params
+    ) {
+        return sqlHelper(Constants.LOG_EXECUTING_SINGLE_SQL, sql, () -> {
+            List<Map<String, Object>> results =
+                    memoizedRows(stats, deadline, memo, "executeSingleSql", sql, params);
+            return results.isEmpty() ? null : results.get(0);
+        });
+    }
+
+    /**
+     * Executes a SQL query asking the driver for one row only.
+     *
+     * @param stats    measurements of the running script
+     * @param deadline time budget of the running script
+     * @param sql      the SQL query to execute
+     * @param params   optional query parameters
      * @return the first result row, or {@code null} if no rows are returned
      * @throws RuntimeException if SQL execution fails
      */
-    private Map<String, Object> executeSingleSql(String sql, Object... params) {
-        try {
-            log.info(Constants.LOG_EXECUTING_SINGLE_SQL, sql);
+    private Map<String, Object> firstRow(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String sql,
+            Object... params
+    ) {
+        return sqlHelper(Constants.LOG_EXECUTING_SINGLE_SQL, sql, () -> {
             List<Map<String, Object>> results =
-                    jdbcTemplate.queryForList(sql, params);
+                    query(stats, deadline, "firstRow", sql, params, 1, ROWS_EXTRACTOR, List::size);
             return results.isEmpty() ? null : results.get(0);
+        });
+    }
+
+    /**
+     * Reads the only row of a SQL query, as {@code JdbcTemplate.queryForMap} does.
+     *
+     * @param stats    measurements of the running script
+     * @param deadline time budget of the running script
+     * @param sql      the SQL query to execute
+     * @param params   optional query parameters
+     * @return the only result row
+     * @throws org.springframework.dao.IncorrectResultSizeDataAccessException if the query
+     *         does not return exactly one row
+     */
+    private Map<String, Object> singleRow(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String sql,
+            Object... params
+    ) {
+        log.info(Constants.LOG_EXECUTING_SINGLE_SQL, sql);
+        return DataAccessUtils.requiredSingleResult(
+                query(stats, deadline, "queryForMap", sql, params, 2, ROWS_EXTRACTOR, List::size));
+    }
+
+    /**
+     * Reads the only value of a single-column SQL query, as
+     * {@code JdbcTemplate.queryForObject} does.
+     *
+     * @param stats        measurements of the running script
+     * @param deadline     time budget of the running script
+     * @param sql          the SQL query to execute
+     * @param requiredType type of the value
+     * @param params       optional query parameters
+     * @param <T>          type of the value
+     * @return the only value, converted to the required type
+     * @throws org.springframework.dao.IncorrectResultSizeDataAccessException if the query
+     *         does not return exactly one row
+     */
+    private <T> T singleValue(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String sql,
+            Class<T> requiredType,
+            Object... params
+    ) {
+        log.info(Constants.LOG_EXECUTING_SINGLE_SQL, sql);
+        return DataAccessUtils.requiredSingleResult(
+                query(stats, deadline, "queryForObject", sql, params, 2,
+                        new RowMapperResultSetExtractor<>(SingleColumnRowMapper.newInstance(requiredType)),
+                        List::size));
+    }
+
+    /**
+     * Checks whether a SQL query returns any row, reading at most one.
+     *
+     * @param stats    measurements of the running script
+     * @param deadline time budget of the running script
+     * @param sql      the SQL query to execute
+     * @param params   optional query parameters
+     * @return {@code true} if the query returns at least one row
+     * @throws RuntimeException if SQL execution fails
+     */
+    private boolean exists(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String sql,
+            Object... params
+    ) {
+        return sqlHelper(Constants.LOG_EXECUTING_SQL, sql,
+                () -> query(stats, deadline, "exists", sql, params, 1, ResultSet::next, found -> found ? 1 : 0));
+    }
+
+    /**
+     * Counts the rows of a SQL query in the database, wrapping it in
+     * {@code select count(*)}, so no row is transferred.
+     *
+     * @param stats    measurements of the running script
+     * @param deadline time budget of the running script
+     * @param sql      the SQL query whose rows are counted
+     * @param params   optional query parameters
+     * @return the number of rows of the query
+     * @throws RuntimeException if SQL execution fails
+     */
+    private long count(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String sql,
+            Object... params
+    ) {
+        return sqlHelper(Constants.LOG_EXECUTING_SQL, sql,
+                () -> query(stats, deadline, "count", String.format(COUNT_SQL, sql), params, 1,
+                        rs -> rs.next() ? rs.getLong(1) : 0L, counted -> 1));
+    }
+
+    /**
+     * Streams the rows of a SQL query to a script closure, one row at a time,
+     * through a {@link RowCallbackHandler}. Rows are not kept, so the sandbox
+     * row limit does not apply; the time budget does.
+     *
+     * @param stats              measurements of the running script
+     * @param deadline           time budget of the running script
+     * @param sql                the SQL query to execute
+     * @param paramsAndCallback  optional query parameters followed by the closure called with each row
+     * @return the number of rows read
+     * @throws RuntimeException if SQL execution fails, the closure fails or no closure is given
+     */
+    private long forEachRow(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String sql,
+            Object... paramsAndCallback
+    ) {
+        return sqlHelper(Constants.LOG_EXECUTING_SQL, sql, () -> {
+            int last = paramsAndCallback.length - 1;
+            if (last < 0 || !(paramsAndCallback[last] instanceof Closure<?> callback)) {
+                throw new MensajePersonalizadoException(Constants.ERR_SCRIPT_ROW_CALLBACK);
+            }
+            Object[] params = Arrays.copyOf(paramsAndCallback, last);
+            RowCountCallbackHandler handler = new RowCountCallbackHandler() {
+                @Override
+                protected void processRow(ResultSet rs, int rowNum) throws SQLException {
+                    callback.call(COLUMN_MAP_ROW_MAPPER.mapRow(rs, rowNum));
+                }
+            };
+            return query(stats, deadline, "forEachRow", sql, params, 0, rs -> {
+                while (rs.next()) {
+                    handler.processRow(rs);
+                }
+                return (long) handler.getRowCount();
+            }, Long::intValue);
+        });
+    }
+
+    /**
+     * Runs a script query helper: logs the query and turns any failure
+     * into a {@link MensajePersonalizadoException}.
+     *
+     * @param logMessage log message written before the query
+     * @param sql        the SQL query to execute
+     * @param helper     the query to run
+     * @param <T>        result type
+     * @return the helper result
+     */
+    private <T> T sqlHelper(String logMessage, String sql, Supplier<T> helper) {
+        try {
+            log.info(logMessage, sql);
+            return helper.get();
         } catch (Exception e) {
             log.error(Constants.LOG_SQL_ERROR, sql, e);
             throw new MensajePersonalizadoException(
@@ -221,4 +769,522 @@ public class GroovieScriptExecutorService implements IGroovieScriptExecutorServi
             );
         }
     }
+
+    /**
+     * Returns the memo a script query may use: {@code null} when memoization is
+     * off or the script set {@code freshReads = true}.
+     *
+     * @param binding binding of the running script
+     * @param memo    rows already read in this {@code runScript} call, or {@code null}
+     * @return the memo to use, or {@code null} to go to the database
+     */
+    private static Map<SqlKey, List<Map<String, Object>>> memoFor(
+            Binding binding,
+            Map<SqlKey, List<Map<String, Object>>> memo
+    ) {
+        boolean freshReads = binding.hasVariable(FRESH_READS)
+                && Boolean.TRUE.equals(binding.getVariable(FRESH_READS));
+        return freshReads ? null : memo;
+    }
+
+    /**
+     * Reads the rows of a query through the memo of the {@code runScript} call.
+     * The first execution of a (SQL, parameters) pair goes to the database and
+     * its rows are kept; every call, the first included, gets a copy of them, so
+     * a script changing its rows does not affect the next ones.
+     *
+     * @param stats     measurements of the running script
+     * @param deadline  time budget of the running script
+     * @param memo      rows already read in this {@code runScript} call, or {@code null}
+     * @param operation script helper that ran the query
+     * @param sql       the SQL query to execute
+     * @param params    query parameters
+     * @return a list of result rows represented as maps
+     */
+    private List<Map<String, Object>> memoizedRows(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            Map<SqlKey, List<Map<String, Object>>> memo,
+            String operation,
+            String sql,
+            Object... params
+    ) {
+        if (memo == null) {
+            return limitedRows(stats, deadline, operation, sql, params);
+        }
+
+        SqlKey key = new SqlKey(sql, params == null ? List.of() : Arrays.asList(params.clone()));
+        List<Map<String, Object>> cached = memo.get(key);
+        if (cached != null) {
+            stats.addMemoHit();
+            memoHits.increment();
+            return copyOf(cached);
+        }
+
+        memoMisses.increment();
+        List<Map<String, Object>> results = limitedRows(stats, deadline, operation, sql, params);
+        memo.put(key, results);
+        return copyOf(results);
+    }
+
+    /**
+     * Copies memoized rows into the mutable, case-insensitive maps returned
+     * by the row mapper.
+     *
+     * @param rows memoized rows
+     * @return a copy the script can change
+     */
+    private static List<Map<String, Object>> copyOf(List<Map<String, Object>> rows) {
+        List<Map<String, Object>> copy = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> columns = new LinkedCaseInsensitiveMap<>(row.size());
+            columns.putAll(row);
+            copy.add(columns);
+        }
+        return copy;
+    }
+
+    /**
+     * Reads every row of a query, failing when it returns more rows than the
+     * sandbox limit. The driver is asked for one row more than the limit, so
+     * an oversized result is detected without reading it all.
+     *
+     * @param stats     measurements of the running script
+     * @param deadline  time budget of the running script
+     * @param operation script helper that ran the query
+     * @param sql       the SQL query to execute
+     * @param params    query parameters
+     * @return a list of result rows represented as maps
+     */
+    private List<Map<String, Object>> limitedRows(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String operation,
+            String sql,
+            Object... params
+    ) {
+        List<Map<String, Object>> results = query(stats, deadline, operation, sql, params,
+                maxRows > 0 ? maxRows + 1 : 0, ROWS_EXTRACTOR, List::size);
+        if (maxRows > 0 && results.size() > maxRows) {
+            throw new MensajePersonalizadoException(String.format(Constants.ERR_SCRIPT_ROW_LIMIT, maxRows));
+        }
+        return results;
+    }
+
+    /**
+     * Runs a query inside a {@code groovy.sql} observation, so every script
+     * query gets its own timer and span, and records it in the profiler.
+     * <p>
+     * Parameters are always bound to placeholders, so the driver statement
+     * cache is reused across executions, and the remaining time budget
+     * becomes the query timeout.
+     * </p>
+     *
+     * @param stats     measurements of the running script
+     * @param deadline  time budget of the running script
+     * @param operation script helper that ran the query
+     * @param sql       the SQL query to execute
+     * @param params    query parameters
+     * @param fetchRows maximum rows the driver returns; {@code 0} for no limit
+     * @param extractor reads the result set
+     * @param rowsOf    number of rows read, for the statistics
+     * @param <T>       result type
+     * @return the extracted result
+     */
+    private <T> T query(
+            ScriptExecutionStatsDTO stats,
+            Deadline deadline,
+            String operation,
+            String sql,
+            Object[] params,
+            int fetchRows,
+            ResultSetExtractor<T> extractor,
+            ToIntFunction<T> rowsOf
+    ) {
+        long start = System.nanoTime();
+        int rows = 0;
+        try {
+            T result = Observation.createNotStarted(GROOVY_SQL, observationRegistry)
+                    .lowCardinalityKeyValue(TAG_SQL_OPERATION, operation)
+                    .highCardinalityKeyValue(TAG_SQL, sql)
+                    .observe(() -> jdbcTemplate.query(sql, ps -> {
+                        if (fetchRows > 0) {
+                            ps.setMaxRows(fetchRows);
+                            ps.setFetchSize(Math.min(fetchRows, FETCH_SIZE));
+                        } else {
+                            ps.setFetchSize(FETCH_SIZE);
+                        }
+                        if (deadline.isBounded()) {
+                            ps.setQueryTimeout(deadline.remainingSeconds());
+                        }
+                        new ArgumentPreparedStatementSetter(params).setValues(ps);
+                    }, extractor));
+            rows = result != null ? rowsOf.applyAsInt(result) : 0;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            stats.addSql(nanos, rows);
+            iScriptProfilerService.recordSql(stats.getScriptCode(), sql, nanos, rows);
+        }
+    }
+
+    /**
+     * Builds the sandbox compiler configuration.
+     *
+     * @param timeoutMillis time budget checked by the {@link TimedInterrupt} transform
+     * @return the compiler configuration used for every script
+     */
+    private static CompilerConfiguration sandboxConfiguration(long timeoutMillis) {
+        SecureASTCustomizer secure = new SecureASTCustomizer();
+        secure.setIndirectImportCheckEnabled(true);
+        secure.setDisallowedImports(DISALLOWED_RECEIVERS.stream().map(Class::getName).toList());
+        secure.setDisallowedStarImports(DISALLOWED_STAR_IMPORTS);
+        secure.setDisallowedReceiversClasses(DISALLOWED_RECEIVERS);
+        secure.addExpressionCheckers(expression -> !(expression instanceof MethodCallExpression call)
+                || !DISALLOWED_METHODS.contains(call.getMethodAsString()));
+
+        // the checks run first, so the code injected by the interrupt transforms is not rejected
+        CompilerConfiguration configuration = new CompilerConfiguration();
+        configuration.addCompilationCustomizers(secure, new ASTTransformationCustomizer(ThreadInterrupt.class));
+        if (timeoutMillis > 0) {
+            configuration.addCompilationCustomizers(new ASTTransformationCustomizer(
+                    Map.of("value", timeoutMillis, "unit", propX(classX(TimeUnit.class), "MILLISECONDS")),
+                    TimedInterrupt.class
+            ));
+        }
+        return configuration;
+    }
+
+    /**
+     * Identifies a memoized query by SQL text and parameters.
+     *
+     * @param sql    SQL text
+     * @param params query parameters
+     */
+    private record SqlKey(String sql, List<Object> params) {
+    }
+
+    /**
+     * State of one script execution used by the SQL helpers. It is the owner
+     * and delegate of the helper closures, so it holds only the statistics,
+     * the time budget and the memo.
+     */
+    private static final class ScriptQueries {
+
+        private final ScriptExecutionStatsDTO stats;
+
+        private final Deadline deadline;
+
+        private final Binding binding;
+
+        private final Map<SqlKey, List<Map<String, Object>>> memo;
+
+        ScriptQueries(
+                ScriptExecutionStatsDTO stats,
+                Deadline deadline,
+                Binding binding,
+                Map<SqlKey, List<Map<String, Object>>> memo
+        ) {
+            this.stats = stats;
+            this.deadline = deadline;
+            this.binding = binding;
+            this.memo = memo;
+        }
+
+        Map<SqlKey, List<Map<String, Object>>> memo() {
+            return memoFor(binding, memo);
+        }
+    }
+
+    /**
+     * Query run by a SQL helper closure.
+     */
+    @FunctionalInterface
+    private interface SqlHelper {
+
+        Object run(ScriptQueries queries, String sql, Object[] params);
+    }
+
+    /**
+     * Closure bound as a script SQL helper.
+     * <p>
+     * Owner, delegate and {@code this} object are the {@link ScriptQueries} of
+     * the running script. Scripts can only call the closure: reading or
+     * writing its properties or fields ({@code owner}, {@code delegate},
+     * {@code metaClass}, ...) and calling any other method fail, so a script
+     * cannot walk from a helper to the service or its {@code JdbcTemplate}.
+     * </p>
+     */
+    private static final class SqlHelperClosure extends Closure<Object> {
+
+        private static final MetaClass CALL_ONLY_META_CLASS =
+                new CallOnlyMetaClass(SqlHelperClosure.class, Set.of("call", "doCall"));
+
+        private final ScriptQueries queries;
+
+        private final SqlHelper helper;
+
+        SqlHelperClosure(ScriptQueries queries, SqlHelper helper) {
+            super(queries, queries);
+            this.queries = queries;
+            this.helper = helper;
+        }
+
+        public Object doCall(String sql, Object... params) {
+            return helper.run(queries, sql, params);
+        }
+
+        @Override
+        public MetaClass getMetaClass() {
+            return CALL_ONLY_META_CLASS;
+        }
+
+        @Override
+        public Object getProperty(String property) {
+            throw CallOnlyMetaClass.denied(property);
+        }
+
+        @Override
+        public void setProperty(String property, Object newValue) {
+            throw CallOnlyMetaClass.denied(property);
+        }
+    }
+
+    /**
+     * {@code JdbcTemplate} queries of the sandbox stand-in.
+     */
+    private interface ScriptJdbcQueries {
+
+        List<Map<String, Object>> queryForList(ScriptQueries queries, String sql, Object[] params);
+
+        Map<String, Object> queryForMap(ScriptQueries queries, String sql, Object[] params);
+
+        <T> T queryForObject(ScriptQueries queries, String sql, Class<T> requiredType, Object[] params);
+    }
+
+    /**
+     * Read-only stand-in bound as {@code jdbcTemplate} in sandbox mode, so
+     * scripts written against {@code JdbcTemplate} keep working under the
+     * time budget and the row limit.
+     * <p>
+     * Only {@code queryForList}, {@code queryForMap} and {@code queryForObject}
+     * can be called; like the SQL helpers, reading its properties or fields
+     * and calling any other method fail.
+     * </p>
+     */
+    private static final class ScriptJdbcTemplate implements GroovyObject {
+
+        private static final MetaClass QUERY_ONLY_META_CLASS =
+                new CallOnlyMetaClass(ScriptJdbcTemplate.class, JDBC_TEMPLATE_METHODS);
+
+        private final ScriptQueries queries;
+
+        private final ScriptJdbcQueries jdbcQueries;
+
+        ScriptJdbcTemplate(ScriptQueries queries, ScriptJdbcQueries jdbcQueries) {
+            this.queries = queries;
+            this.jdbcQueries = jdbcQueries;
+        }
+
+        public List<Map<String, Object>> queryForList(String sql, Object... params) {
+            return jdbcQueries.queryForList(queries, sql, params);
+        }
+
+        public Map<String, Object> queryForMap(String sql, Object... params) {
+            return jdbcQueries.queryForMap(queries, sql, params);
+        }
+
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... params) {
+            return jdbcQueries.queryForObject(queries, sql, requiredType, params);
+        }
+
+        @Override
+        public Object invokeMethod(String name, Object args) {
+            return QUERY_ONLY_META_CLASS.invokeMethod(this, name, args);
+        }
+
+        @Override
+        public Object getProperty(String propertyName) {
+            throw CallOnlyMetaClass.denied(propertyName);
+        }
+
+        @Override
+        public void setProperty(String propertyName, Object newValue) {
+            throw CallOnlyMetaClass.denied(propertyName);
+        }
+
+        @Override
+        public MetaClass getMetaClass() {
+            return QUERY_ONLY_META_CLASS;
+        }
+
+        @Override
+        public void setMetaClass(MetaClass metaClass) {
+            throw CallOnlyMetaClass.denied("metaClass");
+        }
+    }
+
+    /**
+     * Meta class of the objects bound for script queries: only the given
+     * methods are dispatched, property and field access is rejected.
+     */
+    private static final class CallOnlyMetaClass extends DelegatingMetaClass {
+
+        private final Set<String> callable;
+
+        CallOnlyMetaClass(Class<?> theClass, Set<String> callable) {
+            super(theClass);
+            this.callable = callable;
+            initialize();
+        }
+
+        static MensajePersonalizadoException denied(String member) {
+            return new MensajePersonalizadoException(String.format(Constants.ERR_SCRIPT_HELPER_ACCESS, member));
+        }
+
+        private String callable(String methodName) {
+            if (!callable.contains(methodName)) {
+                throw denied(methodName);
+            }
+            return methodName;
+        }
+
+        @Override
+        public Object invokeMethod(Object object, String methodName, Object arguments) {
+            return super.invokeMethod(object, callable(methodName), arguments);
+        }
+
+        @Override
+        public Object invokeMethod(Object object, String methodName, Object[] arguments) {
+            return super.invokeMethod(object, callable(methodName), arguments);
+        }
+
+        @Override
+        public Object invokeMethod(
+                Class sender,
+                Object receiver,
+                String methodName,
+                Object[] arguments,
+                boolean isCallToSuper,
+                boolean fromInsideClass
+        ) {
+            return super.invokeMethod(sender, receiver, callable(methodName), arguments, isCallToSuper, fromInsideClass);
+        }
+
+        @Override
+        public Object getProperty(Object object, String property) {
+            throw denied(property);
+        }
+
+        @Override
+        public Object getProperty(Class sender, Object receiver, String property, boolean isCallToSuper,
+                                  boolean fromInsideClass) {
+            throw denied(property);
+        }
+
+        @Override
+        public void setProperty(Object object, String property, Object newValue) {
+            throw denied(property);
+        }
+
+        @Override
+        public void setProperty(Class sender, Object receiver, String property, Object value, boolean isCallToSuper,
+                                boolean fromInsideClass) {
+            throw denied(property);
+        }
+
+        @Override
+        public Object getAttribute(Object object, String attribute) {
+            throw denied(attribute);
+        }
+
+        @Override
+        public Object getAttribute(Class sender, Object receiver, String attribute, boolean isCallToSuper) {
+            throw denied(attribute);
+        }
+
+        @Override
+        public void setAttribute(Object object, String attribute, Object newValue) {
+            throw denied(attribute);
+        }
+
+        @Override
+        public void setAttribute(Class sender, Object receiver, String attribute, Object value, boolean isCallToSuper,
+                                 boolean fromInsideClass) {
+            throw denied(attribute);
+        }
+    }
+
+    /**
+     * Wall-clock budget of one script execution on the calling thread.
+     * <p>
+     * The watchdog calls {@link #expire(String)} and the script thread calls
+     * {@link #finish()}; both are synchronized so the interrupt is either
+     * delivered while the script runs or not at all, and it never leaks to the
+     * next task on the request thread.
+     * </p>
+     */
+    private static final class Deadline {
+
+        private final Thread worker = Thread.currentThread();
+
+        private final long timeoutMillis;
+
+        private final long expiresAtNanos;
+
+        private boolean finished;
+
+        private boolean expired;
+
+        Deadline(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+            this.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(timeoutMillis, 0));
+        }
+
+        boolean isBounded() {
+            return timeoutMillis > 0;
+        }
+
+        long remainingMillis() {
+            return Math.max(TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()), 0);
+        }
+
+        /**
+         * Remaining budget as a JDBC query timeout, at least one second.
+         */
+        int remainingSeconds() {
+            if (remainingMillis() == 0) {
+                throw new MensajePersonalizadoException(String.format(Constants.ERR_SCRIPT_TIMEOUT, timeoutMillis));
+            }
+            return (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMillis() + 999));
+        }
+
+        synchronized void expire(String scriptCode) {
+            if (!finished) {
+                expired = true;
+                log.warn(Constants.LOG_SCRIPT_TIMEOUT, scriptCode, timeoutMillis);
+                worker.interrupt();
+            }
+        }
+
+        /**
+         * Marks the execution as finished and clears the interrupt raised by
+         * the watchdog, if any.
+         *
+         * @return whether the budget expired
+         */
+        synchronized boolean finish() {
+            if (!finished) {
+                finished = true;
+                if (expired) {
+                    Thread.interrupted();
+                }
+            }
+            return expired;
+        }
+
+        synchronized boolean isExpired() {
+            return expired;
+        }
+    }
 }
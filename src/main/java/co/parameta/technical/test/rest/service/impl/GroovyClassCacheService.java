@@ -0,0 +1,520 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.rest.service.IGroovyClassCacheService;
+import co.parameta.technical.test.rest.util.constant.Constants;
+import co.parameta.technical.test.rest.util.constant.ScriptSandboxRules;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovySystem;
+import groovy.lang.Script;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.tools.GroovyClass;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation of the compiled Groovy script cache.
+ * <p>
+ * Compiled classes are kept in a bounded LRU map ({@code groovy.class-cache.max-entries}).
+ * When {@code groovy.class-cache.directory} is set, the bytecode of every
+ * compiled script is also written there as a jar named after the SHA-256 of
+ * the build, the compiler configuration key and the source, inside a directory
+ * named after the Groovy and Java versions and a digest of the application
+ * version and the {@link ScriptSandboxRules}. On startup the newest jars of the
+ * current build are loaded, each with its own {@link GroovyClassLoader},
+ * before the node reports ready; directories of other builds are deleted.
+ * </p>
+ *
+ * <p>
+ * Every jar carries an HMAC-SHA256 of its bytecode, verified before any class
+ * is defined. The key is {@code groovy.class-cache.signing-key} or, when it is
+ * blank, a random key kept in the cache directory, readable by its owner only.
+ * Unreadable or unsigned jars, or jars with a wrong signature, are discarded
+ * and the script is compiled again.
+ * </p>
+ */
+@Log4j2
+@Service
+public class GroovyClassCacheService implements IGroovyClassCacheService {
+
+    private static final String JAR_SUFFIX = ".jar";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private static final String KEY_FILE = "signing.key";
+
+    private static final int KEY_BYTES = 32;
+
+    /**
+     * Manifest attribute holding the HMAC of the jar bytecode.
+     */
+    private static final Attributes.Name SIGNATURE = new Attributes.Name("Script-Signature");
+
+    /**
+     * Names of the directories created by {@link #versionName(String)}; nothing
+     * else in the cache directory is deleted.
+     */
+    private static final Pattern VERSION_DIRECTORY = Pattern.compile("groovy-.+-java-\\d+(-[0-9a-f]{16})?");
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    /**
+     * Directory of the current Groovy and Java versions, or {@code null} when nothing is persisted.
+     */
+    private final Path versionDirectory;
+
+    /**
+     * Digest of the application version and the sandbox rules; part of every cache key.
+     */
+    private final String buildDigest;
+
+    /**
+     * Key of the jar signatures, or {@code null} when nothing is persisted.
+     */
+    private final SecretKeySpec signingKey;
+
+    private final int maxEntries;
+
+    /**
+     * Access-ordered map used as LRU store. Guarded by its own monitor.
+     */
+    private final Map<String, Class<? extends Script>> classes;
+
+    /**
+     * Creates the cache with the configured limits.
+     *
+     * @param directory          directory where bytecode is persisted; blank keeps it in memory only
+     * @param maxEntries         maximum number of script classes kept in memory and loaded on startup
+     * @param signingKey         key of the jar signatures; blank uses a key file in {@code directory}
+     * @param applicationVersion version of the application, part of the cache key
+     */
+    public GroovyClassCacheService(
+            @Value("${groovy.class-cache.directory:}") String directory,
+            @Value("${groovy.class-cache.max-entries:500}") int maxEntries,
+            @Value("${groovy.class-cache.signing-key:}") String signingKey,
+            @Value("${spring.application.version:}") String applicationVersion
+    ) {
+        this.buildDigest = hash(applicationVersion + '\n' + ScriptSandboxRules.describe());
+        Path root = directory == null || directory.isBlank() ? null : Path.of(directory);
+        this.signingKey = root != null ? signingKey(root, signingKey) : null;
+        this.versionDirectory = this.signingKey != null ? root.resolve(versionName(buildDigest)) : null;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.classes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Class<? extends Script>> eldest) {
+                return size() > GroovyClassCacheService.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled class of a script from memory, from disk or by
+     * compiling it, in that order.
+     *
+     * @param source           the Groovy script source
+     * @param configuration    compiler configuration used when the script must be compiled
+     * @param configurationKey identifies the configuration; part of the cache key
+     * @return the script class
+     */
+    @Override
+    public Class<? extends Script> scriptClass(
+            String source,
+            CompilerConfiguration configuration,
+            String configurationKey
+    ) {
+        String hash = hash(buildDigest + '\n' + configurationKey + '\n' + source);
+        synchronized (classes) {
+            Class<? extends Script> cached = classes.get(hash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Class<? extends Script> scriptClass = versionDirectory != null ? read(hash) : null;
+        if (scriptClass == null) {
+            scriptClass = compile(hash, source, configuration);
+        }
+        synchronized (classes) {
+            classes.putIfAbsent(hash, scriptClass);
+            return classes.get(hash);
+        }
+    }
+
+    /**
+     * Loads the persisted classes during context startup, so it completes
+     * before the readiness probe succeeds.
+     */
+    @PostConstruct
+    public void loadOnStartup() {
+        preload();
+    }
+
+    /**
+     * Loads the newest persisted classes of the current build and removes the
+     * directories of other builds.
+     *
+     * @return number of scripts loaded
+     */
+    @Override
+    public int preload() {
+        if (versionDirectory == null || !Files.isDirectory(versionDirectory.getParent())) {
+            return 0;
+        }
+
+        removeOtherVersions();
+        if (!Files.isDirectory(versionDirectory)) {
+            return 0;
+        }
+
+        List<Path> jars;
+        try (Stream<Path> files = Files.list(versionDirectory)) {
+            jars = files.filter(file -> file.getFileName().toString().endsWith(JAR_SUFFIX))
+                    .sorted(Comparator.comparingLong(GroovyClassCacheService::lastModified).reversed())
+                    .limit(maxEntries)
+                    .toList();
+        } catch (IOException e) {
+            log.warn(Constants.LOG_GROOVY_CLASS_CACHE_ERROR, versionDirectory, e.getMessage());
+            return 0;
+        }
+
+        int loaded = 0;
+        for (Path jar : jars) {
+            String fileName = jar.getFileName().toString();
+            String hash = fileName.substring(0, fileName.length() - JAR_SUFFIX.length());
+            Class<? extends Script> scriptClass = read(hash);
+            if (scriptClass != null) {
+                synchronized (classes) {
+                    classes.putIfAbsent(hash, scriptClass);
+                }
+                loaded++;
+            }
+        }
+        log.info(Constants.LOG_GROOVY_CLASS_CACHE_LOADED, loaded, versionDirectory);
+        return loaded;
+    }
+
+    /**
+     * Compiles a script to bytecode, defines it in its own class loader and
+     * persists it when a directory is configured.
+     */
+    private Class<? extends Script> compile(String hash, String source, CompilerConfiguration configuration) {
+        String className = className(hash);
+        CompilationUnit unit = new CompilationUnit(configuration, null, newClassLoader(Map.of()));
+        unit.addSource(className + ".groovy", source);
+        unit.compile(Phases.CLASS_GENERATION);
+
+        Map<String, byte[]> bytecode = new HashMap<>();
+        for (GroovyClass compiled : unit.getClasses()) {
+            bytecode.put(compiled.getName(), compiled.getBytes());
+        }
+
+        if (versionDirectory != null) {
+            write(hash, className, bytecode);
+        }
+        return define(className, bytecode);
+    }
+
+    /**
+     * Reads a persisted script, or returns {@code null} and deletes the jar if
+     * it is missing, unreadable or its signature does not match the bytecode.
+     */
+    private Class<? extends Script> read(String hash) {
+        Path jar = versionDirectory.resolve(hash + JAR_SUFFIX);
+        if (!Files.isRegularFile(jar)) {
+            return null;
+        }
+
+        try (JarInputStream in = new JarInputStream(Files.newInputStream(jar))) {
+            Manifest manifest = in.getManifest();
+            String className = manifest != null
+                    ? manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS)
+                    : null;
+            Map<String, byte[]> bytecode = new HashMap<>();
+            for (JarEntry entry = in.getNextJarEntry(); entry != null; entry = in.getNextJarEntry()) {
+                String name = entry.getName();
+                if (name.endsWith(CLASS_SUFFIX)) {
+                    bytecode.put(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'),
+                            in.readAllBytes());
+                }
+            }
+            if (className == null || !bytecode.containsKey(className)) {
+                throw new IOException(Constants.ERR_GROOVY_CLASS_CACHE_ENTRY);
+            }
+            String signature = manifest.getMainAttributes().getValue(SIGNATURE);
+            if (signature == null || !MessageDigest.isEqual(
+                    HexFormat.of().parseHex(signature), sign(hash, className, bytecode))) {
+                throw new IOException(Constants.ERR_GROOVY_CLASS_CACHE_SIGNATURE);
+            }
+            return define(className, bytecode);
+        } catch (IOException | LinkageError | ClassCastException | IllegalArgumentException e) {
+            log.warn(Constants.LOG_GROOVY_CLASS_CACHE_ERROR, jar, e.getMessage());
+            delete(jar);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the bytecode of a script as a jar, through a temporary file so
+     * other nodes sharing the directory never read a partial jar.
+     */
+    private void write(String hash, String className, Map<String, byte[]> bytecode) {
+        Path jar = versionDirectory.resolve(hash + JAR_SUFFIX);
+        Path temporary = null;
+        try {
+            Files.createDirectories(versionDirectory);
+            temporary = Files.createTempFile(versionDirectory, hash, ".tmp");
+
+            Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, className);
+            manifest.getMainAttributes().put(SIGNATURE, HexFormat.of().formatHex(sign(hash, className, bytecode)));
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 JarOutputStream out = new JarOutputStream(file, manifest)) {
+                for (Map.Entry<String, byte[]> entry : bytecode.entrySet()) {
+                    out.putNextEntry(new JarEntry(entry.getKey().replace('.', '/') + CLASS_SUFFIX));
+                    out.write(entry.getValue());
+                    out.closeEntry();
+                }
+            }
+            Files.move(temporary, jar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn(Constants.LOG_GROOVY_CLASS_CACHE_ERROR, jar, e.getMessage());
+            if (temporary != null) {
+                delete(temporary);
+            }
+        }
+    }
+
+    /**
+     * Defines the classes of one script in a dedicated class loader and
+     * returns its script class.
+     */
+    private Class<? extends Script> define(String className, Map<String, byte[]> bytecode) {
+        try {
+            return newClassLoader(bytecode).loadClass(className).asSubclass(Script.class);
+        } catch (ClassNotFoundException e) {
+            throw new NoClassDefFoundError(className);
+        }
+    }
+
+    /**
+     * Deletes the directories of other builds. Only directories named like
+     * {@link #versionName(String)} are touched, whatever else the cache
+     * directory contains.
+     */
+    private void removeOtherVersions() {
+        try (Stream<Path> directories = Files.list(versionDirectory.getParent())) {
+            directories.filter(Files::isDirectory)
+                    .filter(directory -> VERSION_DIRECTORY.matcher(directory.getFileName().toString()).matches())
+                    .filter(directory -> !directory.equals(versionDirectory))
+                    .forEach(directory -> {
+                        try {
+                            FileSystemUtils.deleteRecursively(directory);
+                        } catch (IOException e) {
+                            log.warn(Constants.LOG_GROOVY_CLASS_CACHE_ERROR, directory, e.getMessage());
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn(Constants.LOG_GROOVY_CLASS_CACHE_ERROR, versionDirectory.getParent(), e.getMessage());
+        }
+    }
+
+    private static GroovyClassLoader newClassLoader(Map<String, byte[]> bytecode) {
+        return new ScriptClassLoader(GroovyClassCacheService.class.getClassLoader(), bytecode);
+    }
+
+    private static String className(String hash) {
+        return "Script_" + hash;
+    }
+
+    /**
+     * Signs the bytecode of a script, bound to its cache key and class name.
+     */
+    private byte[] sign(String hash, String className, Map<String, byte[]> bytecode) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signingKey);
+            update(mac, hash.getBytes(StandardCharsets.UTF_8));
+            update(mac, className.getBytes(StandardCharsets.UTF_8));
+            for (String name : new TreeSet<>(bytecode.keySet())) {
+                update(mac, name.getBytes(StandardCharsets.UTF_8));
+                update(mac, bytecode.get(name));
+            }
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(Constants.ERR_GROOVY_CLASS_CACHE_HASH, e);
+        }
+    }
+
+    /**
+     * Adds a length-prefixed value to a MAC, so values cannot be shifted
+     * between entries.
+     */
+    private static void update(Mac mac, byte[] value) {
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(value.length).array());
+        mac.update(value);
+    }
+
+    /**
+     * Returns the signing key: the configured one or the key file of the
+     * cache directory, created with owner-only permissions when missing.
+     * Returns {@code null}, so nothing is persisted, when no key is available.
+     */
+    private static SecretKeySpec signingKey(Path root, String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return new SecretKeySpec(configured.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        }
+        Path keyFile = root.resolve(KEY_FILE);
+        try {
+            createPrivateDirectory(root);
+            if (!Files.exists(keyFile)) {
+                byte[] key = new byte[KEY_BYTES];
+                new SecureRandom().nextBytes(key);
+                writeNewPrivateFile(keyFile, key);
+            }
+            byte[] key = Files.readAllBytes(keyFile);
+            if (key.length < KEY_BYTES) {
+                throw new IOException(Constants.ERR_GROOVY_CLASS_CACHE_KEY);
+            }
+            return new SecretKeySpec(key, MAC_ALGORITHM);
+        } catch (IOException e) {
+            log.warn(Constants.LOG_GROOVY_CLASS_CACHE_DISABLED, keyFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void createPrivateDirectory(Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (isPosix(directory.getParent() != null ? directory.getParent() : directory)) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Creates a new owner-only file; when another node created it first, its
+     * content is kept.
+     */
+    private static void writeNewPrivateFile(Path file, byte[] content) throws IOException {
+        Set<StandardOpenOption> options = Set.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try (SeekableByteChannel channel = isPosix(file.getParent())
+                ? Files.newByteChannel(file, options, PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE))
+                : Files.newByteChannel(file, options)) {
+            channel.write(ByteBuffer.wrap(content));
+        } catch (FileAlreadyExistsException e) {
+            // created by another node sharing the directory
+        }
+    }
+
+    private static boolean isPosix(Path path) {
+        Path existing = path;
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        return existing != null
+                && Files.getFileAttributeView(existing, PosixFileAttributeView.class) != null;
+    }
+
+    /**
+     * Directory name for the running Groovy and Java versions and build;
+     * bytecode of other builds is never loaded.
+     */
+    private static String versionName(String buildDigest) {
+        return "groovy-" + GroovySystem.getVersion() + "-java-" + Runtime.version().feature()
+                + "-" + buildDigest.substring(0, 16);
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(Constants.ERR_GROOVY_CLASS_CACHE_HASH, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn(Constants.LOG_GROOVY_CLASS_CACHE_ERROR, file, e.getMessage());
+        }
+    }
+
+    /**
+     * Class loader of one script: defines its classes (script, closures and
+     * inner classes) on demand from their bytecode.
+     */
+    private static final class ScriptClassLoader extends GroovyClassLoader {
+
+        private final Map<String, byte[]> bytecode;
+
+        ScriptClassLoader(ClassLoader parent, Map<String, byte[]> bytecode) {
+            super(parent);
+            this.bytecode = bytecode;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = bytecode.get(name);
+            if (bytes == null) {
+                return super.findClass(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
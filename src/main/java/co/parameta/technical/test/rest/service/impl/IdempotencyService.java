@@ -0,0 +1,330 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.commons.service.IJwtService;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
+import co.parameta.technical.test.rest.dto.IdempotencyRecordDTO;
+import co.parameta.technical.test.rest.repository.IdempotencyKeyRepository;
+import co.parameta.technical.test.rest.service.IIdempotencyService;
+import co.parameta.technical.test.rest.util.constant.Constants;
+import jakarta.mail.MessagingException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service implementation of idempotent registrations.
+ * <p>
+ * Every key is tracked in a bounded, access-ordered map
+ * ({@code idempotency.max-entries}) holding a future of its response: the first
+ * request completes it and repeats wait on it for at most
+ * {@code idempotency.wait-timeout-millis}. A 2xx response is replayed for
+ * {@code idempotency.ttl-millis}. A failed request, or one answered with
+ * another status (a rejected validation, a SOAP error), is forgotten once its
+ * concurrent repeats have received it, so the key can be retried after the
+ * cause is fixed. Only completed keys are evicted: a key whose first request is still
+ * running stays in the map, which may then briefly exceed its bound.
+ * </p>
+ * <p>
+ * With {@code idempotency.database.enabled=true} the first request of a key
+ * also claims it in the {@code idempotency_key} table, so repeats that reach
+ * another node, or this node after a restart, replay the stored response or
+ * wait for the node that claimed it. The claim is held for
+ * {@code idempotency.database.lease-millis}, which must be longer than the
+ * slowest registration; after it a crashed node's claim can be taken again.
+ * </p>
+ */
+@Log4j2
+@Service
+public class IdempotencyService implements IIdempotencyService {
+
+    /**
+     * Longest accepted key, as in the IETF Idempotency-Key draft.
+     */
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * Interval between reads of a key claimed by another node.
+     */
+    private static final long POLL_MILLIS = 100;
+
+    private final IJwtService iJwtService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    /**
+     * Time a response is replayed.
+     */
+    private final long ttlMillis;
+
+    /**
+     * Maximum time a repeat waits for the request in progress.
+     */
+    private final long waitTimeoutMillis;
+
+    /**
+     * Whether keys are also claimed and stored in the database.
+     */
+    private final boolean databaseEnabled;
+
+    /**
+     * Time a database claim of a request in progress is held.
+     */
+    private final long leaseMillis;
+
+    /**
+     * Access-ordered map used as LRU store, keyed by key hash. Guarded by its own monitor.
+     */
+    private final Map<String, KeyEntry> entries;
+
+    /**
+     * Creates the service with the configured limits.
+     *
+     * @param iJwtService              service used to read the calling user
+     * @param idempotencyKeyRepository repository of the shared table
+     * @param ttlMillis                time a response is replayed
+     * @param maxEntries               maximum number of keys kept in memory
+     * @param waitTimeoutMillis        maximum time a repeat waits for the request in progress
+     * @param databaseEnabled          whether keys are also stored in the database
+     * @param leaseMillis              time a database claim of a request in progress is held
+     */
+    public IdempotencyService(
+            IJwtService iJwtService,
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            @Value("${idempotency.ttl-millis:86400000}") long ttlMillis,
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.wait-timeout-millis:30000}") long waitTimeoutMillis,
+            @Value("${idempotency.database.enabled:false}") boolean databaseEnabled,
+            @Value("${idempotency.database.lease-millis:300000}") long leaseMillis
+    ) {
+        this.iJwtService = iJwtService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttlMillis = ttlMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.databaseEnabled = databaseEnabled;
+        this.leaseMillis = leaseMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            // evicts the least recently used completed keys; keys in progress are
+            // skipped, so their repeats keep waiting on the same future
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, KeyEntry> eldest) {
+                Iterator<KeyEntry> iterator = values().iterator();
+                while (size() > maxEntries && iterator.hasNext()) {
+                    if (iterator.next().response.isDone()) {
+                        iterator.remove();
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Runs the operation for the first request of a key and replays its
+     * response for the others.
+     *
+     * @param idempotencyKey the client key
+     * @param request        canonical form of the request
+     * @param operation      the operation to run the first time
+     * @return the response of the first request with the key
+     * @throws MessagingException if email delivery fails
+     */
+    @Override
+    public ResponseGeneralDTO execute(String idempotencyKey, String request, Operation operation)
+            throws MessagingException {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new MensajePersonalizadoException(String.format(Constants.ERR_IDEMPOTENCY_KEY_INVALID, MAX_KEY_LENGTH));
+        }
+        String keyHash = hash(iJwtService.getCodeFromToken(iJwtService.getTokenFromHeader()) + '\n' + idempotencyKey);
+        String requestHash = hash(request);
+
+        KeyEntry entry;
+        boolean first;
+        synchronized (entries) {
+            entry = entries.get(keyHash);
+            if (entry != null && entry.isExpired()) {
+                entries.remove(keyHash);
+                entry = null;
+            }
+            first = entry == null;
+            if (first) {
+                entry = new KeyEntry(requestHash);
+                entries.put(keyHash, entry);
+            }
+        }
+
+        if (!entry.requestHash.equals(requestHash)) {
+            throw new MensajePersonalizadoException(Constants.ERR_IDEMPOTENCY_KEY_REUSED);
+        }
+        if (!first) {
+            log.info(Constants.LOG_IDEMPOTENCY_REPLAY, keyHash);
+            return await(entry);
+        }
+        return runFirst(keyHash, requestHash, entry, operation);
+    }
+
+    /**
+     * Runs the operation, or takes the response stored by another node, and
+     * completes the entry with it.
+     */
+    private ResponseGeneralDTO runFirst(String keyHash, String requestHash, KeyEntry entry, Operation operation)
+            throws MessagingException {
+        boolean claimed = false;
+        try {
+            ResponseGeneralDTO response = databaseEnabled ? claim(keyHash, requestHash) : null;
+            if (response != null) {
+                log.info(Constants.LOG_IDEMPOTENCY_REPLAY, keyHash);
+            } else {
+                claimed = databaseEnabled;
+                response = operation.run();
+                if (!isSuccessful(response)) {
+                    forget(keyHash, entry, claimed);
+                    entry.response.complete(response);
+                    return response;
+                }
+                if (claimed) {
+                    store(keyHash, response);
+                }
+            }
+            entry.expiresAtMillis = System.currentTimeMillis() + ttlMillis;
+            entry.response.complete(response);
+            return response;
+        } catch (MessagingException | RuntimeException e) {
+            forget(keyHash, entry, claimed);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the key of a request whose outcome is not replayed, so the
+     * next request with it runs again.
+     */
+    private void forget(String keyHash, KeyEntry entry, boolean claimed) {
+        synchronized (entries) {
+            entries.remove(keyHash, entry);
+        }
+        if (claimed) {
+            idempotencyKeyRepository.release(keyHash);
+        }
+    }
+
+    /**
+     * Whether the response has a 2xx status and is therefore replayed.
+     */
+    private static boolean isSuccessful(ResponseGeneralDTO response) {
+        return response != null && HttpStatusCode.valueOf(response.getStatus()).is2xxSuccessful();
+    }
+
+    /**
+     * Claims the key in the database, or waits for the node that claimed it.
+     *
+     * @return the stored response, or {@code null} if this request claimed the key
+     */
+    private ResponseGeneralDTO claim(String keyHash, String requestHash) {
+        long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+        while (true) {
+            if (idempotencyKeyRepository.insertPending(keyHash, requestHash,
+                    System.currentTimeMillis() + leaseMillis)) {
+                return null;
+            }
+            IdempotencyRecordDTO record = idempotencyKeyRepository.find(keyHash);
+            if (record != null) {
+                if (!record.getRequestHash().equals(requestHash)) {
+                    throw new MensajePersonalizadoException(Constants.ERR_IDEMPOTENCY_KEY_REUSED);
+                }
+                if (record.getResponse() != null) {
+                    return record.getResponse();
+                }
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new MensajePersonalizadoException(Constants.ERR_IDEMPOTENCY_KEY_IN_PROGRESS);
+            }
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MensajePersonalizadoException(Constants.ERR_IDEMPOTENCY_KEY_IN_PROGRESS, e);
+            }
+        }
+    }
+
+    /**
+     * Stores the response in the database. A failure only loses the
+     * cross-node replay; the response is still returned and kept in memory.
+     */
+    private void store(String keyHash, ResponseGeneralDTO response) {
+        try {
+            idempotencyKeyRepository.complete(keyHash, response, System.currentTimeMillis() + ttlMillis);
+        } catch (RuntimeException e) {
+            log.warn(Constants.LOG_IDEMPOTENCY_STORE_ERROR, keyHash, e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for the response of the first request of a key.
+     */
+    private ResponseGeneralDTO await(KeyEntry entry) throws MessagingException {
+        try {
+            return entry.response.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new MensajePersonalizadoException(Constants.ERR_IDEMPOTENCY_KEY_IN_PROGRESS, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MensajePersonalizadoException(Constants.ERR_IDEMPOTENCY_KEY_IN_PROGRESS, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MessagingException messagingException) {
+                throw messagingException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new MensajePersonalizadoException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(Constants.ERR_IDEMPOTENCY_KEY_HASH, e);
+        }
+    }
+
+    /**
+     * In-memory state of a key.
+     */
+    private static final class KeyEntry {
+
+        private final String requestHash;
+
+        private final CompletableFuture<ResponseGeneralDTO> response = new CompletableFuture<>();
+
+        /**
+         * Instant (epoch millis) after which the response is no longer replayed;
+         * unbounded while the first request is in progress.
+         */
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+
+        private KeyEntry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.rest.service.IJwtClaimsService;
+import co.parameta.technical.test.rest.util.jfr.JwtVerificationEvent;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+
+/**
+ * Service implementation responsible for verifying JWT tokens.
+ * <p>
+ * The HMAC {@link SecretKey} and the {@link JwtParser} are built once when the
+ * bean is created, instead of decoding the secret and creating a new parser on
+ * every request. {@link JwtParser} instances are immutable and thread-safe, so
+ * the same parser is shared by all requests.
+ * </p>
+ */
+@Service
+public class JwtClaimsService implements IJwtClaimsService {
+
+    /**
+     * Parser configured with the application signing key.
+     */
+    private final JwtParser jwtParser;
+
+    /**
+     * Creates the service decoding the configured secret only once.
+     *
+     * @param secretKey base64url encoded secret used to validate JWT signatures
+     */
+    public JwtClaimsService(@Value("${jwt.secret}") String secretKey) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+    }
+
+    /**
+     * Verifies the token signature and returns its claims.
+     *
+     * @param jwt the compact JWT
+     * @return the verified {@link Claims}
+     */
+    @Override
+    public Claims parseClaims(String jwt) {
+        JwtVerificationEvent event = JwtVerificationEvent.start();
+        boolean valid = false;
+        try {
+            Claims claims = jwtParser.parseSignedClaims(jwt).getPayload();
+            valid = true;
+            return claims;
+        } finally {
+            JwtVerificationEvent.finish(event, valid);
+        }
+    }
+
+    /**
+     * Returns the user code stored as the token subject.
+     *
+     * @param claims verified token claims
+     * @return the user code
+     */
+    @Override
+    public String getCode(Claims claims) {
+        return claims.getSubject();
+    }
+
+    /**
+     * Calculates the remaining validity time of the token.
+     *
+     * @param claims verified token claims
+     * @return remaining time in milliseconds, never negative
+     */
+    @Override
+    public long getTimeRemainingMillis(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return 0L;
+        }
+        return Math.max(0L, expiration.getTime() - System.currentTimeMillis());
+    }
+}
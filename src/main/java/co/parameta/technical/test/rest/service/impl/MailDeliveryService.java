@@ -1,6 +1,9 @@
 package co.parameta.technical.test.rest.service.impl;
 
 import co.parameta.technical.test.rest.service.IMailDeliveryService;
+import co.parameta.technical.test.rest.util.jfr.MailSendEvent;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,9 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.MAIL_SEND;
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.TAG_ATTACHMENT;
+
 /**
  * Service implementation responsible for sending emails with optional
  * HTML content, attachments, CC and BCC recipients.
@@ -40,6 +46,11 @@ public class MailDeliveryService implements IMailDeliveryService {
      */
     private final JavaMailSender mailSender;
 
+    /**
+     * Registry used to time each delivery.
+     */
+    private final ObservationRegistry observationRegistry;
+
     /**
      * Sends an email with HTML content and optional attachment.
      *
@@ -97,6 +108,16 @@ public class MailDeliveryService implements IMailDeliveryService {
             );
         }
 
-        mailSender.send(message);
+        MailSendEvent event = MailSendEvent.start(
+                1 + (cc != null ? cc.size() : 0) + (bcc != null ? bcc.size() : 0),
+                fileBytes != null ? fileBytes.length : 0
+        );
+        try {
+            Observation.createNotStarted(MAIL_SEND, observationRegistry)
+                    .lowCardinalityKeyValue(TAG_ATTACHMENT, String.valueOf(fileBytes != null && fileBytes.length > 0))
+                    .observe(() -> mailSender.send(message));
+        } finally {
+            MailSendEvent.finish(event);
+        }
     }
 }
@@ -0,0 +1,82 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.rest.service.IPasswordVerificationService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation that verifies passwords with the application
+ * {@link PasswordEncoder}.
+ * <p>
+ * Every hash format supported by the application encoder (plain BCrypt,
+ * {@code {bcrypt}}-prefixed or delegating hashes) is accepted. The hashing
+ * cost is the one of the application encoder: hashes created with a lower
+ * cost are reported by {@link #upgradeEncoding(String)} and re-encoded on the
+ * next successful login. Unknown users are verified against a dummy hash
+ * encoded by the same encoder, so they pay the same cost as existing users.
+ * </p>
+ */
+@Service
+public class PasswordVerificationService implements IPasswordVerificationService {
+
+    /**
+     * Password encoder of the application.
+     */
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Hash verified when the user does not exist, to keep timing uniform.
+     */
+    private final String dummyHash;
+
+    /**
+     * Creates the service on top of the application encoder.
+     *
+     * @param passwordEncoder password encoder of the application
+     */
+    public PasswordVerificationService(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        this.dummyHash = passwordEncoder.encode("dummy-password");
+    }
+
+    /**
+     * Checks whether a raw password matches a stored hash.
+     *
+     * @param rawPassword     password provided by the user
+     * @param encodedPassword stored password hash (optional)
+     * @return {@code true} if the password matches
+     */
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null) {
+            return false;
+        }
+        if (encodedPassword == null || encodedPassword.isBlank()) {
+            passwordEncoder.matches(rawPassword, dummyHash);
+            return false;
+        }
+        return passwordEncoder.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * Checks whether a stored hash should be encoded again.
+     *
+     * @param encodedPassword stored password hash
+     * @return {@code true} if the hash uses an outdated format or cost
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes a raw password with the application encoder.
+     *
+     * @param rawPassword password to hash
+     * @return the encoded password
+     */
+    @Override
+    public String encode(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+}
@@ -7,7 +7,10 @@ import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
 import co.parameta.technical.test.rest.repository.ScriptValidationRepository;
 import co.parameta.technical.test.rest.repository.SystemParameterRepository;
 import co.parameta.technical.test.rest.service.*;
+import co.parameta.technical.test.rest.util.constant.Constants;
 import co.parameta.technical.test.rest.util.helper.GeneralRestUtil;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
@@ -16,6 +19,8 @@ import org.springframework.stereotype.Service;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.EMPLOYEE_MAIL_PIPELINE;
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.TAG_REPORT_TYPE;
 import static co.parameta.technical.test.rest.util.helper.GeneralRestUtil.*;
 
 /**
@@ -79,6 +84,11 @@ public class PrepareMailDeliveryService implements IPrepareMailDeliveryService {
 
     private final ScriptValidationMapper scriptValidationMapper;
 
+    /**
+     * Registry used to time the whole notification pipeline.
+     */
+    private final ObservationRegistry observationRegistry;
+
     /**
      * Prepares and sends the notification email for an employee.
      * <p>
@@ -108,6 +118,20 @@ public class PrepareMailDeliveryService implements IPrepareMailDeliveryService {
     @Override
     @Async
     public void prepareMailDelivery(EmployeeRequestDTO employeeRequest, boolean isUpdate) throws MessagingException {
+        Observation.createNotStarted(EMPLOYEE_MAIL_PIPELINE, observationRegistry)
+                .lowCardinalityKeyValue(TAG_REPORT_TYPE, isUpdate ? "update" : "create")
+                .observeChecked(() -> deliver(employeeRequest, isUpdate));
+    }
+
+    /**
+     * Loads the email parameters, optionally generates and uploads the PDF
+     * report, and sends the email.
+     *
+     * @param employeeRequest the employee information used for report generation and email delivery
+     * @param isUpdate        whether the employee was updated instead of created
+     * @throws MessagingException if an error occurs while building or sending the email message
+     */
+    private void deliver(EmployeeRequestDTO employeeRequest, boolean isUpdate) throws MessagingException {
         Map<String, String> parameters;
         boolean isUpdateWithParam = systemParameterMapper.toDto(systemParameterRepository.findByName("UPDATE_INFORMATION")).getContent().equals("1") && isUpdate;
         boolean isSendAttachment;
@@ -137,7 +161,7 @@ public class PrepareMailDeliveryService implements IPrepareMailDeliveryService {
             isSendAttachment =parameters.get("EMAIL_SEND_ATTACHMENT_UPDATE").equals("1");
             subject = parameters.get("EMAIL_SUBJECT_UPDATE");
             extraValues.put("contentEmail", parameters.get("EMAIL_CONTENT_UPDATE"));
-            content = iGroovieScriptExecutorService.runScript(employeeRequest,extraValues, List.of(scriptValidationMapper.toDto(scriptValidationRepository.findByCode("CAST_CONTENT_EMAIL_UPDATE"))));
+            content = iGroovieScriptExecutorService.runScript(employeeRequest,extraValues, List.of(scriptValidationMapper.toDto(scriptValidationRepository.findByCode(Constants.SCRIPT_CAST_CONTENT_EMAIL_UPDATE))));
             emailCopy = emailsToSend(parameters.get("EMAIL_COPY_UPDATE"), parameters.get("SEND_EMAIL_WITH_COPY_UPDATE"));
             blindCopyEmails = emailsToSend(parameters.get("BLIND_COPY_EMAILS_UPDATE"), parameters.get("SEND_EMAIL_WITH_BLIND_COPY_UPDATE"));
         }else{
@@ -160,7 +184,7 @@ public class PrepareMailDeliveryService implements IPrepareMailDeliveryService {
             isSendAttachment =parameters.get("EMAIL_SEND_ATTACHMENT").equals("1");
             subject = parameters.get("EMAIL_SUBJECT");
             extraValues.put("contentEmail", parameters.get("EMAIL_CONTENT"));
-            content = iGroovieScriptExecutorService.runScript(employeeRequest,extraValues, List.of(scriptValidationMapper.toDto(scriptValidationRepository.findByCode("CAST_CONTENT_EMAIL"))));
+            content = iGroovieScriptExecutorService.runScript(employeeRequest,extraValues, List.of(scriptValidationMapper.toDto(scriptValidationRepository.findByCode(Constants.SCRIPT_CAST_CONTENT_EMAIL))));
             emailCopy = emailsToSend(parameters.get("EMAIL_COPY"), parameters.get("SEND_EMAIL_WITH_COPY"));
             blindCopyEmails = emailsToSend(parameters.get("BLIND_COPY_EMAILS"), parameters.get("SEND_EMAIL_WITH_BLIND_COPY"));
         }
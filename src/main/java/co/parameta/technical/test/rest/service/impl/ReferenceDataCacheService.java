@@ -0,0 +1,254 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.commons.entity.PositionEntity;
+import co.parameta.technical.test.commons.entity.TypeDocumentEntity;
+import co.parameta.technical.test.rest.repository.PositionRepository;
+import co.parameta.technical.test.rest.repository.TypeDocumentRepository;
+import co.parameta.technical.test.rest.service.IReferenceDataCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Service implementation of the reference data cache.
+ * <p>
+ * The {@code type_document} and {@code position} tables are loaded on first
+ * use and kept as immutable snapshots. A snapshot is reloaded once it is older
+ * than {@code reference.cache.ttl-millis}; a non-positive value disables
+ * caching and reloads on every call. A lookup that finds nothing reloads the
+ * table once, at most every {@code reference.cache.miss-reload-millis}, so a
+ * document type or position added since the last load is found right away.
+ * </p>
+ */
+@Service
+public class ReferenceDataCacheService implements IReferenceDataCacheService {
+
+    private final TypeDocumentRepository typeDocumentRepository;
+    private final PositionRepository positionRepository;
+
+    /**
+     * Maximum age of a snapshot in milliseconds.
+     */
+    private final long ttlMillis;
+
+    /**
+     * Serializes reloads. A lock rather than {@code synchronized}, so a virtual
+     * thread waiting on the query does not pin its carrier thread.
+     */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * Current document type snapshot, replaced atomically on reload.
+     */
+    private volatile CodeSnapshot typeDocuments;
+
+    /**
+     * Current position snapshot, replaced atomically on reload.
+     */
+    private volatile CodeSnapshot positions;
+
+    /**
+     * Minimum age in milliseconds of a snapshot reloaded because a lookup missed.
+     */
+    private final long missReloadMillis;
+
+    /**
+     * Creates the cache with the configured lifetime.
+     *
+     * @param typeDocumentRepository repository used to load document types
+     * @param positionRepository     repository used to load positions
+     * @param ttlMillis              maximum age of a snapshot in milliseconds
+     * @param missReloadMillis       minimum age of a snapshot reloaded on a lookup miss
+     */
+    public ReferenceDataCacheService(
+            TypeDocumentRepository typeDocumentRepository,
+            PositionRepository positionRepository,
+            @Value("${reference.cache.ttl-millis:600000}") long ttlMillis,
+            @Value("${reference.cache.miss-reload-millis:1000}") long missReloadMillis
+    ) {
+        this.typeDocumentRepository = typeDocumentRepository;
+        this.positionRepository = positionRepository;
+        this.ttlMillis = ttlMillis;
+        this.missReloadMillis = missReloadMillis;
+    }
+
+    /**
+     * Resolves a document type code or description to its code.
+     *
+     * @param typeDocument the document type code or description
+     * @return the document type code, or {@code null} if it does not exist
+     */
+    @Override
+    public String resolveTypeDocumentCode(String typeDocument) {
+        if (typeDocument == null) {
+            return null;
+        }
+        return resolve(typeDocument, () -> typeDocuments, snapshot -> typeDocuments = snapshot,
+                () -> load(typeDocumentRepository::findAll,
+                        TypeDocumentEntity::getCode, TypeDocumentEntity::getDescription));
+    }
+
+    /**
+     * Resolves a position code or description to its code.
+     *
+     * @param position the position code or description
+     * @return the position code, or {@code null} if it does not exist
+     */
+    @Override
+    public String resolvePositionCode(String position) {
+        if (position == null) {
+            return null;
+        }
+        return resolve(position, () -> positions, snapshot -> positions = snapshot,
+                () -> load(positionRepository::findAll,
+                        PositionEntity::getCode, PositionEntity::getDescription));
+    }
+
+    /**
+     * Resolves a value against a snapshot, loading it when expired. A value
+     * that is not found reloads the table once, so rows added since the last
+     * load resolve without waiting for the lifetime; a snapshot younger than
+     * {@code reference.cache.miss-reload-millis} is not reloaded, so repeated
+     * unknown values cost at most one query per interval.
+     *
+     * @param value   code or description
+     * @param current reads the current snapshot
+     * @param store   replaces the current snapshot
+     * @param loader  loads a new snapshot
+     * @return the code, or {@code null} if it does not exist
+     */
+    private String resolve(
+            String value,
+            Supplier<CodeSnapshot> current,
+            Consumer<CodeSnapshot> store,
+            Supplier<CodeSnapshot> loader
+    ) {
+        CodeSnapshot snapshot = current.get();
+        if (isExpired(snapshot)) {
+            snapshot = reload(current, store, loader, this::isExpired);
+        }
+        String code = snapshot.resolve(value);
+        if (code == null && mayReloadOnMiss(snapshot)) {
+            code = reload(current, store, loader, this::mayReloadOnMiss).resolve(value);
+        }
+        return code;
+    }
+
+    /**
+     * Replaces the current snapshot under the reload lock, unless another
+     * thread already did while this one waited.
+     *
+     * @param current reads the current snapshot
+     * @param store   replaces the current snapshot
+     * @param loader  loads a new snapshot
+     * @param stale   whether the current snapshot must still be replaced
+     * @return the snapshot to use
+     */
+    private CodeSnapshot reload(
+            Supplier<CodeSnapshot> current,
+            Consumer<CodeSnapshot> store,
+            Supplier<CodeSnapshot> loader,
+            Predicate<CodeSnapshot> stale
+    ) {
+        reloadLock.lock();
+        try {
+            CodeSnapshot snapshot = current.get();
+            if (stale.test(snapshot)) {
+                snapshot = loader.get();
+                store.accept(snapshot);
+            }
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether a snapshot must be (re)loaded.
+     *
+     * @param snapshot the current snapshot, possibly {@code null}
+     * @return {@code true} if absent or older than the configured lifetime
+     */
+    private boolean isExpired(CodeSnapshot snapshot) {
+        return snapshot == null || System.currentTimeMillis() - snapshot.loadedAtMillis() >= ttlMillis;
+    }
+
+    /**
+     * Checks whether a lookup miss may reload a snapshot.
+     *
+     * @param snapshot the current snapshot, possibly {@code null}
+     * @return {@code true} if absent or older than the miss reload interval
+     */
+    private boolean mayReloadOnMiss(CodeSnapshot snapshot) {
+        return snapshot == null || System.currentTimeMillis() - snapshot.loadedAtMillis() >= missReloadMillis;
+    }
+
+    /**
+     * Loads a reference table into case-insensitive lookup maps.
+     *
+     * @param rows        supplier of all the table rows
+     * @param code        code accessor
+     * @param description description accessor
+     * @param <T>         entity type
+     * @return the new snapshot
+     */
+    private <T> CodeSnapshot load(
+            Supplier<? extends Iterable<T>> rows,
+            Function<T, String> code,
+            Function<T, String> description
+    ) {
+        Map<String, String> codes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, String> codesByDescription = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (T row : rows.get()) {
+            String rowCode = code.apply(row);
+            if (rowCode == null) {
+                continue;
+            }
+            codes.put(rowCode, rowCode);
+            String rowDescription = description.apply(row);
+            if (rowDescription != null) {
+                codesByDescription.putIfAbsent(rowDescription, rowCode);
+            }
+        }
+
+        return new CodeSnapshot(
+                Collections.unmodifiableMap(codes),
+                Collections.unmodifiableMap(codesByDescription),
+                System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Immutable view of a code/description reference table.
+     *
+     * @param codes              code to code (used to normalize case)
+     * @param codesByDescription description to code
+     * @param loadedAtMillis     load timestamp in milliseconds
+     */
+    private record CodeSnapshot(
+            Map<String, String> codes,
+            Map<String, String> codesByDescription,
+            long loadedAtMillis
+    ) {
+
+        /**
+         * Resolves a code or description to its code, codes first.
+         *
+         * @param value code or description
+         * @return the code, or {@code null}
+         */
+        String resolve(String value) {
+            String code = codes.get(value);
+            return code != null ? code : codesByDescription.get(value);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.rest.dto.ReportLocationUpdateDTO;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.service.IReportLocationBufferService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static co.parameta.technical.test.rest.util.constant.Constants.*;
+
+/**
+ * Service implementation of the report location write-behind buffer.
+ * <p>
+ * Pending updates are keyed by document, so only the last location of each
+ * document is written. The buffer is flushed when it reaches
+ * {@code report.location.batch.max-size} entries, every
+ * {@code report.location.batch.flush-interval-millis} and on shutdown. Each
+ * batch is written with a single {@code UPDATE ... JOIN} statement in its own
+ * transaction. With {@code report.location.batch.enabled=false} every update
+ * is written immediately.
+ * </p>
+ * <p>
+ * When a batch fails, its updates are written one by one, so a single invalid
+ * row does not block the rest of the batch. An update that still fails is
+ * retried on the next flushes up to {@code report.location.batch.max-attempts}
+ * times and then dropped to the dead-letter log.
+ * </p>
+ * <p>
+ * The buffer lives only in memory. If the process stops without running the
+ * shutdown flush (crash, {@code kill -9}, out of memory), the keys enqueued
+ * since the last flush are lost: their reports stay in S3, but the employee
+ * rows keep their previous {@code storageLocationReport}. Up to one flush
+ * interval or one batch of keys can be lost this way. Use
+ * {@code report.location.batch.enabled=false} where that is not acceptable:
+ * each key is then written through before {@link #enqueue} returns.
+ * </p>
+ * <p>
+ * Published metrics: {@code report.location.batch.size} (entries per batch),
+ * {@code report.location.flush.lag} (age of the oldest entry of a batch when
+ * it is written), {@code report.location.pending}, {@code report.location.updated.rows},
+ * {@code report.location.flush.failures} and {@code report.location.dead.letter}.
+ * </p>
+ */
+@Log4j2
+@Service
+public class ReportLocationBufferService implements IReportLocationBufferService {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Whether updates are buffered or written immediately.
+     */
+    private final boolean enabled;
+
+    /**
+     * Number of pending updates that triggers a flush; also the maximum batch size.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Number of failed writes after which an update is dropped.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Pending updates in arrival order. Guarded by {@link #pendingLock}.
+     */
+    private Map<DocumentKey, PendingUpdate> pending = new LinkedHashMap<>();
+
+    private final Object pendingLock = new Object();
+
+    /**
+     * Serializes flushes, so a retried batch is never written after a newer one.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Set while a size-triggered flush is waiting to run.
+     */
+    private final AtomicBoolean sizeFlushRequested = new AtomicBoolean();
+
+    /**
+     * Set once the buffer is closed; later updates are written immediately.
+     */
+    private volatile boolean closed;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final DistributionSummary batchSize;
+    private final Timer flushLag;
+    private final Counter updatedRows;
+    private final Counter flushFailures;
+    private final Counter deadLetters;
+
+    /**
+     * Creates the buffer and, when enabled, schedules the periodic flush.
+     *
+     * @param employeeRepository  repository used to write the updates
+     * @param transactionManager  transaction manager used for each batch
+     * @param meterRegistry       registry where the buffer metrics are published
+     * @param enabled             whether updates are buffered
+     * @param maxBatchSize        number of pending updates that triggers a flush
+     * @param flushIntervalMillis maximum time between flushes in milliseconds
+     * @param maxAttempts         number of failed writes after which an update is dropped
+     */
+    public ReportLocationBufferService(
+            EmployeeRepository employeeRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${report.location.batch.enabled:true}") boolean enabled,
+            @Value("${report.location.batch.max-size:100}") int maxBatchSize,
+            @Value("${report.location.batch.flush-interval-millis:1000}") long flushIntervalMillis,
+            @Value("${report.location.batch.max-attempts:5}") int maxAttempts
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        this.batchSize = DistributionSummary.builder("report.location.batch.size")
+                .description("Report location updates written per batch")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("report.location.flush.lag")
+                .description("Time the oldest update of a batch waited before being written")
+                .register(meterRegistry);
+        this.updatedRows = Counter.builder("report.location.updated.rows")
+                .description("Employee rows updated by the buffer")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("report.location.flush.failures")
+                .description("Batches that could not be written")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder("report.location.dead.letter")
+                .description("Report location updates dropped after the last attempt")
+                .register(meterRegistry);
+        Gauge.builder("report.location.pending", this, ReportLocationBufferService::pendingCount)
+                .description("Report location updates waiting to be written")
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "report-location-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(
+                    this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Registers the storage location of an employee report.
+     *
+     * @param documentNumber        the employee document number
+     * @param typeDocument          the employee document type code
+     * @param storageLocationReport the S3 key of the report
+     */
+    @Override
+    public void enqueue(String documentNumber, String typeDocument, String storageLocationReport) {
+        ReportLocationUpdateDTO update =
+                new ReportLocationUpdateDTO(documentNumber, typeDocument, storageLocationReport);
+
+        if (!enabled || closed) {
+            write(List.of(new PendingUpdate(update, System.nanoTime(), 0)));
+            return;
+        }
+
+        int size;
+        synchronized (pendingLock) {
+            DocumentKey key = new DocumentKey(documentNumber, typeDocument);
+            pending.remove(key);
+            pending.put(key, new PendingUpdate(update, System.nanoTime(), 0));
+            size = pending.size();
+        }
+
+        if (size >= maxBatchSize && sizeFlushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    sizeFlushRequested.set(false);
+                    flushQuietly();
+                });
+            } catch (RejectedExecutionException e) {
+                sizeFlushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes every pending update in batches of at most {@code max-size} entries.
+     *
+     * @return number of updated employee rows
+     */
+    @Override
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<PendingUpdate> drained;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                drained = new ArrayList<>(pending.values());
+                pending = new LinkedHashMap<>();
+            }
+
+            int rows = 0;
+            for (int from = 0; from < drained.size(); from += maxBatchSize) {
+                List<PendingUpdate> batch = drained.subList(from, Math.min(from + maxBatchSize, drained.size()));
+                try {
+                    rows += write(batch);
+                } catch (RuntimeException e) {
+                    flushFailures.increment();
+                    log.error(LOG_REPORT_LOCATION_FLUSH_ERROR, batch.size(), e.getMessage());
+                    rows += batch.size() > 1 ? writeOneByOne(batch) : retryLater(batch, e);
+                }
+            }
+            return rows;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the periodic flush and writes the remaining updates.
+     */
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        int lost = pendingCount();
+        if (lost > 0) {
+            log.error(LOG_REPORT_LOCATION_LOST, lost);
+        }
+    }
+
+    /**
+     * Returns the number of updates waiting to be written.
+     *
+     * @return pending updates
+     */
+    int pendingCount() {
+        synchronized (pendingLock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Flush used by the scheduler; errors are logged so the schedule keeps running.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error(LOG_REPORT_LOCATION_FLUSH_ERROR, pendingCount(), e.getMessage());
+        }
+    }
+
+    /**
+     * Writes one batch in its own transaction and records its metrics.
+     *
+     * @param batch updates to write, oldest first
+     * @return number of updated employee rows
+     */
+    private int write(List<PendingUpdate> batch) {
+        List<ReportLocationUpdateDTO> updates = new ArrayList<>(batch.size());
+        for (PendingUpdate pendingUpdate : batch) {
+            updates.add(pendingUpdate.update());
+        }
+
+        Integer rows = transactionTemplate.execute(
+                status -> employeeRepository.updateStorageLocationReports(updates)
+        );
+        int updated = rows != null ? rows : 0;
+
+        batchSize.record(batch.size());
+        flushLag.record(System.nanoTime() - batch.get(0).enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        updatedRows.increment(updated);
+        log.debug(LOG_REPORT_LOCATION_FLUSHED, batch.size(), updated);
+        return updated;
+    }
+
+    /**
+     * Writes the updates of a failed batch one by one, each in its own transaction.
+     *
+     * @param batch updates of the failed batch
+     * @return number of updated employee rows
+     */
+    private int writeOneByOne(List<PendingUpdate> batch) {
+        int rows = 0;
+        List<PendingUpdate> failed = new ArrayList<>();
+        RuntimeException lastError = null;
+        for (PendingUpdate pendingUpdate : batch) {
+            try {
+                rows += write(List.of(pendingUpdate));
+            } catch (RuntimeException e) {
+                failed.add(pendingUpdate);
+                lastError = e;
+            }
+        }
+        if (!failed.isEmpty()) {
+            retryLater(failed, lastError);
+        }
+        return rows;
+    }
+
+    /**
+     * Counts a failed attempt of each update and puts back the ones that have
+     * attempts left; the others are written to the dead-letter log.
+     *
+     * @param failed updates that could not be written
+     * @param error  last error
+     * @return always {@code 0}, no row was updated
+     */
+    private int retryLater(List<PendingUpdate> failed, RuntimeException error) {
+        List<PendingUpdate> retry = new ArrayList<>(failed.size());
+        for (PendingUpdate pendingUpdate : failed) {
+            PendingUpdate attempted = pendingUpdate.failed();
+            if (attempted.attempts() < maxAttempts) {
+                retry.add(attempted);
+            } else {
+                ReportLocationUpdateDTO update = attempted.update();
+                deadLetters.increment();
+                log.error(LOG_REPORT_LOCATION_DEAD_LETTER, update.getDocumentNumber(), update.getTypeDocument(),
+                        update.getStorageLocationReport(), attempted.attempts(), error.getMessage());
+            }
+        }
+        requeue(retry);
+        return 0;
+    }
+
+    /**
+     * Puts failed updates back, unless a newer update for the same document arrived meanwhile.
+     *
+     * @param batch failed updates
+     */
+    private void requeue(List<PendingUpdate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        synchronized (pendingLock) {
+            Map<DocumentKey, PendingUpdate> merged = new LinkedHashMap<>();
+            for (PendingUpdate pendingUpdate : batch) {
+                ReportLocationUpdateDTO update = pendingUpdate.update();
+                merged.put(new DocumentKey(update.getDocumentNumber(), update.getTypeDocument()), pendingUpdate);
+            }
+            merged.putAll(pending);
+            pending = merged;
+        }
+    }
+
+    /**
+     * Identifies the employee of an update.
+     *
+     * @param documentNumber document number
+     * @param typeDocument   document type code
+     */
+    private record DocumentKey(String documentNumber, String typeDocument) {
+    }
+
+    /**
+     * Pending update with the time it was registered.
+     *
+     * @param update          the update
+     * @param enqueuedAtNanos {@link System#nanoTime()} when it was registered
+     * @param attempts        failed writes so far
+     */
+    private record PendingUpdate(ReportLocationUpdateDTO update, long enqueuedAtNanos, int attempts) {
+
+        private PendingUpdate failed() {
+            return new PendingUpdate(update, enqueuedAtNanos, attempts + 1);
+        }
+    }
+}
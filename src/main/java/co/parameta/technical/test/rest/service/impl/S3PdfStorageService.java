@@ -1,8 +1,10 @@
 package co.parameta.technical.test.rest.service.impl;
 
-import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.service.IReportLocationBufferService;
 import co.parameta.technical.test.rest.service.IS3PdfStorageService;
-import jakarta.transaction.Transactional;
+import co.parameta.technical.test.rest.util.jfr.S3PutEvent;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -10,18 +12,22 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.S3_PDF_PUT;
+
 /**
  * Service responsible for storing employee PDF reports in Amazon S3.
  * <p>
- * After a successful upload, the generated S3 key is persisted
- * in the employee record for later retrieval.
+ * After a successful upload, the generated S3 key is handed to the
+ * report location buffer, which persists it in the employee record
+ * in batches.
  */
 @Service
 @RequiredArgsConstructor
 public class S3PdfStorageService implements IS3PdfStorageService {
 
     private final S3Client s3;
-    private final EmployeeRepository employeeRepository;
+    private final IReportLocationBufferService iReportLocationBufferService;
+    private final ObservationRegistry observationRegistry;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -30,8 +36,8 @@ public class S3PdfStorageService implements IS3PdfStorageService {
      * Uploads an employee PDF report to S3 and associates it with the employee.
      * <p>
      * If the original filename is null or blank, a default name is used.
-     * The operation is transactional to ensure consistency between
-     * S3 storage and database update.
+     * The database update is registered only after the upload succeeds,
+     * and is written by the next flush of the report location buffer.
      *
      * @param pdfBytes        PDF content to upload
      * @param originalFilename original file name (optional)
@@ -40,7 +46,6 @@ public class S3PdfStorageService implements IS3PdfStorageService {
      * @return the generated S3 object key
      */
     @Override
-    @Transactional
     public String uploadPdf(
             byte[] pdfBytes,
             String originalFilename,
@@ -60,12 +65,15 @@ public class S3PdfStorageService implements IS3PdfStorageService {
                 .contentType("application/pdf")
                 .build();
 
-        s3.putObject(request, RequestBody.fromBytes(pdfBytes));
+        S3PutEvent event = S3PutEvent.start(bucket, key);
+        try {
+            Observation.createNotStarted(S3_PDF_PUT, observationRegistry)
+                    .observe(() -> s3.putObject(request, RequestBody.fromBytes(pdfBytes)));
+        } finally {
+            S3PutEvent.finish(event, pdfBytes.length);
+        }
 
-        employeeRepository.saveReportEmployee(
-                key,
-                employeeRepository.searchIdEmployee(documentNumber, typeDocument)
-        );
+        iReportLocationBufferService.enqueue(documentNumber, typeDocument, key);
 
         return key;
     }
@@ -0,0 +1,256 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.rest.dto.ScriptExecutionStatsDTO;
+import co.parameta.technical.test.rest.dto.ScriptProfileDTO;
+import co.parameta.technical.test.rest.dto.ScriptProfileReportDTO;
+import co.parameta.technical.test.rest.dto.SqlProfileDTO;
+import co.parameta.technical.test.rest.service.IScriptProfilerService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static co.parameta.technical.test.rest.util.constant.Constants.LOG_SCRIPT_BUDGET_EXCEEDED;
+
+/**
+ * Service implementation of the Groovy script profiler.
+ * <p>
+ * Measurements are aggregated in memory per script code and per
+ * (script code, SQL text). The number of distinct queries is capped by
+ * {@code groovy.profiler.max-queries} so scripts that build SQL dynamically
+ * cannot grow the profile without limit. With {@code groovy.profiler.enabled=false}
+ * nothing is recorded.
+ * </p>
+ */
+@Log4j2
+@Service
+public class ScriptProfilerService implements IScriptProfilerService {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final boolean enabled;
+
+    /**
+     * Script budget (compile plus execution) in milliseconds; non-positive disables the warning.
+     */
+    private final long budgetMillis;
+
+    private final int maxQueries;
+
+    private final Map<String, ScriptStats> scripts = new ConcurrentHashMap<>();
+
+    private final Map<QueryKey, QueryStats> queries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the profiler with the configured limits.
+     *
+     * @param enabled      whether measurements are recorded
+     * @param budgetMillis script budget in milliseconds
+     * @param maxQueries   maximum number of distinct queries kept
+     */
+    public ScriptProfilerService(
+            @Value("${groovy.profiler.enabled:true}") boolean enabled,
+            @Value("${groovy.profiler.script-budget-millis:200}") long budgetMillis,
+            @Value("${groovy.profiler.max-queries:1000}") int maxQueries
+    ) {
+        this.enabled = enabled;
+        this.budgetMillis = budgetMillis;
+        this.maxQueries = maxQueries;
+    }
+
+    /**
+     * Records one script execution and warns when it exceeds the time budget.
+     *
+     * @param stats measurements of the execution
+     */
+    @Override
+    public void recordScript(ScriptExecutionStatsDTO stats) {
+        if (!enabled) {
+            return;
+        }
+
+        boolean overBudget = false;
+        if (budgetMillis > 0) {
+            long totalNanos = stats.getCompileNanos() + stats.getExecuteNanos();
+            if (totalNanos > TimeUnit.MILLISECONDS.toNanos(budgetMillis)) {
+                overBudget = true;
+                log.warn(
+                        LOG_SCRIPT_BUDGET_EXCEEDED,
+                        stats.getScriptCode(),
+                        Math.round(totalNanos / NANOS_PER_MILLI),
+                        budgetMillis,
+                        Math.round(stats.getCompileNanos() / NANOS_PER_MILLI),
+                        stats.getSqlCalls(),
+                        Math.round(stats.getSqlNanos() / NANOS_PER_MILLI)
+                );
+            }
+        }
+
+        scripts.computeIfAbsent(String.valueOf(stats.getScriptCode()), code -> new ScriptStats())
+                .add(stats, overBudget);
+    }
+
+    /**
+     * Records one query run by a script.
+     *
+     * @param scriptCode code of the script
+     * @param sql        SQL text
+     * @param nanos      time spent in the query
+     * @param rows       rows returned
+     */
+    @Override
+    public void recordSql(String scriptCode, String sql, long nanos, int rows) {
+        if (!enabled) {
+            return;
+        }
+
+        QueryKey key = new QueryKey(String.valueOf(scriptCode), sql);
+        QueryStats stats = queries.get(key);
+        if (stats == null) {
+            if (queries.size() >= maxQueries) {
+                return;
+            }
+            stats = queries.computeIfAbsent(key, k -> new QueryStats());
+        }
+        stats.add(nanos, rows);
+    }
+
+    /**
+     * Returns the slowest scripts by average execution time and the slowest
+     * queries by average time.
+     *
+     * @param top maximum number of scripts and of queries
+     * @return the profile report
+     */
+    @Override
+    public ScriptProfileReportDTO report(int top) {
+        int limit = Math.max(0, top);
+
+        List<ScriptProfileDTO> slowestScripts = scripts.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble(ScriptProfileDTO::getAvgExecuteMillis).reversed())
+                .limit(limit)
+                .toList();
+
+        List<SqlProfileDTO> slowestQueries = queries.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble(SqlProfileDTO::getAvgMillis).reversed())
+                .limit(limit)
+                .toList();
+
+        return ScriptProfileReportDTO.builder()
+                .budgetMillis(Math.max(0, budgetMillis))
+                .scripts(slowestScripts)
+                .queries(slowestQueries)
+                .build();
+    }
+
+    /**
+     * Clears every recorded measurement.
+     */
+    @Override
+    public void reset() {
+        scripts.clear();
+        queries.clear();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static double average(double total, long count) {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Aggregated measurements of a script.
+     */
+    private static final class ScriptStats {
+
+        private long executions;
+        private long overBudget;
+        private long compileNanos;
+        private long maxCompileNanos;
+        private long executeNanos;
+        private long maxExecuteNanos;
+        private long sqlCalls;
+        private long rows;
+        private long sqlNanos;
+        private long memoHits;
+
+        synchronized void add(ScriptExecutionStatsDTO stats, boolean exceeded) {
+            executions++;
+            if (exceeded) {
+                overBudget++;
+            }
+            compileNanos += stats.getCompileNanos();
+            maxCompileNanos = Math.max(maxCompileNanos, stats.getCompileNanos());
+            executeNanos += stats.getExecuteNanos();
+            maxExecuteNanos = Math.max(maxExecuteNanos, stats.getExecuteNanos());
+            sqlCalls += stats.getSqlCalls();
+            rows += stats.getRows();
+            sqlNanos += stats.getSqlNanos();
+            memoHits += stats.getMemoHits();
+        }
+
+        synchronized ScriptProfileDTO toDto(String scriptCode) {
+            return ScriptProfileDTO.builder()
+                    .scriptCode(scriptCode)
+                    .executions(executions)
+                    .overBudget(overBudget)
+                    .avgCompileMillis(average(millis(compileNanos), executions))
+                    .maxCompileMillis(millis(maxCompileNanos))
+                    .avgExecuteMillis(average(millis(executeNanos), executions))
+                    .maxExecuteMillis(millis(maxExecuteNanos))
+                    .avgSqlCalls(average(sqlCalls, executions))
+                    .avgRows(average(rows, executions))
+                    .avgSqlMillis(average(millis(sqlNanos), executions))
+                    .avgMemoHits(average(memoHits, executions))
+                    .build();
+        }
+    }
+
+    /**
+     * Aggregated measurements of a query.
+     */
+    private static final class QueryStats {
+
+        private long calls;
+        private long nanos;
+        private long maxNanos;
+        private long rows;
+
+        synchronized void add(long callNanos, int callRows) {
+            calls++;
+            nanos += callNanos;
+            maxNanos = Math.max(maxNanos, callNanos);
+            rows += callRows;
+        }
+
+        synchronized SqlProfileDTO toDto(QueryKey key) {
+            return SqlProfileDTO.builder()
+                    .scriptCode(key.scriptCode())
+                    .sql(key.sql())
+                    .calls(calls)
+                    .avgMillis(average(millis(nanos), calls))
+                    .maxMillis(millis(maxNanos))
+                    .totalMillis(millis(nanos))
+                    .avgRows(average(rows, calls))
+                    .build();
+        }
+    }
+
+    /**
+     * Identifies a query of a script.
+     *
+     * @param scriptCode script code
+     * @param sql        SQL text
+     */
+    private record QueryKey(String scriptCode, String sql) {
+    }
+}
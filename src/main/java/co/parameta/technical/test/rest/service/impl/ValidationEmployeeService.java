@@ -2,9 +2,11 @@ package co.parameta.technical.test.rest.service.impl;
 
 import co.parameta.technical.test.commons.dto.PositionDTO;
 import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.commons.dto.ScriptValidationDTO;
 import co.parameta.technical.test.commons.dto.TypeDocumentDTO;
 import co.parameta.technical.test.commons.pojo.EmployeeResponsePojo;
 import co.parameta.technical.test.commons.service.IJwtService;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
 import co.parameta.technical.test.commons.util.helper.GeneralUtil;
 import co.parameta.technical.test.commons.util.mapper.ScriptValidationMapper;
 import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
@@ -15,10 +17,13 @@ import co.parameta.technical.test.rest.repository.ScriptValidationRepository;
 import co.parameta.technical.test.rest.repository.TypeDocumentRepository;
 import co.parameta.technical.test.rest.service.*;
 import co.parameta.technical.test.rest.util.helper.GeneralRestUtil;
+import co.parameta.technical.test.rest.util.jfr.SoapCallEvent;
 import co.parameta.technical.test.rest.util.mapper.JsonToPojoMapper;
 import co.parameta.technical.test.rest.util.mapper.PojoToJsonMapper;
 import co.parameta.technical.test.rest.util.mapper.PositionMapper;
 import co.parameta.technical.test.rest.util.mapper.TypeDocumentMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -28,6 +33,7 @@ import org.springframework.ws.transport.http.HttpUrlConnection;
 
 import java.util.*;
 
+import static co.parameta.technical.test.rest.util.constant.ObservationNames.*;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_OK;
 
@@ -36,6 +42,7 @@ import static java.net.HttpURLConnection.HTTP_OK;
  * <p>
  * This service executes Groovy-based validations, invokes the SOAP employee
  * service, maps responses to REST DTOs and optionally triggers email delivery.
+ * Each step is recorded as a stage of the {@code employee.registration} observation.
  */
 @Service
 @RequiredArgsConstructor
@@ -53,13 +60,15 @@ public class ValidationEmployeeService implements IValidationEmployeeService {
     private final TypeDocumentMapper typeDocumentMapper;
     private final PositionRepository positionRepository;
     private final PositionMapper positionMapper;
+    private final ObservationRegistry observationRegistry;
 
     /**
      * Validates and processes an employee request.
      * <p>
      * The flow includes:
      * <ul>
-     *     <li>Groovy validation execution</li>
+     *     <li>Groovy validation execution; a script that fails, for example by
+     *         exceeding its sandbox budget, rejects the request</li>
      *     <li>SOAP service invocation</li>
      *     <li>Response mapping to REST DTO</li>
      *     <li>Optional email notification</li>
@@ -68,11 +77,29 @@ public class ValidationEmployeeService implements IValidationEmployeeService {
      * @param employeeRequest employee data to validate and register
      * @return a {@link ResponseGeneralDTO} with the process result
      * @throws MessagingException if email delivery fails
+     * @throws MensajePersonalizadoException if a validation script fails
      */
     @Override
     public ResponseGeneralDTO validationEmployee(EmployeeRequestDTO employeeRequest)
             throws MessagingException {
 
+        Observation observation =
+                Observation.createNotStarted(EMPLOYEE_REGISTRATION, observationRegistry);
+        return observation.observeChecked(() -> register(employeeRequest, observation));
+    }
+
+    /**
+     * Runs the registration flow, recording each step as a stage of the
+     * given observation.
+     *
+     * @param employeeRequest employee data to validate and register
+     * @param observation     observation of the whole registration
+     * @return a {@link ResponseGeneralDTO} with the process result
+     * @throws MessagingException if email delivery fails
+     */
+    private ResponseGeneralDTO register(EmployeeRequestDTO employeeRequest, Observation observation)
+            throws MessagingException {
+
         ResponseGeneralDTO response = new ResponseGeneralDTO();
         response.setStatus(HTTP_OK);
 
@@ -87,42 +114,42 @@ public class ValidationEmployeeService implements IValidationEmployeeService {
         extraValues.put("generalUtil", GeneralUtil.class);
         extraValues.put("listValidation", validationResults);
 
-        groovyScriptExecutorService.runScript(
-                employeeRequest,
-                extraValues,
+        List<ScriptValidationDTO> scripts = stage(STAGE_SCRIPT_LOAD, () ->
                 scriptValidationMapper.toListDto(
                         scriptValidationRepository.searchActiveValidationsGroovie()
                 )
         );
 
+        try {
+            stage(STAGE_GROOVY_VALIDATION, () ->
+                    groovyScriptExecutorService.runScript(employeeRequest, extraValues, scripts)
+            );
+        } catch (MensajePersonalizadoException e) {
+            observation.lowCardinalityKeyValue(TAG_OUTCOME, OUTCOME_REJECTED);
+            observation.event(Observation.Event.of(EVENT_VALIDATION_REJECTED));
+            throw e;
+        }
+
         for (ResponseValidationGroovieDTO validation : validationResults) {
             if (validation.isError()) {
+                observation.lowCardinalityKeyValue(TAG_OUTCOME, OUTCOME_REJECTED);
+                observation.event(Observation.Event.of(EVENT_VALIDATION_REJECTED));
                 response.setStatus(HTTP_INTERNAL_ERROR);
                 response.setMessage(validation.getMessage());
                 return response;
             }
         }
 
-        TypeDocumentDTO typeDocument = typeDocumentMapper.toDto(typeDocumentRepository.documentInformation(employeeRequest.getTypeDocument()));
-        PositionDTO position =  positionMapper.toDto(positionRepository.postionInformation(employeeRequest.getPosition()));
+        TypeDocumentDTO typeDocument = stage(STAGE_REFERENCE_LOOKUP, () ->
+                typeDocumentMapper.toDto(typeDocumentRepository.documentInformation(employeeRequest.getTypeDocument()))
+        );
+        PositionDTO position = stage(STAGE_REFERENCE_LOOKUP, () ->
+                positionMapper.toDto(positionRepository.postionInformation(employeeRequest.getPosition()))
+        );
 
         employeeRequest.setTypeDocument(typeDocument.getCode());
         employeeRequest.setPosition(position.getCode());
-        EmployeeResponsePojo employeeResponse =
-                (EmployeeResponsePojo) webServiceTemplate.marshalSendAndReceive(
-                        jsonToPojoMapper.toSaveEmployeeRequest(
-                                employeeRequest,
-                                jwtService.getCodeFromToken(jwtService.getTokenFromHeader())
-                        ),
-                        message -> {
-                            var transportContext = TransportContextHolder.getTransportContext();
-                            var connection = (HttpUrlConnection) transportContext.getConnection();
-                            connection.addRequestHeader(
-                                    "Authorization",
-                                    "Bearer " + jwtService.getTokenFromHeader()
-                            );
-                        }
-                );
+        EmployeeResponsePojo employeeResponse = stage(STAGE_SOAP_CALL, () -> callSoap(employeeRequest));
 
         int status = GeneralUtil.mapToValueObject(
                 GeneralUtil.get(
@@ -132,21 +159,30 @@ public class ValidationEmployeeService implements IValidationEmployeeService {
                 Integer.class,
                 null
         );
+        observation.lowCardinalityKeyValue(TAG_SOAP_STATUS, String.valueOf(status));
+        observation.lowCardinalityKeyValue(
+                TAG_OUTCOME,
+                status != HTTP_INTERNAL_ERROR ? OUTCOME_SUCCESS : OUTCOME_SOAP_ERROR
+        );
 
         if (status != HTTP_INTERNAL_ERROR) {
 
-            ResponseEmployeeDTO responseEmployee =
+            ResponseEmployeeDTO responseEmployee = stage(STAGE_RESPONSE_MAPPING, () ->
                     pojoToJsonMapper.toResponseEmployeeDto(
                             employeeResponse,
                             employeeRequest,
                             typeDocument,
                             position
-                    );
+                    )
+            );
             response.setData(responseEmployee);
         }
 
         if (!GeneralRestUtil.isNullOrBlank(employeeRequest.getEmail())) {
-            iPrepareMailDeliveryService.prepareMailDelivery(employeeRequest, status == 200);
+            stage(STAGE_MAIL_DISPATCH, () -> {
+                iPrepareMailDeliveryService.prepareMailDelivery(employeeRequest, status == 200);
+                return null;
+            });
         }
 
         response.setStatus(status);
@@ -159,4 +195,53 @@ public class ValidationEmployeeService implements IValidationEmployeeService {
 
         return response;
     }
+
+    /**
+     * Sends the employee to the SOAP service, forwarding the caller's token.
+     *
+     * @param employeeRequest validated employee with reference codes resolved
+     * @return the SOAP response
+     */
+    private EmployeeResponsePojo callSoap(EmployeeRequestDTO employeeRequest) {
+        SoapCallEvent event = SoapCallEvent.start(webServiceTemplate.getDefaultUri());
+        boolean success = false;
+        try {
+            EmployeeResponsePojo employeeResponse = (EmployeeResponsePojo) webServiceTemplate.marshalSendAndReceive(
+                    jsonToPojoMapper.toSaveEmployeeRequest(
+                            employeeRequest,
+                            jwtService.getCodeFromToken(jwtService.getTokenFromHeader())
+                    ),
+                    message -> {
+                        var transportContext = TransportContextHolder.getTransportContext();
+                        var connection = (HttpUrlConnection) transportContext.getConnection();
+                        connection.addRequestHeader(
+                                "Authorization",
+                                "Bearer " + jwtService.getTokenFromHeader()
+                        );
+                    }
+            );
+            success = true;
+            return employeeResponse;
+        } finally {
+            SoapCallEvent.finish(event, success);
+        }
+    }
+
+    /**
+     * Runs one step of the registration inside a child observation tagged
+     * with the stage name.
+     *
+     * @param stage    stage name
+     * @param callable step to run
+     * @param <T>      result type
+     * @param <E>      checked exception type
+     * @return the result of the step
+     * @throws E if the step fails
+     */
+    private <T, E extends Throwable> T stage(String stage, Observation.CheckedCallable<T, E> callable)
+            throws E {
+        return Observation.createNotStarted(EMPLOYEE_REGISTRATION_STAGE, observationRegistry)
+                .lowCardinalityKeyValue(TAG_STAGE, stage)
+                .observeChecked(callable);
+    }
 }
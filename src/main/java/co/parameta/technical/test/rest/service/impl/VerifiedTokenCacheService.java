@@ -0,0 +1,144 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.commons.dto.AdministratorUserDTO;
+import co.parameta.technical.test.rest.dto.VerifiedTokenDTO;
+import co.parameta.technical.test.rest.service.IVerifiedTokenCacheService;
+import co.parameta.technical.test.rest.util.constant.Constants;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Service implementation of a bounded, in-memory cache of verified JWT tokens.
+ * <p>
+ * Entries are keyed by the SHA-256 fingerprint of the token, so raw tokens are
+ * never kept as map keys. The cache evicts the least recently used entry once
+ * {@code jwt.cache.max-size} is reached, and each entry expires at the earliest
+ * of the token expiration and {@code jwt.cache.ttl-millis}.
+ * </p>
+ */
+@Service
+public class VerifiedTokenCacheService implements IVerifiedTokenCacheService {
+
+    /**
+     * Maximum lifetime of an entry, regardless of the token expiration.
+     */
+    private final long ttlMillis;
+
+    /**
+     * Access-ordered map used as LRU store. Guarded by its own monitor.
+     */
+    private final Map<String, VerifiedTokenDTO> entries;
+
+    /**
+     * Creates the cache with the configured limits.
+     *
+     * @param maxSize   maximum number of cached tokens
+     * @param ttlMillis maximum lifetime of an entry in milliseconds
+     */
+    public VerifiedTokenCacheService(
+            @Value("${jwt.cache.max-size:10000}") int maxSize,
+            @Value("${jwt.cache.ttl-millis:300000}") long ttlMillis
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedTokenDTO> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached verification of a token if it has not expired.
+     *
+     * @param jwt the compact JWT
+     * @return the cached entry, or {@code null}
+     */
+    @Override
+    public VerifiedTokenDTO get(String jwt) {
+        if (jwt == null || ttlMillis <= 0) {
+            return null;
+        }
+        String fingerprint = fingerprint(jwt);
+        synchronized (entries) {
+            VerifiedTokenDTO entry = entries.get(fingerprint);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.getValidUntilMillis() <= System.currentTimeMillis()) {
+                entries.remove(fingerprint);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Stores a verified token, capping its lifetime at the token expiration.
+     *
+     * @param jwt    the compact JWT
+     * @param claims verified token claims
+     * @param user   administrator user resolved from the claims
+     */
+    @Override
+    public void put(String jwt, Claims claims, AdministratorUserDTO user) {
+        if (jwt == null || claims == null || ttlMillis <= 0) {
+            return;
+        }
+        long validUntil = System.currentTimeMillis() + ttlMillis;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            validUntil = Math.min(validUntil, expiration.getTime());
+        }
+        String fingerprint = fingerprint(jwt);
+        synchronized (entries) {
+            entries.put(fingerprint, new VerifiedTokenDTO(claims, user, validUntil));
+        }
+    }
+
+    /**
+     * Removes a token from the cache.
+     *
+     * @param jwt the compact JWT, with or without the {@code Bearer} prefix
+     */
+    @Override
+    public void invalidate(String jwt) {
+        if (jwt == null) {
+            return;
+        }
+        String value = jwt.trim();
+        if (value.regionMatches(true, 0,
+                Constants.BEARER_PREFIX, 0,
+                Constants.BEARER_PREFIX.length())) {
+            value = value.substring(Constants.BEARER_PREFIX.length()).trim();
+        }
+        String fingerprint = fingerprint(value);
+        synchronized (entries) {
+            entries.remove(fingerprint);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 fingerprint of a token.
+     *
+     * @param jwt the compact JWT
+     * @return hexadecimal fingerprint
+     */
+    private String fingerprint(String jwt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(Constants.ERR_TOKEN_FINGERPRINT, e);
+        }
+    }
+}
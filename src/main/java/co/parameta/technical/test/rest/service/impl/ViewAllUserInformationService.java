@@ -6,7 +6,9 @@ import co.parameta.technical.test.commons.util.helper.GeneralUtil;
 import co.parameta.technical.test.rest.dto.AllInformationEmployeeDTO;
 import co.parameta.technical.test.rest.repository.EmployeeRepository;
 import co.parameta.technical.test.rest.repository.SystemParameterRepository;
+import co.parameta.technical.test.rest.repository.projection.EmployeeInformationProjection;
 import co.parameta.technical.test.rest.service.IGetPdfS3Service;
+import co.parameta.technical.test.rest.service.IReferenceDataCacheService;
 import co.parameta.technical.test.rest.service.IViewAllUserInformationService;
 import co.parameta.technical.test.rest.util.helper.GeneralRestUtil;
 import co.parameta.technical.test.rest.util.mapper.EmployeeMapper;
@@ -15,11 +17,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
+import java.util.Objects;
 
 /**
  * Service responsible for retrieving all employee information.
  * <p>
- * It supports querying by employee id or by document (type + number).
+ * It supports querying by employee id or by document (type + number). Each
+ * criterion runs its own index-friendly query; document type descriptions are
+ * resolved to their code through {@link IReferenceDataCacheService}. Employee
+ * data is read through {@link EmployeeInformationProjection}, which joins the
+ * associations in one statement and never loads administrator credentials.
  * Optionally, it can include the employee PDF report from S3 depending on
  * the system parameter {@code GET_PDF_EMPLOYEE}.
  */
@@ -31,6 +38,7 @@ public class ViewAllUserInformationService implements IViewAllUserInformationSer
     private final EmployeeMapper employeeMapper;
     private final IGetPdfS3Service iGetPdfS3Service;
     private final SystemParameterRepository systemParameterRepository;
+    private final IReferenceDataCacheService iReferenceDataCacheService;
 
     /**
      * Retrieves employee information and returns it in a unified response.
@@ -60,8 +68,8 @@ public class ViewAllUserInformationService implements IViewAllUserInformationSer
         responseGeneral.setMessage("The information was consulted correctly");
 
         if (hasId || hasDocumentData) {
-            EmployeeDTO employeeInformation = employeeMapper.toDto(
-                    employeeRepository.searchAllInformationEmployee(idEmployee, numberDocument, typeDocument)
+            EmployeeDTO employeeInformation = employeeMapper.employeeInformationProjectionToDto(
+                    searchEmployee(idEmployee, typeDocument, numberDocument)
             );
 
             if(employeeInformation != null){
@@ -83,4 +91,37 @@ public class ViewAllUserInformationService implements IViewAllUserInformationSer
         responseGeneral.setStatus(HttpStatus.OK.value());
         return responseGeneral;
     }
+
+    /**
+     * Dispatches the lookup to the query that matches the provided criteria.
+     * <p>
+     * When both the id and the document are provided, the employee found by
+     * document must also have the given id. A partial document (only type or
+     * only number) never matches, as in the original combined query.
+     *
+     * @param idEmployee     employee id (optional)
+     * @param typeDocument   document type code or description (optional)
+     * @param numberDocument document number (optional)
+     * @return the matching projection, or {@code null}
+     */
+    private EmployeeInformationProjection searchEmployee(Integer idEmployee, String typeDocument, String numberDocument) {
+        if (typeDocument == null && numberDocument == null) {
+            return employeeRepository.searchAllInformationEmployeeById(idEmployee);
+        }
+        if (typeDocument == null || numberDocument == null) {
+            return null;
+        }
+
+        String typeDocumentCode = iReferenceDataCacheService.resolveTypeDocumentCode(typeDocument);
+        if (typeDocumentCode == null) {
+            return null;
+        }
+
+        EmployeeInformationProjection employee =
+                employeeRepository.searchAllInformationEmployeeByDocument(numberDocument, typeDocumentCode);
+        if (employee != null && idEmployee != null && !Objects.equals(idEmployee, employee.getId())) {
+            return null;
+        }
+        return employee;
+    }
 }
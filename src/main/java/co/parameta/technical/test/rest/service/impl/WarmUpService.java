@@ -0,0 +1,238 @@
+package co.parameta.technical.test.rest.service.impl;
+
+import co.parameta.technical.test.commons.dto.AdministratorUserDTO;
+import co.parameta.technical.test.commons.dto.AdministratorUserSecurityDTO;
+import co.parameta.technical.test.commons.dto.ScriptValidationDTO;
+import co.parameta.technical.test.commons.service.IJwtService;
+import co.parameta.technical.test.commons.util.mapper.ScriptValidationMapper;
+import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
+import co.parameta.technical.test.rest.repository.AdministratorUserRepository;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.repository.ScriptValidationRepository;
+import co.parameta.technical.test.rest.service.*;
+import co.parameta.technical.test.rest.util.constant.Constants;
+import co.parameta.technical.test.rest.util.mapper.JsonToPojoMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.stereotype.Service;
+
+import javax.xml.transform.stream.StreamResult;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Service implementation of the startup warm-up.
+ * <p>
+ * Each step runs {@code warmup.iterations} times with synthetic data and
+ * without side effects:
+ * </p>
+ * Before the steps, the active scripts that still call {@code jdbcTemplate}
+ * directly are reported, since the sandbox only provides a few of its queries.
+ * </p>
+ * <ul>
+ *     <li>{@code scripts}: compiles the active validation scripts and the email
+ *         content scripts into the Groovy class cache</li>
+ *     <li>{@code pdf}: renders the report of a synthetic employee</li>
+ *     <li>{@code soap}: marshals a synthetic save request, without sending it</li>
+ *     <li>{@code jwt}: signs and parses a token of a synthetic user</li>
+ *     <li>{@code repositories}: runs the employee, reference data and user
+ *         queries with keys that match no row, which also opens the pool connection</li>
+ * </ul>
+ */
+@Log4j2
+@Service
+public class WarmUpService implements IWarmUpService {
+
+    /**
+     * Value used for synthetic keys; no row uses it.
+     */
+    private static final String WARMUP = "WARMUP";
+
+    private final IGroovieScriptExecutorService iGroovieScriptExecutorService;
+    private final ScriptValidationRepository scriptValidationRepository;
+    private final ScriptValidationMapper scriptValidationMapper;
+    private final IEmployeePdfGeneratorService iEmployeePdfGeneratorService;
+    private final Jaxb2Marshaller marshaller;
+    private final JsonToPojoMapper jsonToPojoMapper;
+    private final IJwtService iJwtService;
+    private final IJwtClaimsService iJwtClaimsService;
+    private final EmployeeRepository employeeRepository;
+    private final AdministratorUserRepository administratorUserRepository;
+    private final IReferenceDataCacheService iReferenceDataCacheService;
+
+    /**
+     * Number of times each step is run.
+     */
+    private final int iterations;
+
+    /**
+     * Creates the warm-up with the configured number of iterations.
+     *
+     * @param iGroovieScriptExecutorService executor used to compile the scripts
+     * @param scriptValidationRepository    repository used to read the scripts
+     * @param scriptValidationMapper        mapper of the scripts
+     * @param iEmployeePdfGeneratorService  generator of the employee report
+     * @param marshaller                    marshaller of the SOAP requests
+     * @param jsonToPojoMapper              mapper of the SOAP requests
+     * @param iJwtService                   service used to sign tokens
+     * @param iJwtClaimsService             service used to parse tokens
+     * @param employeeRepository            employee repository
+     * @param administratorUserRepository   administrator user repository
+     * @param iReferenceDataCacheService    reference data cache
+     * @param iterations                    number of times each step is run
+     */
+    public WarmUpService(
+            IGroovieScriptExecutorService iGroovieScriptExecutorService,
+            ScriptValidationRepository scriptValidationRepository,
+            ScriptValidationMapper scriptValidationMapper,
+            IEmployeePdfGeneratorService iEmployeePdfGeneratorService,
+            Jaxb2Marshaller marshaller,
+            JsonToPojoMapper jsonToPojoMapper,
+            IJwtService iJwtService,
+            IJwtClaimsService iJwtClaimsService,
+            EmployeeRepository employeeRepository,
+            AdministratorUserRepository administratorUserRepository,
+            IReferenceDataCacheService iReferenceDataCacheService,
+            @Value("${warmup.iterations:10}") int iterations
+    ) {
+        this.iGroovieScriptExecutorService = iGroovieScriptExecutorService;
+        this.scriptValidationRepository = scriptValidationRepository;
+        this.scriptValidationMapper = scriptValidationMapper;
+        this.iEmployeePdfGeneratorService = iEmployeePdfGeneratorService;
+        this.marshaller = marshaller;
+        this.jsonToPojoMapper = jsonToPojoMapper;
+        this.iJwtService = iJwtService;
+        this.iJwtClaimsService = iJwtClaimsService;
+        this.employeeRepository = employeeRepository;
+        this.administratorUserRepository = administratorUserRepository;
+        this.iReferenceDataCacheService = iReferenceDataCacheService;
+        this.iterations = Math.max(1, iterations);
+    }
+
+    /**
+     * Runs every step, logging its duration or its failure.
+     *
+     * @return number of steps that completed without error
+     */
+    @Override
+    public int warmUp() {
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("scripts", this::compileScripts);
+        steps.put("pdf", this::renderPdf);
+        steps.put("soap", this::marshalSoapRequest);
+        steps.put("jwt", this::parseJwt);
+        steps.put("repositories", this::prepareQueries);
+
+        long start = System.nanoTime();
+        try {
+            iGroovieScriptExecutorService.jdbcTemplateScripts(scripts());
+        } catch (Exception e) {
+            log.warn(Constants.LOG_WARMUP_STEP_ERROR, "script-check", e.getMessage());
+        }
+        int succeeded = 0;
+        for (Map.Entry<String, Runnable> step : steps.entrySet()) {
+            long stepStart = System.nanoTime();
+            try {
+                for (int i = 0; i < iterations; i++) {
+                    step.getValue().run();
+                }
+                succeeded++;
+                log.info(Constants.LOG_WARMUP_STEP, step.getKey(), iterations, elapsedMillis(stepStart));
+            } catch (Exception e) {
+                log.warn(Constants.LOG_WARMUP_STEP_ERROR, step.getKey(), e.getMessage());
+            }
+        }
+        log.info(Constants.LOG_WARMUP_COMPLETED, elapsedMillis(start), succeeded, steps.size());
+        return succeeded;
+    }
+
+    /**
+     * Compiles the active validation scripts and the email content scripts.
+     */
+    private void compileScripts() {
+        iGroovieScriptExecutorService.precompile(scripts());
+    }
+
+    /**
+     * Reads the active validation scripts and the email content scripts.
+     *
+     * @return the scripts that exist
+     */
+    private List<ScriptValidationDTO> scripts() {
+        List<ScriptValidationDTO> scripts = new ArrayList<>(
+                scriptValidationMapper.toListDto(scriptValidationRepository.searchActiveValidationsGroovie())
+        );
+        scripts.add(scriptValidationMapper.toDto(
+                scriptValidationRepository.findByCode(Constants.SCRIPT_CAST_CONTENT_EMAIL)));
+        scripts.add(scriptValidationMapper.toDto(
+                scriptValidationRepository.findByCode(Constants.SCRIPT_CAST_CONTENT_EMAIL_UPDATE)));
+        return scripts.stream().filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Renders the report of a synthetic employee.
+     */
+    private void renderPdf() {
+        iEmployeePdfGeneratorService.generateEmployeeReport(syntheticEmployee(), false);
+    }
+
+    /**
+     * Marshals a synthetic save request into memory.
+     */
+    private void marshalSoapRequest() {
+        marshaller.marshal(
+                jsonToPojoMapper.toSaveEmployeeRequest(syntheticEmployee(), WARMUP),
+                new StreamResult(new StringWriter())
+        );
+    }
+
+    /**
+     * Signs a token of a synthetic user and parses it back.
+     */
+    private void parseJwt() {
+        AdministratorUserDTO user = new AdministratorUserDTO();
+        user.setCode(WARMUP);
+        user.setEmail("warmup@localhost");
+        String token = iJwtService.getToken(new AdministratorUserSecurityDTO(user, List.of()));
+        iJwtClaimsService.getCode(iJwtClaimsService.parseClaims(token));
+    }
+
+    /**
+     * Runs the request path queries with keys that match no row.
+     */
+    private void prepareQueries() {
+        iReferenceDataCacheService.resolveTypeDocumentCode(WARMUP);
+        iReferenceDataCacheService.resolvePositionCode(WARMUP);
+        employeeRepository.searchIdEmployee(WARMUP, WARMUP);
+        employeeRepository.searchAllInformationEmployeeById(-1);
+        employeeRepository.searchAllInformationEmployeeByDocument(WARMUP, WARMUP);
+        employeeRepository.searchEmployeeSummaries(List.of(-1));
+        administratorUserRepository.findByCode(WARMUP);
+    }
+
+    /**
+     * Builds an employee that passes the request format rules.
+     */
+    private static EmployeeRequestDTO syntheticEmployee() {
+        EmployeeRequestDTO employee = new EmployeeRequestDTO();
+        employee.setNames("Warm");
+        employee.setLastNames("Up");
+        employee.setTypeDocument("CC");
+        employee.setDocumentNumber("0");
+        employee.setDateOfBirth("1990-01-01");
+        employee.setDateAffiliationCompany("01/01/2020");
+        employee.setPosition("DEV");
+        employee.setEmail("warmup@localhost");
+        employee.setSalary("1000000");
+        return employee;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -6,6 +6,9 @@ import java.awt.*;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import static co.parameta.technical.test.rest.util.constant.DateFormatSpec.Shape.*;
+import static co.parameta.technical.test.rest.util.constant.DateFormatSpec.TimePart.*;
+
 /**
  * Application-wide constants used across REST services,
  * validations, logging, security and PDF generation.
@@ -16,51 +19,59 @@ public final class Constants {
     }
 
     /**
-     * Supported date and datetime formats for parsing input values.
+     * Supported date and datetime formats for parsing input values, in
+     * priority order, with the shape of the input each one parses.
      */
-    public static final List<DateTimeFormatter> FORMATTERS = List.of(
-
-            DateTimeFormatter.ofPattern("uuuu-MM-dd"),
-            DateTimeFormatter.ofPattern("uuuu/MM/dd"),
-            DateTimeFormatter.ofPattern("uuuu.MM.dd"),
-            DateTimeFormatter.ofPattern("uuuuMMdd"),
-
-            DateTimeFormatter.ofPattern("dd/MM/uuuu"),
-            DateTimeFormatter.ofPattern("dd-MM-uuuu"),
-            DateTimeFormatter.ofPattern("dd.MM.uuuu"),
-            DateTimeFormatter.ofPattern("ddMMuuuu"),
-
-            DateTimeFormatter.ofPattern("MM/dd/uuuu"),
-            DateTimeFormatter.ofPattern("MM-dd-uuuu"),
-
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm"),
-            DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm"),
-            DateTimeFormatter.ofPattern("uuuu.MM.dd HH:mm"),
-            DateTimeFormatter.ofPattern("uuuuMMdd HH:mm"),
-
-            DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm"),
-            DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm"),
-            DateTimeFormatter.ofPattern("ddMMuuuu HH:mm"),
-
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss"),
-            DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm:ss"),
-            DateTimeFormatter.ofPattern("uuuu.MM.dd HH:mm:ss"),
-            DateTimeFormatter.ofPattern("uuuuMMdd HH:mm:ss"),
-
-            DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm:ss"),
-            DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm:ss"),
-            DateTimeFormatter.ofPattern("dd.MM.uuuu HH:mm:ss"),
-            DateTimeFormatter.ofPattern("ddMMuuuu HH:mm:ss"),
-
-            DateTimeFormatter.ofPattern("MM/dd/uuuu HH:mm:ss"),
-            DateTimeFormatter.ofPattern("MM-dd-uuuu HH:mm:ss"),
-
-            DateTimeFormatter.ISO_LOCAL_DATE,
-            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-            DateTimeFormatter.ISO_OFFSET_DATE_TIME,
-            DateTimeFormatter.ISO_ZONED_DATE_TIME,
-            DateTimeFormatter.ISO_INSTANT
+    public static final List<DateFormatSpec> DATE_FORMATS = List.of(
+
+            DateFormatSpec.of("uuuu-MM-dd", DASH_YEAR_FIRST, NONE),
+            DateFormatSpec.of("uuuu/MM/dd", SLASH_YEAR_FIRST, NONE),
+            DateFormatSpec.of("uuuu.MM.dd", DOT_YEAR_FIRST, NONE),
+            DateFormatSpec.of("uuuuMMdd", COMPACT, NONE),
+
+            DateFormatSpec.of("dd/MM/uuuu", SLASH_YEAR_LAST, NONE),
+            DateFormatSpec.of("dd-MM-uuuu", DASH_YEAR_LAST, NONE),
+            DateFormatSpec.of("dd.MM.uuuu", DOT_YEAR_LAST, NONE),
+            DateFormatSpec.of("ddMMuuuu", COMPACT, NONE),
+
+            DateFormatSpec.of("MM/dd/uuuu", SLASH_YEAR_LAST, NONE),
+            DateFormatSpec.of("MM-dd-uuuu", DASH_YEAR_LAST, NONE),
+
+            DateFormatSpec.of("uuuu-MM-dd HH:mm", DASH_YEAR_FIRST, MINUTES),
+            DateFormatSpec.of("uuuu/MM/dd HH:mm", SLASH_YEAR_FIRST, MINUTES),
+            DateFormatSpec.of("uuuu.MM.dd HH:mm", DOT_YEAR_FIRST, MINUTES),
+            DateFormatSpec.of("uuuuMMdd HH:mm", COMPACT, MINUTES),
+
+            DateFormatSpec.of("dd/MM/uuuu HH:mm", SLASH_YEAR_LAST, MINUTES),
+            DateFormatSpec.of("dd-MM-uuuu HH:mm", DASH_YEAR_LAST, MINUTES),
+            DateFormatSpec.of("ddMMuuuu HH:mm", COMPACT, MINUTES),
+
+            DateFormatSpec.of("uuuu-MM-dd HH:mm:ss", DASH_YEAR_FIRST, SECONDS),
+            DateFormatSpec.of("uuuu/MM/dd HH:mm:ss", SLASH_YEAR_FIRST, SECONDS),
+            DateFormatSpec.of("uuuu.MM.dd HH:mm:ss", DOT_YEAR_FIRST, SECONDS),
+            DateFormatSpec.of("uuuuMMdd HH:mm:ss", COMPACT, SECONDS),
+
+            DateFormatSpec.of("dd/MM/uuuu HH:mm:ss", SLASH_YEAR_LAST, SECONDS),
+            DateFormatSpec.of("dd-MM-uuuu HH:mm:ss", DASH_YEAR_LAST, SECONDS),
+            DateFormatSpec.of("dd.MM.uuuu HH:mm:ss", DOT_YEAR_LAST, SECONDS),
+            DateFormatSpec.of("ddMMuuuu HH:mm:ss", COMPACT, SECONDS),
+
+            DateFormatSpec.of("MM/dd/uuuu HH:mm:ss", SLASH_YEAR_LAST, SECONDS),
+            DateFormatSpec.of("MM-dd-uuuu HH:mm:ss", DASH_YEAR_LAST, SECONDS),
+
+            new DateFormatSpec(DateTimeFormatter.ISO_LOCAL_DATE, DASH_YEAR_FIRST, NONE),
+            new DateFormatSpec(DateTimeFormatter.ISO_LOCAL_DATE_TIME, ISO_T, NONE),
+            new DateFormatSpec(DateTimeFormatter.ISO_OFFSET_DATE_TIME, ISO_T, NONE),
+            new DateFormatSpec(DateTimeFormatter.ISO_ZONED_DATE_TIME, ISO_T, NONE),
+            new DateFormatSpec(DateTimeFormatter.ISO_INSTANT, ISO_T, NONE)
     );
+
+    /**
+     * Supported date and datetime formats for parsing input values.
+     */
+    public static final List<DateTimeFormatter> FORMATTERS = DATE_FORMATS.stream()
+            .map(DateFormatSpec::formatter)
+            .toList();
     /** Log message when the user not found */
     public static final String ERR_STUDENT_NOT_FOUND = "User not found.";
 
@@ -134,12 +145,164 @@ public final class Constants {
     /** Error message for failed authentication attempt. */
     public static final String ERR_AUTHENTICATION_FAILED = "Authentication failed.";
 
+    /** Log message when the password hash of a user cannot be upgraded on login. */
+    public static final String LOG_PASSWORD_REHASH_ERROR =
+            "Password hash of user {} could not be upgraded: {}";
+
     /** Log message when JWT is expired. */
     public static final String LOG_JWT_EXPIRED = "Expired JWT: {}";
 
     /** Log message when JWT is invalid. */
     public static final String LOG_JWT_INVALID = "Invalid JWT: {}";
 
+    /** Error message when the token fingerprint cannot be computed. */
+    public static final String ERR_TOKEN_FINGERPRINT =
+            "Could not compute token fingerprint";
+
+    /** Message returned when the employee listing is consulted. */
+    public static final String MSG_EMPLOYEES_CONSULTED = "The employees were consulted correctly";
+
+    /** Error message when the requested page size is not positive. */
+    public static final String ERR_SEARCH_PAGE_SIZE = "The page size must be greater than zero.";
+
+    /** Error message when the affiliation date range is inverted. */
+    public static final String ERR_SEARCH_DATE_RANGE =
+            "The affiliation date from must not be after the affiliation date to.";
+
+    /** Error message when the salary range is inverted. */
+    public static final String ERR_SEARCH_SALARY_RANGE =
+            "The minimum salary must not be greater than the maximum salary.";
+
+    /** Error message when the requested export format is not supported. */
+    public static final String ERR_EXPORT_FORMAT =
+            "Unsupported export format: %s. Use csv or ndjson.";
+
+    /** Log error when a batch of report location updates cannot be written. */
+    public static final String LOG_REPORT_LOCATION_FLUSH_ERROR =
+            "Could not write {} report location updates, they will be retried: {}";
+
+    /** Log error when report location updates remain pending on shutdown. */
+    public static final String LOG_REPORT_LOCATION_LOST =
+            "{} report location updates could not be written before shutdown";
+
+    /** Log error when a report location update is dropped after its last attempt. */
+    public static final String LOG_REPORT_LOCATION_DEAD_LETTER =
+            "Dropping report location update of document {} ({}) to {} after {} attempts: {}";
+
+    /** Log message after a batch of report location updates is written. */
+    public static final String LOG_REPORT_LOCATION_FLUSHED =
+            "Wrote {} report location updates, {} employee rows updated";
+
+    /** Log warning when a Groovy script exceeds its time budget. */
+    public static final String LOG_SCRIPT_BUDGET_EXCEEDED =
+            "Groovy script {} took {} ms (budget {} ms): compile {} ms, {} SQL calls in {} ms";
+
+    /** Log warning when a Groovy script is interrupted by its sandbox time budget. */
+    public static final String LOG_SCRIPT_TIMEOUT =
+            "Groovy script {} exceeded its {} ms sandbox budget and was interrupted";
+
+    /** Error message when a Groovy script exceeds its sandbox time budget. */
+    public static final String ERR_SCRIPT_TIMEOUT =
+            "The script exceeded its time budget of %d ms.";
+
+    /** Error message when a script query returns more rows than the sandbox allows. */
+    public static final String ERR_SCRIPT_ROW_LIMIT =
+            "The query returned more than %d rows, the script row limit.";
+
+    /** Error message when forEachRow is called without a row closure. */
+    public static final String ERR_SCRIPT_ROW_CALLBACK =
+            "forEachRow expects a closure as last argument.";
+
+    /** Error message when a script reads a member of a SQL helper instead of calling it. */
+    public static final String ERR_SCRIPT_HELPER_ACCESS =
+            "SQL helpers and jdbcTemplate only allow their queries, '%s' is not available.";
+
+    /** Log warning when an active script calls jdbcTemplate, which is limited in sandbox mode. */
+    public static final String LOG_SCRIPT_USES_JDBC_TEMPLATE =
+            "Script {} uses jdbcTemplate, which in sandbox mode only provides queryForList, queryForMap"
+                    + " and queryForObject under the script limits; calls that will fail: {}";
+
+    /** Log message after the persisted Groovy classes are loaded. */
+    public static final String LOG_GROOVY_CLASS_CACHE_LOADED =
+            "Loaded {} precompiled Groovy scripts from {}";
+
+    /** Log warning when a persisted Groovy class cannot be read or written. */
+    public static final String LOG_GROOVY_CLASS_CACHE_ERROR =
+            "Groovy class cache entry {} could not be used: {}";
+
+    /** Error message when a persisted Groovy class has no script class. */
+    public static final String ERR_GROOVY_CLASS_CACHE_ENTRY =
+            "The cache entry has no script class.";
+
+    /** Error message when the signature of a persisted Groovy class does not match its bytecode. */
+    public static final String ERR_GROOVY_CLASS_CACHE_SIGNATURE =
+            "The cache entry signature does not match its bytecode.";
+
+    /** Error message when the Groovy class cache key file is too short. */
+    public static final String ERR_GROOVY_CLASS_CACHE_KEY =
+            "The signing key file is too short.";
+
+    /** Log warning when compiled Groovy classes are not persisted for lack of a signing key. */
+    public static final String LOG_GROOVY_CLASS_CACHE_DISABLED =
+            "Groovy class cache signing key {} could not be used, compiled classes are kept in memory only: {}";
+
+    /** Error message when the Groovy class cache key cannot be computed. */
+    public static final String ERR_GROOVY_CLASS_CACHE_HASH =
+            "Could not compute Groovy class cache key";
+
+    /** Log message when a script cannot be compiled ahead of traffic. */
+    public static final String LOG_SCRIPT_PRECOMPILE_ERROR =
+            "Script {} could not be precompiled: {}";
+
+    /** Log message when the performance profile sizes the connection pool. */
+    public static final String LOG_PERFORMANCE_POOL_SIZE =
+            "Hikari pool '{}' sized to {} connections";
+
+    /** Log message when a warm-up step completes. */
+    public static final String LOG_WARMUP_STEP =
+            "Warm-up step {} completed {} iterations in {} ms";
+
+    /** Log message when a warm-up step fails. */
+    public static final String LOG_WARMUP_STEP_ERROR =
+            "Warm-up step {} failed: {}";
+
+    /** Log message when the warm-up completes. */
+    public static final String LOG_WARMUP_COMPLETED =
+            "Warm-up completed in {} ms, {} of {} steps succeeded";
+
+    /** Script that builds the content of the registration email. */
+    public static final String SCRIPT_CAST_CONTENT_EMAIL = "CAST_CONTENT_EMAIL";
+
+    /** Script that builds the content of the update email. */
+    public static final String SCRIPT_CAST_CONTENT_EMAIL_UPDATE = "CAST_CONTENT_EMAIL_UPDATE";
+
+    /** Header carrying the client idempotency key of a registration. */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /** Log message when a registration is answered from the idempotency store. */
+    public static final String LOG_IDEMPOTENCY_REPLAY =
+            "Replaying the response of idempotency key {}";
+
+    /** Log message when a response cannot be written to the idempotency table. */
+    public static final String LOG_IDEMPOTENCY_STORE_ERROR =
+            "Idempotency key {} could not be stored: {}";
+
+    /** Error message for a missing or too long idempotency key. */
+    public static final String ERR_IDEMPOTENCY_KEY_INVALID =
+            "The Idempotency-Key header must have between 1 and %d characters.";
+
+    /** Error message when an idempotency key is reused with a different request. */
+    public static final String ERR_IDEMPOTENCY_KEY_REUSED =
+            "The Idempotency-Key was already used with a different request.";
+
+    /** Error message when the original request of an idempotency key does not finish in time. */
+    public static final String ERR_IDEMPOTENCY_KEY_IN_PROGRESS =
+            "A request with the same Idempotency-Key is still in progress.";
+
+    /** Error message when an idempotency key hash cannot be computed. */
+    public static final String ERR_IDEMPOTENCY_KEY_HASH =
+            "Could not compute idempotency key hash";
+
     /** JWT Authorization header prefix. */
     public static final String BEARER_PREFIX = "Bearer ";
 
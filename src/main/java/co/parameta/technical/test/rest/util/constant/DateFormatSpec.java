@@ -0,0 +1,53 @@
+package co.parameta.technical.test.rest.util.constant;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Supported date format together with the shape of the input it parses.
+ * <p>
+ * The shape lets the date parser skip the formatters that cannot match an
+ * input without trying them.
+ * </p>
+ *
+ * @param formatter formatter used to parse the value
+ * @param shape     layout of the date part
+ * @param timePart  time part after the date, separated by a space
+ */
+public record DateFormatSpec(DateTimeFormatter formatter, Shape shape, TimePart timePart) {
+
+    /**
+     * Layout of the date part of an input.
+     */
+    public enum Shape {
+        DASH_YEAR_FIRST, DASH_YEAR_LAST,
+        SLASH_YEAR_FIRST, SLASH_YEAR_LAST,
+        DOT_YEAR_FIRST, DOT_YEAR_LAST,
+        /** Digits only, without separators. */
+        COMPACT,
+        /** ISO date-time with the {@code T} separator. */
+        ISO_T
+    }
+
+    /**
+     * Time part that follows the date after a space.
+     */
+    public enum TimePart {
+        NONE,
+        /** {@code HH:mm}. */
+        MINUTES,
+        /** {@code HH:mm:ss}. */
+        SECONDS
+    }
+
+    /**
+     * Creates a spec for a pattern.
+     *
+     * @param pattern  pattern of {@link DateTimeFormatter#ofPattern(String)}
+     * @param shape    layout of the date part
+     * @param timePart time part after the date
+     * @return the spec
+     */
+    static DateFormatSpec of(String pattern, Shape shape, TimePart timePart) {
+        return new DateFormatSpec(DateTimeFormatter.ofPattern(pattern), shape, timePart);
+    }
+}
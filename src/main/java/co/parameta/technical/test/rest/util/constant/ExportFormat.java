@@ -0,0 +1,53 @@
+package co.parameta.technical.test.rest.util.constant;
+
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the employee export.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    /**
+     * Comma separated values with a header row (RFC 4180 quoting).
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Newline delimited JSON: one JSON object per line.
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    /**
+     * Content type of the response.
+     */
+    private final String contentType;
+
+    /**
+     * File extension suggested to the client.
+     */
+    private final String extension;
+
+    /**
+     * Resolves a format from its name, ignoring case.
+     *
+     * @param value format name ({@code csv} or {@code ndjson}); blank means CSV
+     * @return the matching format
+     * @throws MensajePersonalizadoException if the format is not supported
+     */
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MensajePersonalizadoException(String.format(Constants.ERR_EXPORT_FORMAT, value));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package co.parameta.technical.test.rest.util.constant;
+
+/**
+ * Names and keys of the Micrometer observations recorded by the REST services.
+ * <p>
+ * Every observation is exported by the actuator as a timer with the same name
+ * (and an {@code error} tag); observation events are exported as counters named
+ * {@code <observation>.<event>}.
+ * </p>
+ */
+public final class ObservationNames {
+
+    private ObservationNames() {
+    }
+
+    /** Whole {@code /employee/bridge} registration. */
+    public static final String EMPLOYEE_REGISTRATION = "employee.registration";
+
+    /** One step of the registration, identified by {@link #TAG_STAGE}. */
+    public static final String EMPLOYEE_REGISTRATION_STAGE = "employee.registration.stage";
+
+    /** Execution of a single Groovy script, identified by {@link #TAG_SCRIPT}. */
+    public static final String GROOVY_SCRIPT = "groovy.script";
+
+    /** SQL query run by a Groovy script, identified by {@link #TAG_SQL_OPERATION}. */
+    public static final String GROOVY_SQL = "groovy.sql";
+
+    /** Asynchronous notification pipeline (PDF, S3 upload and mail). */
+    public static final String EMPLOYEE_MAIL_PIPELINE = "employee.mail.pipeline";
+
+    /** Employee PDF report rendering. */
+    public static final String EMPLOYEE_PDF_GENERATION = "employee.pdf.generation";
+
+    /** Upload of a PDF report to S3. */
+    public static final String S3_PDF_PUT = "s3.pdf.put";
+
+    /** Download of a PDF report from S3. */
+    public static final String S3_PDF_GET = "s3.pdf.get";
+
+    /** SMTP delivery of an email. */
+    public static final String MAIL_SEND = "mail.send";
+
+    /** Registration stage tag. */
+    public static final String TAG_STAGE = "stage";
+
+    /** Groovy script code tag. */
+    public static final String TAG_SCRIPT = "script";
+
+    /** Script helper that ran a query ({@code executeSql} or {@code executeSingleSql}). */
+    public static final String TAG_SQL_OPERATION = "operation";
+
+    /** SQL text; high cardinality, exported on spans only. */
+    public static final String TAG_SQL = "db.statement";
+
+    /** Registration outcome tag. */
+    public static final String TAG_OUTCOME = "outcome";
+
+    /** Status returned by the SOAP service. */
+    public static final String TAG_SOAP_STATUS = "soap.status";
+
+    /** PDF report type tag ({@code create} or {@code update}). */
+    public static final String TAG_REPORT_TYPE = "report.type";
+
+    /** Whether an email carries an attachment. */
+    public static final String TAG_ATTACHMENT = "attachment";
+
+    /** Loading of the active validation scripts. */
+    public static final String STAGE_SCRIPT_LOAD = "script-load";
+
+    /** Execution of the Groovy validations. */
+    public static final String STAGE_GROOVY_VALIDATION = "groovy-validation";
+
+    /** Document type and position lookups. */
+    public static final String STAGE_REFERENCE_LOOKUP = "reference-lookup";
+
+    /** SOAP save call. */
+    public static final String STAGE_SOAP_CALL = "soap-call";
+
+    /** Mapping of the SOAP response. */
+    public static final String STAGE_RESPONSE_MAPPING = "response-mapping";
+
+    /** Hand-off of the notification to the asynchronous pipeline. */
+    public static final String STAGE_MAIL_DISPATCH = "mail-dispatch";
+
+    /** Registration rejected by a Groovy validation. */
+    public static final String OUTCOME_REJECTED = "rejected";
+
+    /** Registration accepted by the SOAP service. */
+    public static final String OUTCOME_SUCCESS = "success";
+
+    /** Registration rejected by the SOAP service. */
+    public static final String OUTCOME_SOAP_ERROR = "soap-error";
+
+    /** Event raised when a Groovy validation rejects a registration. */
+    public static final String EVENT_VALIDATION_REJECTED = "validation.rejected";
+
+    /** Value used when a tag has no value. */
+    public static final String UNKNOWN = "unknown";
+}
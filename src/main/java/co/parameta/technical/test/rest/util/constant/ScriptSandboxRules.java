@@ -0,0 +1,62 @@
+package co.parameta.technical.test.rest.util.constant;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyShell;
+import groovy.util.Eval;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rules checked when Groovy scripts are compiled in sandbox mode.
+ * <p>
+ * The rules are applied at compile time, so they are also part of the key of
+ * the compiled class cache: bytecode compiled under other rules is never
+ * loaded.
+ * </p>
+ */
+public final class ScriptSandboxRules {
+
+    private ScriptSandboxRules() {
+    }
+
+    /** Classes scripts cannot call in sandbox mode. */
+    public static final List<Class> DISALLOWED_RECEIVERS = List.of(
+            System.class, Runtime.class, ProcessBuilder.class, Process.class,
+            Thread.class, ThreadGroup.class, ClassLoader.class,
+            GroovyShell.class, GroovyClassLoader.class, Eval.class,
+            File.class, Files.class, Paths.class
+    );
+
+    /** Packages scripts cannot reference in sandbox mode. */
+    public static final List<String> DISALLOWED_STAR_IMPORTS = List.of(
+            "java.io.*", "java.nio.file.*", "java.net.*",
+            "java.lang.reflect.*", "java.lang.invoke.*", "groovy.grape.*"
+    );
+
+    /**
+     * Methods that escape the sandbox whatever their receiver: GDK process
+     * execution, nested evaluation without the sandbox configuration,
+     * reflective class loading and the GDK {@code sleep}, which ignores interrupts.
+     */
+    public static final Set<String> DISALLOWED_METHODS = Set.of(
+            "execute", "evaluate", "exit", "halt", "forName", "getClassLoader", "sleep"
+    );
+
+    /**
+     * Describes the rules in a stable form, to be hashed into cache keys.
+     *
+     * @return one line per rule, sorted
+     */
+    public static String describe() {
+        return String.join("\n",
+                DISALLOWED_RECEIVERS.stream().map(receiver -> "receiver:" + receiver.getName()).sorted().toList())
+                + '\n' + String.join("\n",
+                DISALLOWED_STAR_IMPORTS.stream().map(starImport -> "import:" + starImport).sorted().toList())
+                + '\n' + String.join("\n",
+                DISALLOWED_METHODS.stream().map(method -> "method:" + method).sorted().toList());
+    }
+}
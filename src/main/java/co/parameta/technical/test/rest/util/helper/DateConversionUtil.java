@@ -0,0 +1,191 @@
+package co.parameta.technical.test.rest.util.helper;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.time.ZonedDateTime;
+import java.util.GregorianCalendar;
+
+import static co.parameta.technical.test.rest.util.constant.Constants.DATATYPE_FACTORY_INIT_ERROR;
+
+/**
+ * Thread-safe conversion helpers shared by {@link GeneralRestUtil} and the REST/SOAP mappers.
+ * <p>
+ * The {@link DatatypeFactory} is looked up once (lazily, on first use) instead of
+ * running the service-loader lookup of {@link DatatypeFactory#newInstance()} on
+ * every conversion. The factory keeps no per-call state and always returns new
+ * calendar instances, so sharing it between threads is safe. Text normalization is done
+ * with plain character loops, so no regular expression is compiled or run.
+ * </p>
+ */
+public final class DateConversionUtil {
+
+    private DateConversionUtil() {
+    }
+
+    /**
+     * Lazy holder for the shared {@link DatatypeFactory}.
+     */
+    private static final class FactoryHolder {
+
+        private static final DatatypeFactory FACTORY = create();
+
+        private static DatatypeFactory create() {
+            try {
+                return DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException e) {
+                throw new IllegalStateException(DATATYPE_FACTORY_INIT_ERROR, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the shared {@link DatatypeFactory}.
+     *
+     * @return the cached factory
+     * @throws IllegalStateException if the factory cannot be created
+     */
+    public static DatatypeFactory datatypeFactory() {
+        return FactoryHolder.FACTORY;
+    }
+
+    /**
+     * Converts a {@link ZonedDateTime} into an {@link XMLGregorianCalendar} directly,
+     * without creating an intermediate {@link GregorianCalendar}.
+     * <p>
+     * The result has the same fields as
+     * {@code newXMLGregorianCalendar(GregorianCalendar.from(dateTime))}:
+     * millisecond precision and the zone offset in minutes. Years before
+     * year one and offsets with a seconds part (local mean time of historic
+     * zones) keep going through {@link GregorianCalendar}, whose era
+     * and raw-offset handling differ from {@code java.time}.
+     * </p>
+     *
+     * @param dateTime the date-time to convert
+     * @return the equivalent {@link XMLGregorianCalendar}, or {@code null} if the input is null
+     */
+    public static XMLGregorianCalendar toXmlGregorianCalendar(ZonedDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        int offsetSeconds = dateTime.getOffset().getTotalSeconds();
+        if (dateTime.getYear() < 1 || offsetSeconds % 60 != 0) {
+            return datatypeFactory().newXMLGregorianCalendar(GregorianCalendar.from(dateTime));
+        }
+        return datatypeFactory().newXMLGregorianCalendar(
+                dateTime.getYear(),
+                dateTime.getMonthValue(),
+                dateTime.getDayOfMonth(),
+                dateTime.getHour(),
+                dateTime.getMinute(),
+                dateTime.getSecond(),
+                dateTime.getNano() / 1_000_000,
+                offsetSeconds / 60
+        );
+    }
+
+    /**
+     * Trims a value and collapses every run of whitespace into a single space.
+     * <p>
+     * Equivalent to {@code value.trim().replaceAll("\\s+", " ")}, but returns the
+     * same instance when nothing needs to change.
+     * </p>
+     *
+     * @param value the value to normalize
+     * @return the normalized value, or {@code null} if the input is null
+     */
+    public static String normalizeSpaces(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String v = value.trim();
+        int length = v.length();
+
+        int firstChange = -1;
+        for (int i = 0; i < length; i++) {
+            char c = v.charAt(i);
+            if (isWhitespace(c) && (c != ' ' || (i + 1 < length && isWhitespace(v.charAt(i + 1))))) {
+                firstChange = i;
+                break;
+            }
+        }
+        if (firstChange < 0) {
+            return v;
+        }
+
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(v, 0, firstChange);
+        boolean previousSpace = false;
+        for (int i = firstChange; i < length; i++) {
+            char c = v.charAt(i);
+            if (isWhitespace(c)) {
+                if (!previousSpace) {
+                    sb.append(' ');
+                    previousSpace = true;
+                }
+            } else {
+                sb.append(c);
+                previousSpace = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Keeps only ASCII letters ({@code [A-Za-z]}) of a value.
+     *
+     * @param value the value to filter
+     * @return the letters of the value in their original order
+     */
+    public static String asciiLetters(String value) {
+        StringBuilder sb = null;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            boolean letter = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+            if (letter) {
+                if (sb != null) {
+                    sb.append(c);
+                }
+            } else if (sb == null) {
+                sb = new StringBuilder(length);
+                sb.append(value, 0, i);
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    /**
+     * Keeps only ASCII digits ({@code [0-9]}) of a value.
+     *
+     * @param value the value to filter
+     * @return the digits of the value in their original order
+     */
+    public static String asciiDigits(String value) {
+        StringBuilder sb = null;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (sb != null) {
+                    sb.append(c);
+                }
+            } else if (sb == null) {
+                sb = new StringBuilder(length);
+                sb.append(value, 0, i);
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    /**
+     * Checks whether a character belongs to the regex {@code \s} class.
+     *
+     * @param c character to inspect
+     * @return {@code true} for space, tab, new line, vertical tab, form feed or carriage return
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,350 @@
+package co.parameta.technical.test.rest.util.helper;
+
+import co.parameta.technical.test.rest.util.constant.DateFormatSpec;
+import co.parameta.technical.test.rest.util.constant.DateFormatSpec.Shape;
+import co.parameta.technical.test.rest.util.constant.DateFormatSpec.TimePart;
+
+import java.text.ParsePosition;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static co.parameta.technical.test.rest.util.constant.Constants.DATE_FORMATS;
+
+/**
+ * Single-pass date parser used by {@link GeneralRestUtil}.
+ * <p>
+ * Instead of trying every formatter in {@code DATE_FORMATS} and relying on
+ * thrown {@link DateTimeParseException}s, the input shape is classified first
+ * (date separator, position of the first separator and time part) and only the
+ * formatters declared with that shape are tried, in their original order.
+ * Each candidate is checked with {@link DateTimeFormatter#parseUnresolved} and
+ * a {@link ParsePosition}, which never throws, before it is resolved.
+ * </p>
+ *
+ * <p>
+ * The result is the same {@link ZonedDateTime} the previous implementation
+ * produced through {@code OffsetDateTime}, {@code ZonedDateTime},
+ * {@code LocalDateTime} and {@code LocalDate} parsing, so callers can convert
+ * it to {@link java.util.Date} or {@link javax.xml.datatype.XMLGregorianCalendar}.
+ * </p>
+ */
+final class DateShapeParser {
+
+    /**
+     * Formatters in {@code DATE_FORMATS} order, with their resolver style unchanged.
+     */
+    private static final DateTimeFormatter[] SMART_FORMATTERS = DATE_FORMATS.stream()
+            .map(DateFormatSpec::formatter)
+            .toArray(DateTimeFormatter[]::new);
+
+    /**
+     * Formatters in {@code DATE_FORMATS} order, switched to {@link ResolverStyle#STRICT}.
+     */
+    private static final DateTimeFormatter[] STRICT_FORMATTERS = DATE_FORMATS.stream()
+            .map(spec -> spec.formatter().withResolverStyle(ResolverStyle.STRICT))
+            .toArray(DateTimeFormatter[]::new);
+
+    /**
+     * Shape of the date part each formatter can parse, by index.
+     */
+    private static final Shape[] FORMATTER_SHAPES = DATE_FORMATS.stream()
+            .map(DateFormatSpec::shape)
+            .toArray(Shape[]::new);
+
+    /**
+     * Time part each formatter can parse, by index.
+     */
+    private static final TimePart[] FORMATTER_TIME_PARTS = DATE_FORMATS.stream()
+            .map(DateFormatSpec::timePart)
+            .toArray(TimePart[]::new);
+
+    private DateShapeParser() {
+    }
+
+    /**
+     * Parses a normalized (trimmed, single-spaced) date value.
+     *
+     * @param value  normalized date value
+     * @param strict {@code true} to resolve with {@link ResolverStyle#STRICT}
+     * @return the parsed date-time in its own zone or in the system default zone,
+     *         or {@code null} if no supported format matches
+     */
+    static ZonedDateTime parse(String value, boolean strict) {
+        Set<Shape> shapes = classify(value);
+        if (shapes.isEmpty()) {
+            return null;
+        }
+
+        TimePart timePart = TimePart.NONE;
+        if (shapes.contains(Shape.ISO_T)) {
+            ZonedDateTime instant = parseInstant(value);
+            if (instant != null) {
+                return instant;
+            }
+        } else {
+            timePart = timePart(value);
+            if (timePart == null) {
+                return null;
+            }
+        }
+
+        DateTimeFormatter[] formatters = strict ? STRICT_FORMATTERS : SMART_FORMATTERS;
+        for (int i = 0; i < formatters.length; i++) {
+            if (FORMATTER_TIME_PARTS[i] != timePart || !shapes.contains(FORMATTER_SHAPES[i])) {
+                continue;
+            }
+            ZonedDateTime result = parseWith(value, formatters[i]);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Classifies the input by the separators of its date part.
+     * <p>
+     * Years may carry a sign, so a {@code '-'} can be either a separator or
+     * a sign; every shape compatible with the input is returned.
+     * </p>
+     *
+     * @param value normalized value
+     * @return the shapes the input may have; empty if no formatter can match
+     */
+    private static Set<Shape> classify(String value) {
+        Set<Shape> shapes = EnumSet.noneOf(Shape.class);
+        if (containsT(value)) {
+            shapes.add(Shape.ISO_T);
+            return shapes;
+        }
+
+        int space = value.indexOf(' ');
+        int end = space < 0 ? value.length() : space;
+
+        int yearStart = isSign(value, 0, end) ? 1 : 0;
+        int firstSeparator = yearStart;
+        while (firstSeparator < end && isDigit(value.charAt(firstSeparator))) {
+            firstSeparator++;
+        }
+
+        if (firstSeparator == end) {
+            shapes.add(Shape.COMPACT);
+        } else if (firstSeparator - yearStart >= 4) {
+            addSeparatedShape(shapes, value.charAt(firstSeparator), true);
+        }
+
+        if (end >= 6
+                && isDigit(value.charAt(0)) && isDigit(value.charAt(1))
+                && isDigit(value.charAt(3)) && isDigit(value.charAt(4))
+                && value.charAt(2) == value.charAt(5)) {
+            addSeparatedShape(shapes, value.charAt(2), false);
+        }
+
+        if (end > 4 && isSign(value, 4, end) && allDigits(value, 0, 4) && allDigits(value, 5, end)) {
+            shapes.add(Shape.COMPACT);
+        }
+        return shapes;
+    }
+
+    /**
+     * Adds the separated shape matching a separator character.
+     *
+     * @param shapes    target set
+     * @param separator separator found in the date part
+     * @param yearFirst whether the year comes first
+     */
+    private static void addSeparatedShape(Set<Shape> shapes, char separator, boolean yearFirst) {
+        switch (separator) {
+            case '-' -> shapes.add(yearFirst ? Shape.DASH_YEAR_FIRST : Shape.DASH_YEAR_LAST);
+            case '/' -> shapes.add(yearFirst ? Shape.SLASH_YEAR_FIRST : Shape.SLASH_YEAR_LAST);
+            case '.' -> shapes.add(yearFirst ? Shape.DOT_YEAR_FIRST : Shape.DOT_YEAR_LAST);
+            default -> {
+                // not a supported separator
+            }
+        }
+    }
+
+    /**
+     * Checks whether the character at {@code index} is a year sign.
+     *
+     * @param value text to inspect
+     * @param index index to inspect
+     * @param end   exclusive end of the date part
+     * @return {@code true} for {@code '+'} or {@code '-'}
+     */
+    private static boolean isSign(String value, int index, int end) {
+        if (index >= end) {
+            return false;
+        }
+        char c = value.charAt(index);
+        return c == '+' || c == '-';
+    }
+
+    /**
+     * Checks whether a character is an ASCII digit.
+     *
+     * @param c character to inspect
+     * @return {@code true} for {@code 0-9}
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Checks whether all characters in a range are ASCII digits.
+     *
+     * @param value text to inspect
+     * @param from  inclusive start
+     * @param to    exclusive end
+     * @return {@code true} if the range only contains digits
+     */
+    private static boolean allDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the ISO date-time {@code T} separator appears in the value.
+     *
+     * @param value text to inspect
+     * @return {@code true} if an ISO date-time separator is present
+     */
+    private static boolean containsT(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == 'T' || c == 't') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines the time part after the first space.
+     *
+     * @param value normalized value
+     * @return the time part, or {@code null} if unsupported
+     */
+    private static TimePart timePart(String value) {
+        int space = value.indexOf(' ');
+        if (space < 0) {
+            return TimePart.NONE;
+        }
+        int colons = 0;
+        for (int i = space + 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ':') {
+                colons++;
+            } else if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        return switch (colons) {
+            case 1 -> TimePart.MINUTES;
+            case 2 -> TimePart.SECONDS;
+            default -> null;
+        };
+    }
+
+    /**
+     * Parses an ISO instant ({@code 2020-01-01T10:00:00Z}) without throwing.
+     *
+     * @param value normalized value
+     * @return the instant in the system default zone, or {@code null}
+     */
+    private static ZonedDateTime parseInstant(String value) {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor parsed = DateTimeFormatter.ISO_INSTANT.parseUnresolved(value, position);
+        if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() != value.length()) {
+            return null;
+        }
+        try {
+            return Instant.from(DateTimeFormatter.ISO_INSTANT.parse(value))
+                    .atZone(ZoneId.systemDefault());
+        } catch (DateTimeException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the value with a single formatter, mirroring the previous
+     * {@code OffsetDateTime}, {@code ZonedDateTime}, {@code LocalDateTime}
+     * and {@code LocalDate} attempts.
+     *
+     * @param value     normalized value
+     * @param formatter candidate formatter
+     * @return the parsed date-time, or {@code null} if the formatter does not match
+     */
+    private static ZonedDateTime parseWith(String value, DateTimeFormatter formatter) {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor unresolved = formatter.parseUnresolved(value, position);
+        if (unresolved == null
+                || position.getErrorIndex() >= 0
+                || position.getIndex() != value.length()
+                || !inRange(unresolved, ChronoField.MONTH_OF_YEAR)
+                || !inRange(unresolved, ChronoField.DAY_OF_MONTH)) {
+            return null;
+        }
+
+        final TemporalAccessor resolved;
+        try {
+            resolved = formatter.parse(value);
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+
+        ZoneOffset offset = resolved.query(TemporalQueries.offset());
+        ZoneId zone = resolved.query(TemporalQueries.zone());
+        LocalDate date = resolved.query(TemporalQueries.localDate());
+        LocalTime time = resolved.query(TemporalQueries.localTime());
+        boolean hasInstant = resolved.isSupported(ChronoField.INSTANT_SECONDS);
+
+        if (offset != null && ((date != null && time != null) || hasInstant)) {
+            try {
+                return OffsetDateTime.from(resolved).toZonedDateTime();
+            } catch (DateTimeException ignored) {
+                // fall through to the next temporal type, as the previous implementation did
+            }
+        }
+
+        if (zone != null && ((date != null && time != null) || hasInstant)) {
+            try {
+                return ZonedDateTime.from(resolved);
+            } catch (DateTimeException ignored) {
+                // fall through to the next temporal type, as the previous implementation did
+            }
+        }
+
+        if (date != null && time != null) {
+            return LocalDateTime.of(date, time).atZone(ZoneId.systemDefault());
+        }
+
+        if (date != null) {
+            return date.atStartOfDay(ZoneId.systemDefault());
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks that a parsed field, when present, is inside its valid range.
+     *
+     * @param temporal unresolved parse result
+     * @param field    field to validate
+     * @return {@code true} if the field is absent or valid
+     */
+    private static boolean inRange(TemporalAccessor temporal, ChronoField field) {
+        return !temporal.isSupported(field) || field.range().isValidValue(temporal.getLong(field));
+    }
+}
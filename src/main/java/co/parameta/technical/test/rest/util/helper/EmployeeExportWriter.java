@@ -0,0 +1,204 @@
+package co.parameta.technical.test.rest.util.helper;
+
+import co.parameta.technical.test.rest.dto.ExtraInformationDTO;
+import co.parameta.technical.test.rest.repository.projection.EmployeeInformationProjection;
+import co.parameta.technical.test.rest.util.constant.ExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+/**
+ * Writes employee export rows as CSV or NDJSON.
+ * <p>
+ * Each row is written straight to the underlying {@link Writer}; nothing is
+ * accumulated, so memory use does not depend on the number of rows.
+ * JSON is written by hand because rows are flat and only contain strings,
+ * numbers and dates. CSV text cells that a spreadsheet would evaluate as a
+ * formula are prefixed with {@code '}; NDJSON values are written unchanged.
+ * </p>
+ */
+public final class EmployeeExportWriter {
+
+    private static final String[] COLUMNS = {
+            "id", "names", "lastNames", "typeDocumentCode", "typeDocumentDescription",
+            "documentNumber", "dateOfBirth", "dateAffiliationCompany", "positionCode",
+            "positionDescription", "salary",
+            "timeLinkedToCompanyYears", "timeLinkedToCompanyMonths", "timeLinkedToCompanyDays",
+            "currentAgeEmployeeYears", "currentAgeEmployeeMonths", "currentAgeEmployeeDays"
+    };
+
+    private final ExportFormat format;
+    private final Writer writer;
+
+    /**
+     * Reused row buffer; one slot per column.
+     */
+    private final Object[] values = new Object[COLUMNS.length];
+
+    /**
+     * Creates a writer for the given format.
+     *
+     * @param format output format
+     * @param writer destination, typically buffered over the response stream
+     */
+    public EmployeeExportWriter(ExportFormat format, Writer writer) {
+        this.format = format;
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the CSV header row. NDJSON has no header.
+     *
+     * @throws IOException if writing fails
+     */
+    public void writeHeader() throws IOException {
+        if (format != ExportFormat.CSV) {
+            return;
+        }
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(COLUMNS[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Writes one employee row.
+     *
+     * @param employee      employee data
+     * @param timeAtCompany time linked to the company (optional)
+     * @param age           current age of the employee (optional)
+     * @throws IOException if writing fails
+     */
+    public void writeRow(
+            EmployeeInformationProjection employee,
+            ExtraInformationDTO timeAtCompany,
+            ExtraInformationDTO age
+    ) throws IOException {
+        values[0] = employee.getId();
+        values[1] = employee.getNames();
+        values[2] = employee.getLastNames();
+        values[3] = employee.getTypeDocumentCode();
+        values[4] = employee.getTypeDocumentDescription();
+        values[5] = employee.getDocumentNumber();
+        values[6] = GeneralRestUtil.dateToDateString(employee.getDateOfBirth());
+        values[7] = GeneralRestUtil.dateToDateString(employee.getDateAffiliationCompany());
+        values[8] = employee.getPositionCode();
+        values[9] = employee.getPositionDescription();
+        values[10] = GeneralRestUtil.doubleToBigDecimal(employee.getSalary());
+        values[11] = timeAtCompany != null ? timeAtCompany.getYears() : null;
+        values[12] = timeAtCompany != null ? timeAtCompany.getMonths() : null;
+        values[13] = timeAtCompany != null ? timeAtCompany.getDays() : null;
+        values[14] = age != null ? age.getYears() : null;
+        values[15] = age != null ? age.getMonths() : null;
+        values[16] = age != null ? age.getDays() : null;
+
+        if (format == ExportFormat.CSV) {
+            writeCsvRow();
+        } else {
+            writeJsonRow();
+        }
+    }
+
+    private void writeCsvRow() throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value instanceof String text) {
+                writeCsvText(text);
+            } else if (value != null) {
+                writeNumber(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvText(String text) throws IOException {
+        if (isFormulaStart(text)) {
+            text = '\'' + text;
+        }
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Whether a spreadsheet would read the cell as a formula (CSV injection).
+     * Such cells are written with a leading {@code '}, which spreadsheets
+     * show as text and do not evaluate.
+     */
+    private static boolean isFormulaStart(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private void writeJsonRow() throws IOException {
+        writer.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(COLUMNS[i]);
+            writer.write("\":");
+            Object value = values[i];
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof String text) {
+                writeJsonText(text);
+            } else {
+                writeNumber(value);
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private void writeNumber(Object value) throws IOException {
+        writer.write(value instanceof BigDecimal number ? number.toPlainString() : value.toString());
+    }
+
+    private void writeJsonText(String text) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -3,14 +3,10 @@ package co.parameta.technical.test.rest.util.helper;
 import co.parameta.technical.test.rest.dto.ExtraInformationDTO;
 import groovy.util.logging.Slf4j;
 
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 import java.math.BigDecimal;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
 import java.util.*;
 
 import static co.parameta.technical.test.rest.util.constant.Constants.*;
@@ -25,6 +21,12 @@ import static co.parameta.technical.test.rest.util.constant.Constants.*;
 @Slf4j
 public final class GeneralRestUtil {
 
+    /**
+     * Formatter used by {@link #dateToDateString(Date)}; immutable and thread-safe.
+     */
+    private static final DateTimeFormatter DATE_ONLY_FORMATTER =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd");
+
     private GeneralRestUtil() {
     }
 
@@ -58,6 +60,9 @@ public final class GeneralRestUtil {
 
     /**
      * Validates whether a string matches any supported date or datetime format.
+     * <p>
+     * The input shape is classified first, so only the formatters that can
+     * match it are tried and no exception is thrown for unsupported formats.
      *
      * @param value the date string to validate
      * @return {@code true} if the value can be parsed using known formats
@@ -67,63 +72,19 @@ public final class GeneralRestUtil {
             return false;
         }
 
-        String v = value.trim();
+        String v = DateConversionUtil.normalizeSpaces(value);
         if (v.isEmpty()) {
             return false;
         }
 
-        v = v.replaceAll("\\s+", " ");
-
-        for (DateTimeFormatter formatter : FORMATTERS) {
-            if (tryParseSmart(v, formatter)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Attempts to parse a date string using multiple temporal types.
-     *
-     * @param value     date value
-     * @param formatter formatter to apply
-     * @return {@code true} if parsing succeeds
-     */
-    private static boolean tryParseSmart(String value, DateTimeFormatter formatter) {
-        try {
-            LocalDate.parse(value, formatter);
-            return true;
-        } catch (DateTimeParseException ignored) {
-            log.info(ERROR_IGNORE);
-        }
-
-        try {
-            LocalDateTime.parse(value, formatter);
-            return true;
-        } catch (DateTimeParseException ignored) {
-            log.info(ERROR_IGNORE);
-        }
-
-        try {
-            OffsetDateTime.parse(value, formatter);
-            return true;
-        } catch (DateTimeParseException ignored) {
-            log.info(ERROR_IGNORE);
-        }
-
-        try {
-            Instant.parse(value);
-            return true;
-        } catch (Exception ignored) {
-            log.info(ERROR_IGNORE);
-        }
-
-        return false;
+        return DateShapeParser.parse(v, false) != null;
     }
 
     /**
      * Parses a string into a {@link Date} using multiple supported formats.
+     * <p>
+     * Parsing is delegated to {@link DateShapeParser}, which dispatches to the
+     * formatters compatible with the input shape without exception-driven retries.
      *
      * @param value the date string
      * @return parsed {@link Date} or {@code null} if input is blank
@@ -134,51 +95,16 @@ public final class GeneralRestUtil {
             return null;
         }
 
-        String v = value.trim();
+        String v = DateConversionUtil.normalizeSpaces(value);
         if (v.isEmpty()) {
             return null;
         }
 
-        v = v.replaceAll("\\s+", " ");
-
-        try {
-            return Date.from(Instant.parse(v));
-        } catch (Exception ignored) {
-            log.info(ERROR_IGNORE);
-        }
-
-        for (DateTimeFormatter formatter : FORMATTERS) {
-
-            try {
-                OffsetDateTime odt = OffsetDateTime.parse(v, formatter);
-                return Date.from(odt.toInstant());
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
-
-            try {
-                ZonedDateTime zdt = ZonedDateTime.parse(v, formatter);
-                return Date.from(zdt.toInstant());
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
-
-            try {
-                LocalDateTime ldt = LocalDateTime.parse(v, formatter);
-                return Date.from(ldt.atZone(ZoneId.systemDefault()).toInstant());
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
-
-            try {
-                LocalDate ld = LocalDate.parse(v, formatter);
-                return Date.from(ld.atStartOfDay(ZoneId.systemDefault()).toInstant());
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
+        ZonedDateTime parsed = DateShapeParser.parse(v, false);
+        if (parsed == null) {
+            throw new IllegalArgumentException(String.format(INVALID_DATE_FORMAT, v));
         }
-
-        throw new IllegalArgumentException(String.format(INVALID_DATE_FORMAT, v));
+        return Date.from(parsed.toInstant());
     }
 
     /**
@@ -196,10 +122,7 @@ public final class GeneralRestUtil {
             return null;
         }
 
-        DateTimeFormatter formatter =
-                DateTimeFormatter.ofPattern("uuuu-MM-dd");
-
-        return formatter.format(
+        return DATE_ONLY_FORMATTER.format(
                 date.toInstant()
                         .atZone(ZoneId.systemDefault())
                         .toLocalDate()
@@ -210,6 +133,9 @@ public final class GeneralRestUtil {
 
     /**
      * Converts a date string into an {@link XMLGregorianCalendar}.
+     * <p>
+     * Formats are resolved with {@link java.time.format.ResolverStyle#STRICT}.
+     * The calendar is built with the shared factory of {@link DateConversionUtil}.
      *
      * @param value the date string
      * @return parsed {@link XMLGregorianCalendar}
@@ -218,64 +144,14 @@ public final class GeneralRestUtil {
     public static XMLGregorianCalendar fromString(String value) {
         if (value == null) return null;
 
-        String v = value.trim();
+        String v = DateConversionUtil.normalizeSpaces(value);
         if (v.isEmpty()) return null;
 
-        v = v.replaceAll("\\s+", " ");
-
-        final DatatypeFactory df;
-        try {
-            df = DatatypeFactory.newInstance();
-        } catch (DatatypeConfigurationException e) {
-            throw new IllegalStateException(DATATYPE_FACTORY_INIT_ERROR, e);
+        ZonedDateTime parsed = DateShapeParser.parse(v, true);
+        if (parsed == null) {
+            throw new IllegalArgumentException(String.format(INVALID_DATE_FORMAT, v));
         }
-
-        try {
-            Instant instant = Instant.parse(v);
-            return df.newXMLGregorianCalendar(
-                    GregorianCalendar.from(instant.atZone(ZoneId.systemDefault()))
-            );
-        } catch (Exception ignored) {
-            log.info(ERROR_IGNORE);
-        }
-
-        for (DateTimeFormatter baseFormatter : FORMATTERS) {
-            DateTimeFormatter formatter = baseFormatter.withResolverStyle(ResolverStyle.STRICT);
-
-            try {
-                OffsetDateTime odt = OffsetDateTime.parse(v, formatter);
-                return df.newXMLGregorianCalendar(GregorianCalendar.from(odt.toZonedDateTime()));
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
-
-            try {
-                ZonedDateTime zdt = ZonedDateTime.parse(v, formatter);
-                return df.newXMLGregorianCalendar(GregorianCalendar.from(zdt));
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
-
-            try {
-                LocalDateTime ldt = LocalDateTime.parse(v, formatter);
-                return df.newXMLGregorianCalendar(
-                        GregorianCalendar.from(ldt.atZone(ZoneId.systemDefault()))
-                );
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
-
-            try {
-                LocalDate ld = LocalDate.parse(v, formatter);
-                return df.newXMLGregorianCalendar(
-                        GregorianCalendar.from(ld.atStartOfDay(ZoneId.systemDefault()))
-                );
-            } catch (DateTimeParseException ignored) {
-                log.info(ERROR_IGNORE);
-            }
-        }
-
-        throw new IllegalArgumentException(String.format(INVALID_DATE_FORMAT, v));
+        return DateConversionUtil.toXmlGregorianCalendar(parsed);
     }
 
 
@@ -290,7 +166,7 @@ public final class GeneralRestUtil {
         if (value == null || value.isBlank()) {
             return "XX";
         }
-        String clean = value.replaceAll("[^A-Za-z]", "").toUpperCase();
+        String clean = DateConversionUtil.asciiLetters(value).toUpperCase();
         return clean.length() >= length
                 ? clean.substring(0, length)
                 : clean + "X".repeat(length - clean.length());
@@ -312,7 +188,7 @@ public final class GeneralRestUtil {
             return "0".repeat(length);
         }
 
-        String digits = value.replaceAll("\\D", "");
+        String digits = DateConversionUtil.asciiDigits(value);
 
         if (digits.isEmpty()) {
             return "0".repeat(length);
@@ -0,0 +1,42 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Signature and expiration check of a JWT.
+ */
+@Name("co.parameta.rest.JwtVerification")
+@Label("JWT Verification")
+public class JwtVerificationEvent extends RestJfrEvent {
+
+    @Label("Valid")
+    boolean valid;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @return the started event, or {@code null}
+     */
+    public static JwtVerificationEvent start() {
+        if (!isActive()) {
+            return null;
+        }
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event event returned by {@link #start()}
+     * @param valid whether the token was accepted
+     */
+    public static void finish(JwtVerificationEvent event, boolean valid) {
+        if (event != null) {
+            event.valid = valid;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * SMTP delivery of an email.
+ */
+@Name("co.parameta.rest.MailSend")
+@Label("Mail Send")
+public class MailSendEvent extends RestJfrEvent {
+
+    @Label("Recipients")
+    int recipients;
+
+    @Label("Attachment Size")
+    @DataAmount
+    long attachmentSize;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @param recipients     number of To, CC and BCC recipients
+     * @param attachmentSize attachment size in bytes, {@code 0} without attachment
+     * @return the started event, or {@code null}
+     */
+    public static MailSendEvent start(int recipients, long attachmentSize) {
+        if (!isActive()) {
+            return null;
+        }
+        MailSendEvent event = new MailSendEvent();
+        event.recipients = recipients;
+        event.attachmentSize = attachmentSize;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event event returned by {@link #start(int, long)}
+     */
+    public static void finish(MailSendEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
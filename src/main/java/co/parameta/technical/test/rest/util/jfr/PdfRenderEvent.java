@@ -0,0 +1,49 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Rendering of an employee PDF report.
+ */
+@Name("co.parameta.rest.PdfRender")
+@Label("PDF Render")
+public class PdfRenderEvent extends RestJfrEvent {
+
+    @Label("Report Type")
+    String reportType;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @param reportType {@code create} or {@code update}
+     * @return the started event, or {@code null}
+     */
+    public static PdfRenderEvent start(String reportType) {
+        if (!isActive()) {
+            return null;
+        }
+        PdfRenderEvent event = new PdfRenderEvent();
+        event.reportType = reportType;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event event returned by {@link #start(String)}
+     * @param size  size of the rendered document in bytes
+     */
+    public static void finish(PdfRenderEvent event, long size) {
+        if (event != null) {
+            event.size = size;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of the JDK Flight Recorder events emitted by the REST service.
+ * <p>
+ * Events are only created when {@code jfr.events.enabled} is {@code true}; the
+ * factories of the subclasses return {@code null} otherwise, so a disabled
+ * event costs one volatile read and no allocation. When enabled, JFR still
+ * drops the event unless a recording has it turned on.
+ * </p>
+ */
+@Category({"Parameta", "REST"})
+@StackTrace(false)
+public abstract class RestJfrEvent extends Event {
+
+    private static volatile boolean active;
+
+    /**
+     * Returns whether the application emits its JFR events.
+     *
+     * @return {@code true} when events are created
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Enables or disables the application JFR events.
+     *
+     * @param value whether events are created
+     */
+    public static void setActive(boolean value) {
+        active = value;
+    }
+}
@@ -0,0 +1,54 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Download of an object from S3.
+ */
+@Name("co.parameta.rest.S3Get")
+@Label("S3 Get")
+public class S3GetEvent extends RestJfrEvent {
+
+    @Label("Bucket")
+    String bucket;
+
+    @Label("Key")
+    String key;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @param bucket S3 bucket
+     * @param key    object key
+     * @return the started event, or {@code null}
+     */
+    public static S3GetEvent start(String bucket, String key) {
+        if (!isActive()) {
+            return null;
+        }
+        S3GetEvent event = new S3GetEvent();
+        event.bucket = bucket;
+        event.key = key;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event event returned by {@link #start(String, String)}
+     * @param size  object size in bytes
+     */
+    public static void finish(S3GetEvent event, long size) {
+        if (event != null) {
+            event.size = size;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Upload of an object to S3.
+ */
+@Name("co.parameta.rest.S3Put")
+@Label("S3 Put")
+public class S3PutEvent extends RestJfrEvent {
+
+    @Label("Bucket")
+    String bucket;
+
+    @Label("Key")
+    String key;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @param bucket S3 bucket
+     * @param key    object key
+     * @return the started event, or {@code null}
+     */
+    public static S3PutEvent start(String bucket, String key) {
+        if (!isActive()) {
+            return null;
+        }
+        S3PutEvent event = new S3PutEvent();
+        event.bucket = bucket;
+        event.key = key;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event event returned by {@link #start(String, String)}
+     * @param size  object size in bytes
+     */
+    public static void finish(S3PutEvent event, long size) {
+        if (event != null) {
+            event.size = size;
+            event.commit();
+        }
+    }
+}
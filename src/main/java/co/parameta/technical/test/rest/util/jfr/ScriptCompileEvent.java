@@ -0,0 +1,47 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Compilation of a Groovy validation script.
+ */
+@Name("co.parameta.rest.ScriptCompile")
+@Label("Groovy Script Compile")
+public class ScriptCompileEvent extends RestJfrEvent {
+
+    @Label("Script Code")
+    String scriptCode;
+
+    @Label("Source Length")
+    int sourceLength;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @param scriptCode code of the script
+     * @param source     script source
+     * @return the started event, or {@code null}
+     */
+    public static ScriptCompileEvent start(String scriptCode, String source) {
+        if (!isActive()) {
+            return null;
+        }
+        ScriptCompileEvent event = new ScriptCompileEvent();
+        event.scriptCode = scriptCode;
+        event.sourceLength = source != null ? source.length() : 0;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event event returned by {@link #start(String, String)}
+     */
+    public static void finish(ScriptCompileEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
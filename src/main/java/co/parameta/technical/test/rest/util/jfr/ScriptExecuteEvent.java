@@ -0,0 +1,52 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Execution of a compiled Groovy validation script, SQL calls included.
+ */
+@Name("co.parameta.rest.ScriptExecute")
+@Label("Groovy Script Execute")
+public class ScriptExecuteEvent extends RestJfrEvent {
+
+    @Label("Script Code")
+    String scriptCode;
+
+    @Label("SQL Calls")
+    int sqlCalls;
+
+    @Label("Rows")
+    long rows;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @param scriptCode code of the script
+     * @return the started event, or {@code null}
+     */
+    public static ScriptExecuteEvent start(String scriptCode) {
+        if (!isActive()) {
+            return null;
+        }
+        ScriptExecuteEvent event = new ScriptExecuteEvent();
+        event.scriptCode = scriptCode;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event    event returned by {@link #start(String)}
+     * @param sqlCalls SQL calls made by the script
+     * @param rows     rows returned by those calls
+     */
+    public static void finish(ScriptExecuteEvent event, int sqlCalls, long rows) {
+        if (event != null) {
+            event.sqlCalls = sqlCalls;
+            event.rows = rows;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Round trip to the SOAP employee service.
+ */
+@Name("co.parameta.rest.SoapCall")
+@Label("SOAP Round Trip")
+public class SoapCallEvent extends RestJfrEvent {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Starts the event, or returns {@code null} when events are disabled.
+     *
+     * @param endpoint SOAP endpoint URI
+     * @return the started event, or {@code null}
+     */
+    public static SoapCallEvent start(String endpoint) {
+        if (!isActive()) {
+            return null;
+        }
+        SoapCallEvent event = new SoapCallEvent();
+        event.endpoint = endpoint;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it was started.
+     *
+     * @param event   event returned by {@link #start(String)}
+     * @param success whether a response was received
+     */
+    public static void finish(SoapCallEvent event, boolean success) {
+        if (event != null) {
+            event.success = success;
+            event.commit();
+        }
+    }
+}
@@ -4,14 +4,25 @@ import co.parameta.technical.test.commons.dto.EmployeeDTO;
 import co.parameta.technical.test.commons.entity.EmployeeEntity;
 import co.parameta.technical.test.commons.util.mapper.BaseMapper;
 import co.parameta.technical.test.rest.dto.AllInformationEmployeeDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSummaryDTO;
 import co.parameta.technical.test.rest.dto.ExtraInformationDTO;
+import co.parameta.technical.test.rest.repository.projection.EmployeeInformationProjection;
+import co.parameta.technical.test.rest.repository.projection.EmployeeSummaryProjection;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
 
 /**
  * MapStruct mapper for converting {@link EmployeeEntity} objects to {@link EmployeeDTO} and vice versa.
  * <p>
  * Also provides a helper method to build an {@link AllInformationEmployeeDTO} by enriching the base
- * employee data with calculated extra information and an optional PDF payload.
+ * employee data with calculated extra information and an optional PDF payload, and a mapping
+ * from the {@link EmployeeInformationProjection} and {@link EmployeeSummaryProjection} read models.
  */
 @Mapper(componentModel = "spring")
 public interface EmployeeMapper extends BaseMapper<EmployeeEntity, EmployeeDTO> {
@@ -66,4 +77,54 @@ public interface EmployeeMapper extends BaseMapper<EmployeeEntity, EmployeeDTO>
 
         return allInformationEmployee;
     }
+
+    /**
+     * Maps the complete employee information projection to an {@link EmployeeDTO}.
+     * <p>
+     * Only the projected columns are mapped; administrator credentials are not
+     * part of the projection and stay {@code null}.
+     *
+     * @param projection employee information read in a single query
+     * @return the mapped {@link EmployeeDTO}, or {@code null} if the projection is null
+     */
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+    @Mapping(target = "typeDocument.code", source = "typeDocumentCode")
+    @Mapping(target = "typeDocument.description", source = "typeDocumentDescription")
+    @Mapping(target = "position.code", source = "positionCode")
+    @Mapping(target = "position.description", source = "positionDescription")
+    @Mapping(target = "administratorUser.email", source = "administratorUserEmail")
+    EmployeeDTO employeeInformationProjectionToDto(EmployeeInformationProjection projection);
+
+    /**
+     * Leaves the administrator user empty when the employee has none, as the
+     * nested mapping above would otherwise create an empty object.
+     *
+     * @param projection source projection
+     * @param employee   mapped employee
+     */
+    @AfterMapping
+    default void clearMissingAdministratorUser(
+            EmployeeInformationProjection projection,
+            @MappingTarget EmployeeDTO employee
+    ) {
+        if (projection.getAdministratorUserEmail() == null) {
+            employee.setAdministratorUser(null);
+        }
+    }
+
+    /**
+     * Maps an employee listing projection to an {@link EmployeeSummaryDTO}.
+     *
+     * @param projection listing row
+     * @return the mapped {@link EmployeeSummaryDTO}
+     */
+    EmployeeSummaryDTO employeeSummaryProjectionToDto(EmployeeSummaryProjection projection);
+
+    /**
+     * Maps the rows of an employee listing page.
+     *
+     * @param projections listing rows
+     * @return the mapped rows, in the same order
+     */
+    List<EmployeeSummaryDTO> employeeSummaryProjectionsToDto(List<EmployeeSummaryProjection> projections);
 }
@@ -3,7 +3,10 @@ package co.parameta.technical.test.rest;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"tracing.exporter=memory",
+		"management.tracing.sampling.probability=1.0"
+})
 class RestApplicationTests {
 
 	@Test
@@ -0,0 +1,103 @@
+package co.parameta.technical.test.rest.configuration;
+
+import io.micrometer.tracing.CurrentTraceContext;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapHeaderElement;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+import org.springframework.ws.transport.http.HttpUrlConnection;
+
+import javax.xml.namespace.QName;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TracingSoapClientInterceptorTest {
+
+    private static final String TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    @InjectMocks
+    private TracingSoapClientInterceptor interceptor;
+
+    @Mock
+    private Tracer tracer;
+
+    @Mock
+    private Propagator propagator;
+
+    @Mock
+    private CurrentTraceContext currentTraceContext;
+
+    @Mock
+    private TraceContext traceContext;
+
+    @Mock
+    private MessageContext messageContext;
+
+    @Mock
+    private SoapMessage soapMessage;
+
+    @Mock
+    private SoapHeader soapHeader;
+
+    @Mock
+    private SoapHeaderElement soapHeaderElement;
+
+    @Mock
+    private TransportContext transportContext;
+
+    @Mock
+    private HttpUrlConnection connection;
+
+    @AfterEach
+    void clearTransportContext() {
+        TransportContextHolder.setTransportContext(null);
+    }
+
+    @Test
+    void handleRequestWritesTraceContextToHttpAndSoapHeaders() throws Exception {
+        when(tracer.currentTraceContext()).thenReturn(currentTraceContext);
+        when(currentTraceContext.context()).thenReturn(traceContext);
+        when(messageContext.getRequest()).thenReturn(soapMessage);
+        when(soapMessage.getSoapHeader()).thenReturn(soapHeader);
+        when(soapHeader.addHeaderElement(any(QName.class))).thenReturn(soapHeaderElement);
+        when(transportContext.getConnection()).thenReturn(connection);
+        TransportContextHolder.setTransportContext(transportContext);
+
+        doAnswer(invocation -> {
+            Propagator.Setter<MessageContext> setter = invocation.getArgument(2);
+            setter.set(invocation.getArgument(1), "traceparent", TRACEPARENT);
+            return null;
+        }).when(propagator).inject(eq(traceContext), eq(messageContext), any());
+
+        assertTrue(interceptor.handleRequest(messageContext));
+
+        verify(connection).addRequestHeader("traceparent", TRACEPARENT);
+        verify(soapHeader).addHeaderElement(
+                new QName(TracingSoapClientInterceptor.TRACE_NAMESPACE, "traceparent"));
+        verify(soapHeaderElement).setText(TRACEPARENT);
+    }
+
+    @Test
+    void handleRequestWithoutCurrentSpanDoesNothing() {
+        when(tracer.currentTraceContext()).thenReturn(currentTraceContext);
+        when(currentTraceContext.context()).thenReturn(null);
+
+        assertTrue(interceptor.handleRequest(messageContext));
+
+        verifyNoInteractions(propagator, messageContext);
+    }
+}
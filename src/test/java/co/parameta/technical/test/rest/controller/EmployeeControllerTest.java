@@ -1,25 +1,41 @@
 package co.parameta.technical.test.rest.controller;
 
 import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
 import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSearchRequestDTO;
+import co.parameta.technical.test.rest.service.IEmployeeExportService;
+import co.parameta.technical.test.rest.service.IEmployeeSearchService;
+import co.parameta.technical.test.rest.service.IIdempotencyService;
 import co.parameta.technical.test.rest.service.IValidationEmployeeService;
 import co.parameta.technical.test.rest.service.IViewAllUserInformationService;
+import co.parameta.technical.test.rest.util.constant.ExportFormat;
 import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +50,18 @@ class EmployeeControllerTest {
     @Mock
     private IViewAllUserInformationService viewAllUserInformationService;
 
+    @Mock
+    private IEmployeeSearchService employeeSearchService;
+
+    @Mock
+    private IEmployeeExportService employeeExportService;
+
+    @Mock
+    private IIdempotencyService idempotencyService;
+
+    @Spy
+    private JsonMapper jsonMapper = JsonMapper.builder().build();
+
     @Test
     void saveEmployeeSuccess() throws MessagingException {
 
@@ -53,13 +81,33 @@ class EmployeeControllerTest {
                 .thenReturn(responseDto);
 
         ResponseEntity<ResponseGeneralDTO> response =
-                employeeController.employeeSave(request);
+                employeeController.employeeSave(request, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(HttpStatus.OK.value(), response.getBody().getStatus());
         assertEquals("Employee saved successfully", response.getBody().getMessage());
     }
 
+    @Test
+    void saveEmployeeWithIdempotencyKeyGoesThroughIdempotencyService() throws MessagingException {
+
+        ResponseGeneralDTO responseDto = new ResponseGeneralDTO();
+        responseDto.setStatus(HttpStatus.OK.value());
+
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setDocumentNumber("1111");
+
+        when(idempotencyService.execute(eq("key-1"),
+                argThat(json -> json.startsWith("{") && json.contains("\"documentNumber\":\"1111\"")), any()))
+                .thenReturn(responseDto);
+
+        ResponseEntity<ResponseGeneralDTO> response =
+                employeeController.employeeSave(request, "key-1");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(validationEmployeeService, never()).validationEmployee(any());
+    }
+
     @Test
     void getAllUserInformationSuccess() {
 
@@ -102,4 +150,44 @@ class EmployeeControllerTest {
         assertEquals(HttpStatus.OK.value(), response.getBody().getStatus());
         assertEquals("OK", response.getBody().getMessage());
     }
+
+    @Test
+    void searchEmployeesSuccess() {
+
+        ResponseGeneralDTO responseDto = new ResponseGeneralDTO();
+        responseDto.setStatus(HttpStatus.OK.value());
+        responseDto.setMessage("The employees were consulted correctly");
+
+        EmployeeSearchRequestDTO request = new EmployeeSearchRequestDTO();
+        request.setPosition("DEV");
+        request.setAfterId(20);
+
+        when(employeeSearchService.searchEmployees(request)).thenReturn(responseDto);
+
+        ResponseEntity<ResponseGeneralDTO> response =
+                employeeController.searchEmployees(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("The employees were consulted correctly", response.getBody().getMessage());
+    }
+
+    @Test
+    void exportEmployeesStreamsWithRequestedFormat() throws IOException {
+
+        ResponseEntity<StreamingResponseBody> response =
+                employeeController.exportEmployees("ndjson");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        verify(employeeExportService).exportEmployees(eq(ExportFormat.NDJSON), eq(out));
+    }
+
+    @Test
+    void exportEmployeesUnknownFormatThrowsCustomMessage() {
+        assertThrows(MensajePersonalizadoException.class,
+                () -> employeeController.exportEmployees("xml"));
+    }
 }
@@ -4,6 +4,7 @@ import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
 import co.parameta.technical.test.commons.service.ITokenBlacklistService;
 import co.parameta.technical.test.rest.dto.RequestLoginDTO;
 import co.parameta.technical.test.rest.service.IAutenticationService;
+import co.parameta.technical.test.rest.service.IVerifiedTokenCacheService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +31,9 @@ class LoginControllerTest {
     @Mock
     private IAutenticationService authenticationService;
 
+    @Mock
+    private IVerifiedTokenCacheService verifiedTokenCacheService;
+
     @Test
     void loginUserSuccess() throws Exception {
 
@@ -89,6 +94,7 @@ class LoginControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(HttpStatus.OK.value(), response.getBody().getStatus());
         assertEquals("Logout successful", response.getBody().getMessage());
+        verify(verifiedTokenCacheService).invalidate(token);
     }
 }
 
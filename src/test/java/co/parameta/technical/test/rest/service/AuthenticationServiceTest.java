@@ -9,20 +9,20 @@ import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoExc
 import co.parameta.technical.test.commons.util.mapper.AdministratorUserMapper;
 import co.parameta.technical.test.rest.dto.AuthResponseDTO;
 import co.parameta.technical.test.rest.dto.RequestLoginDTO;
+import co.parameta.technical.test.rest.dto.VerifiedTokenDTO;
 import co.parameta.technical.test.rest.repository.AdministratorUserRepository;
 import co.parameta.technical.test.rest.service.impl.AutenticationService;
 import co.parameta.technical.test.rest.util.constant.Constants;
-import org.junit.jupiter.api.BeforeEach;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -40,7 +40,7 @@ class AuthenticationServiceTest {
     private IJwtService jwtService;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private IPasswordVerificationService passwordVerificationService;
 
     @Mock
     private ITokenBlacklistService tokenBlacklistService;
@@ -54,14 +54,11 @@ class AuthenticationServiceTest {
     @Mock
     private AdministratorUserMapper administratorUserMapper;
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(
-                authenticationService,
-                "secretKey",
-                "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWYwMTIzNDU2Nzg5YWJjZGVm"
-        );
-    }
+    @Mock
+    private IJwtClaimsService jwtClaimsService;
+
+    @Mock
+    private IVerifiedTokenCacheService verifiedTokenCacheService;
 
     @Test
     void loginSuccess() {
@@ -69,15 +66,16 @@ class AuthenticationServiceTest {
         request.setEmail("uno@gmail.com");
         request.setPassword("12345");
 
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(null);
-
         AdministratorUserEntity entity = new AdministratorUserEntity();
         entity.setEmail("uno@gmail.com");
 
         AdministratorUserDTO dto = new AdministratorUserDTO();
         dto.setEmail("uno@gmail.com");
         dto.setCode("U001");
+        dto.setPasswordEncoder("$2a$10$hash");
+
+        when(passwordVerificationService.matches(eq("12345"), eq("$2a$10$hash")))
+                .thenReturn(true);
 
         when(administratorUserRepository.findByEmail(eq("uno@gmail.com")))
                 .thenReturn(Optional.of(entity));
@@ -104,8 +102,8 @@ class AuthenticationServiceTest {
         assertEquals(60000L, data.getExpirationTime());
         assertEquals("uno@gmail.com", data.getUser());
 
-        verify(authenticationManager, times(1))
-                .authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verify(passwordVerificationService, times(1))
+                .matches("12345", "$2a$10$hash");
         verify(administratorUserRepository, times(1))
                 .findByEmail("uno@gmail.com");
         verify(jwtService, times(1))
@@ -120,10 +118,84 @@ class AuthenticationServiceTest {
         request.setEmail("uno@gmail.com");
         request.setPassword("bad");
 
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new RuntimeException("bad credentials"));
+        AdministratorUserEntity entity = new AdministratorUserEntity();
+        AdministratorUserDTO dto = new AdministratorUserDTO();
+        dto.setPasswordEncoder("$2a$10$hash");
+
+        when(administratorUserRepository.findByEmail(eq("uno@gmail.com")))
+                .thenReturn(Optional.of(entity));
+        when(administratorUserMapper.toDto(eq(entity)))
+                .thenReturn(dto);
+        when(passwordVerificationService.matches(eq("bad"), eq("$2a$10$hash")))
+                .thenReturn(false);
+
+        assertThrows(BadCredentialsException.class, () -> authenticationService.userLogin(request));
+        verify(jwtService, never()).getToken(any());
+    }
+
+    @Test
+    void loginUpgradesOutdatedPasswordHash() {
+        RequestLoginDTO request = new RequestLoginDTO();
+        request.setEmail("uno@gmail.com");
+        request.setPassword("12345");
+
+        AdministratorUserEntity entity = new AdministratorUserEntity();
+        AdministratorUserDTO dto = new AdministratorUserDTO();
+        dto.setEmail("uno@gmail.com");
+        dto.setPasswordEncoder("$2a$04$hash");
+
+        when(administratorUserRepository.findByEmail(eq("uno@gmail.com")))
+                .thenReturn(Optional.of(entity));
+        when(administratorUserMapper.toDto(eq(entity)))
+                .thenReturn(dto);
+        when(passwordVerificationService.matches(eq("12345"), eq("$2a$04$hash")))
+                .thenReturn(true);
+        when(passwordVerificationService.upgradeEncoding(eq("$2a$04$hash")))
+                .thenReturn(true);
+        when(passwordVerificationService.encode(eq("12345")))
+                .thenReturn("$2a$10$hash");
+
+        authenticationService.userLogin(request);
+
+        assertEquals("$2a$10$hash", entity.getPasswordEncoder());
+        verify(administratorUserRepository, times(1)).save(entity);
+    }
+
+    @Test
+    void loginKeepsCurrentPasswordHash() {
+        RequestLoginDTO request = new RequestLoginDTO();
+        request.setEmail("uno@gmail.com");
+        request.setPassword("12345");
+
+        AdministratorUserEntity entity = new AdministratorUserEntity();
+        AdministratorUserDTO dto = new AdministratorUserDTO();
+        dto.setEmail("uno@gmail.com");
+        dto.setPasswordEncoder("$2a$10$hash");
+
+        when(administratorUserRepository.findByEmail(eq("uno@gmail.com")))
+                .thenReturn(Optional.of(entity));
+        when(administratorUserMapper.toDto(eq(entity)))
+                .thenReturn(dto);
+        when(passwordVerificationService.matches(eq("12345"), eq("$2a$10$hash")))
+                .thenReturn(true);
+
+        authenticationService.userLogin(request);
+
+        verify(passwordVerificationService, never()).encode(any());
+        verify(administratorUserRepository, never()).save(any());
+    }
+
+    @Test
+    void loginUnknownUserStillVerifiesPasswordAndThrowsBadCredentials() {
+        RequestLoginDTO request = new RequestLoginDTO();
+        request.setEmail("nobody@gmail.com");
+        request.setPassword("12345");
+
+        when(administratorUserRepository.findByEmail(eq("nobody@gmail.com")))
+                .thenReturn(Optional.empty());
 
         assertThrows(BadCredentialsException.class, () -> authenticationService.userLogin(request));
+        verify(passwordVerificationService, times(1)).matches("12345", null);
     }
 
     @Test
@@ -158,4 +230,80 @@ class AuthenticationServiceTest {
         );
         assertEquals(Constants.ERR_TOKEN_REVOKED, ex.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void userInfoValidTokenParsesClaimsOnce() {
+        String jwt = "abc.def.ghi";
+        Claims claims = Jwts.claims().subject("U001").build();
+
+        when(blacklistTokenRepository.existsByToken(eq(jwt)))
+                .thenReturn(false);
+        when(jwtClaimsService.parseClaims(eq(jwt)))
+                .thenReturn(claims);
+        when(jwtClaimsService.getCode(same(claims)))
+                .thenReturn("U001");
+        when(jwtClaimsService.getTimeRemainingMillis(same(claims)))
+                .thenReturn(30000L);
+
+        AdministratorUserEntity entity = new AdministratorUserEntity();
+        AdministratorUserDTO dto = new AdministratorUserDTO();
+        dto.setEmail("uno@gmail.com");
+
+        when(administratorUserRepository.findByCode(eq("U001")))
+                .thenReturn(Optional.of(entity));
+        when(administratorUserMapper.toDto(eq(entity)))
+                .thenReturn(dto);
+
+        var response = authenticationService.userInformation("Bearer " + jwt);
+
+        AuthResponseDTO data = (AuthResponseDTO) response.getData();
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals("uno@gmail.com", data.getUser());
+        assertEquals(30000L, data.getExpirationTime());
+
+        verify(jwtClaimsService, times(1)).parseClaims(jwt);
+        verify(verifiedTokenCacheService, times(1)).put(jwt, claims, dto);
+        verifyNoInteractions(jwtService);
+    }
+
+    @Test
+    void userInfoCachedTokenSkipsVerificationAndUserLookup() {
+        String jwt = "abc.def.ghi";
+        Claims claims = Jwts.claims().subject("U001").build();
+
+        AdministratorUserDTO dto = new AdministratorUserDTO();
+        dto.setEmail("uno@gmail.com");
+
+        when(blacklistTokenRepository.existsByToken(eq(jwt)))
+                .thenReturn(false);
+        when(verifiedTokenCacheService.get(eq(jwt)))
+                .thenReturn(new VerifiedTokenDTO(claims, dto, Long.MAX_VALUE));
+        when(jwtClaimsService.getTimeRemainingMillis(same(claims)))
+                .thenReturn(15000L);
+
+        var response = authenticationService.userInformation("Bearer " + jwt);
+
+        AuthResponseDTO data = (AuthResponseDTO) response.getData();
+        assertEquals("uno@gmail.com", data.getUser());
+        assertEquals(15000L, data.getExpirationTime());
+
+        verify(jwtClaimsService, never()).parseClaims(anyString());
+        verify(administratorUserRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    void userInfoInvalidSignatureThrowsCustomMessage() {
+        String jwt = "abc.def.ghi";
+
+        when(blacklistTokenRepository.existsByToken(eq(jwt)))
+                .thenReturn(false);
+        when(jwtClaimsService.parseClaims(eq(jwt)))
+                .thenThrow(new MalformedJwtException("bad"));
+
+        MensajePersonalizadoException ex = assertThrows(
+                MensajePersonalizadoException.class,
+                () -> authenticationService.userInformation("Bearer " + jwt)
+        );
+        assertEquals(Constants.ERR_TOKEN_INVALID, ex.getMessage());
+    }
+}
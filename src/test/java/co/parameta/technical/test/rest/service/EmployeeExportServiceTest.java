@@ -0,0 +1,115 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.repository.projection.EmployeeInformationProjection;
+import co.parameta.technical.test.rest.service.impl.EmployeeExportService;
+import co.parameta.technical.test.rest.util.constant.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceTest {
+
+    @InjectMocks
+    private EmployeeExportService service;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private Date date(int year, int month, int day) {
+        return Date.from(LocalDate.of(year, month, day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private EmployeeInformationProjection employee() {
+        return employee("Juan, Pablo", "Pérez \"Gómez\"", "Developer");
+    }
+
+    private EmployeeInformationProjection employee(String names, String lastNames, String positionDescription) {
+        EmployeeInformationProjection employee = mock(EmployeeInformationProjection.class);
+        when(employee.getId()).thenReturn(7);
+        when(employee.getNames()).thenReturn(names);
+        when(employee.getLastNames()).thenReturn(lastNames);
+        when(employee.getTypeDocumentCode()).thenReturn("CC");
+        when(employee.getTypeDocumentDescription()).thenReturn("Cedula");
+        when(employee.getDocumentNumber()).thenReturn("1020");
+        when(employee.getDateOfBirth()).thenReturn(date(1995, 8, 21));
+        when(employee.getDateAffiliationCompany()).thenReturn(date(2020, 1, 15));
+        when(employee.getPositionCode()).thenReturn("DEV");
+        when(employee.getPositionDescription()).thenReturn(positionDescription);
+        when(employee.getSalary()).thenReturn(3500000.5);
+        return employee;
+    }
+
+    @Test
+    void exportCsvWritesHeaderQuotedRowAndClosesStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        EmployeeInformationProjection employee = employee();
+        when(employeeRepository.streamAllInformationEmployees())
+                .thenReturn(Stream.of(employee).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportEmployees(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,names,lastNames,typeDocumentCode"));
+        assertTrue(lines[1].startsWith("7,\"Juan, Pablo\",\"Pérez \"\"Gómez\"\"\",CC,Cedula,1020,1995-08-21,2020-01-15,DEV,Developer,3500000.5,"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportCsvPrefixesCellsThatWouldRunAsFormulas() throws IOException {
+        EmployeeInformationProjection employee =
+                employee("=HYPERLINK(\"http://evil\",\"x\")", "@SUM(A1)", "-Developer");
+        when(employeeRepository.streamAllInformationEmployees()).thenReturn(Stream.of(employee));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportEmployees(ExportFormat.CSV, out);
+
+        String row = out.toString(StandardCharsets.UTF_8).split("\r\n")[1];
+        assertTrue(row.startsWith("7,\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",'@SUM(A1),CC,"));
+        assertTrue(row.contains(",DEV,'-Developer,3500000.5,"));
+    }
+
+    @Test
+    void exportNdjsonWritesOneEscapedObjectPerLine() throws IOException {
+        EmployeeInformationProjection employee = employee();
+        when(employeeRepository.streamAllInformationEmployees()).thenReturn(Stream.of(employee, employee));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportEmployees(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":7,\"names\":\"Juan, Pablo\",\"lastNames\":\"Pérez \\\"Gómez\\\"\""));
+        assertTrue(lines[0].contains("\"salary\":3500000.5"));
+        assertTrue(lines[0].contains("\"timeLinkedToCompanyYears\":"));
+        assertTrue(lines[0].endsWith("}"));
+    }
+
+    @Test
+    void exportWithoutEmployeesWritesOnlyCsvHeader() throws IOException {
+        when(employeeRepository.streamAllInformationEmployees()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportEmployees(ExportFormat.CSV, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("id,"));
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).split("\r\n").length);
+    }
+}
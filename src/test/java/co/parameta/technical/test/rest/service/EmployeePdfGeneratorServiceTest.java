@@ -4,10 +4,12 @@ import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
 import co.parameta.technical.test.rest.repository.PositionRepository;
 import co.parameta.technical.test.rest.repository.TypeDocumentRepository;
 import co.parameta.technical.test.rest.service.impl.EmployeePdfGeneratorService;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -30,6 +32,9 @@ class EmployeePdfGeneratorServiceTest {
     @InjectMocks
     private EmployeePdfGeneratorService service;
 
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @Test
     void generateEmployeeReportReturnsPdfBytes() {
 
@@ -0,0 +1,163 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
+import co.parameta.technical.test.rest.dto.EmployeePageDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSearchCriteriaDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSearchRequestDTO;
+import co.parameta.technical.test.rest.dto.EmployeeSummaryDTO;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.repository.projection.EmployeeSummaryProjection;
+import co.parameta.technical.test.rest.service.impl.EmployeeSearchService;
+import co.parameta.technical.test.rest.util.mapper.EmployeeMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSearchServiceTest {
+
+    @InjectMocks
+    private EmployeeSearchService service;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private IReferenceDataCacheService iReferenceDataCacheService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(service, "maxPageSize", 3);
+    }
+
+    private EmployeeSummaryDTO summary(int id) {
+        EmployeeSummaryDTO summary = new EmployeeSummaryDTO();
+        summary.setId(id);
+        return summary;
+    }
+
+    @Test
+    void searchWithMoreResultsReturnsPageAndNextCursor() {
+        EmployeeSearchRequestDTO request = new EmployeeSearchRequestDTO();
+        request.setPosition("Developer");
+        request.setTypeDocument("CC");
+        request.setAffiliationDateFrom("2020-01-01");
+        request.setAffiliationDateTo("2024-12-31");
+        request.setSalaryMin(new BigDecimal("1000"));
+        request.setSalaryMax(new BigDecimal("5000"));
+        request.setAfterId(10);
+
+        when(iReferenceDataCacheService.resolvePositionCode("Developer")).thenReturn("DEV");
+        when(iReferenceDataCacheService.resolveTypeDocumentCode("CC")).thenReturn("CC");
+        when(employeeRepository.searchEmployeeIds(any())).thenReturn(List.of(11, 12, 13));
+
+        List<EmployeeSummaryProjection> rows = List.of(
+                mock(EmployeeSummaryProjection.class),
+                mock(EmployeeSummaryProjection.class)
+        );
+        when(employeeRepository.searchEmployeeSummaries(List.of(11, 12))).thenReturn(rows);
+        when(employeeMapper.employeeSummaryProjectionsToDto(rows)).thenReturn(List.of(summary(11), summary(12)));
+
+        ResponseGeneralDTO response = service.searchEmployees(request);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        EmployeePageDTO page = (EmployeePageDTO) response.getData();
+        assertEquals(2, page.getEmployees().size());
+        assertTrue(page.isHasMore());
+        assertEquals(12, page.getNextAfterId());
+        assertEquals(2, page.getSize());
+
+        ArgumentCaptor<EmployeeSearchCriteriaDTO> criteria = ArgumentCaptor.forClass(EmployeeSearchCriteriaDTO.class);
+        verify(employeeRepository).searchEmployeeIds(criteria.capture());
+        assertEquals("DEV", criteria.getValue().getPositionCode());
+        assertEquals("CC", criteria.getValue().getTypeDocumentCode());
+        assertNotNull(criteria.getValue().getAffiliationDateFrom());
+        assertNotNull(criteria.getValue().getAffiliationDateTo());
+        assertEquals(1000.0, criteria.getValue().getSalaryMin());
+        assertEquals(5000.0, criteria.getValue().getSalaryMax());
+        assertEquals(10, criteria.getValue().getAfterId());
+        assertEquals(3, criteria.getValue().getLimit());
+    }
+
+    @Test
+    void searchLastPageHasNoCursorAndCapsPageSize() {
+        EmployeeSearchRequestDTO request = new EmployeeSearchRequestDTO();
+        request.setSize(50);
+
+        when(employeeRepository.searchEmployeeIds(any())).thenReturn(List.of(1));
+        List<EmployeeSummaryProjection> rows = List.of(mock(EmployeeSummaryProjection.class));
+        when(employeeRepository.searchEmployeeSummaries(List.of(1))).thenReturn(rows);
+        when(employeeMapper.employeeSummaryProjectionsToDto(rows)).thenReturn(List.of(summary(1)));
+
+        EmployeePageDTO page = (EmployeePageDTO) service.searchEmployees(request).getData();
+
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextAfterId());
+        assertEquals(3, page.getSize());
+        verifyNoInteractions(iReferenceDataCacheService);
+    }
+
+    @Test
+    void searchEmptyResultSkipsSummaryQuery() {
+        when(employeeRepository.searchEmployeeIds(any())).thenReturn(List.of());
+
+        EmployeePageDTO page = (EmployeePageDTO) service.searchEmployees(new EmployeeSearchRequestDTO()).getData();
+
+        assertTrue(page.getEmployees().isEmpty());
+        verify(employeeRepository, never()).searchEmployeeSummaries(any());
+    }
+
+    @Test
+    void searchUnknownPositionReturnsEmptyPageWithoutQuerying() {
+        EmployeeSearchRequestDTO request = new EmployeeSearchRequestDTO();
+        request.setPosition("Astronaut");
+        when(iReferenceDataCacheService.resolvePositionCode("Astronaut")).thenReturn(null);
+
+        EmployeePageDTO page = (EmployeePageDTO) service.searchEmployees(request).getData();
+
+        assertTrue(page.getEmployees().isEmpty());
+        assertFalse(page.isHasMore());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void searchInvalidInputsThrowCustomMessage() {
+        EmployeeSearchRequestDTO zeroSize = new EmployeeSearchRequestDTO();
+        zeroSize.setSize(0);
+        assertThrows(MensajePersonalizadoException.class, () -> service.searchEmployees(zeroSize));
+
+        EmployeeSearchRequestDTO invertedDates = new EmployeeSearchRequestDTO();
+        invertedDates.setAffiliationDateFrom("2024-01-01");
+        invertedDates.setAffiliationDateTo("2020-01-01");
+        assertThrows(MensajePersonalizadoException.class, () -> service.searchEmployees(invertedDates));
+
+        EmployeeSearchRequestDTO invertedSalary = new EmployeeSearchRequestDTO();
+        invertedSalary.setSalaryMin(new BigDecimal("10"));
+        invertedSalary.setSalaryMax(new BigDecimal("1"));
+        assertThrows(MensajePersonalizadoException.class, () -> service.searchEmployees(invertedSalary));
+
+        EmployeeSearchRequestDTO invalidDate = new EmployeeSearchRequestDTO();
+        invalidDate.setAffiliationDateFrom("not a date");
+        assertThrows(MensajePersonalizadoException.class, () -> service.searchEmployees(invalidDate));
+
+        verifyNoInteractions(employeeRepository);
+    }
+}
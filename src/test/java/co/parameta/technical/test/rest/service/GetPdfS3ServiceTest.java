@@ -1,11 +1,13 @@
 package co.parameta.technical.test.rest.service;
 
 import co.parameta.technical.test.rest.service.impl.GetPdfS3Service;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.ResponseInputStream;
@@ -26,6 +28,9 @@ class GetPdfS3ServiceTest {
     @InjectMocks
     private GetPdfS3Service getPdfS3Service;
 
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @Mock
     private S3Client s3Client;
 
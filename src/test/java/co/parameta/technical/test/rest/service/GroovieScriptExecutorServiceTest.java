@@ -1,15 +1,35 @@
 package co.parameta.technical.test.rest.service;
 
 import co.parameta.technical.test.commons.dto.ScriptValidationDTO;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
+import co.parameta.technical.test.rest.dto.ScriptExecutionStatsDTO;
 import co.parameta.technical.test.rest.service.impl.GroovieScriptExecutorService;
+import co.parameta.technical.test.rest.service.impl.GroovyClassCacheService;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -21,9 +41,73 @@ class GroovieScriptExecutorServiceTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
-    @InjectMocks
+    @Mock
+    private IScriptProfilerService iScriptProfilerService;
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final GroovyClassCacheService classCache = new GroovyClassCacheService("", 100, "", "test");
+
     private GroovieScriptExecutorService service;
 
+    @BeforeEach
+    void setUp() {
+        service = sandboxed(2000, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private GroovieScriptExecutorService sandboxed(long timeoutMillis, int maxRows) {
+        return new GroovieScriptExecutorService(
+                jdbcTemplate, observationRegistry, meterRegistry, iScriptProfilerService, classCache,
+                true, timeoutMillis, maxRows, true
+        );
+    }
+
+    /**
+     * Answers every query by running its extractor over the given rows.
+     */
+    private void stubRows(List<? extends Map<String, ?>> rows) {
+        when(jdbcTemplate.query(
+                anyString(),
+                any(PreparedStatementSetter.class),
+                ArgumentMatchers.<ResultSetExtractor<Object>>any()
+        )).thenAnswer(invocation -> invocation.<ResultSetExtractor<?>>getArgument(2)
+                .extractData(resultSet(rows)));
+    }
+
+    private static ResultSet resultSet(List<? extends Map<String, ?>> rows) throws SQLException {
+        List<String> columns = rows.isEmpty() ? List.of() : new ArrayList<>(rows.get(0).keySet());
+        int[] cursor = {-1};
+
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        lenient().when(metaData.getColumnCount()).thenReturn(columns.size());
+        lenient().when(metaData.getColumnLabel(anyInt()))
+                .thenAnswer(invocation -> columns.get(invocation.<Integer>getArgument(0) - 1));
+
+        ResultSet resultSet = mock(ResultSet.class);
+        lenient().when(resultSet.getMetaData()).thenReturn(metaData);
+        lenient().when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < rows.size());
+        lenient().when(resultSet.getObject(anyInt())).thenAnswer(invocation ->
+                rows.get(cursor[0]).get(columns.get(invocation.<Integer>getArgument(0) - 1)));
+        lenient().when(resultSet.getLong(anyInt())).thenAnswer(invocation ->
+                ((Number) rows.get(cursor[0]).get(columns.get(invocation.<Integer>getArgument(0) - 1))).longValue());
+        return resultSet;
+    }
+
+    private static ScriptValidationDTO script(String code, String source) {
+        ScriptValidationDTO script = new ScriptValidationDTO();
+        script.setCode(code);
+        script.setGroovieCode(source);
+        return script;
+    }
+
     @Test
     void runScriptSingleScriptReturnsMessage() {
         ScriptValidationDTO script = new ScriptValidationDTO();
@@ -35,6 +119,28 @@ class GroovieScriptExecutorServiceTest {
         assertEquals("OK", result);
     }
 
+    @Test
+    void runScriptTimesEachScriptTaggedByCode() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        observationRegistry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        ScriptValidationDTO ok = new ScriptValidationDTO();
+        ok.setCode("S1");
+        ok.setGroovieCode("return 'OK'");
+        ScriptValidationDTO failing = new ScriptValidationDTO();
+        failing.setCode("S2");
+        failing.setGroovieCode("throw new IllegalStateException('boom')");
+
+        assertThrows(MensajePersonalizadoException.class,
+                () -> service.runScript(new Object(), Map.of(), List.of(ok, failing)));
+
+        assertEquals(1, meterRegistry.get("groovy.script").tag("script", "S1")
+                .tag("error", "none").timer().count());
+        assertEquals(1, meterRegistry.get("groovy.script").tag("script", "S2")
+                .tag("error", "MensajePersonalizadoException").timer().count());
+    }
+
     @Test
     void runScriptMultipleScriptsConcatenatesMessages() {
         ScriptValidationDTO s1 = new ScriptValidationDTO();
@@ -51,7 +157,7 @@ class GroovieScriptExecutorServiceTest {
     }
 
     @Test
-    void runScriptWhenScriptFailsReturnsNull() {
+    void runScriptWhenScriptFailsThrowsAndStops() {
         ScriptValidationDTO s1 = new ScriptValidationDTO();
         s1.setCode("S1");
         s1.setGroovieCode("return 'A'");
@@ -60,9 +166,14 @@ class GroovieScriptExecutorServiceTest {
         s2.setCode("S2");
         s2.setGroovieCode("throw new RuntimeException('boom')");
 
-        String result = service.runScript(new Object(), null, List.of(s1, s2));
+        ScriptValidationDTO s3 = new ScriptValidationDTO();
+        s3.setCode("S3");
+        s3.setGroovieCode("return 'C'");
+
+        assertThrows(MensajePersonalizadoException.class,
+                () -> service.runScript(new Object(), null, List.of(s1, s2, s3)));
 
-        assertNull(result);
+        verify(iScriptProfilerService, never()).recordScript(argThat(stats -> "S3".equals(stats.getScriptCode())));
     }
 
     @Test
@@ -77,14 +188,13 @@ class GroovieScriptExecutorServiceTest {
         Map<String, Object> row = new HashMap<>();
         row.put("v", 1);
 
-        when(jdbcTemplate.queryForList(anyString(), any(Object[].class)))
-                .thenReturn(List.of(row));
+        stubRows(List.of(row));
 
         String result = service.runScript(new Object(), null, List.of(script));
 
         assertEquals("1", result);
         verify(jdbcTemplate, times(1))
-                .queryForList(eq("select 1 as v"), any(Object[].class));
+                .query(eq("select 1 as v"), any(PreparedStatementSetter.class), any(ResultSetExtractor.class));
     }
 
     @Test
@@ -99,14 +209,84 @@ class GroovieScriptExecutorServiceTest {
         Map<String, Object> row = new HashMap<>();
         row.put("v", 2);
 
-        when(jdbcTemplate.queryForList(anyString(), any(Object[].class)))
-                .thenReturn(List.of(row));
+        stubRows(List.of(row));
 
         String result = service.runScript(new Object(), null, List.of(script));
 
         assertEquals("2", result);
         verify(jdbcTemplate, times(1))
-                .queryForList(eq("select 2 as v"), any(Object[].class));
+                .query(eq("select 2 as v"), any(PreparedStatementSetter.class), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    void runScriptObservesEachQueryInsideItsScript() {
+        List<Observation.Context> stopped = new ArrayList<>();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+        });
+
+        ScriptValidationDTO script = new ScriptValidationDTO();
+        script.setCode("SQL3");
+        script.setGroovieCode("return executeSingleSql('select 3 as v').v.toString()");
+
+        stubRows(List.of(Map.of("v", 3)));
+
+        assertEquals("3", service.runScript(new Object(), null, List.of(script)));
+
+        assertEquals(2, stopped.size());
+        Observation.Context sql = stopped.get(0);
+        assertEquals("groovy.sql", sql.getName());
+        assertEquals("executeSingleSql", sql.getLowCardinalityKeyValue("operation").getValue());
+        assertEquals("select 3 as v", sql.getHighCardinalityKeyValue("db.statement").getValue());
+        assertEquals("groovy.script", sql.getParentObservation().getContextView().getName());
+        assertEquals("groovy.script", stopped.get(1).getName());
+    }
+
+    @Test
+    void runScriptRecordsCompileExecuteAndSqlStatsPerScript() {
+        ScriptValidationDTO script = new ScriptValidationDTO();
+        script.setCode("SQL4");
+        script.setGroovieCode("""
+                def rows = executeSql("select v from t")
+                def first = executeSingleSql("select v from t where v = ?", 1)
+                return rows.size() + first.v
+                """);
+
+        stubRows(List.of(Map.of("v", 1), Map.of("v", 2)));
+
+        assertEquals("3", service.runScript(new Object(), null, List.of(script)));
+
+        ArgumentCaptor<ScriptExecutionStatsDTO> captor = ArgumentCaptor.forClass(ScriptExecutionStatsDTO.class);
+        verify(iScriptProfilerService).recordScript(captor.capture());
+        ScriptExecutionStatsDTO stats = captor.getValue();
+        assertEquals("SQL4", stats.getScriptCode());
+        assertEquals(2, stats.getSqlCalls());
+        assertEquals(4, stats.getRows());
+        assertTrue(stats.getCompileNanos() > 0);
+        assertTrue(stats.getExecuteNanos() >= stats.getSqlNanos());
+
+        verify(iScriptProfilerService).recordSql(eq("SQL4"), eq("select v from t"), anyLong(), eq(2));
+        verify(iScriptProfilerService).recordSql(eq("SQL4"), eq("select v from t where v = ?"), anyLong(), eq(2));
+    }
+
+    @Test
+    void runScriptRecordsStatsWhenScriptFails() {
+        ScriptValidationDTO script = new ScriptValidationDTO();
+        script.setCode("BAD");
+        script.setGroovieCode("throw new IllegalStateException('boom')");
+
+        assertThrows(MensajePersonalizadoException.class,
+                () -> service.runScript(new Object(), null, List.of(script)));
+
+        verify(iScriptProfilerService).recordScript(argThat(stats -> "BAD".equals(stats.getScriptCode())));
     }
 
     @Test
@@ -122,4 +302,326 @@ class GroovieScriptExecutorServiceTest {
 
         assertEquals("999", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void runScriptLoopOverBudgetFailsFast() {
+        GroovieScriptExecutorService limited = sandboxed(200, 1000);
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                assertThrows(MensajePersonalizadoException.class,
+                        () -> limited.runScript(new Object(), null, List.of(script("LOOP", "while (true) { }"))));
+                assertFalse(Thread.currentThread().isInterrupted());
+            });
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    @Test
+    void runScriptBlockedCallIsInterruptedWhenBudgetExpires() {
+        GroovieScriptExecutorService limited = sandboxed(200, 1000);
+        Map<String, Object> extras = Map.of("latch", new CountDownLatch(1));
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                assertThrows(MensajePersonalizadoException.class,
+                        () -> limited.runScript(new Object(), extras, List.of(script("BLOCK", "latch.await(); 'OK'"))));
+                assertFalse(Thread.currentThread().isInterrupted());
+                assertEquals("OK", limited.runScript(new Object(), null, List.of(script("NEXT", "'OK'"))));
+            });
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    @Test
+    void runScriptQueryOverRowLimitFails() throws Exception {
+        GroovieScriptExecutorService limited = sandboxed(2000, 2);
+        stubRows(List.of(Map.of("v", 1), Map.of("v", 2), Map.of("v", 3)));
+
+        try {
+            assertThrows(MensajePersonalizadoException.class, () -> limited.runScript(new Object(), null,
+                    List.of(script("ROWS", "executeSql('select v from t').size().toString()"))));
+        } finally {
+            limited.shutdown();
+        }
+
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).query(eq("select v from t"), setter.capture(), any(ResultSetExtractor.class));
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement);
+        verify(statement).setMaxRows(3);
+        verify(statement).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void runScriptSandboxRejectsSystemAccess() {
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("ENV", "return System.getenv('PATH') ? 'leak' : 'none'"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("FILE", "return new File('/etc/hostname').exists().toString()"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("EXEC", "return 'id'.execute().text"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("JDBC", "return jdbcTemplate.toString()"))));
+    }
+
+    @Test
+    void runScriptSqlHelpersDoNotExposeTheService() {
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("OWNER", "return executeSql.owner.jdbcTemplate.toString()"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("DELEGATE", "return executeSql.delegate == null ? 'none' : 'leak'"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("FIELD", "return executeSql.@owner == null ? 'none' : 'leak'"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("GETTER", "return executeSql.getThisObject() == null ? 'none' : 'leak'"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("INDEX", "return executeSql['owner'] == null ? 'none' : 'leak'"))));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void runScriptSandboxJdbcTemplateQueriesRunUnderTheLimits() throws Exception {
+        stubRows(List.of(Map.of("v", 5)));
+
+        assertEquals("5/5", service.runScript(new Object(), null, List.of(script("LEGACY", """
+                def rows = jdbcTemplate.queryForList('select v from t where id = ?', 1)
+                def row = jdbcTemplate.queryForMap('select v from t where id = ?', 2)
+                return rows[0].v + '/' + row.v
+                """))));
+
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate, times(2))
+                .query(eq("select v from t where id = ?"), setter.capture(), any(ResultSetExtractor.class));
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getAllValues().get(0).setValues(statement);
+        verify(statement).setMaxRows(1001);
+        verify(statement).setQueryTimeout(anyInt());
+        verify(iScriptProfilerService, times(2))
+                .recordSql(eq("LEGACY"), eq("select v from t where id = ?"), anyLong(), eq(1));
+    }
+
+    @Test
+    void runScriptSandboxJdbcTemplateQueryOverRowLimitFails() {
+        GroovieScriptExecutorService limited = sandboxed(2000, 2);
+        stubRows(List.of(Map.of("v", 1), Map.of("v", 2), Map.of("v", 3)));
+
+        try {
+            assertThrows(MensajePersonalizadoException.class, () -> limited.runScript(new Object(), null,
+                    List.of(script("LEGACY", "jdbcTemplate.queryForList('select v from t').size().toString()"))));
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    @Test
+    void runScriptSandboxJdbcTemplateOnlyAllowsItsQueries() {
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("UPDATE", "jdbcTemplate.update('delete from t')"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("FIELD", "return jdbcTemplate.@jdbcQueries == null ? 'none' : 'leak'"))));
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("META", "return jdbcTemplate.metaClass == null ? 'none' : 'leak'"))));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void jdbcTemplateScriptsReportsScriptsUsingIt() {
+        List<String> codes = service.jdbcTemplateScripts(List.of(
+                script("HELPERS", "executeSql('select 1')"),
+                script("LEGACY", "jdbcTemplate.queryForList('select 1')"),
+                script("WRITES", "jdbcTemplate.update('delete from t')")
+        ));
+
+        assertEquals(List.of("LEGACY", "WRITES"), codes);
+    }
+
+    @Test
+    void runScriptWithoutSandboxBindsJdbcTemplate() {
+        GroovieScriptExecutorService unrestricted = new GroovieScriptExecutorService(
+                jdbcTemplate, observationRegistry, meterRegistry, iScriptProfilerService, classCache,
+                false, 200, 1, true
+        );
+        try {
+            assertEquals("bound", unrestricted.runScript(new Object(), null,
+                    List.of(script("JDBC", "return jdbcTemplate != null ? 'bound' : 'none'"))));
+            assertTrue(unrestricted.jdbcTemplateScripts(List.of(script("JDBC", "jdbcTemplate.update('x')"))).isEmpty());
+        } finally {
+            unrestricted.shutdown();
+        }
+    }
+
+    @Test
+    void runScriptFirstRowAsksDriverForOneRow() throws Exception {
+        stubRows(List.of(Map.of("v", 7), Map.of("v", 8)));
+
+        assertEquals("7", service.runScript(new Object(), null,
+                List.of(script("FIRST", "firstRow('select v from t where v > ?', 1).v.toString()"))));
+
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).query(eq("select v from t where v > ?"), setter.capture(), any(ResultSetExtractor.class));
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement);
+        verify(statement).setMaxRows(1);
+    }
+
+    @Test
+    void runScriptFirstRowWithoutRowsReturnsNull() {
+        stubRows(List.of());
+
+        assertEquals("none", service.runScript(new Object(), null,
+                List.of(script("FIRST", "firstRow('select v from t') == null ? 'none' : 'some'"))));
+    }
+
+    @Test
+    void runScriptExistsReadsAtMostOneRow() throws Exception {
+        stubRows(List.of(Map.of("code", "DEV")));
+
+        assertEquals("true", service.runScript(new Object(), null,
+                List.of(script("EXISTS", "exists('select code from position where code = ?', 'DEV').toString()"))));
+
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).query(eq("select code from position where code = ?"), setter.capture(),
+                any(ResultSetExtractor.class));
+        PreparedStatement statement = mock(PreparedStatement.class);
+        setter.getValue().setValues(statement);
+        verify(statement).setMaxRows(1);
+        verify(iScriptProfilerService).recordSql(eq("EXISTS"), anyString(), anyLong(), eq(1));
+    }
+
+    @Test
+    void runScriptCountIsComputedByTheDatabase() {
+        stubRows(List.of(Map.of("count", 42L)));
+
+        assertEquals("42", service.runScript(new Object(), null,
+                List.of(script("COUNT", "count('select id from employee where position = ?', 'DEV').toString()"))));
+
+        verify(jdbcTemplate).query(
+                eq("SELECT COUNT(*) FROM (select id from employee where position = ?) script_count"),
+                any(PreparedStatementSetter.class),
+                any(ResultSetExtractor.class)
+        );
+    }
+
+    @Test
+    void runScriptForEachRowStreamsRowsPastTheRowLimit() {
+        GroovieScriptExecutorService limited = sandboxed(2000, 2);
+        stubRows(List.of(Map.of("v", 1), Map.of("v", 2), Map.of("v", 3)));
+
+        try {
+            assertEquals("6/3", limited.runScript(new Object(), null, List.of(script("EACH", """
+                    def total = 0
+                    def rows = forEachRow('select v from t where v > ?', 0) { row -> total += row.v }
+                    return total + '/' + rows
+                    """))));
+        } finally {
+            limited.shutdown();
+        }
+
+        verify(iScriptProfilerService).recordSql(eq("EACH"), eq("select v from t where v > ?"), anyLong(), eq(3));
+    }
+
+    @Test
+    void runScriptForEachRowWithoutClosureFails() {
+        assertThrows(MensajePersonalizadoException.class, () -> service.runScript(new Object(), null,
+                List.of(script("EACH", "forEachRow('select v from t', 1)"))));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void runScriptIdenticalQueriesHitTheDatabaseOnce() {
+        stubRows(List.of(Map.of("v", 5)));
+        String lookup = "executeSingleSql('select v from document where id = ?', context).v.toString()";
+
+        assertEquals("5,5,1", service.runScript(10, null, List.of(
+                script("DOC1", "return " + lookup),
+                script("DOC2", "return " + lookup),
+                script("DOC3", "return executeSql('select v from document where id = ?', 10).size().toString()")
+        )));
+
+        verify(jdbcTemplate, times(1)).query(eq("select v from document where id = ?"),
+                any(PreparedStatementSetter.class), any(ResultSetExtractor.class));
+        assertEquals(2.0, meterRegistry.get("groovy.sql.memo.hits").counter().count());
+        assertEquals(1.0, meterRegistry.get("groovy.sql.memo.misses").counter().count());
+
+        ArgumentCaptor<ScriptExecutionStatsDTO> captor = ArgumentCaptor.forClass(ScriptExecutionStatsDTO.class);
+        verify(iScriptProfilerService, times(3)).recordScript(captor.capture());
+        assertEquals(List.of(0, 1, 1), captor.getAllValues().stream().map(ScriptExecutionStatsDTO::getMemoHits).toList());
+        assertEquals(List.of(1, 0, 0), captor.getAllValues().stream().map(ScriptExecutionStatsDTO::getSqlCalls).toList());
+    }
+
+    @Test
+    void runScriptMemoIsKeyedByParametersAndScopedToTheCall() {
+        stubRows(List.of(Map.of("v", 5)));
+        String source = "executeSql('select v from document where id = ?', context).size().toString()";
+
+        service.runScript(1, null, List.of(script("DOC", source)));
+        service.runScript(1, null, List.of(script("DOC", source)));
+        service.runScript(2, null, List.of(script("DOC", source)));
+
+        verify(jdbcTemplate, times(3)).query(anyString(), any(PreparedStatementSetter.class),
+                any(ResultSetExtractor.class));
+        assertEquals(0.0, meterRegistry.get("groovy.sql.memo.hits").counter().count());
+    }
+
+    @Test
+    void runScriptFreshReadsSkipTheMemo() {
+        stubRows(List.of(Map.of("v", 5)));
+        String lookup = "executeSql('select v from document').size().toString()";
+
+        service.runScript(new Object(), null, List.of(
+                script("DOC1", "return " + lookup),
+                script("DOC2", "freshReads = true; return " + lookup)
+        ));
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(PreparedStatementSetter.class),
+                any(ResultSetExtractor.class));
+        assertEquals(0.0, meterRegistry.get("groovy.sql.memo.hits").counter().count());
+    }
+
+    @Test
+    void runScriptMemoizedRowsAreCopiedForEachCall() {
+        stubRows(List.of(Map.of("v", 5)));
+        String lookup = "executeSql('select v from document')";
+
+        assertEquals("6,5,5", service.runScript(new Object(), null, List.of(
+                script("DOC1", "def rows = " + lookup + "; rows[0].v = 6; rows << [v: 7]; rows[0].V.toString()"),
+                script("DOC2", "def rows = " + lookup + "; rows.size() == 1 ? rows[0].v.toString() : 'shared'"),
+                script("DOC3", "executeSingleSql('select v from document').v.toString()")
+        )));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(PreparedStatementSetter.class),
+                any(ResultSetExtractor.class));
+    }
+
+    @Test
+    void runScriptWithMemoDisabledQueriesEveryTime() {
+        GroovieScriptExecutorService unmemoized = new GroovieScriptExecutorService(
+                jdbcTemplate, observationRegistry, meterRegistry, iScriptProfilerService, classCache,
+                true, 2000, 1000, false
+        );
+        stubRows(List.of(Map.of("v", 5)));
+        String lookup = "executeSql('select v from document').size().toString()";
+
+        try {
+            unmemoized.runScript(new Object(), null, List.of(script("DOC1", lookup), script("DOC2", lookup)));
+        } finally {
+            unmemoized.shutdown();
+        }
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(PreparedStatementSetter.class),
+                any(ResultSetExtractor.class));
+    }
+
+    @Test
+    void precompileSkipsScriptsThatDoNotCompileWithoutRunningAny() {
+        int compiled = service.precompile(Arrays.asList(
+                script("OK", "executeSql('select 1'); 'ok'"),
+                script("BROKEN", "def ("),
+                script("EMPTY", null),
+                null
+        ));
+
+        assertEquals(1, compiled);
+        verifyNoInteractions(jdbcTemplate, iScriptProfilerService);
+    }
+}
@@ -0,0 +1,193 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.service.impl.GroovyClassCacheService;
+import groovy.lang.Binding;
+import groovy.lang.Script;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.classgen.GeneratorContext;
+import org.codehaus.groovy.control.CompilePhase;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroovyClassCacheServiceTest {
+
+    private static final String SOURCE = """
+            def doubled = [1, 2, 3].collect { it * factor }
+            return doubled.sum()
+            """;
+
+    @TempDir
+    Path directory;
+
+    private static Object run(Class<? extends Script> scriptClass) {
+        Binding binding = new Binding();
+        binding.setVariable("factor", 2);
+        return InvokerHelper.createScript(scriptClass, binding).run();
+    }
+
+    /**
+     * Configuration whose compilation always fails, to prove a class was not compiled.
+     */
+    private static CompilerConfiguration failingConfiguration() {
+        CompilerConfiguration configuration = new CompilerConfiguration();
+        configuration.addCompilationCustomizers(new CompilationCustomizer(CompilePhase.CONVERSION) {
+            @Override
+            public void call(SourceUnit source, GeneratorContext context, ClassNode classNode) {
+                throw new IllegalStateException("compiled");
+            }
+        });
+        return configuration;
+    }
+
+    private static GroovyClassCacheService cache(String directory, int maxEntries) {
+        return new GroovyClassCacheService(directory, maxEntries, "", "test");
+    }
+
+    private List<Path> jars() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(".jar")).toList();
+        }
+    }
+
+    @Test
+    void scriptClassIsCompiledOnceAndRuns() {
+        GroovyClassCacheService cache = cache("", 10);
+
+        Class<? extends Script> first = cache.scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+
+        assertSame(first, cache.scriptClass(SOURCE, failingConfiguration(), "default"));
+        assertEquals(12, run(first));
+    }
+
+    @Test
+    void configurationKeyIsPartOfTheCacheKey() {
+        GroovyClassCacheService cache = cache("", 10);
+
+        Class<? extends Script> first = cache.scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "a");
+
+        assertNotSame(first, cache.scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "b"));
+    }
+
+    @Test
+    void leastRecentlyUsedClassIsEvicted() {
+        GroovyClassCacheService cache = cache("", 1);
+
+        Class<? extends Script> first = cache.scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+        cache.scriptClass("return 1", CompilerConfiguration.DEFAULT, "default");
+
+        assertNotSame(first, cache.scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default"));
+    }
+
+    @Test
+    void persistedClassesAreLoadedByANewNodeWithoutCompiling() throws IOException {
+        cache(directory.toString(), 10)
+                .scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+        assertEquals(1, jars().size());
+
+        GroovyClassCacheService restarted = cache(directory.toString(), 10);
+
+        assertEquals(1, restarted.preload());
+        assertEquals(12, run(restarted.scriptClass(SOURCE, failingConfiguration(), "default")));
+    }
+
+    @Test
+    void persistedClassIsReadOnDemandWithoutPreload() {
+        cache(directory.toString(), 10)
+                .scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+
+        GroovyClassCacheService other = cache(directory.toString(), 10);
+
+        assertEquals(12, run(other.scriptClass(SOURCE, failingConfiguration(), "default")));
+    }
+
+    @Test
+    void corruptedEntryIsDiscardedAndCompiledAgain() throws IOException {
+        cache(directory.toString(), 10)
+                .scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+        Path jar = jars().get(0);
+        Files.write(jar, new byte[]{1, 2, 3});
+
+        GroovyClassCacheService restarted = cache(directory.toString(), 10);
+
+        assertEquals(0, restarted.preload());
+        assertEquals(12, run(restarted.scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default")));
+        assertTrue(Files.size(jar) > 3);
+    }
+
+    @Test
+    void preloadRemovesOtherVersions() throws IOException {
+        Path stale = Files.createDirectories(directory.resolve("groovy-1.0.0-java-8"));
+        Files.write(stale.resolve("old.jar"), new byte[]{1});
+
+        cache(directory.toString(), 10)
+                .scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+        cache(directory.toString(), 10).preload();
+
+        assertFalse(Files.exists(stale));
+        assertEquals(1, jars().size());
+    }
+
+    @Test
+    void preloadKeepsDirectoriesItDidNotCreate() throws IOException {
+        Path unrelated = Files.createDirectories(directory.resolve("reports"));
+        Files.write(unrelated.resolve("report.pdf"), new byte[]{1});
+
+        cache(directory.toString(), 10).preload();
+
+        assertTrue(Files.exists(unrelated.resolve("report.pdf")));
+    }
+
+    @Test
+    void applicationVersionIsPartOfTheCacheKey() {
+        new GroovyClassCacheService(directory.toString(), 10, "", "1.0.0")
+                .scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+
+        GroovyClassCacheService upgraded = new GroovyClassCacheService(directory.toString(), 10, "", "1.1.0");
+
+        assertEquals(0, upgraded.preload());
+        assertThrows(RuntimeException.class,
+                () -> upgraded.scriptClass(SOURCE, failingConfiguration(), "default"));
+    }
+
+    @Test
+    void jarSignedWithAnotherKeyIsNotLoaded() {
+        new GroovyClassCacheService(directory.toString(), 10, "first-key", "test")
+                .scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+
+        GroovyClassCacheService other = new GroovyClassCacheService(directory.toString(), 10, "second-key", "test");
+
+        assertEquals(0, other.preload());
+        assertEquals(12, run(other.scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default")));
+    }
+
+    @Test
+    void generatedSigningKeyIsReadableByTheOwnerOnly() throws IOException {
+        cache(directory.toString(), 10).scriptClass(SOURCE, CompilerConfiguration.DEFAULT, "default");
+
+        Path key = directory.resolve("signing.key");
+        assertEquals(32, Files.size(key));
+        if (Files.getFileAttributeView(key, PosixFileAttributeView.class) != null) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(key));
+        }
+    }
+
+    @Test
+    void preloadWithoutDirectoryLoadsNothing() {
+        assertEquals(0, cache("", 10).preload());
+        assertEquals(0, cache(directory.resolve("missing").toString(), 10).preload());
+    }
+}
@@ -0,0 +1,276 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
+import co.parameta.technical.test.commons.service.IJwtService;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
+import co.parameta.technical.test.rest.dto.IdempotencyRecordDTO;
+import co.parameta.technical.test.rest.repository.IdempotencyKeyRepository;
+import co.parameta.technical.test.rest.service.impl.IdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IJwtService iJwtService;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(iJwtService.getTokenFromHeader()).thenReturn("jwt");
+        lenient().when(iJwtService.getCodeFromToken("jwt")).thenReturn("U001");
+    }
+
+    private IdempotencyService memory(long ttlMillis) {
+        return new IdempotencyService(iJwtService, idempotencyKeyRepository, ttlMillis, 100, 5000, false, 60000);
+    }
+
+    private static ResponseGeneralDTO response(String message) {
+        ResponseGeneralDTO response = new ResponseGeneralDTO();
+        response.setStatus(200);
+        response.setMessage(message);
+        return response;
+    }
+
+    @Test
+    void repeatedKeyReplaysFirstResponseWithoutRunningAgain() throws Exception {
+        IdempotencyService service = memory(60000);
+        AtomicInteger runs = new AtomicInteger();
+
+        ResponseGeneralDTO first = service.execute("key", "request", () -> response("run " + runs.incrementAndGet()));
+        ResponseGeneralDTO second = service.execute("key", "request", () -> response("run " + runs.incrementAndGet()));
+
+        assertSame(first, second);
+        assertEquals(1, runs.get());
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    void keysAreScopedToTheCallingUser() throws Exception {
+        IdempotencyService service = memory(60000);
+        AtomicInteger runs = new AtomicInteger();
+
+        service.execute("key", "request", () -> response("run " + runs.incrementAndGet()));
+        when(iJwtService.getCodeFromToken("jwt")).thenReturn("U002");
+        service.execute("key", "request", () -> response("run " + runs.incrementAndGet()));
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void keyReusedWithADifferentRequestIsRejected() throws Exception {
+        IdempotencyService service = memory(60000);
+        service.execute("key", "request", () -> response("ok"));
+
+        assertThrows(MensajePersonalizadoException.class,
+                () -> service.execute("key", "other request", () -> response("ok")));
+    }
+
+    @Test
+    void invalidKeyIsRejected() {
+        IdempotencyService service = memory(60000);
+
+        assertThrows(MensajePersonalizadoException.class, () -> service.execute(" ", "request", () -> response("ok")));
+        assertThrows(MensajePersonalizadoException.class,
+                () -> service.execute("k".repeat(256), "request", () -> response("ok")));
+    }
+
+    @Test
+    void failedRequestIsNotStoredAndCanBeRetried() throws Exception {
+        IdempotencyService service = memory(60000);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("key", "request", () -> {
+            throw new IllegalStateException("soap down");
+        }));
+
+        assertEquals("retried", service.execute("key", "request", () -> response("retried")).getMessage());
+    }
+
+    @Test
+    void nonSuccessfulResponseIsReturnedButNotReplayed() throws Exception {
+        IdempotencyService service = memory(60000);
+        ResponseGeneralDTO rejected = response("validation rejected");
+        rejected.setStatus(400);
+
+        assertSame(rejected, service.execute("key", "request", () -> rejected));
+
+        assertEquals("retried", service.execute("key", "request", () -> response("retried")).getMessage());
+    }
+
+    @Test
+    void expiredKeyRunsAgain() throws Exception {
+        IdempotencyService service = memory(0);
+        AtomicInteger runs = new AtomicInteger();
+
+        service.execute("key", "request", () -> response("run " + runs.incrementAndGet()));
+        service.execute("key", "request", () -> response("run " + runs.incrementAndGet()));
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void concurrentRepeatWaitsForTheRequestInProgress() throws Exception {
+        IdempotencyService service = memory(60000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        IIdempotencyService.Operation operation = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response("done");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseGeneralDTO> first = executor.submit(() -> service.execute("key", "request", operation));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<ResponseGeneralDTO> repeat = executor.submit(() -> service.execute("key", "request", operation));
+
+            Thread.sleep(100);
+            assertFalse(repeat.isDone());
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), repeat.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void keyInProgressIsNotEvicted() throws Exception {
+        IdempotencyService service = new IdempotencyService(iJwtService, idempotencyKeyRepository, 60000, 1, 5000, false, 60000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        IIdempotencyService.Operation slow = () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response("slow");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseGeneralDTO> first = executor.submit(() -> service.execute("slow", "request", slow));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            service.execute("other", "request", () -> response("other"));
+            service.execute("another", "request", () -> response("another"));
+            Future<ResponseGeneralDTO> repeat = executor.submit(() -> service.execute("slow", "request", slow));
+
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), repeat.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void completedKeysAreEvictedBeyondTheBound() throws Exception {
+        IdempotencyService service = new IdempotencyService(iJwtService, idempotencyKeyRepository, 60000, 1, 5000, false, 60000);
+        AtomicInteger runs = new AtomicInteger();
+
+        service.execute("first", "request", () -> response("run " + runs.incrementAndGet()));
+        service.execute("second", "request", () -> response("run " + runs.incrementAndGet()));
+        service.execute("first", "request", () -> response("run " + runs.incrementAndGet()));
+
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void databaseModeHoldsTheClaimForTheLease() throws Exception {
+        IdempotencyService service = new IdempotencyService(iJwtService, idempotencyKeyRepository, 60000, 100, 5000, true, 600000);
+        when(idempotencyKeyRepository.insertPending(anyString(), anyString(), anyLong())).thenReturn(true);
+        long before = System.currentTimeMillis();
+
+        service.execute("key", "request", () -> response("ok"));
+
+        verify(idempotencyKeyRepository).insertPending(anyString(), anyString(), longThat(expiresAt -> expiresAt >= before + 600000));
+    }
+
+    @Test
+    void databaseModeStoresTheResponseOfAClaimedKey() throws Exception {
+        IdempotencyService service = new IdempotencyService(iJwtService, idempotencyKeyRepository, 60000, 100, 5000, true, 60000);
+        when(idempotencyKeyRepository.insertPending(anyString(), anyString(), anyLong())).thenReturn(true);
+
+        ResponseGeneralDTO response = service.execute("key", "request", () -> response("ok"));
+
+        verify(idempotencyKeyRepository).complete(anyString(), same(response), anyLong());
+    }
+
+    @Test
+    void databaseModeReplaysTheResponseStoredByAnotherNode() throws Exception {
+        IdempotencyService service = new IdempotencyService(iJwtService, idempotencyKeyRepository, 60000, 100, 5000, true, 60000);
+        AtomicInteger runs = new AtomicInteger();
+        when(idempotencyKeyRepository.insertPending(anyString(), anyString(), anyLong())).thenReturn(false);
+        when(idempotencyKeyRepository.find(anyString())).thenAnswer(invocation -> new IdempotencyRecordDTO(
+                sha256("request"), response("stored"), Long.MAX_VALUE));
+
+        ResponseGeneralDTO response = service.execute("key", "request", () -> response("run " + runs.incrementAndGet()));
+
+        assertEquals("stored", response.getMessage());
+        assertEquals(0, runs.get());
+        verify(idempotencyKeyRepository, never()).complete(anyString(), any(), anyLong());
+    }
+
+    @Test
+    void databaseModeReleasesTheKeyWhenTheRequestFails() {
+        IdempotencyService service = new IdempotencyService(iJwtService, idempotencyKeyRepository, 60000, 100, 5000, true, 60000);
+        when(idempotencyKeyRepository.insertPending(anyString(), anyString(), anyLong())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("key", "request", () -> {
+            throw new IllegalStateException("soap down");
+        }));
+
+        verify(idempotencyKeyRepository).release(anyString());
+    }
+
+    @Test
+    void databaseModeReleasesTheKeyOfANonSuccessfulResponse() throws Exception {
+        IdempotencyService service = new IdempotencyService(iJwtService, idempotencyKeyRepository, 60000, 100, 5000, true, 60000);
+        when(idempotencyKeyRepository.insertPending(anyString(), anyString(), anyLong())).thenReturn(true);
+        ResponseGeneralDTO failed = response("soap error");
+        failed.setStatus(500);
+
+        service.execute("key", "request", () -> failed);
+
+        verify(idempotencyKeyRepository, never()).complete(anyString(), any(), anyLong());
+        verify(idempotencyKeyRepository).release(anyString());
+    }
+
+    private static String sha256(String value) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
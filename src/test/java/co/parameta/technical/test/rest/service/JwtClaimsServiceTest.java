@@ -0,0 +1,69 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.service.impl.JwtClaimsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtClaimsServiceTest {
+
+    private static final String SECRET =
+            "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWYwMTIzNDU2Nzg5YWJjZGVm";
+
+    private final JwtClaimsService service = new JwtClaimsService(SECRET);
+
+    private String buildToken(String subject, long expirationOffsetMillis, String secret) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secret));
+        return Jwts.builder()
+                .subject(subject)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + expirationOffsetMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    @Test
+    void parseClaimsValidTokenReturnsSubjectAndRemainingTime() {
+        String jwt = buildToken("U001", 60000L, SECRET);
+
+        Claims claims = service.parseClaims(jwt);
+
+        assertEquals("U001", service.getCode(claims));
+        long remaining = service.getTimeRemainingMillis(claims);
+        assertTrue(remaining > 0 && remaining <= 60000L);
+    }
+
+    @Test
+    void parseClaimsExpiredTokenThrowsExpiredJwtException() {
+        String jwt = buildToken("U001", -60000L, SECRET);
+
+        assertThrows(ExpiredJwtException.class, () -> service.parseClaims(jwt));
+    }
+
+    @Test
+    void parseClaimsTokenSignedWithOtherKeyThrowsJwtException() {
+        String jwt = buildToken(
+                "U001",
+                60000L,
+                "ZmVkY2JhOTg3NjU0MzIxMGZlZGNiYTk4NzY1NDMyMTBmZWRjYmE5ODc2NTQzMjEw"
+        );
+
+        assertThrows(JwtException.class, () -> service.parseClaims(jwt));
+    }
+
+    @Test
+    void getTimeRemainingMillisWithoutExpirationReturnsZero() {
+        Claims claims = Jwts.claims().subject("U001").build();
+
+        assertEquals(0L, service.getTimeRemainingMillis(claims));
+    }
+}
@@ -6,10 +6,12 @@ import jakarta.mail.Message;
 import jakarta.mail.Session;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.javamail.JavaMailSender;
 
@@ -28,6 +30,9 @@ class MailDeliveryServiceTest {
     @InjectMocks
     private MailDeliveryService mailDeliveryService;
 
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @Test
     void sendTextWithAttachmentCcBccSendsEmail() throws Exception {
         MimeMessage mimeMessage = new MimeMessage(Session.getInstance(new Properties()));
@@ -0,0 +1,75 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.configuration.PasswordEncoderConfig;
+import co.parameta.technical.test.rest.service.impl.PasswordVerificationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordVerificationServiceTest {
+
+    private final PasswordVerificationService service =
+            new PasswordVerificationService(new BCryptPasswordEncoder(5));
+
+    @Test
+    void matchesReturnsTrueForCorrectPassword() {
+        String hash = service.encode("secret");
+
+        assertTrue(service.matches("secret", hash));
+        assertFalse(service.matches("other", hash));
+    }
+
+    @Test
+    void matchesVerifiesHashesCreatedWithOtherCost() {
+        String hash = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertTrue(service.matches("secret", hash));
+    }
+
+    @Test
+    void matchesUsesTheApplicationEncoderFormat() {
+        PasswordEncoder delegating = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        PasswordVerificationService delegatingService = new PasswordVerificationService(delegating);
+
+        assertTrue(delegatingService.matches("secret", delegating.encode("secret")));
+    }
+
+    @Test
+    void matchesWithoutStoredHashReturnsFalse() {
+        assertFalse(service.matches("secret", null));
+        assertFalse(service.matches("secret", " "));
+        assertFalse(service.matches(null, "hash"));
+    }
+
+    @Test
+    void upgradeEncodingReportsHashesBelowTheEncoderCost() {
+        assertTrue(service.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(service.upgradeEncoding(service.encode("secret")));
+    }
+
+    @Test
+    void configuredEncoderUpgradesLegacyHashesToTheConfiguredStrength() {
+        PasswordVerificationService configured =
+                new PasswordVerificationService(new PasswordEncoderConfig().configuredPasswordEncoder(5));
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        String sameCostWithoutPrefix = new BCryptPasswordEncoder(5).encode("secret");
+
+        assertTrue(configured.matches("secret", legacy));
+        assertTrue(configured.upgradeEncoding(legacy));
+        assertTrue(configured.matches("secret", sameCostWithoutPrefix));
+        assertTrue(configured.upgradeEncoding(sameCostWithoutPrefix));
+
+        String upgraded = configured.encode("secret");
+        assertTrue(upgraded.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(configured.matches("secret", upgraded));
+        assertFalse(configured.upgradeEncoding(upgraded));
+    }
+
+    @Test
+    void encodeUsesTheApplicationEncoder() {
+        assertTrue(service.encode("secret").startsWith("$2a$05$"));
+    }
+}
@@ -11,11 +11,13 @@ import co.parameta.technical.test.rest.repository.ScriptValidationRepository;
 import co.parameta.technical.test.rest.repository.SystemParameterRepository;
 import co.parameta.technical.test.rest.service.impl.PrepareMailDeliveryService;
 import jakarta.mail.MessagingException;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
@@ -30,6 +32,9 @@ class PrepareMailDeliveryServiceTest {
     @InjectMocks
     private PrepareMailDeliveryService service;
 
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @Mock
     private SystemParameterMapper systemParameterMapper;
 
@@ -0,0 +1,137 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.entity.PositionEntity;
+import co.parameta.technical.test.commons.entity.TypeDocumentEntity;
+import co.parameta.technical.test.rest.repository.PositionRepository;
+import co.parameta.technical.test.rest.repository.TypeDocumentRepository;
+import co.parameta.technical.test.rest.service.impl.ReferenceDataCacheService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheServiceTest {
+
+    @Mock
+    private TypeDocumentRepository typeDocumentRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    private TypeDocumentEntity buildTypeDocument(String code, String description) {
+        TypeDocumentEntity typeDocument = new TypeDocumentEntity();
+        typeDocument.setCode(code);
+        typeDocument.setDescription(description);
+        return typeDocument;
+    }
+
+    @Test
+    void resolveTypeDocumentCodeByCodeOrDescriptionLoadsTableOnce() {
+        when(typeDocumentRepository.findAll()).thenReturn(List.of(
+                buildTypeDocument("CC", "Cedula de ciudadania"),
+                buildTypeDocument("CE", "Cedula de extranjeria")
+        ));
+        ReferenceDataCacheService service = new ReferenceDataCacheService(typeDocumentRepository, positionRepository, 60000L, 60000L);
+
+        assertEquals("CC", service.resolveTypeDocumentCode("CC"));
+        assertEquals("CC", service.resolveTypeDocumentCode("cc"));
+        assertEquals("CE", service.resolveTypeDocumentCode("cedula de extranjeria"));
+        assertNull(service.resolveTypeDocumentCode("XX"));
+        assertNull(service.resolveTypeDocumentCode(null));
+
+        verify(typeDocumentRepository, times(1)).findAll();
+    }
+
+    @Test
+    void resolveTypeDocumentCodeWithCachingDisabledReloadsEveryCall() {
+        when(typeDocumentRepository.findAll()).thenReturn(List.of(
+                buildTypeDocument("CC", "Cedula de ciudadania")
+        ));
+        ReferenceDataCacheService service = new ReferenceDataCacheService(typeDocumentRepository, positionRepository, 0L, 60000L);
+
+        service.resolveTypeDocumentCode("CC");
+        service.resolveTypeDocumentCode("CC");
+
+        verify(typeDocumentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void resolvePositionCodeByCodeOrDescription() {
+        PositionEntity position = new PositionEntity();
+        position.setCode("DEV");
+        position.setDescription("Developer");
+        when(positionRepository.findAll()).thenReturn(List.of(position));
+        ReferenceDataCacheService service = new ReferenceDataCacheService(typeDocumentRepository, positionRepository, 60000L, 60000L);
+
+        assertEquals("DEV", service.resolvePositionCode("developer"));
+        assertEquals("DEV", service.resolvePositionCode("DEV"));
+        assertNull(service.resolvePositionCode("QA"));
+
+        verify(positionRepository, times(1)).findAll();
+        verifyNoInteractions(typeDocumentRepository);
+    }
+
+    @Test
+    void resolveTypeDocumentCodeMissReloadsTableToFindNewRows() {
+        when(typeDocumentRepository.findAll())
+                .thenReturn(List.of(buildTypeDocument("CC", "Cedula de ciudadania")))
+                .thenReturn(List.of(
+                        buildTypeDocument("CC", "Cedula de ciudadania"),
+                        buildTypeDocument("PP", "Pasaporte")
+                ));
+        ReferenceDataCacheService service =
+                new ReferenceDataCacheService(typeDocumentRepository, positionRepository, 60000L, 0L);
+
+        assertEquals("CC", service.resolveTypeDocumentCode("CC"));
+        assertEquals("PP", service.resolveTypeDocumentCode("pasaporte"));
+        assertEquals("PP", service.resolveTypeDocumentCode("PP"));
+
+        verify(typeDocumentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void resolvePositionCodeMissesWithinIntervalDoNotReload() {
+        PositionEntity position = new PositionEntity();
+        position.setCode("DEV");
+        position.setDescription("Developer");
+        when(positionRepository.findAll()).thenReturn(List.of(position));
+        ReferenceDataCacheService service =
+                new ReferenceDataCacheService(typeDocumentRepository, positionRepository, 60000L, 60000L);
+
+        assertNull(service.resolvePositionCode("QA"));
+        assertNull(service.resolvePositionCode("QA"));
+        assertNull(service.resolvePositionCode("Tester"));
+
+        verify(positionRepository, times(1)).findAll();
+    }
+
+    @Test
+    void concurrentResolvesOnVirtualThreadsLoadTableOnce() throws Exception {
+        when(typeDocumentRepository.findAll()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return List.of(buildTypeDocument("CC", "Cedula de ciudadania"));
+        });
+        ReferenceDataCacheService service = new ReferenceDataCacheService(typeDocumentRepository, positionRepository, 60000L, 60000L);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> codes = executor.invokeAll(
+                    Collections.nCopies(20, (Callable<String>) () -> service.resolveTypeDocumentCode("cc")));
+            for (Future<String> code : codes) {
+                assertEquals("CC", code.get());
+            }
+        }
+
+        verify(typeDocumentRepository, times(1)).findAll();
+    }
+}
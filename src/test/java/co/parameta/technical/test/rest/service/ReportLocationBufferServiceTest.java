@@ -0,0 +1,241 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.dto.ReportLocationUpdateDTO;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.service.impl.ReportLocationBufferService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportLocationBufferServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReportLocationBufferService service;
+
+    private ReportLocationBufferService create(boolean enabled, int maxSize) {
+        service = new ReportLocationBufferService(
+                employeeRepository, transactionManager, meterRegistry, enabled, maxSize, 3_600_000L, 3);
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<ReportLocationUpdateDTO>> captor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private List<List<ReportLocationUpdateDTO>> capturedBatches(int times) {
+        ArgumentCaptor<Collection<ReportLocationUpdateDTO>> captor = captor();
+        verify(employeeRepository, times(times)).updateStorageLocationReports(captor.capture());
+        List<List<ReportLocationUpdateDTO>> batches = new ArrayList<>();
+        captor.getAllValues().forEach(batch -> batches.add(new ArrayList<>(batch)));
+        return batches;
+    }
+
+    @Test
+    void enqueueDoesNotWriteUntilFlush() {
+        create(true, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection())).thenReturn(2);
+
+        service.enqueue("1111", "CC", "pdf/a.pdf");
+        service.enqueue("2222", "CC", "pdf/b.pdf");
+
+        verifyNoInteractions(employeeRepository);
+
+        assertEquals(2, service.flush());
+
+        List<ReportLocationUpdateDTO> batch = capturedBatches(1).get(0);
+        assertEquals(List.of(
+                new ReportLocationUpdateDTO("1111", "CC", "pdf/a.pdf"),
+                new ReportLocationUpdateDTO("2222", "CC", "pdf/b.pdf")
+        ), batch);
+        assertEquals(1, meterRegistry.get("report.location.batch.size").summary().count());
+        assertEquals(2.0, meterRegistry.get("report.location.batch.size").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("report.location.flush.lag").timer().count());
+        assertEquals(2.0, meterRegistry.get("report.location.updated.rows").counter().count());
+        assertEquals(0.0, meterRegistry.get("report.location.pending").gauge().value());
+    }
+
+    @Test
+    void enqueueKeepsLastLocationPerDocument() {
+        create(true, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection())).thenReturn(1);
+
+        service.enqueue("1111", "CC", "pdf/old.pdf");
+        service.enqueue("1111", "CC", "pdf/new.pdf");
+        assertEquals(1.0, meterRegistry.get("report.location.pending").gauge().value());
+
+        service.flush();
+
+        assertEquals(
+                List.of(new ReportLocationUpdateDTO("1111", "CC", "pdf/new.pdf")),
+                capturedBatches(1).get(0)
+        );
+    }
+
+    @Test
+    void flushSplitsPendingUpdatesInBatchesOfMaxSize() {
+        create(true, 2);
+        when(employeeRepository.updateStorageLocationReports(anyCollection()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        for (int i = 0; i < 5; i++) {
+            service.enqueue(String.valueOf(i), "CC", "pdf/" + i + ".pdf");
+        }
+        service.flush();
+
+        ArgumentCaptor<Collection<ReportLocationUpdateDTO>> captor = captor();
+        verify(employeeRepository, atLeast(3)).updateStorageLocationReports(captor.capture());
+        int written = 0;
+        for (Collection<ReportLocationUpdateDTO> batch : captor.getAllValues()) {
+            assertTrue(batch.size() <= 2);
+            written += batch.size();
+        }
+        assertEquals(5, written);
+    }
+
+    @Test
+    void sizeTriggerFlushesInBackground() {
+        create(true, 2);
+        when(employeeRepository.updateStorageLocationReports(anyCollection())).thenReturn(2);
+
+        service.enqueue("1111", "CC", "pdf/a.pdf");
+        service.enqueue("2222", "CC", "pdf/b.pdf");
+
+        verify(employeeRepository, timeout(5000)).updateStorageLocationReports(anyCollection());
+    }
+
+    @Test
+    void failedBatchIsRetriedOnNextFlush() {
+        create(true, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(1);
+
+        service.enqueue("1111", "CC", "pdf/a.pdf");
+
+        assertEquals(0, service.flush());
+        assertEquals(1.0, meterRegistry.get("report.location.flush.failures").counter().count());
+        assertEquals(1.0, meterRegistry.get("report.location.pending").gauge().value());
+
+        assertEquals(1, service.flush());
+        assertEquals(0.0, meterRegistry.get("report.location.pending").gauge().value());
+    }
+
+    @Test
+    void failedBatchIsWrittenOneByOneSoValidUpdatesAreNotBlocked() {
+        create(true, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<ReportLocationUpdateDTO> batch = invocation.getArgument(0);
+                    if (batch.stream().anyMatch(update -> update.getDocumentNumber().equals("bad"))) {
+                        throw new RuntimeException("Data too long for column");
+                    }
+                    return batch.size();
+                });
+
+        service.enqueue("1111", "CC", "pdf/a.pdf");
+        service.enqueue("bad", "CC", "pdf/bad.pdf");
+        service.enqueue("2222", "CC", "pdf/b.pdf");
+
+        assertEquals(2, service.flush());
+        assertEquals(1.0, meterRegistry.get("report.location.pending").gauge().value());
+        assertEquals(2.0, meterRegistry.get("report.location.updated.rows").counter().count());
+    }
+
+    @Test
+    void updateIsDroppedAfterMaxAttempts() {
+        create(true, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection()))
+                .thenThrow(new RuntimeException("Data too long for column"));
+
+        service.enqueue("bad", "CC", "pdf/bad.pdf");
+
+        service.flush();
+        service.flush();
+        assertEquals(1.0, meterRegistry.get("report.location.pending").gauge().value());
+        assertEquals(0.0, meterRegistry.get("report.location.dead.letter").counter().count());
+
+        service.flush();
+        assertEquals(0.0, meterRegistry.get("report.location.pending").gauge().value());
+        assertEquals(1.0, meterRegistry.get("report.location.dead.letter").counter().count());
+        assertEquals(0, service.flush());
+    }
+
+    @Test
+    void retriedBatchDoesNotOverrideNewerLocation() {
+        create(true, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection()))
+                .thenAnswer(invocation -> {
+                    service.enqueue("1111", "CC", "pdf/new.pdf");
+                    throw new RuntimeException("DB down");
+                })
+                .thenReturn(1);
+
+        service.enqueue("1111", "CC", "pdf/old.pdf");
+        service.flush();
+        service.flush();
+
+        assertEquals(
+                List.of(new ReportLocationUpdateDTO("1111", "CC", "pdf/new.pdf")),
+                capturedBatches(2).get(1)
+        );
+    }
+
+    @Test
+    void shutdownFlushesPendingUpdatesAndWritesLaterOnesImmediately() {
+        create(true, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection())).thenReturn(1);
+
+        service.enqueue("1111", "CC", "pdf/a.pdf");
+        service.shutdown();
+
+        verify(employeeRepository, times(1)).updateStorageLocationReports(anyCollection());
+
+        service.enqueue("2222", "CC", "pdf/b.pdf");
+
+        verify(employeeRepository, times(2)).updateStorageLocationReports(anyCollection());
+        service = null;
+    }
+
+    @Test
+    void disabledBufferWritesImmediately() {
+        create(false, 100);
+        when(employeeRepository.updateStorageLocationReports(anyCollection())).thenReturn(1);
+
+        service.enqueue("1111", "CC", "pdf/a.pdf");
+
+        assertEquals(
+                List.of(new ReportLocationUpdateDTO("1111", "CC", "pdf/a.pdf")),
+                capturedBatches(1).get(0)
+        );
+        assertEquals(0, service.flush());
+    }
+}
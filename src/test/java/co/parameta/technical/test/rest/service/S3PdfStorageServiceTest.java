@@ -1,14 +1,15 @@
 package co.parameta.technical.test.rest.service;
 
 
-import co.parameta.technical.test.rest.repository.EmployeeRepository;
 import co.parameta.technical.test.rest.service.impl.S3PdfStorageService;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -26,11 +27,14 @@ class S3PdfStorageServiceTest {
     @InjectMocks
     private S3PdfStorageService service;
 
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @Mock
     private S3Client s3Client;
 
     @Mock
-    private EmployeeRepository employeeRepository;
+    private IReportLocationBufferService iReportLocationBufferService;
 
     @BeforeEach
     void setUp() {
@@ -44,9 +48,6 @@ class S3PdfStorageServiceTest {
         String documentNumber = "1111";
         String typeDocument = "CC";
 
-        when(employeeRepository.searchIdEmployee(eq(documentNumber), eq(typeDocument)))
-                .thenReturn(10);
-
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenReturn(PutObjectResponse.builder().build());
 
@@ -65,10 +66,19 @@ class S3PdfStorageServiceTest {
         assertEquals("pdf/" + filename, request.key());
         assertEquals("application/pdf", request.contentType());
 
-        verify(employeeRepository, times(1))
-                .searchIdEmployee(documentNumber, typeDocument);
-        verify(employeeRepository, times(1))
-                .saveReportEmployee("pdf/" + filename, 10);
+        verify(iReportLocationBufferService, times(1))
+                .enqueue(documentNumber, typeDocument, "pdf/" + filename);
+    }
+
+    @Test
+    void uploadPdfDoesNotRegisterLocationWhenUploadFails() {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(new RuntimeException("S3 down"));
+
+        assertThrows(RuntimeException.class,
+                () -> service.uploadPdf("PDF".getBytes(), "PDF-ABCD.pdf", "1111", "CC"));
+
+        verifyNoInteractions(iReportLocationBufferService);
     }
 
     @Test
@@ -77,9 +87,6 @@ class S3PdfStorageServiceTest {
         String documentNumber = "1111";
         String typeDocument = "CC";
 
-        when(employeeRepository.searchIdEmployee(eq(documentNumber), eq(typeDocument)))
-                .thenReturn(20);
-
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenReturn(PutObjectResponse.builder().build());
 
@@ -87,8 +94,8 @@ class S3PdfStorageServiceTest {
 
         assertEquals("pdf/document.pdf", key);
 
-        verify(employeeRepository, times(1))
-                .saveReportEmployee("pdf/document.pdf", 20);
+        verify(iReportLocationBufferService, times(1))
+                .enqueue(documentNumber, typeDocument, "pdf/document.pdf");
     }
 
     @Test
@@ -97,16 +104,13 @@ class S3PdfStorageServiceTest {
         String documentNumber = "1111";
         String typeDocument = "CC";
 
-        when(employeeRepository.searchIdEmployee(eq(documentNumber), eq(typeDocument)))
-                .thenReturn(30);
-
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                 .thenReturn(PutObjectResponse.builder().build());
 
         String key = service.uploadPdf(pdfBytes, "   ", documentNumber, typeDocument);
 
         assertEquals("pdf/document.pdf", key);
-        verify(employeeRepository, times(1))
-                .saveReportEmployee("pdf/document.pdf", 30);
+        verify(iReportLocationBufferService, times(1))
+                .enqueue(documentNumber, typeDocument, "pdf/document.pdf");
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.rest.dto.ScriptExecutionStatsDTO;
+import co.parameta.technical.test.rest.dto.ScriptProfileDTO;
+import co.parameta.technical.test.rest.dto.ScriptProfileReportDTO;
+import co.parameta.technical.test.rest.dto.SqlProfileDTO;
+import co.parameta.technical.test.rest.service.impl.ScriptProfilerService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptProfilerServiceTest {
+
+    private static ScriptExecutionStatsDTO stats(String code, long executeMillis, int sqlCalls, long rows) {
+        ScriptExecutionStatsDTO stats = new ScriptExecutionStatsDTO(code);
+        stats.setCompileNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        stats.setExecuteNanos(TimeUnit.MILLISECONDS.toNanos(executeMillis));
+        for (int i = 0; i < sqlCalls; i++) {
+            stats.addSql(TimeUnit.MILLISECONDS.toNanos(2), (int) (rows / sqlCalls));
+        }
+        return stats;
+    }
+
+    @Test
+    void reportAggregatesScriptsAndSortsBySlowestAverage() {
+        ScriptProfilerService service = new ScriptProfilerService(true, 0, 100);
+
+        service.recordScript(stats("FAST", 5, 1, 1));
+        service.recordScript(stats("SLOW", 100, 2, 10));
+        ScriptExecutionStatsDTO memoized = stats("SLOW", 300, 4, 20);
+        memoized.addMemoHit();
+        memoized.addMemoHit();
+        service.recordScript(memoized);
+
+        ScriptProfileReportDTO report = service.report(10);
+
+        List<ScriptProfileDTO> scripts = report.getScripts();
+        assertEquals(List.of("SLOW", "FAST"), scripts.stream().map(ScriptProfileDTO::getScriptCode).toList());
+
+        ScriptProfileDTO slow = scripts.get(0);
+        assertEquals(2, slow.getExecutions());
+        assertEquals(200.0, slow.getAvgExecuteMillis(), 0.001);
+        assertEquals(300.0, slow.getMaxExecuteMillis(), 0.001);
+        assertEquals(1.0, slow.getAvgCompileMillis(), 0.001);
+        assertEquals(3.0, slow.getAvgSqlCalls(), 0.001);
+        assertEquals(15.0, slow.getAvgRows(), 0.001);
+        assertEquals(6.0, slow.getAvgSqlMillis(), 0.001);
+        assertEquals(1.0, slow.getAvgMemoHits(), 0.001);
+        assertEquals(0, slow.getOverBudget());
+    }
+
+    @Test
+    void reportLimitsToTopN() {
+        ScriptProfilerService service = new ScriptProfilerService(true, 0, 100);
+
+        for (int i = 1; i <= 5; i++) {
+            service.recordScript(stats("S" + i, i, 0, 0));
+            service.recordSql("S" + i, "select " + i, TimeUnit.MILLISECONDS.toNanos(i), i);
+        }
+
+        ScriptProfileReportDTO report = service.report(2);
+
+        assertEquals(List.of("S5", "S4"), report.getScripts().stream().map(ScriptProfileDTO::getScriptCode).toList());
+        assertEquals(List.of("select 5", "select 4"), report.getQueries().stream().map(SqlProfileDTO::getSql).toList());
+    }
+
+    @Test
+    void recordSqlAggregatesPerScriptAndQuery() {
+        ScriptProfilerService service = new ScriptProfilerService(true, 0, 100);
+
+        service.recordSql("S1", "select 1", TimeUnit.MILLISECONDS.toNanos(10), 1);
+        service.recordSql("S1", "select 1", TimeUnit.MILLISECONDS.toNanos(30), 3);
+        service.recordSql("S2", "select 1", TimeUnit.MILLISECONDS.toNanos(5), 0);
+
+        List<SqlProfileDTO> queries = service.report(10).getQueries();
+
+        assertEquals(2, queries.size());
+        SqlProfileDTO first = queries.get(0);
+        assertEquals("S1", first.getScriptCode());
+        assertEquals(2, first.getCalls());
+        assertEquals(20.0, first.getAvgMillis(), 0.001);
+        assertEquals(30.0, first.getMaxMillis(), 0.001);
+        assertEquals(40.0, first.getTotalMillis(), 0.001);
+        assertEquals(2.0, first.getAvgRows(), 0.001);
+    }
+
+    @Test
+    void recordSqlStopsTrackingNewQueriesAtLimit() {
+        ScriptProfilerService service = new ScriptProfilerService(true, 0, 2);
+
+        service.recordSql("S1", "select 1", 1, 1);
+        service.recordSql("S1", "select 2", 1, 1);
+        service.recordSql("S1", "select 3", 1, 1);
+        service.recordSql("S1", "select 1", 1, 1);
+
+        List<SqlProfileDTO> queries = service.report(10).getQueries();
+        assertEquals(2, queries.size());
+        assertEquals(3, queries.stream().mapToLong(SqlProfileDTO::getCalls).sum());
+    }
+
+    @Test
+    void recordScriptCountsExecutionsOverBudget() {
+        ScriptProfilerService service = new ScriptProfilerService(true, 50, 100);
+
+        service.recordScript(stats("S1", 10, 0, 0));
+        service.recordScript(stats("S1", 80, 0, 0));
+
+        ScriptProfileReportDTO report = service.report(10);
+        assertEquals(50, report.getBudgetMillis());
+        assertEquals(1, report.getScripts().get(0).getOverBudget());
+    }
+
+    @Test
+    void disabledProfilerRecordsNothing() {
+        ScriptProfilerService service = new ScriptProfilerService(false, 50, 100);
+
+        service.recordScript(stats("S1", 80, 1, 1));
+        service.recordSql("S1", "select 1", 1, 1);
+
+        ScriptProfileReportDTO report = service.report(10);
+        assertTrue(report.getScripts().isEmpty());
+        assertTrue(report.getQueries().isEmpty());
+    }
+
+    @Test
+    void resetClearsProfile() {
+        ScriptProfilerService service = new ScriptProfilerService(true, 0, 100);
+        service.recordScript(stats("S1", 1, 1, 1));
+        service.recordSql("S1", "select 1", 1, 1);
+
+        service.reset();
+
+        assertTrue(service.report(10).getScripts().isEmpty());
+        assertTrue(service.report(10).getQueries().isEmpty());
+    }
+}
@@ -8,6 +8,7 @@ import co.parameta.technical.test.commons.entity.TypeDocumentEntity;
 import co.parameta.technical.test.commons.pojo.EmployeeResponsePojo;
 import co.parameta.technical.test.commons.pojo.SaveEmployeeRequestPojo;
 import co.parameta.technical.test.commons.service.IJwtService;
+import co.parameta.technical.test.commons.util.exception.MensajePersonalizadoException;
 import co.parameta.technical.test.commons.util.mapper.ScriptValidationMapper;
 import co.parameta.technical.test.rest.dto.EmployeeRequestDTO;
 import co.parameta.technical.test.rest.dto.ResponseEmployeeDTO;
@@ -21,12 +22,16 @@ import co.parameta.technical.test.rest.util.mapper.PojoToJsonMapper;
 import co.parameta.technical.test.rest.util.mapper.PositionMapper;
 import co.parameta.technical.test.rest.util.mapper.TypeDocumentMapper;
 import jakarta.mail.MessagingException;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.client.core.WebServiceMessageCallback;
@@ -49,6 +54,9 @@ class ValidationEmployeeServiceTest {
     @InjectMocks
     private ValidationEmployeeService service;
 
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @Mock
     private IGroovieScriptExecutorService groovyScriptExecutorService;
 
@@ -171,6 +179,64 @@ class ValidationEmployeeServiceTest {
         verifyNoInteractions(typeDocumentRepository, typeDocumentMapper, positionRepository, positionMapper);
     }
 
+    @Test
+    void validateEmployeeRecordsStagesAndRejectedOutcome() throws MessagingException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        observationRegistry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        when(scriptValidationMapper.toListDto(any()))
+                .thenReturn(Collections.emptyList());
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            List<ResponseValidationGroovieDTO> list =
+                    (List<ResponseValidationGroovieDTO>) invocation.getArgument(1, Map.class).get("listValidation");
+            ResponseValidationGroovieDTO error = new ResponseValidationGroovieDTO();
+            error.setError(true);
+            list.add(error);
+            return null;
+        }).when(groovyScriptExecutorService).runScript(any(), anyMap(), anyList());
+
+        service.validationEmployee(new EmployeeRequestDTO());
+
+        assertEquals(1, meterRegistry.get("employee.registration")
+                .tag("outcome", "rejected").timer().count());
+        assertEquals(1, meterRegistry.get("employee.registration.stage")
+                .tag("stage", "script-load").timer().count());
+        assertEquals(1, meterRegistry.get("employee.registration.stage")
+                .tag("stage", "groovy-validation").timer().count());
+        assertEquals(1.0, meterRegistry.get("employee.registration.validation.rejected")
+                .counter().count());
+        assertNull(meterRegistry.find("employee.registration.stage")
+                .tag("stage", "soap-call").timer());
+    }
+
+    @Test
+    void validateEmployeeTimedOutScriptRejectsTheRequestAndDoesNotCallSoap() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        observationRegistry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        when(scriptValidationMapper.toListDto(any()))
+                .thenReturn(Collections.emptyList());
+        doThrow(new MensajePersonalizadoException("The script exceeded its time budget of 2000 ms."))
+                .when(groovyScriptExecutorService).runScript(any(), anyMap(), anyList());
+
+        EmployeeRequestDTO req = new EmployeeRequestDTO();
+        req.setEmail("test@test.com");
+
+        assertThrows(MensajePersonalizadoException.class, () -> service.validationEmployee(req));
+
+        assertEquals(1, meterRegistry.get("employee.registration")
+                .tag("outcome", "rejected").timer().count());
+        verifyNoInteractions(
+                webServiceTemplate,
+                typeDocumentRepository,
+                positionRepository,
+                iPrepareMailDeliveryService
+        );
+    }
+
     @Test
     void validateEmployeeSuccessSetsDataAndSendsEmailWhenEmailPresent()
             throws Exception {
@@ -0,0 +1,77 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.dto.AdministratorUserDTO;
+import co.parameta.technical.test.rest.dto.VerifiedTokenDTO;
+import co.parameta.technical.test.rest.service.impl.VerifiedTokenCacheService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheServiceTest {
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("U001")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+
+    @Test
+    void putThenGetReturnsCachedEntry() {
+        VerifiedTokenCacheService cache = new VerifiedTokenCacheService(10, 60000L);
+        AdministratorUserDTO user = new AdministratorUserDTO();
+        Claims claims = claimsExpiringIn(60000L);
+
+        cache.put("a.b.c", claims, user);
+        VerifiedTokenDTO entry = cache.get("a.b.c");
+
+        assertNotNull(entry);
+        assertSame(claims, entry.getClaims());
+        assertSame(user, entry.getUser());
+    }
+
+    @Test
+    void entryLifetimeIsCappedAtTokenExpiration() {
+        VerifiedTokenCacheService cache = new VerifiedTokenCacheService(10, 60000L);
+
+        cache.put("a.b.c", claimsExpiringIn(-1000L), new AdministratorUserDTO());
+
+        assertNull(cache.get("a.b.c"));
+    }
+
+    @Test
+    void invalidateWithBearerHeaderRemovesEntry() {
+        VerifiedTokenCacheService cache = new VerifiedTokenCacheService(10, 60000L);
+        cache.put("a.b.c", claimsExpiringIn(60000L), new AdministratorUserDTO());
+
+        cache.invalidate("Bearer a.b.c");
+
+        assertNull(cache.get("a.b.c"));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        VerifiedTokenCacheService cache = new VerifiedTokenCacheService(2, 60000L);
+        cache.put("t1", claimsExpiringIn(60000L), new AdministratorUserDTO());
+        cache.put("t2", claimsExpiringIn(60000L), new AdministratorUserDTO());
+        cache.get("t1");
+
+        cache.put("t3", claimsExpiringIn(60000L), new AdministratorUserDTO());
+
+        assertNotNull(cache.get("t1"));
+        assertNull(cache.get("t2"));
+        assertNotNull(cache.get("t3"));
+    }
+
+    @Test
+    void zeroTtlDisablesCache() {
+        VerifiedTokenCacheService cache = new VerifiedTokenCacheService(10, 0L);
+        cache.put("a.b.c", claimsExpiringIn(60000L), new AdministratorUserDTO());
+
+        assertNull(cache.get("a.b.c"));
+    }
+}
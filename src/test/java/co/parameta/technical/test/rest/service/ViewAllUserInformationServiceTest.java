@@ -2,11 +2,11 @@ package co.parameta.technical.test.rest.service;
 
 import co.parameta.technical.test.commons.dto.EmployeeDTO;
 import co.parameta.technical.test.commons.dto.ResponseGeneralDTO;
-import co.parameta.technical.test.commons.entity.EmployeeEntity;
 import co.parameta.technical.test.commons.entity.SystemParameterEntity;
 import co.parameta.technical.test.rest.dto.AllInformationEmployeeDTO;
 import co.parameta.technical.test.rest.repository.EmployeeRepository;
 import co.parameta.technical.test.rest.repository.SystemParameterRepository;
+import co.parameta.technical.test.rest.repository.projection.EmployeeInformationProjection;
 import co.parameta.technical.test.rest.service.impl.ViewAllUserInformationService;
 import co.parameta.technical.test.rest.util.mapper.EmployeeMapper;
 import org.junit.jupiter.api.Test;
@@ -40,6 +40,9 @@ class ViewAllUserInformationServiceTest {
     @Mock
     private SystemParameterRepository systemParameterRepository;
 
+    @Mock
+    private IReferenceDataCacheService iReferenceDataCacheService;
+
     private SystemParameterEntity buildParam(String content) {
         SystemParameterEntity p = new SystemParameterEntity();
         p.setId(1);
@@ -56,16 +59,16 @@ class ViewAllUserInformationServiceTest {
         when(systemParameterRepository.findByName("GET_PDF_EMPLOYEE"))
                 .thenReturn(buildParam("1"));
 
-        EmployeeEntity entity = new EmployeeEntity();
-        when(employeeRepository.searchAllInformationEmployee(eq(10), isNull(), isNull()))
-                .thenReturn(entity);
+        EmployeeInformationProjection projection = mock(EmployeeInformationProjection.class);
+        when(employeeRepository.searchAllInformationEmployeeById(10))
+                .thenReturn(projection);
 
         EmployeeDTO employeeDTO = new EmployeeDTO();
         employeeDTO.setDateOfBirth(new Date());
         employeeDTO.setDateAffiliationCompany(new Date());
         employeeDTO.setStorageLocationReport("pdf/report.pdf");
 
-        when(employeeMapper.toDto(eq(entity))).thenReturn(employeeDTO);
+        when(employeeMapper.employeeInformationProjectionToDto(projection)).thenReturn(employeeDTO);
 
         byte[] pdf = "PDF".getBytes();
         when(iGetPdfS3Service.getPdf("pdf/report.pdf")).thenReturn(pdf);
@@ -85,9 +88,9 @@ class ViewAllUserInformationServiceTest {
         assertEquals("The information was consulted correctly", response.getMessage());
         assertSame(allInfo, response.getData());
 
-        verify(employeeRepository, times(1))
-                .searchAllInformationEmployee(10, null, null);
-        verify(employeeMapper, times(1)).toDto(entity);
+        verify(employeeRepository, times(1)).searchAllInformationEmployeeById(10);
+        verify(employeeRepository, never()).searchAllInformationEmployeeByDocument(any(), any());
+        verify(employeeMapper, times(1)).employeeInformationProjectionToDto(projection);
         verify(iGetPdfS3Service, times(1)).getPdf("pdf/report.pdf");
     }
 
@@ -97,17 +100,18 @@ class ViewAllUserInformationServiceTest {
         when(systemParameterRepository.findByName("GET_PDF_EMPLOYEE"))
                 .thenReturn(buildParam("1"));
 
-        EmployeeEntity entity = new EmployeeEntity();
+        EmployeeInformationProjection projection = mock(EmployeeInformationProjection.class);
 
-        when(employeeRepository.searchAllInformationEmployee(isNull(), eq("123"), eq("CC")))
-                .thenReturn(entity);
+        when(iReferenceDataCacheService.resolveTypeDocumentCode("CC")).thenReturn("CC");
+        when(employeeRepository.searchAllInformationEmployeeByDocument("123", "CC"))
+                .thenReturn(projection);
 
         EmployeeDTO employeeDTO = new EmployeeDTO();
         employeeDTO.setDateOfBirth(new Date());
         employeeDTO.setDateAffiliationCompany(new Date());
         employeeDTO.setStorageLocationReport("pdf/doc.pdf");
 
-        when(employeeMapper.toDto(eq(entity))).thenReturn(employeeDTO);
+        when(employeeMapper.employeeInformationProjectionToDto(projection)).thenReturn(employeeDTO);
 
         byte[] pdf = "PDF2".getBytes();
         when(iGetPdfS3Service.getPdf("pdf/doc.pdf")).thenReturn(pdf);
@@ -128,7 +132,8 @@ class ViewAllUserInformationServiceTest {
         assertSame(allInfo, response.getData());
 
         verify(employeeRepository, times(1))
-                .searchAllInformationEmployee(null, "123", "CC");
+                .searchAllInformationEmployeeByDocument("123", "CC");
+        verify(employeeRepository, never()).searchAllInformationEmployeeById(any());
         verify(iGetPdfS3Service, times(1)).getPdf("pdf/doc.pdf");
     }
 
@@ -138,16 +143,16 @@ class ViewAllUserInformationServiceTest {
         when(systemParameterRepository.findByName("GET_PDF_EMPLOYEE"))
                 .thenReturn(buildParam("0"));
 
-        EmployeeEntity entity = new EmployeeEntity();
-        when(employeeRepository.searchAllInformationEmployee(eq(5), isNull(), isNull()))
-                .thenReturn(entity);
+        EmployeeInformationProjection projection = mock(EmployeeInformationProjection.class);
+        when(employeeRepository.searchAllInformationEmployeeById(5))
+                .thenReturn(projection);
 
         EmployeeDTO employeeDTO = new EmployeeDTO();
         employeeDTO.setDateOfBirth(new Date());
         employeeDTO.setDateAffiliationCompany(new Date());
         employeeDTO.setStorageLocationReport("pdf/x.pdf");
 
-        when(employeeMapper.toDto(eq(entity))).thenReturn(employeeDTO);
+        when(employeeMapper.employeeInformationProjectionToDto(projection)).thenReturn(employeeDTO);
 
         AllInformationEmployeeDTO allInfo = new AllInformationEmployeeDTO();
         when(employeeMapper.employeeDTOToAllInformationEmployeeDTO(
@@ -180,8 +185,71 @@ class ViewAllUserInformationServiceTest {
         assertEquals("The information was consulted correctly", response.getMessage());
         assertNull(response.getData());
 
-        verify(employeeRepository, never()).searchAllInformationEmployee(any(), any(), any());
-        verify(employeeMapper, never()).toDto(any());
+        verify(employeeRepository, never()).searchAllInformationEmployeeById(any());
+        verify(employeeRepository, never()).searchAllInformationEmployeeByDocument(any(), any());
+        verify(employeeMapper, never()).employeeInformationProjectionToDto(any());
         verify(iGetPdfS3Service, never()).getPdf(anyString());
     }
+
+    @Test
+    void allInformationByDocumentDescriptionResolvesCodeBeforeQuerying() {
+
+        when(systemParameterRepository.findByName("GET_PDF_EMPLOYEE"))
+                .thenReturn(buildParam("0"));
+
+        EmployeeInformationProjection projection = mock(EmployeeInformationProjection.class);
+        when(iReferenceDataCacheService.resolveTypeDocumentCode("Cedula de ciudadania")).thenReturn("CC");
+        when(employeeRepository.searchAllInformationEmployeeByDocument("123", "CC"))
+                .thenReturn(projection);
+
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setDateOfBirth(new Date());
+        employeeDTO.setDateAffiliationCompany(new Date());
+        when(employeeMapper.employeeInformationProjectionToDto(projection)).thenReturn(employeeDTO);
+
+        AllInformationEmployeeDTO allInfo = new AllInformationEmployeeDTO();
+        when(employeeMapper.employeeDTOToAllInformationEmployeeDTO(
+                eq(employeeDTO),
+                any(),
+                any(),
+                isNull()
+        )).thenReturn(allInfo);
+
+        ResponseGeneralDTO response = service.allInformationEmployee(null, "Cedula de ciudadania", "123");
+
+        assertSame(allInfo, response.getData());
+        verify(employeeRepository, times(1))
+                .searchAllInformationEmployeeByDocument("123", "CC");
+    }
+
+    @Test
+    void allInformationByUnknownDocumentTypeSkipsQuery() {
+
+        when(systemParameterRepository.findByName("GET_PDF_EMPLOYEE"))
+                .thenReturn(buildParam("1"));
+        when(iReferenceDataCacheService.resolveTypeDocumentCode("XX")).thenReturn(null);
+
+        ResponseGeneralDTO response = service.allInformationEmployee(null, "XX", "123");
+
+        assertNull(response.getData());
+        verify(employeeRepository, never()).searchAllInformationEmployeeByDocument(any(), any());
+    }
+
+    @Test
+    void allInformationByIdAndDocumentOfAnotherEmployeeReturnsNullData() {
+
+        when(systemParameterRepository.findByName("GET_PDF_EMPLOYEE"))
+                .thenReturn(buildParam("1"));
+
+        EmployeeInformationProjection projection = mock(EmployeeInformationProjection.class);
+        when(projection.getId()).thenReturn(99);
+        when(iReferenceDataCacheService.resolveTypeDocumentCode("CC")).thenReturn("CC");
+        when(employeeRepository.searchAllInformationEmployeeByDocument("123", "CC"))
+                .thenReturn(projection);
+
+        ResponseGeneralDTO response = service.allInformationEmployee(10, "CC", "123");
+
+        assertNull(response.getData());
+        verify(employeeRepository, never()).searchAllInformationEmployeeById(any());
+    }
 }
@@ -0,0 +1,122 @@
+package co.parameta.technical.test.rest.service;
+
+import co.parameta.technical.test.commons.dto.ScriptValidationDTO;
+import co.parameta.technical.test.commons.service.IJwtService;
+import co.parameta.technical.test.commons.util.mapper.ScriptValidationMapper;
+import co.parameta.technical.test.rest.repository.AdministratorUserRepository;
+import co.parameta.technical.test.rest.repository.EmployeeRepository;
+import co.parameta.technical.test.rest.repository.ScriptValidationRepository;
+import co.parameta.technical.test.rest.service.impl.WarmUpService;
+import co.parameta.technical.test.rest.util.mapper.JsonToPojoMapper;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpServiceTest {
+
+    @Mock
+    private IGroovieScriptExecutorService iGroovieScriptExecutorService;
+
+    @Mock
+    private ScriptValidationRepository scriptValidationRepository;
+
+    @Mock
+    private ScriptValidationMapper scriptValidationMapper;
+
+    @Mock
+    private IEmployeePdfGeneratorService iEmployeePdfGeneratorService;
+
+    @Mock
+    private Jaxb2Marshaller marshaller;
+
+    @Mock
+    private JsonToPojoMapper jsonToPojoMapper;
+
+    @Mock
+    private IJwtService iJwtService;
+
+    @Mock
+    private IJwtClaimsService iJwtClaimsService;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private AdministratorUserRepository administratorUserRepository;
+
+    @Mock
+    private IReferenceDataCacheService iReferenceDataCacheService;
+
+    private final ScriptValidationDTO script = new ScriptValidationDTO();
+
+    @BeforeEach
+    void setUp() {
+        script.setCode("DOC");
+        script.setGroovieCode("'ok'");
+        when(scriptValidationMapper.toListDto(any())).thenReturn(List.of(script));
+        when(iJwtService.getToken(any())).thenReturn("token");
+        when(iJwtClaimsService.parseClaims("token")).thenReturn(mock(Claims.class));
+    }
+
+    private WarmUpService warmUp(int iterations) {
+        return new WarmUpService(
+                iGroovieScriptExecutorService, scriptValidationRepository, scriptValidationMapper,
+                iEmployeePdfGeneratorService, marshaller, jsonToPojoMapper, iJwtService, iJwtClaimsService,
+                employeeRepository, administratorUserRepository, iReferenceDataCacheService, iterations
+        );
+    }
+
+    @Test
+    void warmUpRunsEveryStepForEachIteration() {
+        assertEquals(5, warmUp(2).warmUp());
+
+        verify(iGroovieScriptExecutorService, times(2)).precompile(List.of(script));
+        verify(scriptValidationRepository, times(3)).findByCode("CAST_CONTENT_EMAIL");
+        verify(scriptValidationRepository, times(3)).findByCode("CAST_CONTENT_EMAIL_UPDATE");
+        verify(iEmployeePdfGeneratorService, times(2)).generateEmployeeReport(any(), eq(false));
+        verify(marshaller, times(2)).marshal(any(), any());
+        verify(iJwtClaimsService, times(2)).parseClaims("token");
+        verify(employeeRepository, times(2)).searchIdEmployee(anyString(), anyString());
+        verify(employeeRepository, times(2)).searchEmployeeSummaries(anyCollection());
+        verify(administratorUserRepository, times(2)).findByCode(anyString());
+    }
+
+    @Test
+    void warmUpReportsScriptsUsingJdbcTemplateOnce() {
+        warmUp(3).warmUp();
+
+        verify(iGroovieScriptExecutorService, times(1)).jdbcTemplateScripts(List.of(script));
+    }
+
+    @Test
+    void failingStepDoesNotStopTheOthers() {
+        when(iEmployeePdfGeneratorService.generateEmployeeReport(any(), anyBoolean()))
+                .thenThrow(new IllegalStateException("no fonts"));
+
+        assertEquals(4, warmUp(3).warmUp());
+
+        verify(iEmployeePdfGeneratorService, times(1)).generateEmployeeReport(any(), anyBoolean());
+        verify(marshaller, times(3)).marshal(any(), any());
+        verify(iJwtClaimsService, times(3)).parseClaims("token");
+        verify(employeeRepository, times(3)).searchAllInformationEmployeeById(-1);
+    }
+
+    @Test
+    void nonPositiveIterationsRunEachStepOnce() {
+        assertEquals(5, warmUp(0).warmUp());
+
+        verify(iGroovieScriptExecutorService, times(1)).precompile(anyList());
+        verify(marshaller, times(1)).marshal(any(), any());
+    }
+}
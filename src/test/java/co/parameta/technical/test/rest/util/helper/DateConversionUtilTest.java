@@ -0,0 +1,92 @@
+package co.parameta.technical.test.rest.util.helper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.xml.datatype.DatatypeFactory;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.GregorianCalendar;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Equivalence tests between {@link DateConversionUtil} and the regex /
+ * {@link GregorianCalendar} code it replaces in {@link GeneralRestUtil}.
+ */
+class DateConversionUtilTest {
+
+    private static final String[] ZONES = {
+            "UTC", "America/Bogota", "Europe/Paris", "Asia/Kolkata", "+05:30", "-03:00"
+    };
+
+    private static final String TEXT_ALPHABET = " \t\n\u000B\f\r aZ09-x";
+
+    private static final int SAMPLES = 20000;
+
+    @Test
+    void datatypeFactoryIsCreatedOnce() {
+        assertSame(DateConversionUtil.datatypeFactory(), DateConversionUtil.datatypeFactory());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {42L, 20261019L})
+    void toXmlGregorianCalendarMatchesGregorianCalendarConversion(long seed) throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        Random random = new Random(seed);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long seconds = (long) ((random.nextDouble() - 0.5) * 2e11);
+            ZonedDateTime value = Instant.ofEpochSecond(seconds, random.nextInt(1_000_000_000))
+                    .atZone(ZoneId.of(ZONES[random.nextInt(ZONES.length)]));
+
+            assertEquals(
+                    factory.newXMLGregorianCalendar(GregorianCalendar.from(value)).toXMLFormat(),
+                    DateConversionUtil.toXmlGregorianCalendar(value).toXMLFormat(),
+                    value::toString
+            );
+        }
+    }
+
+    @Test
+    void toXmlGregorianCalendarNullReturnsNull() {
+        assertNull(DateConversionUtil.toXmlGregorianCalendar(null));
+    }
+
+    @Test
+    void textHelpersMatchRegularExpressions() {
+        Random random = new Random(7L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                sb.append(TEXT_ALPHABET.charAt(random.nextInt(TEXT_ALPHABET.length())));
+            }
+            String value = sb.toString();
+
+            assertEquals(value.trim().replaceAll("\\s+", " "), DateConversionUtil.normalizeSpaces(value));
+            assertEquals(value.replaceAll("[^A-Za-z]", ""), DateConversionUtil.asciiLetters(value));
+            assertEquals(value.replaceAll("\\D", ""), DateConversionUtil.asciiDigits(value));
+        }
+    }
+
+    @Test
+    void normalizeSpacesReturnsSameInstanceWhenUnchanged() {
+        String value = "2020-01-01 10:30";
+
+        assertSame(value, DateConversionUtil.normalizeSpaces(value));
+        assertNull(DateConversionUtil.normalizeSpaces(null));
+    }
+
+    @Test
+    void fromStringBuildsExpectedCalendar() {
+        assertEquals(
+                "2020-01-01T10:15:30.000+01:00",
+                GeneralRestUtil.fromString("  2020-01-01T10:15:30+01:00 ").toXMLFormat()
+        );
+    }
+}
@@ -0,0 +1,237 @@
+package co.parameta.technical.test.rest.util.helper;
+
+import co.parameta.technical.test.rest.util.constant.DateFormatSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Random;
+
+import static co.parameta.technical.test.rest.util.constant.Constants.DATE_FORMATS;
+import static co.parameta.technical.test.rest.util.constant.Constants.FORMATTERS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property-based equivalence test between {@link DateShapeParser} and the
+ * exception-driven algorithm previously used by {@link GeneralRestUtil}.
+ */
+class DateShapeParserTest {
+
+    private static final String[] PATTERNS = {
+            "uuuu-MM-dd", "uuuu/MM/dd", "uuuu.MM.dd", "uuuuMMdd",
+            "dd/MM/uuuu", "dd-MM-uuuu", "dd.MM.uuuu", "ddMMuuuu",
+            "MM/dd/uuuu", "MM-dd-uuuu"
+    };
+
+    private static final String[] ZONES = {
+            "Z", "z", "+01:00", "-05:00", "+19:00", "+01:00[Europe/Paris]", "[UTC]", "Z[UTC]", "+0100"
+    };
+
+    private static final String NOISE = "0123456789-/.:T Z+[]aU";
+
+    private static final int SAMPLES_PER_SEED = 4000;
+
+    /**
+     * Reference implementation: previous behaviour of {@code parseToDate} / {@code fromString}.
+     */
+    private static Instant legacyParse(String v, boolean strict) {
+        try {
+            return Instant.parse(v);
+        } catch (Exception ignored) {
+            // try next format
+        }
+        for (DateTimeFormatter base : FORMATTERS) {
+            DateTimeFormatter f = strict ? base.withResolverStyle(ResolverStyle.STRICT) : base;
+            try {
+                return OffsetDateTime.parse(v, f).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                return ZonedDateTime.parse(v, f).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                return LocalDateTime.parse(v, f).atZone(ZoneId.systemDefault()).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                return LocalDate.parse(v, f).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            } catch (DateTimeParseException ignored) {
+                // try next formatter
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reference implementation: previous behaviour of {@code isValidDateFormat}.
+     */
+    private static boolean legacyIsValid(String v) {
+        for (DateTimeFormatter f : FORMATTERS) {
+            try {
+                LocalDate.parse(v, f);
+                return true;
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                LocalDateTime.parse(v, f);
+                return true;
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                OffsetDateTime.parse(v, f);
+                return true;
+            } catch (DateTimeParseException ignored) {
+                // try next type
+            }
+            try {
+                Instant.parse(v);
+                return true;
+            } catch (Exception ignored) {
+                // try next formatter
+            }
+        }
+        return false;
+    }
+
+    private static String randomNumber(Random random, int value, int width) {
+        if (random.nextInt(15) == 0) {
+            return String.valueOf(value);
+        }
+        return String.format("%0" + width + "d", value);
+    }
+
+    private static String randomDate(Random random) {
+        StringBuilder sb = new StringBuilder();
+
+        if (random.nextInt(10) >= 7) {
+            int length = random.nextInt(25);
+            for (int i = 0; i < length; i++) {
+                sb.append(NOISE.charAt(random.nextInt(NOISE.length())));
+            }
+            return sb.toString().trim().replaceAll("\\s+", " ");
+        }
+
+        int year = random.nextInt(10) == 0 ? random.nextInt(100000) : 1900 + random.nextInt(200);
+        String yearText = random.nextInt(20) == 0
+                ? (random.nextBoolean() ? "+" : "-") + year
+                : randomNumber(random, year, 4);
+        String monthText = randomNumber(random, random.nextInt(15), 2);
+        String dayText = randomNumber(random, random.nextInt(34), 2);
+
+        String pattern = PATTERNS[random.nextInt(PATTERNS.length)]
+                .replace("uuuu", "Y").replace("MM", "M").replace("dd", "D");
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case 'Y' -> sb.append(yearText);
+                case 'M' -> sb.append(monthText);
+                case 'D' -> sb.append(dayText);
+                default -> sb.append(c);
+            }
+        }
+
+        String timeSeparator = random.nextInt(4) == 0 ? "T" : " ";
+        switch (random.nextInt(6)) {
+            case 1 -> sb.append(timeSeparator)
+                    .append(String.format("%02d:%02d", random.nextInt(26), random.nextInt(62)));
+            case 2 -> sb.append(timeSeparator)
+                    .append(String.format("%02d:%02d:%02d", random.nextInt(26), random.nextInt(62), random.nextInt(62)));
+            case 3 -> sb.append(timeSeparator)
+                    .append(String.format("%02d:%02d:%02d.%d", random.nextInt(25), random.nextInt(60), random.nextInt(60), random.nextInt(1000)))
+                    .append(random.nextBoolean() ? ZONES[random.nextInt(ZONES.length)] : "");
+            default -> {
+                // date only
+            }
+        }
+
+        if (random.nextInt(30) == 0 && sb.length() > 0) {
+            sb.deleteCharAt(random.nextInt(sb.length()));
+        }
+        return sb.toString().trim().replaceAll("\\s+", " ");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {42L, 7L, 20261019L})
+    void parseMatchesLegacyBehaviourForRandomInputs(long seed) {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < SAMPLES_PER_SEED; i++) {
+            String value = randomDate(random);
+            if (value.isEmpty()) {
+                continue;
+            }
+
+            for (boolean strict : new boolean[]{false, true}) {
+                Instant expected = legacyParse(value, strict);
+                ZonedDateTime actual = DateShapeParser.parse(value, strict);
+                assertEquals(
+                        expected,
+                        actual != null ? actual.toInstant() : null,
+                        () -> "strict=" + strict + " value=" + value
+                );
+            }
+
+            assertEquals(
+                    legacyIsValid(value),
+                    DateShapeParser.parse(value, false) != null,
+                    () -> "isValid value=" + value
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2020-01-01", "2020-02-30", "01/02/2020", "02/13/2020", "13/13/2020",
+            "20200101", "01012020", "2802-5404", "10/07/-2022", "+12020-01-01",
+            "2020-01-01 10:30", "2020-01-01 24:00", "2020.01.01 10:00:00",
+            "2020-01-01T10:15:30", "2020-01-01T10:15:30Z", "2020-01-01T10:15:30+01:00",
+            "2020-01-01T10:15:30+01:00[Europe/Paris]", "2020-01-01t10:00:00z", "2020-1-1", "abc"
+    })
+    void parseMatchesLegacyBehaviourForKnownEdgeCases(String value) {
+        for (boolean strict : new boolean[]{false, true}) {
+            ZonedDateTime actual = DateShapeParser.parse(value, strict);
+            assertEquals(legacyParse(value, strict), actual != null ? actual.toInstant() : null);
+        }
+    }
+
+    @Test
+    void everyDeclaredShapeParsesTheOutputOfItsFormatter() {
+        ZonedDateTime sample = ZonedDateTime.of(2021, 3, 14, 9, 26, 53, 0, ZoneOffset.UTC);
+
+        for (DateFormatSpec spec : DATE_FORMATS) {
+            String value = spec.formatter().format(sample);
+            ZonedDateTime actual = DateShapeParser.parse(value, true);
+
+            assertNotNull(actual, () -> "shape " + spec.shape() + " value=" + value);
+            if (spec.shape() != DateFormatSpec.Shape.ISO_T) {
+                assertEquals(sample.toLocalDate(), actual.toLocalDate(), () -> "value=" + value);
+            }
+        }
+    }
+
+    @Test
+    void parseSmartClampsDayWhileStrictRejectsIt() {
+        assertEquals(
+                LocalDate.of(2020, 2, 29),
+                DateShapeParser.parse("2020-02-30", false).toLocalDate()
+        );
+        assertNull(DateShapeParser.parse("2020-02-30", true));
+    }
+
+    @Test
+    void parseFallsBackToMonthFirstWhenDayFirstIsInvalid() {
+        assertEquals(
+                LocalDate.of(2020, 2, 13),
+                DateShapeParser.parse("02/13/2020", false).toLocalDate()
+        );
+    }
+}
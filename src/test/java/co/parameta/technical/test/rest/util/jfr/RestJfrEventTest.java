@@ -0,0 +1,56 @@
+package co.parameta.technical.test.rest.util.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestJfrEventTest {
+
+    @AfterEach
+    void tearDown() {
+        RestJfrEvent.setActive(false);
+    }
+
+    @Test
+    void startReturnsNullWhenDisabled() {
+        RestJfrEvent.setActive(false);
+
+        assertNull(ScriptCompileEvent.start("SC1", "return true"));
+        assertNull(ScriptExecuteEvent.start("SC1"));
+        assertNull(SoapCallEvent.start("http://localhost/ws"));
+        assertNull(PdfRenderEvent.start("create"));
+        assertNull(S3GetEvent.start("bucket", "pdf/a.pdf"));
+        assertNull(S3PutEvent.start("bucket", "pdf/a.pdf"));
+        assertNull(MailSendEvent.start(1, 0));
+        assertNull(JwtVerificationEvent.start());
+    }
+
+    @Test
+    void finishIgnoresNullEvents() {
+        assertDoesNotThrow(() -> {
+            ScriptCompileEvent.finish(null);
+            ScriptExecuteEvent.finish(null, 1, 1);
+            SoapCallEvent.finish(null, true);
+            PdfRenderEvent.finish(null, 1);
+            S3GetEvent.finish(null, 1);
+            S3PutEvent.finish(null, 1);
+            MailSendEvent.finish(null);
+            JwtVerificationEvent.finish(null, true);
+        });
+    }
+
+    @Test
+    void startCreatesEventsWhenEnabled() {
+        RestJfrEvent.setActive(true);
+
+        S3PutEvent event = S3PutEvent.start("bucket", "pdf/a.pdf");
+
+        assertNotNull(event);
+        assertEquals("bucket", event.bucket);
+        assertEquals("pdf/a.pdf", event.key);
+        assertDoesNotThrow(() -> S3PutEvent.finish(event, 10));
+        assertEquals(10, event.size);
+        assertNotNull(ScriptCompileEvent.start("SC1", null));
+    }
+}